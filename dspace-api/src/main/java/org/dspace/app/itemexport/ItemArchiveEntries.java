@@ -0,0 +1,101 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.itemexport;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The files of one exported item in the Simple Archive Format, ready to be
+ * written to a ZIP archive. Small files are held in memory, bitstreams are
+ * either held in memory or referenced by id and read when the entry is written.
+ */
+class ItemArchiveEntries {
+
+    private final String directory;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+
+    /**
+     * @param directory the directory of the item inside the archive, ending with a slash
+     */
+    ItemArchiveEntries(String directory) {
+        this.directory = directory;
+    }
+
+    String getDirectory() {
+        return directory;
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Reserve a file name of the item, so that no other entry gets it.
+     *
+     * @param name the file name
+     * @return false if the name is already taken
+     */
+    boolean reserve(String name) {
+        return names.add(name);
+    }
+
+    /**
+     * Add a file held in memory. The name must have been reserved.
+     */
+    void add(String name, byte[] data, boolean stored) {
+        entries.add(new Entry(name, data, null, stored));
+    }
+
+    /**
+     * Add a bitstream to be read when the entry is written. The name must have been reserved.
+     */
+    void add(String name, UUID bitstreamId, boolean stored) {
+        entries.add(new Entry(name, null, bitstreamId, stored));
+    }
+
+    static class Entry {
+        private final String name;
+        private final byte[] data;
+        private final UUID bitstreamId;
+        private final boolean stored;
+
+        private Entry(String name, byte[] data, UUID bitstreamId, boolean stored) {
+            this.name = name;
+            this.data = data;
+            this.bitstreamId = bitstreamId;
+            this.stored = stored;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the content, or null if the bitstream has to be read
+         */
+        byte[] getData() {
+            return data;
+        }
+
+        UUID getBitstreamId() {
+            return bitstreamId;
+        }
+
+        /**
+         * @return true if the content is already compressed and should not be deflated again
+         */
+        boolean isStored() {
+            return stored;
+        }
+    }
+}
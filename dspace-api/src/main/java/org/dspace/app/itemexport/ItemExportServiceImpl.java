@@ -8,6 +8,7 @@
 package org.dspace.app.itemexport;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -16,6 +17,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.time.Instant;
@@ -23,13 +25,28 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -39,6 +56,7 @@ import org.apache.commons.lang3.Strings;
 import org.apache.logging.log4j.Logger;
 import org.dspace.app.itemexport.service.ItemExportService;
 import org.dspace.content.Bitstream;
+import org.dspace.content.BitstreamFormat;
 import org.dspace.content.Bundle;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
@@ -61,6 +79,7 @@ import org.dspace.eperson.service.EPersonService;
 import org.dspace.handle.service.HandleService;
 import org.dspace.scripts.handler.DSpaceRunnableHandler;
 import org.dspace.services.ConfigurationService;
+import org.dspace.utils.DaemonThreadFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
@@ -91,6 +110,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 public class ItemExportServiceImpl implements ItemExportService {
     protected final int SUBDIR_LIMIT = 0;
 
+    /**
+     * Formats which are already compressed and are not deflated again when exported to a ZIP archive
+     */
+    protected static final String[] DEFAULT_STORED_MIMETYPES = {"application/gzip", "application/zip",
+        "audio/mpeg", "image/gif", "image/jpeg", "image/png", "video/mp4", "video/mpeg", "video/quicktime"};
+
     @Autowired(required = true)
     protected BitstreamService bitstreamService;
     @Autowired(required = true)
@@ -225,101 +250,123 @@ public class ItemExportServiceImpl implements ItemExportService {
      */
     protected void writeMetadata(Context c, String schema, Item i,
                                  File destDir, boolean migrate) throws Exception {
-        String filename;
-        if (schema.equals(MetadataSchemaEnum.DC.getName())) {
-            filename = "dublin_core.xml";
-        } else {
-            filename = "metadata_" + schema + ".xml";
-        }
+        String filename = getMetadataFileName(schema);
 
         File outFile = new File(destDir, filename);
 
         logInfo("Attempting to create file " + outFile);
 
         if (outFile.createNewFile()) {
-            BufferedOutputStream out = new BufferedOutputStream(
-                new FileOutputStream(outFile));
+            try (BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(outFile))) {
+                out.write(getMetadata(c, schema, i, migrate));
+            }
+        } else {
+            throw new Exception("Cannot create dublin_core.xml in " + destDir);
+        }
+    }
 
-            List<MetadataValue> dcorevalues = itemService.getMetadata(i, schema, Item.ANY, Item.ANY,
-                                                                      Item.ANY);
+    /**
+     * @param schema the metadata schema
+     * @return the name of the metadata file of the schema
+     */
+    protected String getMetadataFileName(String schema) {
+        if (schema.equals(MetadataSchemaEnum.DC.getName())) {
+            return "dublin_core.xml";
+        } else {
+            return "metadata_" + schema + ".xml";
+        }
+    }
 
-            // XML preamble
-            byte[] utf8 = "<?xml version=\"1.0\" encoding=\"utf-8\" standalone=\"no\"?>\n"
-                .getBytes("UTF-8");
-            out.write(utf8, 0, utf8.length);
+    /**
+     * Serialize the item's metadata of one schema in the dublin_core.xml format.
+     *
+     * @param c       DSpace context
+     * @param schema  schema
+     * @param i       DSpace Item
+     * @param migrate Whether to use the migrate option or not
+     * @return the UTF-8 encoded metadata file
+     * @throws Exception if error
+     */
+    protected byte[] getMetadata(Context c, String schema, Item i, boolean migrate) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
 
-            String dcTag = "<dublin_core schema=\"" + schema + "\">\n";
-            utf8 = dcTag.getBytes("UTF-8");
-            out.write(utf8, 0, utf8.length);
+        List<MetadataValue> dcorevalues = itemService.getMetadata(i, schema, Item.ANY, Item.ANY,
+                                                                  Item.ANY);
 
-            String dateIssued = null;
-            String dateAccessioned = null;
+        // XML preamble
+        byte[] utf8 = "<?xml version=\"1.0\" encoding=\"utf-8\" standalone=\"no\"?>\n"
+            .getBytes("UTF-8");
+        out.write(utf8, 0, utf8.length);
 
-            for (MetadataValue dcv : dcorevalues) {
-                MetadataField metadataField = dcv.getMetadataField();
-                String qualifier = metadataField.getQualifier();
+        String dcTag = "<dublin_core schema=\"" + schema + "\">\n";
+        utf8 = dcTag.getBytes("UTF-8");
+        out.write(utf8, 0, utf8.length);
 
-                if (qualifier == null) {
-                    qualifier = "none";
-                }
+        String dateIssued = null;
+        String dateAccessioned = null;
 
-                String language = dcv.getLanguage();
+        for (MetadataValue dcv : dcorevalues) {
+            MetadataField metadataField = dcv.getMetadataField();
+            String qualifier = metadataField.getQualifier();
 
-                if (language != null) {
-                    language = " language=\"" + language + "\"";
-                } else {
-                    language = "";
-                }
+            if (qualifier == null) {
+                qualifier = "none";
+            }
 
-                utf8 = ("  <dcvalue element=\"" + metadataField.getElement() + "\" "
-                    + "qualifier=\"" + qualifier + "\""
-                    + language + ">"
-                    + Utils.addEntities(dcv.getValue()) + "</dcvalue>\n")
-                    .getBytes("UTF-8");
-
-                if (!migrate ||
-                    (migrate && !(
-                        ("date".equals(metadataField.getElement()) && "issued".equals(qualifier)) ||
-                            ("date".equals(metadataField.getElement()) && "accessioned".equals(qualifier)) ||
-                            ("date".equals(metadataField.getElement()) && "available".equals(qualifier)) ||
-                            ("identifier".equals(metadataField.getElement()) && "uri".equals(qualifier) &&
-                                (dcv.getValue() != null && dcv.getValue().startsWith(
-                                    handleService.getCanonicalPrefix() + handleService.getPrefix() + "/"))) ||
-                            ("description".equals(metadataField.getElement()) && "provenance".equals(qualifier)) ||
-                            ("format".equals(metadataField.getElement()) && "extent".equals(qualifier)) ||
-                            ("format".equals(metadataField.getElement()) && "mimetype".equals(qualifier))))) {
-                    out.write(utf8, 0, utf8.length);
-                }
+            String language = dcv.getLanguage();
 
-                // Store the date issued and accession to see if they are different
-                // because we need to keep date.issued if they are, when migrating
-                if (("date".equals(metadataField.getElement()) && "issued".equals(qualifier))) {
-                    dateIssued = dcv.getValue();
-                }
-                if (("date".equals(metadataField.getElement()) && "accessioned".equals(qualifier))) {
-                    dateAccessioned = dcv.getValue();
-                }
+            if (language != null) {
+                language = " language=\"" + language + "\"";
+            } else {
+                language = "";
             }
 
-            // When migrating, only keep date.issued if it is different to date.accessioned
-            if (migrate &&
-                (dateIssued != null) &&
-                (dateAccessioned != null) &&
-                !dateIssued.equals(dateAccessioned)) {
-                utf8 = ("  <dcvalue element=\"date\" "
-                    + "qualifier=\"issued\">"
-                    + Utils.addEntities(dateIssued) + "</dcvalue>\n")
-                    .getBytes("UTF-8");
+            utf8 = ("  <dcvalue element=\"" + metadataField.getElement() + "\" "
+                + "qualifier=\"" + qualifier + "\""
+                + language + ">"
+                + Utils.addEntities(dcv.getValue()) + "</dcvalue>\n")
+                .getBytes("UTF-8");
+
+            if (!migrate ||
+                (migrate && !(
+                    ("date".equals(metadataField.getElement()) && "issued".equals(qualifier)) ||
+                        ("date".equals(metadataField.getElement()) && "accessioned".equals(qualifier)) ||
+                        ("date".equals(metadataField.getElement()) && "available".equals(qualifier)) ||
+                        ("identifier".equals(metadataField.getElement()) && "uri".equals(qualifier) &&
+                            (dcv.getValue() != null && dcv.getValue().startsWith(
+                                handleService.getCanonicalPrefix() + handleService.getPrefix() + "/"))) ||
+                        ("description".equals(metadataField.getElement()) && "provenance".equals(qualifier)) ||
+                        ("format".equals(metadataField.getElement()) && "extent".equals(qualifier)) ||
+                        ("format".equals(metadataField.getElement()) && "mimetype".equals(qualifier))))) {
                 out.write(utf8, 0, utf8.length);
             }
 
-            utf8 = "</dublin_core>\n".getBytes("UTF-8");
-            out.write(utf8, 0, utf8.length);
+            // Store the date issued and accession to see if they are different
+            // because we need to keep date.issued if they are, when migrating
+            if (("date".equals(metadataField.getElement()) && "issued".equals(qualifier))) {
+                dateIssued = dcv.getValue();
+            }
+            if (("date".equals(metadataField.getElement()) && "accessioned".equals(qualifier))) {
+                dateAccessioned = dcv.getValue();
+            }
+        }
 
-            out.close();
-        } else {
-            throw new Exception("Cannot create dublin_core.xml in " + destDir);
+        // When migrating, only keep date.issued if it is different to date.accessioned
+        if (migrate &&
+            (dateIssued != null) &&
+            (dateAccessioned != null) &&
+            !dateIssued.equals(dateAccessioned)) {
+            utf8 = ("  <dcvalue element=\"date\" "
+                + "qualifier=\"issued\">"
+                + Utils.addEntities(dateIssued) + "</dcvalue>\n")
+                .getBytes("UTF-8");
+            out.write(utf8, 0, utf8.length);
         }
+
+        utf8 = "</dublin_core>\n".getBytes("UTF-8");
+        out.write(utf8, 0, utf8.length);
+
+        return out.toByteArray();
     }
 
     /**
@@ -365,22 +412,34 @@ public class ItemExportServiceImpl implements ItemExportService {
         File outFile = new File(destDir, "collections");
         if (outFile.createNewFile()) {
             try (PrintWriter out = new PrintWriter(new FileWriter(outFile))) {
-                Collection owningCollection = item.getOwningCollection();
-                // The owning collection is null for workspace and workflow items
-                if (owningCollection != null) {
-                    out.println(owningCollection.getHandle());
-                }
-                for (Collection collection : item.getCollections()) {
-                    if (!collection.equals(owningCollection)) {
-                        out.println(collection.getHandle());
-                    }
-                }
+                out.print(getCollections(item));
             }
         } else {
             throw new IOException("Cannot create 'collections' in " + destDir);
         }
     }
 
+    /**
+     * @param item list collections holding this Item.
+     * @return the content of the 'collections' file, one handle per line
+     */
+    protected String getCollections(Item item) {
+        StringWriter collections = new StringWriter();
+        try (PrintWriter out = new PrintWriter(collections)) {
+            Collection owningCollection = item.getOwningCollection();
+            // The owning collection is null for workspace and workflow items
+            if (owningCollection != null) {
+                out.println(owningCollection.getHandle());
+            }
+            for (Collection collection : item.getCollections()) {
+                if (!collection.equals(owningCollection)) {
+                    out.println(collection.getHandle());
+                }
+            }
+        }
+        return collections.toString();
+    }
+
     /**
      * Create both the bitstreams and the contents file. Any bitstreams that
      * were originally registered will be marked in the contents file as such.
@@ -407,24 +466,10 @@ public class ItemExportServiceImpl implements ItemExportService {
                 // bundles can have multiple bitstreams now...
                 List<Bitstream> bitstreams = bundle.getBitstreams();
 
-                String bundleName = bundle.getName();
-
                 for (Bitstream bitstream : bitstreams) {
                     String myName = bitstream.getName();
                     String oldName = myName;
 
-                    String description = bitstream.getDescription();
-                    if (!StringUtils.isEmpty(description)) {
-                        description = "\tdescription:" + description;
-                    } else {
-                        description = "";
-                    }
-
-                    String primary = "";
-                    if (bitstream.equals(bundle.getPrimaryBitstream())) {
-                        primary = "\tprimary:true ";
-                    }
-
                     int myPrefix = 1; // only used with name conflict
 
                     boolean isDone = false; // done when bitstream is finally
@@ -463,16 +508,7 @@ public class ItemExportServiceImpl implements ItemExportService {
                     }
 
                     // write the manifest file entry
-                    if (bitstreamService.isRegisteredBitstream(bitstream)) {
-                        out.println("-r -s " + bitstream.getStoreNumber()
-                                        + " -f " + myName +
-                                        "\tbundle:" + bundleName +
-                                        primary + description);
-                    } else {
-                        out.println(myName + "\tbundle:" + bundleName +
-                                        primary + description);
-                    }
-
+                    out.println(getContentsLine(bitstream, bundle, myName));
                 }
             }
 
@@ -483,36 +519,303 @@ public class ItemExportServiceImpl implements ItemExportService {
         }
     }
 
+    /**
+     * @param bitstream the bitstream
+     * @param bundle    the bundle of the bitstream
+     * @param name      the file name of the bitstream in the export
+     * @return the line of the bitstream in the 'contents' file
+     */
+    protected String getContentsLine(Bitstream bitstream, Bundle bundle, String name) {
+        String description = bitstream.getDescription();
+        if (!StringUtils.isEmpty(description)) {
+            description = "\tdescription:" + description;
+        } else {
+            description = "";
+        }
+
+        String primary = "";
+        if (bitstream.equals(bundle.getPrimaryBitstream())) {
+            primary = "\tprimary:true ";
+        }
+
+        if (bitstreamService.isRegisteredBitstream(bitstream)) {
+            return "-r -s " + bitstream.getStoreNumber()
+                + " -f " + name +
+                "\tbundle:" + bundle.getName() +
+                primary + description;
+        } else {
+            return name + "\tbundle:" + bundle.getName() +
+                primary + description;
+        }
+    }
+
     @Override
     public void exportAsZip(Context context, Iterator<Item> items,
                             String destDirName, String zipFileName,
                             int seqStart, boolean migrate,
                             boolean excludeBitstreams) throws Exception {
-        String workDir = getExportWorkDirectory() +
-            System.getProperty("file.separator") +
-            zipFileName;
-
-        File wkDir = new File(workDir);
-        if (!wkDir.exists() && !wkDir.mkdirs()) {
-            logError("Unable to create working directory");
-        }
-
         File dnDir = new File(destDirName);
         if (!dnDir.exists() && !dnDir.mkdirs()) {
             logError("Unable to create destination directory");
         }
 
+        File zipFile = new File(dnDir, zipFileName);
+        File tempFile = new File(dnDir, zipFileName + "_tmp");
+        try (ZipOutputStream zip = new ZipOutputStream(
+            new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            zip.setLevel(Deflater.BEST_COMPRESSION);
+            exportItemsToZip(context, items, zip, "", seqStart, migrate, excludeBitstreams);
+        } catch (Exception e) {
+            if (tempFile.exists() && !tempFile.delete()) {
+                logError("Unable to delete file: " + tempFile.getName());
+            }
+            throw e;
+        }
+        if (!tempFile.renameTo(zipFile)) {
+            logError("Unable to rename file");
+        }
+    }
+
+    /**
+     * Export items in the Simple Archive Format straight into a ZIP archive,
+     * without staging them in the working directory. With
+     * {@code org.dspace.app.itemexport.zip.threads} greater than one, the
+     * files of the items are prepared by a pool of threads, each with its own
+     * Context, while the calling thread writes them to the archive in order.
+     *
+     * @param c                 DSpace context
+     * @param items             the items to export
+     * @param zip               the archive to write to
+     * @param zipDirName        the directory of the items inside the archive, empty or ending with a slash
+     * @param seqStart          the first number in the sequence
+     * @param migrate           Whether to use the migrate option or not
+     * @param excludeBitstreams Whether to exclude bitstreams or not
+     * @throws Exception if error
+     */
+    protected void exportItemsToZip(Context c, Iterator<Item> items, ZipOutputStream zip, String zipDirName,
+                                    int seqStart, boolean migrate, boolean excludeBitstreams) throws Exception {
+        int threads = configurationService.getIntProperty("org.dspace.app.itemexport.zip.threads", 1);
+
+        logInfo("Beginning export");
+
+        if (threads <= 1) {
+            int mySequenceNumber = seqStart;
+            while (items.hasNext()) {
+                Item item = items.next();
+                writeZipEntries(c, prepareZipEntries(c, item, zipDirName + mySequenceNumber + "/", migrate,
+                                                     excludeBitstreams, 0), zip);
+                c.uncacheEntity(item);
+                mySequenceNumber++;
+            }
+            return;
+        }
+
+        List<UUID> uuids = new ArrayList<>();
+        while (items.hasNext()) {
+            Item item = items.next();
+            uuids.add(item.getID());
+            c.uncacheEntity(item);
+        }
+        long bufferSize = configurationService.getLongProperty("org.dspace.app.itemexport.zip.buffer.size",
+                                                               1048576L);
+        // items claimed by the workers and not written yet, bounding the memory used by entry buffers
+        Semaphore window = new Semaphore(threads * 2);
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        Map<Integer, CompletableFuture<ItemArchiveEntries>> results = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("item-export"));
         try {
-            // export the items using normal export method (this exports items to our workDir)
-            exportItem(context, items, workDir, seqStart, migrate, excludeBitstreams);
+            List<Future<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    runExportWorker(c, uuids, zipDirName, seqStart, migrate, excludeBitstreams, bufferSize,
+                                    window, nextIndex, proceed, results);
+                    return null;
+                }));
+            }
+            executor.shutdown();
+            for (int i = 0; i < uuids.size(); i++) {
+                CompletableFuture<ItemArchiveEntries> result =
+                    results.computeIfAbsent(i, k -> new CompletableFuture<>());
+                ItemArchiveEntries archive = null;
+                while (archive == null) {
+                    try {
+                        archive = result.get(1, TimeUnit.SECONDS);
+                    } catch (ExecutionException e) {
+                        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    } catch (TimeoutException e) {
+                        if (executor.isTerminated() && !result.isDone()) {
+                            // all workers failed before claiming the item
+                            for (Future<Void> worker : workers) {
+                                worker.get();
+                            }
+                            throw new IllegalStateException("Export stopped before item " + uuids.get(i));
+                        }
+                    }
+                }
+                results.remove(i);
+                writeZipEntries(c, archive, zip);
+                window.release();
+            }
+        } finally {
+            proceed.set(false);
+            executor.shutdownNow();
+        }
+    }
 
-            // now zip up the workDir directory created above
-            zip(workDir, destDirName + System.getProperty("file.separator") + zipFileName);
+    /**
+     * Prepare the entries of the items claimed from the list until all items
+     * are claimed or the export fails, using a dedicated Context acting as
+     * the same user as the given Context.
+     */
+    private void runExportWorker(Context context, List<UUID> uuids, String zipDirName, int seqStart,
+                                 boolean migrate, boolean excludeBitstreams, long bufferSize, Semaphore window,
+                                 AtomicInteger nextIndex, AtomicBoolean proceed,
+                                 Map<Integer, CompletableFuture<ItemArchiveEntries>> results)
+        throws SQLException, InterruptedException {
+        Context workerContext = context.copy(Context.Mode.READ_ONLY);
+        try {
+            while (proceed.get()) {
+                window.acquire();
+                int index = nextIndex.getAndIncrement();
+                if (index >= uuids.size()) {
+                    window.release();
+                    break;
+                }
+                CompletableFuture<ItemArchiveEntries> result =
+                    results.computeIfAbsent(index, k -> new CompletableFuture<>());
+                try {
+                    Item item = itemService.find(workerContext, uuids.get(index));
+                    result.complete(prepareZipEntries(workerContext, item,
+                                                      zipDirName + (seqStart + index) + "/", migrate,
+                                                      excludeBitstreams, bufferSize));
+                    workerContext.uncacheEntity(item);
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                    proceed.set(false);
+                }
+            }
+            workerContext.complete();
         } finally {
-            // Cleanup workDir created above, if it still exists
-            if (wkDir.exists()) {
-                deleteDirectory(wkDir);
+            if (workerContext.isValid()) {
+                workerContext.abort();
+            }
+        }
+    }
+
+    /**
+     * Collect the files of an item in the Simple Archive Format.
+     *
+     * @param c                 DSpace context
+     * @param item              the item to export
+     * @param itemDirName       the directory of the item inside the archive, ending with a slash
+     * @param migrate           Whether to use the migrate option or not
+     * @param excludeBitstreams Whether to exclude bitstreams or not
+     * @param bufferSize        bitstreams up to this size are read into memory, larger ones are read when
+     *                          written to the archive
+     * @return the files of the item
+     * @throws Exception if error
+     */
+    protected ItemArchiveEntries prepareZipEntries(Context c, Item item, String itemDirName, boolean migrate,
+                                                   boolean excludeBitstreams, long bufferSize) throws Exception {
+        logInfo("Exporting Item " + item.getID() +
+                    (item.getHandle() != null ? ", handle " + item.getHandle() : "") +
+                    " to " + itemDirName);
+
+        ItemArchiveEntries archive = new ItemArchiveEntries(itemDirName);
+
+        Set<String> schemas = new HashSet<>();
+        for (MetadataValue metadataValue : itemService.getMetadata(item, Item.ANY, Item.ANY, Item.ANY, Item.ANY)) {
+            schemas.add(metadataValue.getMetadataField().getMetadataSchema().getName());
+        }
+        for (String schema : schemas) {
+            String filename = getMetadataFileName(schema);
+            archive.reserve(filename);
+            archive.add(filename, getMetadata(c, schema, item, migrate), false);
+        }
+
+        archive.reserve("contents");
+        StringWriter contents = new StringWriter();
+        Set<String> storedFormats = new HashSet<>(Arrays.asList(configurationService.getArrayProperty(
+            "org.dspace.app.itemexport.zip.stored.mimetypes", DEFAULT_STORED_MIMETYPES)));
+        try (PrintWriter out = new PrintWriter(contents)) {
+            for (Bundle bundle : item.getBundles()) {
+                for (Bitstream bitstream : bundle.getBitstreams()) {
+                    String myName = bitstream.getName();
+                    if (!excludeBitstreams) {
+                        String oldName = myName;
+                        int myPrefix = 1; // only used with name conflict
+                        while (!archive.reserve(myName)) {
+                            myName = myPrefix + "_" + oldName;
+                            myPrefix++;
+                        }
+                        BitstreamFormat format = bitstream.getFormat(c);
+                        boolean stored = format != null && storedFormats.contains(format.getMIMEType());
+                        if (bitstream.getSizeBytes() <= bufferSize) {
+                            try (InputStream is = bitstreamService.retrieve(c, bitstream)) {
+                                archive.add(myName, is.readAllBytes(), stored);
+                            }
+                        } else {
+                            archive.add(myName, bitstream.getID(), stored);
+                        }
+                    }
+                    out.println(getContentsLine(bitstream, bundle, myName));
+                }
+            }
+        }
+        archive.add("contents", contents.toString().getBytes(StandardCharsets.UTF_8), false);
+
+        if (!archive.reserve("collections")) {
+            throw new IOException("Cannot create 'collections' in " + itemDirName);
+        }
+        archive.add("collections", getCollections(item).getBytes(StandardCharsets.UTF_8), false);
+
+        if (!migrate && item.getHandle() != null) {
+            if (!archive.reserve("handle")) {
+                throw new Exception("Cannot create file handle in " + itemDirName);
             }
+            archive.add("handle", (item.getHandle() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                        false);
+        }
+        return archive;
+    }
+
+    /**
+     * Write the files of an item to a ZIP archive. Files with an already
+     * compressed format are not deflated again.
+     *
+     * @param c       DSpace context
+     * @param archive the files of the item
+     * @param zip     the archive to write to
+     * @throws Exception if error
+     */
+    protected void writeZipEntries(Context c, ItemArchiveEntries archive, ZipOutputStream zip) throws Exception {
+        for (ItemArchiveEntries.Entry entry : archive.getEntries()) {
+            ZipEntry zipEntry = new ZipEntry(archive.getDirectory() + entry.getName());
+            byte[] data = entry.getData();
+            if (data != null) {
+                if (entry.isStored()) {
+                    CRC32 crc = new CRC32();
+                    crc.update(data);
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    zipEntry.setSize(data.length);
+                    zipEntry.setCompressedSize(data.length);
+                    zipEntry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(zipEntry);
+                zip.write(data);
+            } else {
+                // the size and checksum of a stored entry must be known in advance, so store the bitstream
+                // as a deflated entry without compression instead
+                Bitstream bitstream = bitstreamService.find(c, entry.getBitstreamId());
+                zip.setLevel(entry.isStored() ? Deflater.NO_COMPRESSION : Deflater.BEST_COMPRESSION);
+                zip.putNextEntry(zipEntry);
+                try (InputStream is = bitstreamService.retrieve(c, bitstream)) {
+                    Utils.bufferedCopy(is, zip);
+                }
+                zip.setLevel(Deflater.BEST_COMPRESSION);
+            }
+            zip.closeEntry();
         }
     }
 
@@ -683,43 +986,39 @@ public class ItemExportServiceImpl implements ItemExportService {
 
                         String fileName = assembleFileName("item", eperson,
                                                            LocalDate.now());
-                        String workParentDir = getExportWorkDirectory()
-                            + System.getProperty("file.separator")
-                            + fileName;
                         String downloadDir = getExportDownloadDirectory(eperson);
                         File dnDir = new File(downloadDir);
                         if (!dnDir.exists() && !dnDir.mkdirs()) {
                             logError("Unable to create download directory");
                         }
 
-                        Iterator<String> iter = itemsMap.keySet().iterator();
-                        while (iter.hasNext()) {
-                            String keyName = iter.next();
-                            List<UUID> uuids = itemsMap.get(keyName);
-                            List<Item> items = new ArrayList<>();
-                            for (UUID uuid : uuids) {
-                                items.add(itemService.find(context, uuid));
-                            }
-                            iitems = items.iterator();
-
-                            String workDir = workParentDir
-                                + System.getProperty("file.separator")
-                                + keyName;
+                        // export the items straight into the archive, one directory per key
+                        File zipFile = new File(dnDir, fileName + ".zip");
+                        File tempFile = new File(dnDir, fileName + ".zip_tmp");
+                        try (ZipOutputStream zip = new ZipOutputStream(
+                            new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                            zip.setLevel(Deflater.BEST_COMPRESSION);
+                            Iterator<String> iter = itemsMap.keySet().iterator();
+                            while (iter.hasNext()) {
+                                String keyName = iter.next();
+                                List<UUID> uuids = itemsMap.get(keyName);
+                                List<Item> items = new ArrayList<>();
+                                for (UUID uuid : uuids) {
+                                    items.add(itemService.find(context, uuid));
+                                }
+                                iitems = items.iterator();
 
-                            File wkDir = new File(workDir);
-                            if (!wkDir.exists() && !wkDir.mkdirs()) {
-                                logError("Unable to create working directory");
+                                exportItemsToZip(context, iitems, zip, keyName + "/", 1, migrate, false);
                             }
-
-
-                            // export the items using normal export method
-                            exportItem(context, iitems, workDir, 1, migrate, false);
+                        } catch (Exception e) {
+                            if (tempFile.exists() && !tempFile.delete()) {
+                                logError("Unable to delete file: " + tempFile.getName());
+                            }
+                            throw e;
+                        }
+                        if (!tempFile.renameTo(zipFile)) {
+                            logError("Unable to rename file");
                         }
-
-                        // now zip up the export directory created above
-                        zip(workParentDir, downloadDir
-                            + System.getProperty("file.separator")
-                            + fileName + ".zip");
                         // email message letting user know the file is ready for
                         // download
                         emailSuccessMessage(context, eperson, fileName + ".zip");
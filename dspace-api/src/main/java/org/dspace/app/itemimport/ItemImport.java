@@ -76,6 +76,7 @@ public class ItemImport extends DSpaceRunnable<ItemImportScriptConfiguration> {
     protected boolean useWorkflow = false;
     protected boolean useWorkflowSendEmail = false;
     protected boolean isQuiet = false;
+    protected int threads = 1;
     protected boolean commandLineCollections = false;
     protected boolean zip = false;
     protected boolean remoteUrl = false;
@@ -148,6 +149,17 @@ public class ItemImport extends DSpaceRunnable<ItemImportScriptConfiguration> {
             isQuiet = true;
         }
 
+        if (commandLine.hasOption('P')) {
+            try {
+                threads = Integer.parseInt(commandLine.getOptionValue('P'));
+            } catch (NumberFormatException e) {
+                throw new ParseException("The number of threads must be a number: " + commandLine.getOptionValue('P'));
+            }
+            if (threads < 1) {
+                throw new ParseException("The number of threads must be at least 1");
+            }
+        }
+
         setZip();
     }
 
@@ -218,6 +230,7 @@ public class ItemImport extends DSpaceRunnable<ItemImportScriptConfiguration> {
             itemImportService.setUseWorkflow(useWorkflow);
             itemImportService.setUseWorkflowSendEmail(useWorkflowSendEmail);
             itemImportService.setQuiet(isQuiet);
+            itemImportService.setThreads(threads);
             itemImportService.setHandler(handler);
 
             try {
@@ -67,6 +67,9 @@ public class ItemImportCLIScriptConfiguration extends ItemImportScriptConfigurat
         options.addOption(Option.builder("R").longOpt("resume")
                 .desc("resume a failed import (add only)")
                 .hasArg(false).required(false).build());
+        options.addOption(Option.builder("P").longOpt("parallel")
+                .desc("number of threads importing items (add only)")
+                .hasArg().required(false).build());
         options.addOption(Option.builder("q").longOpt("quiet")
                 .desc("don't display metadata")
                 .hasArg(false).required(false).build());
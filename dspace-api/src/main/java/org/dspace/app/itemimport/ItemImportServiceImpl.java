@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.file.Path;
 import java.sql.SQLException;
@@ -46,6 +47,13 @@ import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import javax.xml.parsers.DocumentBuilder;
@@ -104,6 +112,8 @@ import org.dspace.core.Context;
 import org.dspace.core.Email;
 import org.dspace.core.I18nUtil;
 import org.dspace.core.LogHelper;
+import org.dspace.discovery.IndexingService;
+import org.dspace.discovery.indexobject.IndexableItem;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.dspace.eperson.service.EPersonService;
@@ -111,6 +121,8 @@ import org.dspace.eperson.service.GroupService;
 import org.dspace.handle.service.HandleService;
 import org.dspace.scripts.handler.DSpaceRunnableHandler;
 import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.utils.DaemonThreadFactory;
 import org.dspace.workflow.WorkflowItem;
 import org.dspace.workflow.WorkflowService;
 import org.springframework.beans.factory.InitializingBean;
@@ -192,6 +204,7 @@ public class ItemImportServiceImpl implements ItemImportService, InitializingBea
     protected boolean useWorkflow = false;
     protected boolean useWorkflowSendEmail = false;
     protected boolean isQuiet = false;
+    protected int threads = 1;
 
     //remember which folder item was imported from
     Map<String, Item> itemFolderMap = null;
@@ -287,6 +300,9 @@ public class ItemImportServiceImpl implements ItemImportService, InitializingBea
 
             Arrays.sort(dircontents, ComparatorUtils.naturalComparator());
 
+            // item directories left to the worker threads of a parallel import
+            List<String> folders = new ArrayList<>();
+
             for (int i = 0; i < dircontents.length; i++) {
                 if (skipItems.containsKey(dircontents[i])) {
                     logInfo("Skipping import of " + dircontents[i]);
@@ -296,6 +312,8 @@ public class ItemImportServiceImpl implements ItemImportService, InitializingBea
                     Item skippedItem = (Item) handleService.resolveToObject(c, skippedHandle);
                     itemFolderMap.put(dircontents[i], skippedItem);
 
+                } else if (threads > 1 && !isTest) {
+                    folders.add(dircontents[i]);
                 } else {
                     List<Collection> clist;
                     if (directoryFileCollections) {
@@ -324,6 +342,10 @@ public class ItemImportServiceImpl implements ItemImportService, InitializingBea
                 }
             }
 
+            if (!folders.isEmpty()) {
+                addItemsConcurrently(c, mycollections, sourceDir, folders, mapOut, template);
+            }
+
             //now that all items are imported, iterate again to link relationships
             addRelationships(c, sourceDir);
 
@@ -335,6 +357,158 @@ public class ItemImportServiceImpl implements ItemImportService, InitializingBea
         }
     }
 
+    /**
+     * Import item directories on a pool of worker threads. Each worker imports
+     * the items with its own Context, acting as the same user as the given
+     * Context, and commits every {@code org.dspace.app.batchitemimport.batch.size}
+     * items. Lines are only written to the map file once the batch of their item
+     * is committed, so that an aborted import can be resumed. Unless the items
+     * go through the workflow, the workers do not index the items in Discovery;
+     * the imported items are indexed at the end instead.
+     *
+     * @param c             the import Context
+     * @param mycollections the collections the items are imported to, or null to
+     *                      read them from the 'collections' file of each item
+     * @param sourceDir     the directory containing the item directories
+     * @param folders       the item directories to import
+     * @param mapOut        the map file
+     * @param template      whether to use collection template item as starting point
+     * @throws Exception if an item cannot be imported
+     */
+    protected void addItemsConcurrently(Context c, List<Collection> mycollections, String sourceDir,
+                                        List<String> folders, PrintWriter mapOut, boolean template)
+        throws Exception {
+        ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>(folders);
+        Map<String, UUID> imported = new ConcurrentHashMap<>();
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        int workers = Math.min(threads, folders.size());
+        logInfo("Importing " + folders.size() + " items with " + workers + " threads");
+        ExecutorService executor = Executors.newFixedThreadPool(workers, new DaemonThreadFactory("item-import"));
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                runImportWorker(c, mycollections, sourceDir, queue, mapOut, template, proceed, imported);
+                return null;
+            }));
+        }
+        executor.shutdown();
+        Exception failure = null;
+        try {
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            proceed.set(false);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        // index the committed items, even if some other item failed, as they stay in the repository
+        IndexingService indexingService = useWorkflow ? null : DSpaceServicesFactory.getInstance()
+            .getServiceManager().getServiceByName(IndexingService.class.getName(), IndexingService.class);
+        for (Map.Entry<String, UUID> entry : imported.entrySet()) {
+            Item item = itemService.find(c, entry.getValue());
+            itemFolderMap.put(entry.getKey(), item);
+            if (indexingService != null) {
+                indexingService.indexContent(c, new IndexableItem(item), true, false);
+            }
+        }
+        if (indexingService != null) {
+            indexingService.commit();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Import the item directories taken from the queue until it is empty or an
+     * import failed, using a dedicated Context.
+     */
+    private void runImportWorker(Context context, List<Collection> mycollections, String sourceDir,
+                                 ConcurrentLinkedQueue<String> queue, PrintWriter mapOut, boolean template,
+                                 AtomicBoolean proceed, Map<String, UUID> imported) throws Exception {
+        int batchSize = configurationService.getIntProperty("org.dspace.app.batchitemimport.batch.size", 100);
+        Context workerContext = context.copy(Context.Mode.BATCH_EDIT);
+        try {
+            if (!useWorkflow) {
+                workerContext.setDispatcher(configurationService.getProperty(
+                    "org.dspace.app.batchitemimport.dispatcher", "batchimport"));
+            }
+            List<Collection> collections = null;
+            if (mycollections != null) {
+                collections = new ArrayList<>();
+                for (Collection collection : mycollections) {
+                    collections.add(collectionService.find(workerContext, collection.getID()));
+                }
+            }
+
+            StringWriter batchMap = new StringWriter();
+            PrintWriter batchMapOut = new PrintWriter(batchMap);
+            Map<String, UUID> batchItems = new HashMap<>();
+            String folder;
+            while (proceed.get() && (folder = queue.poll()) != null) {
+                List<Collection> clist = collections;
+                if (clist == null) {
+                    String path = sourceDir + File.separatorChar + folder;
+                    try {
+                        clist = processCollectionFile(workerContext, path, "collections");
+                        if (clist == null) {
+                            logError("No collections specified for item " + folder + ". Skipping.");
+                            continue;
+                        }
+                    } catch (IllegalArgumentException e) {
+                        logError(e.getMessage() + " Skipping.");
+                        continue;
+                    }
+                }
+
+                Item item = addItem(workerContext, clist, sourceDir, folder, batchMapOut, template);
+                batchItems.put(folder, item.getID());
+                workerContext.uncacheEntity(item);
+                logInfo(folder);
+
+                if (batchItems.size() >= batchSize) {
+                    commitImportBatch(workerContext, batchMap, mapOut, batchItems, imported);
+                }
+            }
+            commitImportBatch(workerContext, batchMap, mapOut, batchItems, imported);
+            workerContext.complete();
+        } catch (Exception e) {
+            proceed.set(false);
+            throw e;
+        } finally {
+            if (workerContext.isValid()) {
+                workerContext.abort();
+            }
+        }
+    }
+
+    /**
+     * Commit the items imported by a worker and only then add them to the map file.
+     */
+    private void commitImportBatch(Context workerContext, StringWriter batchMap, PrintWriter mapOut,
+                                   Map<String, UUID> batchItems, Map<String, UUID> imported) throws SQLException {
+        workerContext.commit();
+        if (mapOut != null) {
+            synchronized (mapOut) {
+                mapOut.print(batchMap);
+                mapOut.flush();
+            }
+        }
+        batchMap.getBuffer().setLength(0);
+        imported.putAll(batchItems);
+        batchItems.clear();
+    }
+
      /**
       * Add relationships from a 'relationships' manifest file.
       * 
@@ -2417,6 +2591,11 @@ public class ItemImportServiceImpl implements ItemImportService, InitializingBea
         this.isQuiet = isQuiet;
     }
 
+    @Override
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
     @Override
     public void setHandler(DSpaceRunnableHandler handler) {
         this.handler = handler;
@@ -244,6 +244,14 @@ public interface ItemImportService {
      */
     public void setQuiet(boolean isQuiet);
 
+    /**
+     * Set the number of threads importing items. With more than one thread, items are
+     * added by worker threads committing in batches and indexed in Discovery at the end.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads);
+
     /**
      * Set the DSpace Runnable Handler
      * @param handler
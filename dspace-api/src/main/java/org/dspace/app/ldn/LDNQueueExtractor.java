@@ -8,11 +8,23 @@
 package org.dspace.app.ldn;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.Logger;
 import org.dspace.app.ldn.factory.LDNMessageServiceFactory;
 import org.dspace.app.ldn.service.LDNMessageService;
 import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.utils.DaemonThreadFactory;
 
 /**
  * LDN Message manager: scheduled task invoking extractAndProcessMessageFromQueue() of {@link LDNMessageService}
@@ -23,6 +35,8 @@ public class LDNQueueExtractor {
 
     private static final LDNMessageService ldnMessageService = LDNMessageServiceFactory.getInstance()
         .getLDNMessageService();
+    private static final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+        .getConfigurationService();
     private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(LDNQueueExtractor.class);
 
     /**
@@ -38,10 +52,16 @@ public class LDNQueueExtractor {
      * @see org.dspace.app.ldn.processor.LDNProcessor
      * Also a +1 is added to the ldnMessage entity
      * @see org.dspace.app.ldn.LDNMessageEntity#getQueueAttempts()
+     * With ldn.processor.threads greater than 1, the messages are processed concurrently instead, see
+     * {@link #extractMessagesConcurrently(int)}.
      * @return the number of processed ldnMessages.
      * @throws SQLException
      */
     public static int extractMessageFromQueue() throws SQLException {
+        int threads = configurationService.getIntProperty("ldn.processor.threads", 1);
+        if (threads > 1) {
+            return extractMessagesConcurrently(threads);
+        }
         Context context = new Context(Context.Mode.READ_WRITE);
         int processed_messages = ldnMessageService.extractAndProcessMessageFromQueue(context);
         if (processed_messages > 0) {
@@ -51,4 +71,91 @@ public class LDNQueueExtractor {
         return processed_messages;
     }
 
+    /**
+     * Process the messages of the queue with a pool of worker threads. Batches of
+     * ldn.processor.batch-size messages are leased from the queue
+     * ({@link LDNMessageService#leaseMessagesToProcess(Context, int)}), so that other
+     * nodes skip them. The leased messages are grouped by object: the groups are
+     * processed in parallel, the messages of a group in order by the same worker,
+     * each message in its own transaction. The next batch is leased once the
+     * current one is processed.
+     *
+     * @param threads the number of worker threads
+     * @return the number of processed ldnMessages.
+     * @throws SQLException
+     */
+    public static int extractMessagesConcurrently(int threads) throws SQLException {
+        int batchSize = configurationService.getIntProperty("ldn.processor.batch-size", 100);
+        AtomicInteger processed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("ldn-queue"));
+        try {
+            List<List<String>> groups = leaseMessages(batchSize);
+            while (!groups.isEmpty()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (List<String> group : groups) {
+                    futures.add(executor.submit(() -> processMessages(group, processed)));
+                }
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        log.error("Unable to process LDN messages", e.getCause());
+                    }
+                }
+                groups = leaseMessages(batchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        if (processed.get() > 0) {
+            log.info("Processed Messages x" + processed.get());
+        }
+        return processed.get();
+    }
+
+    /**
+     * Lease the next messages of the queue and group their ids by object.
+     */
+    private static List<List<String>> leaseMessages(int batchSize) throws SQLException {
+        Context context = new Context(Context.Mode.READ_WRITE);
+        try {
+            Map<Object, List<String>> groups = new LinkedHashMap<>();
+            for (LDNMessageEntity msg : ldnMessageService.leaseMessagesToProcess(context, batchSize)) {
+                Object key = msg.getObject() != null ? msg.getObject().getID() : msg.getID();
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(msg.getID());
+            }
+            context.complete();
+            return new ArrayList<>(groups.values());
+        } finally {
+            if (context.isValid()) {
+                context.abort();
+            }
+        }
+    }
+
+    /**
+     * Process the leased messages of the same object in order, with a dedicated Context.
+     */
+    private static void processMessages(List<String> ids, AtomicInteger processed) {
+        Context context = new Context(Context.Mode.READ_WRITE);
+        try {
+            for (String id : ids) {
+                LDNMessageEntity msg = ldnMessageService.find(context, id);
+                if (msg != null && ldnMessageService.processMessage(context, msg)) {
+                    processed.incrementAndGet();
+                }
+                context.commit();
+            }
+            context.complete();
+        } catch (SQLException e) {
+            log.error("Unable to process LDN messages " + ids, e);
+        } finally {
+            if (context.isValid()) {
+                context.abort();
+            }
+        }
+    }
+
 };
\ No newline at end of file
@@ -73,4 +73,18 @@ public interface LDNMessageDao extends GenericDAO<LDNMessageEntity> {
      * @throws SQLException
      */
     public List<LDNMessageEntity> findMessagesToBeReprocessed(Context context) throws SQLException;
+
+    /**
+     * find and lock the ldn messages to be processed (queued with queue_attempts < max_attempts and a past
+     * queue_timeout, or queued for retry), skipping the ones locked by other transactions and the ones about
+     * an object with a message in processing status. The objects of the messages are locked too, so that a
+     * concurrent lease of messages about the same object waits for this one to be committed
+     * @param context
+     * @param max_attempts consider ldn_message entity with queue_attempts < max_attempts
+     * @param limit max number of messages
+     * @return the locked ldn message entities, in processing order
+     * @throws SQLException
+     */
+    public List<LDNMessageEntity> findMessagesToLease(Context context, int max_attempts, int limit)
+        throws SQLException;
 }
@@ -10,8 +10,13 @@ package org.dspace.app.ldn.dao.impl;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -25,6 +30,7 @@ import org.dspace.app.ldn.dao.LDNMessageDao;
 import org.dspace.content.Item;
 import org.dspace.core.AbstractHibernateDAO;
 import org.dspace.core.Context;
+import org.hibernate.query.NativeQuery;
 
 /**
  * Hibernate implementation of the Database Access Object interface class for
@@ -37,6 +43,26 @@ public class LDNMessageDaoImpl extends AbstractHibernateDAO<LDNMessageEntity> im
 
     private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(LDNMessageDaoImpl.class);
 
+    private static final String SELECT_MESSAGES_TO_LEASE =
+        "SELECT m.* FROM ldn_message m " +
+            "WHERE ((m.queue_status = :queued AND m.queue_attempts < :maxAttempts AND m.queue_timeout < :now) " +
+            "OR m.queue_status = :retry) " +
+            "AND NOT EXISTS (SELECT 1 FROM ldn_message p WHERE p.object = m.object AND p.queue_status = :processing) " +
+            "ORDER BY m.queue_attempts DESC, m.queue_last_start_time ASC " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    /**
+     * The guard of SELECT_MESSAGES_TO_LEASE does not see the messages leased by
+     * uncommitted transactions: the leases of messages about the same object are
+     * serialized by locking the object until the lease is committed.
+     */
+    private static final String LOCK_OBJECTS =
+        "SELECT uuid FROM dspaceobject WHERE uuid IN (:objects) ORDER BY uuid FOR UPDATE";
+
+    private static final String SELECT_OBJECTS_WITH_MESSAGES_IN_PROCESSING =
+        "SELECT DISTINCT m.object.id FROM LDNMessageEntity m " +
+            "WHERE m.object.id IN (:objects) AND m.queueStatus = :processing";
+
     @Override
     public List<LDNMessageEntity> findOldestMessageToProcess(Context context, int max_attempts) throws SQLException {
         CriteriaBuilder criteriaBuilder = getCriteriaBuilder(context);
@@ -169,4 +195,41 @@ public class LDNMessageDaoImpl extends AbstractHibernateDAO<LDNMessageEntity> im
         }
         return result;
     }
+
+    @Override
+    public List<LDNMessageEntity> findMessagesToLease(Context context, int max_attempts, int limit)
+        throws SQLException {
+        NativeQuery<LDNMessageEntity> query = getHibernateSession(context)
+            .createNativeQuery(SELECT_MESSAGES_TO_LEASE, LDNMessageEntity.class);
+        query.setParameter("queued", LDNMessageEntity.QUEUE_STATUS_QUEUED);
+        query.setParameter("maxAttempts", max_attempts);
+        query.setParameter("now", Instant.now());
+        query.setParameter("retry", LDNMessageEntity.QUEUE_STATUS_QUEUED_FOR_RETRY);
+        query.setParameter("processing", LDNMessageEntity.QUEUE_STATUS_PROCESSING);
+        query.setParameter("limit", limit);
+        List<LDNMessageEntity> result = query.getResultList();
+        Set<UUID> objects = result.stream()
+                                  .filter(message -> message.getObject() != null)
+                                  .map(message -> message.getObject().getID())
+                                  .collect(Collectors.toCollection(TreeSet::new));
+        if (!objects.isEmpty()) {
+            // wait for the concurrent leases of messages about the same objects, then check them again
+            getHibernateSession(context).createNativeQuery(LOCK_OBJECTS)
+                                        .setParameter("objects", objects)
+                                        .getResultList();
+            Set<UUID> objectsInProcessing = new HashSet<>(
+                getHibernateSession(context).createQuery(SELECT_OBJECTS_WITH_MESSAGES_IN_PROCESSING, UUID.class)
+                                            .setParameter("objects", objects)
+                                            .setParameter("processing", LDNMessageEntity.QUEUE_STATUS_PROCESSING)
+                                            .getResultList());
+            result = result.stream()
+                           .filter(message -> message.getObject() == null
+                               || !objectsInProcessing.contains(message.getObject().getID()))
+                           .collect(Collectors.toList());
+        }
+        if (result.isEmpty()) {
+            log.debug("No LDN messages found to be leased");
+        }
+        return result;
+    }
 }
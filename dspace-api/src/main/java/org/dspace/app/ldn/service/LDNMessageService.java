@@ -110,6 +110,32 @@ public interface LDNMessageService {
      */
     public int extractAndProcessMessageFromQueue(Context context) throws SQLException;
 
+    /**
+     * Lease the next messages of the queue to the given context: the messages are
+     * locked, skipping the ones locked by other contexts, and moved to the
+     * Processing status until their queue timeout. Messages about an object with
+     * a message in the Processing status are not leased, so that the messages
+     * about the same object are processed in order. The lease is taken once the
+     * context is committed; until then, the leased objects are locked and the
+     * concurrent leases of messages about them wait.
+     *
+     * @param context The DSpace context
+     * @param limit   the max number of messages to lease
+     * @return the leased messages, in processing order
+     * @throws SQLException if something goes wrong
+     */
+    public List<LDNMessageEntity> leaseMessagesToProcess(Context context, int limit) throws SQLException;
+
+    /**
+     * Route the given message to its processor and process it, updating its queue status and attempts
+     *
+     * @param context The DSpace context
+     * @param msg     the message to process
+     * @return true if the message has been processed
+     * @throws SQLException if something goes wrong
+     */
+    public boolean processMessage(Context context, LDNMessageEntity msg) throws SQLException;
+
     /**
      * find the related notify service entity
      *
@@ -22,6 +22,7 @@ import java.util.UUID;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.gson.JsonSyntaxException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
@@ -75,6 +76,12 @@ public class LDNMessageServiceImpl implements LDNMessageService {
     private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(LDNMessageServiceImpl.class);
     private static final String LDN_ID_PREFIX = "urn:uuid:";
 
+    /**
+     * Thread-safe, shared by all the messages
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader notificationReader = objectMapper.readerFor(Notification.class);
+
     protected LDNMessageServiceImpl() {
 
     }
@@ -125,10 +132,9 @@ public class LDNMessageServiceImpl implements LDNMessageService {
         }
         ldnMessage.setOrigin(findNotifyService(context, notification.getOrigin()));
         ldnMessage.setInReplyTo(find(context, notification.getInReplyTo()));
-        ObjectMapper mapper = new ObjectMapper();
         String message = null;
         try {
-            message = mapper.writeValueAsString(notification);
+            message = objectMapper.writeValueAsString(notification);
             ldnMessage.setMessage(message);
         } catch (JsonProcessingException e) {
             log.error("Notification json can't be correctly processed " +
@@ -269,53 +275,85 @@ public class LDNMessageServiceImpl implements LDNMessageService {
     @Override
     public int extractAndProcessMessageFromQueue(Context context) throws SQLException {
         int count = 0;
-        int timeoutInMinutes = configurationService.getIntProperty("ldn.processor.queue.msg.timeout", 60);
-
-        List<LDNMessageEntity> messages = findOldestMessagesToProcess(context);
-        messages.addAll(findMessagesToBeReprocessed(context));
 
-        Optional<LDNMessageEntity> msgOpt = getSingleMessageEntity(messages);
-
-        while (msgOpt.isPresent()) {
-            LDNProcessor processor = null;
-            LDNMessageEntity msg = msgOpt.get();
-            processor = ldnRouter.route(msg);
-            try {
-                boolean isServiceDisabled = !isServiceEnabled(msg);
-                if (processor == null || isServiceDisabled) {
-                    log.warn("No processor found for LDN message " + msg);
-                    Integer status = isServiceDisabled ? LDNMessageEntity.QUEUE_STATUS_UNTRUSTED
-                        : LDNMessageEntity.QUEUE_STATUS_UNMAPPED_ACTION;
-                    msg.setQueueStatus(status);
-                    msg.setQueueAttempts(msg.getQueueAttempts() + 1);
-                    update(context, msg);
-                } else {
-                    msg.setQueueLastStartTime(Instant.now());
-                    msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_PROCESSING);
-                    msg.setQueueTimeout(Instant.now().plus(timeoutInMinutes, ChronoUnit.MINUTES));
-                    update(context, msg);
-                    ObjectMapper mapper = new ObjectMapper();
-                    Notification notification = mapper.readValue(msg.getMessage(), Notification.class);
-                    processor.process(context, notification);
-                    msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_PROCESSED);
+        // the queue is only read again once the messages already read are processed, as processing a
+        // message may queue new ones
+        List<LDNMessageEntity> messages = findMessagesToProcess(context);
+        while (!messages.isEmpty()) {
+            for (LDNMessageEntity msg : messages) {
+                if (isQueued(msg) && processMessage(context, msg)) {
                     count++;
                 }
-            } catch (JsonSyntaxException jse) {
-                log.error("Unable to read JSON notification from LdnMessage " + msg, jse);
-                msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_FAILED);
-            } catch (Exception e) {
-                log.error(e);
-                msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_FAILED);
-            } finally {
+            }
+            messages = findMessagesToProcess(context);
+        }
+        return count;
+    }
+
+    @Override
+    public List<LDNMessageEntity> leaseMessagesToProcess(Context context, int limit) throws SQLException {
+        int maxAttempts = configurationService.getIntProperty("ldn.processor.max.attempts");
+        int timeoutInMinutes = configurationService.getIntProperty("ldn.processor.queue.msg.timeout", 60);
+        List<LDNMessageEntity> messages = ldnMessageDao.findMessagesToLease(context, maxAttempts, limit);
+        Instant now = Instant.now();
+        for (LDNMessageEntity msg : messages) {
+            msg.setQueueLastStartTime(now);
+            msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_PROCESSING);
+            msg.setQueueTimeout(now.plus(timeoutInMinutes, ChronoUnit.MINUTES));
+            update(context, msg);
+        }
+        return messages;
+    }
+
+    @Override
+    public boolean processMessage(Context context, LDNMessageEntity msg) throws SQLException {
+        int timeoutInMinutes = configurationService.getIntProperty("ldn.processor.queue.msg.timeout", 60);
+        boolean processed = false;
+        LDNProcessor processor = ldnRouter.route(msg);
+        try {
+            boolean isServiceDisabled = !isServiceEnabled(msg);
+            if (processor == null || isServiceDisabled) {
+                log.warn("No processor found for LDN message " + msg);
+                Integer status = isServiceDisabled ? LDNMessageEntity.QUEUE_STATUS_UNTRUSTED
+                    : LDNMessageEntity.QUEUE_STATUS_UNMAPPED_ACTION;
+                msg.setQueueStatus(status);
                 msg.setQueueAttempts(msg.getQueueAttempts() + 1);
                 update(context, msg);
+            } else {
+                msg.setQueueLastStartTime(Instant.now());
+                msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_PROCESSING);
+                msg.setQueueTimeout(Instant.now().plus(timeoutInMinutes, ChronoUnit.MINUTES));
+                update(context, msg);
+                Notification notification = notificationReader.readValue(msg.getMessage());
+                processor.process(context, notification);
+                msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_PROCESSED);
+                processed = true;
             }
-
-            messages = findOldestMessagesToProcess(context);
-            messages.addAll(findMessagesToBeReprocessed(context));
-            msgOpt = getSingleMessageEntity(messages);
+        } catch (JsonSyntaxException jse) {
+            log.error("Unable to read JSON notification from LdnMessage " + msg, jse);
+            msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_FAILED);
+        } catch (Exception e) {
+            log.error(e);
+            msg.setQueueStatus(LDNMessageEntity.QUEUE_STATUS_FAILED);
+        } finally {
+            msg.setQueueAttempts(msg.getQueueAttempts() + 1);
+            update(context, msg);
         }
-        return count;
+        return processed;
+    }
+
+    private List<LDNMessageEntity> findMessagesToProcess(Context context) throws SQLException {
+        List<LDNMessageEntity> messages = findOldestMessagesToProcess(context);
+        messages.addAll(findMessagesToBeReprocessed(context));
+        return messages;
+    }
+
+    /**
+     * A message read from the queue may have been handled meanwhile, while processing another message.
+     */
+    private boolean isQueued(LDNMessageEntity msg) {
+        return LDNMessageEntity.QUEUE_STATUS_QUEUED.equals(msg.getQueueStatus())
+            || LDNMessageEntity.QUEUE_STATUS_QUEUED_FOR_RETRY.equals(msg.getQueueStatus());
     }
 
     private boolean isServiceEnabled(LDNMessageEntity msg) {
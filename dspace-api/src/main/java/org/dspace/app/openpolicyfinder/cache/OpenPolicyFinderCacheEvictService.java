@@ -13,6 +13,8 @@ import java.util.Set;
 import org.dspace.app.openpolicyfinder.submit.OpenPolicyFinderSubmitService;
 import org.dspace.content.Item;
 import org.dspace.core.Context;
+import org.dspace.event.cluster.ClusterCacheEvictService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 
 /**
@@ -29,6 +31,8 @@ public class OpenPolicyFinderCacheEvictService {
 
     private OpenPolicyFinderSubmitService opfSubmitService;
 
+    private ClusterCacheEvictService clusterCacheEvictService;
+
     /**
      * Remove immediately from the cache all the response that are related to a specific item
      * extracting the ISSNs from the item
@@ -40,6 +44,9 @@ public class OpenPolicyFinderCacheEvictService {
         Set<String> ISSNs = opfSubmitService.getISSNs(context, item);
         for (String issn : ISSNs) {
             Objects.requireNonNull(cacheManager.getCache(CACHE_NAME)).evictIfPresent(issn);
+            if (clusterCacheEvictService != null) {
+                clusterCacheEvictService.evict(CACHE_NAME, issn);
+            }
         }
     }
 
@@ -48,6 +55,9 @@ public class OpenPolicyFinderCacheEvictService {
      */
     public void evictAllCacheValues() {
         Objects.requireNonNull(cacheManager.getCache(CACHE_NAME)).invalidate();
+        if (clusterCacheEvictService != null) {
+            clusterCacheEvictService.evictAll(CACHE_NAME);
+        }
     }
 
     /**
@@ -68,4 +78,15 @@ public class OpenPolicyFinderCacheEvictService {
         this.opfSubmitService = opfSubmitService;
     }
 
-}
\ No newline at end of file
+    /**
+     * Set the reference to the ClusterCacheEvictService, evicting the same
+     * entries on the other nodes of a cluster
+     * 
+     * @param clusterCacheEvictService
+     */
+    @Autowired(required = false)
+    public void setClusterCacheEvictService(ClusterCacheEvictService clusterCacheEvictService) {
+        this.clusterCacheEvictService = clusterCacheEvictService;
+    }
+
+}
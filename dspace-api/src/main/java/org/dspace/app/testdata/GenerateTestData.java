@@ -0,0 +1,121 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.testdata;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.apache.commons.cli.ParseException;
+import org.dspace.content.Community;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.scripts.DSpaceRunnable;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.utils.DSpace;
+
+/**
+ * Script generating a synthetic repository, to load test an installation with
+ * a realistic amount of content. See {@link TestDataGenerator}.
+ * <p>
+ * The objects are created with the dispatcher configured by
+ * {@code generate-test-data.dispatcher} (by default {@code noindex}), so that
+ * no event is processed for each item: the generated objects are indexed in
+ * batches instead, unless the {@code -n} option is given.
+ */
+public class GenerateTestData extends DSpaceRunnable<GenerateTestDataScriptConfiguration<GenerateTestData>> {
+
+    private final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+                                                                                   .getConfigurationService();
+
+    private TestDataGenerator generator;
+
+    private Context context;
+
+    @Override
+    public void setup() throws ParseException {
+        generator = new TestDataGenerator();
+        int items = getIntOption("i", 1000, 0);
+        generator.setItems(items);
+        generator.setCollections(getIntOption("c", 10, 1));
+        generator.setAuthors(getIntOption("a", Math.max(1, items / 10), 1));
+        generator.setSubjects(getIntOption("s", 50, 1));
+        generator.setBitstreamsPerItem(getIntOption("b", 1, 0));
+        generator.setBitstreamSize(getIntOption("z", 1024, 0));
+        generator.setRestrictedPercentage(getIntOption("r", 10, 0));
+        generator.setBatchSize(getIntOption("t", 1000, 1));
+        generator.setAuthorEntities(commandLine.hasOption('p'));
+        generator.setIndex(!commandLine.hasOption('n'));
+        try {
+            generator.setSeed(Long.parseLong(commandLine.getOptionValue('d', "42")));
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid seed: " + commandLine.getOptionValue('d'));
+        }
+    }
+
+    @Override
+    public void internalRun() throws Exception {
+        if (commandLine.hasOption('h')) {
+            printHelp();
+            return;
+        }
+
+        context = new Context(Context.Mode.BATCH_EDIT);
+        context.setDispatcher(configurationService.getProperty("generate-test-data.dispatcher", "noindex"));
+        assignCurrentUserInContext();
+
+        context.turnOffAuthorisationSystem();
+        try {
+            generator.setHandler(handler);
+            long start = System.currentTimeMillis();
+            Community community = generator.generate(context);
+            context.complete();
+            handler.logInfo("Generated the test data in community " + community.getID() + " in "
+                                + (System.currentTimeMillis() - start) + " ms");
+        } catch (Exception e) {
+            handler.handleException("An error occurs during the generation of the test data. "
+                                        + "The process is aborted", e);
+            context.abort();
+        } finally {
+            context.restoreAuthSystemState();
+        }
+    }
+
+    private int getIntOption(String option, int defaultValue, int minValue) throws ParseException {
+        String value = commandLine.getOptionValue(option);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value);
+            if (intValue < minValue) {
+                throw new ParseException("The option " + option + " must be at least " + minValue + ": " + value);
+            }
+            return intValue;
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid value of the option " + option + ": " + value);
+        }
+    }
+
+    private void assignCurrentUserInContext() throws SQLException {
+        UUID uuid = getEpersonIdentifier();
+        if (uuid != null) {
+            EPerson ePerson = EPersonServiceFactory.getInstance().getEPersonService().find(context, uuid);
+            context.setCurrentUser(ePerson);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public GenerateTestDataScriptConfiguration<GenerateTestData> getScriptConfiguration() {
+        return new DSpace().getServiceManager().getServiceByName("generate-test-data",
+            GenerateTestDataScriptConfiguration.class);
+    }
+
+}
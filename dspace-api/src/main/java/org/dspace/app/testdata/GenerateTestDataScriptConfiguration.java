@@ -0,0 +1,58 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.testdata;
+
+import org.apache.commons.cli.Options;
+import org.dspace.scripts.configuration.ScriptConfiguration;
+
+/**
+ * Script configuration of {@link GenerateTestData}.
+ *
+ * @param <T> the GenerateTestData type
+ */
+public class GenerateTestDataScriptConfiguration<T extends GenerateTestData> extends ScriptConfiguration<T> {
+
+    private Class<T> dspaceRunnableClass;
+
+    @Override
+    public Class<T> getDspaceRunnableClass() {
+        return dspaceRunnableClass;
+    }
+
+    @Override
+    public void setDspaceRunnableClass(Class<T> dspaceRunnableClass) {
+        this.dspaceRunnableClass = dspaceRunnableClass;
+    }
+
+    @Override
+    public Options getOptions() {
+        if (options == null) {
+            Options options = new Options();
+
+            options.addOption("i", "items", true, "number of items to generate (default 1000)");
+            options.addOption("c", "collections", true, "number of collections of the items (default 10)");
+            options.addOption("a", "authors", true, "number of distinct authors (default: a tenth of the items)");
+            options.addOption("s", "subjects", true, "number of distinct subjects (default 50)");
+            options.addOption("b", "bitstreams", true, "number of bitstreams of each item (default 1)");
+            options.addOption("z", "bitstream-size", true, "size of each bitstream in bytes (default 1024)");
+            options.addOption("r", "restricted", true,
+                              "percentage of the items only readable by a generated group (default 10)");
+            options.addOption("p", "persons", false,
+                              "generate the authors as Person items related to the publications");
+            options.addOption("n", "no-index", false,
+                              "do not index the generated objects, run index-discovery afterwards");
+            options.addOption("t", "batch-size", true, "number of items committed together (default 1000)");
+            options.addOption("d", "seed", true, "seed of the random values (default 42)");
+            options.addOption("h", "help", false, "help");
+
+            super.options = options;
+        }
+        return options;
+    }
+
+}
@@ -0,0 +1,468 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.testdata;
+
+import static org.dspace.core.Constants.READ;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.authorize.AuthorizeException;
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
+import org.dspace.content.Collection;
+import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.EntityType;
+import org.dspace.content.Item;
+import org.dspace.content.MetadataSchemaEnum;
+import org.dspace.content.RelationshipType;
+import org.dspace.content.WorkspaceItem;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.BitstreamFormatService;
+import org.dspace.content.service.BitstreamService;
+import org.dspace.content.service.BundleService;
+import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.CommunityService;
+import org.dspace.content.service.EntityTypeService;
+import org.dspace.content.service.InstallItemService;
+import org.dspace.content.service.ItemService;
+import org.dspace.content.service.RelationshipService;
+import org.dspace.content.service.RelationshipTypeService;
+import org.dspace.content.service.WorkspaceItemService;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.discovery.IndexableObject;
+import org.dspace.discovery.IndexingService;
+import org.dspace.discovery.SearchServiceException;
+import org.dspace.discovery.indexobject.IndexableCollection;
+import org.dspace.discovery.indexobject.IndexableCommunity;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.eperson.Group;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.eperson.service.GroupService;
+import org.dspace.scripts.handler.DSpaceRunnableHandler;
+import org.dspace.services.factory.DSpaceServicesFactory;
+
+/**
+ * Generator of a synthetic repository for load testing and benchmarks: a
+ * community with collections of items whose authors, subjects, types and dates
+ * follow skewed distributions, so that the facets and the browse indexes have a
+ * few large values and a long tail. Each item has small generated bitstreams,
+ * and some items are only readable by a group. Optionally, the authors are
+ * Person items related to the publications.
+ * <p>
+ * The objects are committed by batches and the Context is cleared after each
+ * batch. The Context should use a dispatcher without the discovery consumer
+ * (e.g. {@code noindex}): the generated objects are indexed by batches instead
+ * of one by one. The generation is seeded, the same parameters give the same
+ * repository.
+ */
+public class TestDataGenerator {
+
+    private static final Logger log = LogManager.getLogger();
+
+    /**
+     * The most frequent word of the titles
+     */
+    public static final String FREQUENT_WORD = "analysis";
+
+    private static final String[] WORDS = {
+        FREQUENT_WORD, "model", "data", "learning", "climate", "protein", "network", "quantum", "urban",
+        "history", "language", "energy", "health", "ocean", "policy", "theory", "system", "cell", "market",
+        "memory", "graph", "soil", "music", "law", "signal", "migration", "galaxy", "education", "risk", "water"
+    };
+
+    private static final String[] TYPES = {
+        "Article", "Book chapter", "Conference paper", "Dataset", "Thesis", "Book", "Preprint", "Report"
+    };
+
+    private static final String[] FAMILY_NAMES = {
+        "Smith", "Garcia", "Rossi", "Müller", "Nguyen", "Kowalski", "Silva", "Tanaka", "Dubois", "Okafor",
+        "Jensen", "Novak", "Ivanova", "Haddad", "Kim", "Singh", "Cohen", "O'Brien", "Andersson", "Mendes"
+    };
+
+    private static final String[] GIVEN_NAMES = {
+        "Anna", "Luca", "Maria", "Kenji", "Amina", "Jan", "Sofia", "Pedro", "Chloé", "Ravi",
+        "Eva", "Omar", "Lena", "Tomás", "Yuki", "Noah", "Ines", "Mateo", "Zara", "Ali"
+    };
+
+    private static final String PUBLICATION = "Publication";
+    private static final String PERSON = "Person";
+
+    private final CommunityService communityService = ContentServiceFactory.getInstance().getCommunityService();
+    private final CollectionService collectionService = ContentServiceFactory.getInstance().getCollectionService();
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+    private final WorkspaceItemService workspaceItemService = ContentServiceFactory.getInstance()
+                                                                                   .getWorkspaceItemService();
+    private final InstallItemService installItemService = ContentServiceFactory.getInstance()
+                                                                               .getInstallItemService();
+    private final BundleService bundleService = ContentServiceFactory.getInstance().getBundleService();
+    private final BitstreamService bitstreamService = ContentServiceFactory.getInstance().getBitstreamService();
+    private final BitstreamFormatService bitstreamFormatService = ContentServiceFactory.getInstance()
+                                                                                       .getBitstreamFormatService();
+    private final EntityTypeService entityTypeService = ContentServiceFactory.getInstance().getEntityTypeService();
+    private final RelationshipTypeService relationshipTypeService = ContentServiceFactory.getInstance()
+                                                                                         .getRelationshipTypeService();
+    private final RelationshipService relationshipService = ContentServiceFactory.getInstance()
+                                                                                 .getRelationshipService();
+    private final AuthorizeService authorizeService = AuthorizeServiceFactory.getInstance().getAuthorizeService();
+    private final GroupService groupService = EPersonServiceFactory.getInstance().getGroupService();
+    private final IndexingService indexingService = DSpaceServicesFactory.getInstance().getServiceManager()
+        .getServiceByName(IndexingService.class.getName(), IndexingService.class);
+
+    private int items = 1000;
+    private int authors = 100;
+    private int subjects = 50;
+    private int collections = 10;
+    private int bitstreamsPerItem = 1;
+    private int bitstreamSize = 1024;
+    private int restrictedPercentage = 10;
+    private boolean authorEntities = false;
+    private boolean index = true;
+    private int batchSize = 1000;
+    private long seed = 42L;
+    private DSpaceRunnableHandler handler;
+
+    private Random random;
+
+    /**
+     * The objects generated since the last commit, to be indexed
+     */
+    @SuppressWarnings("rawtypes")
+    private final List<IndexableObject> batch = new ArrayList<>();
+
+    /**
+     * Generate the repository, committing the given Context by batches.
+     *
+     * @param context the DSpace context, with the authorization system turned off
+     * @return the generated community
+     * @throws Exception if the repository cannot be generated
+     */
+    public Community generate(Context context) throws Exception {
+        long start = System.currentTimeMillis();
+        random = new Random(seed);
+        groupService.initDefaultGroupNames(context);
+
+        Community community = communityService.create(null, context);
+        communityService.setMetadataSingleValue(context, community, MetadataSchemaEnum.DC.getName(), "title", null,
+                                                null, "Test data " + seed);
+        communityService.update(context, community);
+        batch.add(new IndexableCommunity(community));
+        UUID communityId = community.getID();
+        // the group names are unique, so the group of a previous run with the same seed is reused
+        String readersName = "Test data " + seed + " readers";
+        Group readers = groupService.findByName(context, readersName);
+        if (readers == null) {
+            readers = groupService.create(context);
+            groupService.setName(readers, readersName);
+            groupService.update(context, readers);
+        }
+
+        List<UUID> collectionIds = new ArrayList<>();
+        for (int i = 0; i < collections; i++) {
+            collectionIds.add(createCollection(context, community, "Collection " + i, PUBLICATION).getID());
+        }
+
+        List<UUID> personIds = new ArrayList<>();
+        RelationshipType isAuthorOf = null;
+        if (authorEntities) {
+            isAuthorOf = findOrCreateAuthorRelationshipType(context);
+            UUID peopleId = createCollection(context, community, "People", PERSON).getID();
+            for (int i = 0; i < authors; i++) {
+                personIds.add(createPerson(context, collectionService.find(context, peopleId), i).getID());
+                nextObject(context, "persons", i + 1, authors);
+            }
+        }
+        UUID readersId = readers.getID();
+        flush(context);
+
+        for (int i = 0; i < items; i++) {
+            Collection collection = collectionService.find(context, collectionIds.get(i % collections));
+            Item item = createItem(context, collection, personIds,
+                                   isAuthorOf != null ? context.reloadEntity(isAuthorOf) : null);
+            if (random.nextInt(100) < restrictedPercentage) {
+                restrict(context, item, groupService.find(context, readersId));
+            }
+            nextObject(context, "items", i + 1, items);
+        }
+        flush(context);
+
+        if (index) {
+            indexingService.commit();
+        }
+        log.info("Generated {} items in {} collections in {} ms", items, collections,
+                 System.currentTimeMillis() - start);
+        return communityService.find(context, communityId);
+    }
+
+    private Collection createCollection(Context context, Community community, String name, String entityType)
+        throws SQLException, AuthorizeException {
+        Collection collection = collectionService.create(context, community);
+        collectionService.setMetadataSingleValue(context, collection, MetadataSchemaEnum.DC.getName(), "title", null,
+                                                 null, name);
+        if (authorEntities) {
+            collectionService.setMetadataSingleValue(context, collection, "dspace", "entity", "type", null,
+                                                     entityType);
+        }
+        collectionService.update(context, collection);
+        batch.add(new IndexableCollection(collection));
+        return collection;
+    }
+
+    private RelationshipType findOrCreateAuthorRelationshipType(Context context)
+        throws SQLException, AuthorizeException {
+        EntityType publication = findOrCreateEntityType(context, PUBLICATION);
+        EntityType person = findOrCreateEntityType(context, PERSON);
+        RelationshipType relationshipType = relationshipTypeService.findbyTypesAndTypeName(
+            context, publication, person, "isAuthorOfPublication", "isPublicationOfAuthor");
+        if (relationshipType == null) {
+            relationshipType = relationshipTypeService.create(context, publication, person, "isAuthorOfPublication",
+                                                              "isPublicationOfAuthor", 0, null, 0, null);
+        }
+        return relationshipType;
+    }
+
+    private EntityType findOrCreateEntityType(Context context, String label) throws SQLException, AuthorizeException {
+        EntityType entityType = entityTypeService.findByEntityType(context, label);
+        return entityType != null ? entityType : entityTypeService.create(context, label);
+    }
+
+    private Item createPerson(Context context, Collection people, int number) throws Exception {
+        WorkspaceItem workspaceItem = workspaceItemService.create(context, people, false);
+        Item person = workspaceItem.getItem();
+        String familyName = FAMILY_NAMES[number % FAMILY_NAMES.length] + (number / FAMILY_NAMES.length);
+        String givenName = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+        itemService.addMetadata(context, person, "dspace", "entity", "type", null, PERSON);
+        itemService.addMetadata(context, person, MetadataSchemaEnum.DC.getName(), "title", null, null,
+                                familyName + ", " + givenName);
+        itemService.addMetadata(context, person, "person", "familyName", null, null, familyName);
+        itemService.addMetadata(context, person, "person", "givenName", null, null, givenName);
+        person = installItemService.installItem(context, workspaceItem);
+        batch.add(new IndexableItem(person));
+        return person;
+    }
+
+    private Item createItem(Context context, Collection collection, List<UUID> personIds,
+                            RelationshipType isAuthorOf) throws Exception {
+        WorkspaceItem workspaceItem = workspaceItemService.create(context, collection, false);
+        Item item = workspaceItem.getItem();
+        String dc = MetadataSchemaEnum.DC.getName();
+
+        StringBuilder title = new StringBuilder();
+        for (int i = 0, words = 3 + random.nextInt(6); i < words; i++) {
+            String word = WORDS[skewed(WORDS.length)];
+            title.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : " " + word);
+        }
+        itemService.addMetadata(context, item, dc, "title", null, null, title.toString());
+        Set<Integer> itemAuthors = new LinkedHashSet<>();
+        for (int i = 0, count = 1 + skewed(6); i < count; i++) {
+            itemAuthors.add(skewed(authors));
+        }
+        if (isAuthorOf == null) {
+            for (int author : itemAuthors) {
+                itemService.addMetadata(context, item, dc, "contributor", "author", null,
+                                        FAMILY_NAMES[author % FAMILY_NAMES.length] + (author / FAMILY_NAMES.length)
+                                            + ", " + GIVEN_NAMES[author % GIVEN_NAMES.length]);
+            }
+        } else {
+            itemService.addMetadata(context, item, "dspace", "entity", "type", null, PUBLICATION);
+        }
+        for (int i = 0, count = random.nextInt(4); i < count; i++) {
+            itemService.addMetadata(context, item, dc, "subject", null, null, "Subject " + skewed(subjects));
+        }
+        // the recent years are the most frequent
+        int year = 2025 - skewed(40);
+        itemService.addMetadata(context, item, dc, "date", "issued", null,
+                                String.format("%d-%02d-%02d", year, 1 + random.nextInt(12), 1 + random.nextInt(28)));
+        itemService.addMetadata(context, item, dc, "type", null, null, TYPES[skewed(TYPES.length)]);
+        itemService.addMetadata(context, item, dc, "description", "abstract", null,
+                                "Abstract of " + title + ". " + title + ".");
+
+        if (bitstreamsPerItem > 0) {
+            Bundle bundle = bundleService.create(context, item, Constants.CONTENT_BUNDLE_NAME);
+            for (int i = 0; i < bitstreamsPerItem; i++) {
+                createBitstream(context, bundle, title + " (" + i + ")", i);
+            }
+        }
+        // the bundles and bitstreams inherit the default policies of the collection
+        item = installItemService.installItem(context, workspaceItem);
+
+        if (isAuthorOf != null) {
+            for (int author : itemAuthors) {
+                Item person = itemService.find(context, personIds.get(author));
+                relationshipService.create(context, item, person, isAuthorOf, -1, -1);
+            }
+        }
+        batch.add(new IndexableItem(item));
+        return item;
+    }
+
+    private void createBitstream(Context context, Bundle bundle, String text, int number) throws Exception {
+        StringBuilder content = new StringBuilder(bitstreamSize);
+        while (content.length() < bitstreamSize) {
+            content.append(text).append('\n');
+        }
+        byte[] bytes = content.substring(0, bitstreamSize).getBytes(StandardCharsets.UTF_8);
+        Bitstream bitstream = bitstreamService.create(context, bundle, new ByteArrayInputStream(bytes));
+        bitstream.setName(context, "file-" + number + ".txt");
+        bitstreamService.setFormat(context, bitstream, bitstreamFormatService.guessFormat(context, bitstream));
+        bitstreamService.update(context, bitstream);
+    }
+
+    /**
+     * Only the given group can read the item and its files.
+     */
+    private void restrict(Context context, Item item, Group readers) throws SQLException, AuthorizeException {
+        List<DSpaceObject> objects = new ArrayList<>();
+        objects.add(item);
+        for (Bundle bundle : item.getBundles()) {
+            objects.add(bundle);
+            objects.addAll(bundle.getBitstreams());
+        }
+        for (DSpaceObject object : objects) {
+            authorizeService.removePoliciesActionFilter(context, object, READ);
+            authorizeService.addPolicy(context, object, READ, readers);
+        }
+    }
+
+    /**
+     * Count a generated item, and flush the batch once complete.
+     */
+    private void nextObject(Context context, String kind, int count, int total)
+        throws SQLException, SearchServiceException {
+        if (count % batchSize == 0) {
+            flush(context);
+            String message = String.format("Generated %d of %d %s", count, total, kind);
+            log.info(message);
+            if (handler != null) {
+                handler.logInfo(message);
+            }
+        }
+    }
+
+    /**
+     * Commit the current batch, index it and clear the Context.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void flush(Context context) throws SQLException, SearchServiceException {
+        context.commit();
+        if (index) {
+            for (IndexableObject indexableObject : batch) {
+                indexingService.indexContent(context, indexableObject, true, false);
+            }
+        }
+        batch.clear();
+        context.uncacheEntities();
+    }
+
+    /**
+     * @return an index in [0, max), the smallest indexes being the most frequent
+     */
+    private int skewed(int max) {
+        double value = random.nextDouble();
+        return (int) (max * value * value * value);
+    }
+
+    /**
+     * @param items number of generated items
+     */
+    public void setItems(int items) {
+        this.items = items;
+    }
+
+    /**
+     * @param authors number of distinct authors
+     */
+    public void setAuthors(int authors) {
+        this.authors = authors;
+    }
+
+    /**
+     * @param subjects number of distinct subjects
+     */
+    public void setSubjects(int subjects) {
+        this.subjects = subjects;
+    }
+
+    /**
+     * @param collections number of collections the items are spread over
+     */
+    public void setCollections(int collections) {
+        this.collections = collections;
+    }
+
+    /**
+     * @param bitstreamsPerItem number of bitstreams in the ORIGINAL bundle of each item
+     */
+    public void setBitstreamsPerItem(int bitstreamsPerItem) {
+        this.bitstreamsPerItem = bitstreamsPerItem;
+    }
+
+    /**
+     * @param bitstreamSize size of each bitstream, in bytes
+     */
+    public void setBitstreamSize(int bitstreamSize) {
+        this.bitstreamSize = bitstreamSize;
+    }
+
+    /**
+     * @param restrictedPercentage percentage of the items only readable by the readers group
+     */
+    public void setRestrictedPercentage(int restrictedPercentage) {
+        this.restrictedPercentage = restrictedPercentage;
+    }
+
+    /**
+     * @param authorEntities true to generate the authors as Person items related to the publications, false to
+     *                       generate them as plain metadata values
+     */
+    public void setAuthorEntities(boolean authorEntities) {
+        this.authorEntities = authorEntities;
+    }
+
+    /**
+     * @param index true to index the generated objects in Discovery
+     */
+    public void setIndex(boolean index) {
+        this.index = index;
+    }
+
+    /**
+     * @param batchSize number of items committed together
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param seed seed of the random values
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param handler handler the progress is reported to, if any
+     */
+    public void setHandler(DSpaceRunnableHandler handler) {
+        this.handler = handler;
+    }
+
+}
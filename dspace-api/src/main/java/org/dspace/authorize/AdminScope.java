@@ -0,0 +1,111 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The communities and collections an EPerson administers: the objects with an
+ * ADMIN policy granted to the EPerson or to any group it belongs to (directly
+ * or through its parent groups), and everything below those in the
+ * community/collection hierarchy.
+ *
+ * @see org.dspace.authorize.service.AdminScopeService
+ */
+public class AdminScope implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Set<UUID> communities;
+
+    private final Set<UUID> collections;
+
+    private final LocalDate validUntil;
+
+    private final long generation;
+
+    /**
+     * whether any collection of the scope holds items, only remembered once true
+     */
+    private volatile boolean withItems;
+
+    /**
+     * @param communities the administered communities
+     * @param collections the administered collections
+     * @param validUntil  the first day on which a policy of the scope starts or ends, or null if none does
+     * @param generation  the generation of the scopes when this one was computed
+     */
+    public AdminScope(Set<UUID> communities, Set<UUID> collections, LocalDate validUntil, long generation) {
+        this.communities = Collections.unmodifiableSet(communities);
+        this.collections = Collections.unmodifiableSet(collections);
+        this.validUntil = validUntil;
+        this.generation = generation;
+    }
+
+    /**
+     * @param uuid the UUID of a community or collection
+     * @return true if that community or collection is administered
+     */
+    public boolean contains(UUID uuid) {
+        return communities.contains(uuid) || collections.contains(uuid);
+    }
+
+    public Set<UUID> getCommunities() {
+        return communities;
+    }
+
+    public Set<UUID> getCollections() {
+        return collections;
+    }
+
+    /**
+     * @return true if at least one community is administered
+     */
+    public boolean isCommunityAdmin() {
+        return !communities.isEmpty();
+    }
+
+    /**
+     * @return true if at least one collection is administered, directly or through its community
+     */
+    public boolean isCollectionAdmin() {
+        return !collections.isEmpty();
+    }
+
+    /**
+     * @return true if at least one community or collection is administered
+     */
+    public boolean isComColAdmin() {
+        return isCommunityAdmin() || isCollectionAdmin();
+    }
+
+    /**
+     * @param today the current date
+     * @return false if a policy of the scope started or ended since it was computed
+     */
+    public boolean isValid(LocalDate today) {
+        return validUntil == null || today.isBefore(validUntil);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    boolean isWithItems() {
+        return withItems;
+    }
+
+    void setWithItems() {
+        this.withItems = true;
+    }
+
+}
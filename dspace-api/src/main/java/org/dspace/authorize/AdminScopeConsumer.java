@@ -0,0 +1,76 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AdminScopeService;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+
+/**
+ * Invalidates the cached {@link AdminScope}s once the changes of the policies,
+ * the group memberships or the community/collection hierarchy are committed.
+ * <p>
+ * Policy changes are seen as modifications of the community or collection
+ * holding the policy.
+ *
+ * Recommended filter: Community|Collection|Group+Add|Remove|Modify|Delete
+ */
+public class AdminScopeConsumer implements Consumer {
+
+    private AdminScopeService adminScopeService;
+
+    private boolean scopeChanged;
+
+    @Override
+    public void initialize() throws Exception {
+        adminScopeService = AuthorizeServiceFactory.getInstance().getAdminScopeService();
+    }
+
+    @Override
+    public void consume(Context context, Event event) throws Exception {
+        if (isScopeChange(event)) {
+            scopeChanged = true;
+        }
+    }
+
+    @Override
+    public void end(Context context) throws Exception {
+        if (scopeChanged) {
+            scopeChanged = false;
+            adminScopeService.invalidate();
+        }
+    }
+
+    @Override
+    public void finish(Context context) throws Exception {
+
+    }
+
+    /**
+     * @param event an event of the current transaction
+     * @return true if the event may change the administrative scope of an EPerson
+     */
+    public static boolean isScopeChange(Event event) {
+        int eventType = event.getEventType();
+        switch (event.getSubjectType()) {
+            case Constants.COMMUNITY:
+                return (eventType & (Event.ADD | Event.REMOVE | Event.MODIFY | Event.DELETE)) != 0;
+            case Constants.COLLECTION:
+                // items added to or removed from a collection don't change the scopes
+                return (eventType & (Event.MODIFY | Event.DELETE)) != 0;
+            case Constants.GROUP:
+                return (eventType & (Event.ADD | Event.REMOVE | Event.DELETE)) != 0;
+            default:
+                return false;
+        }
+    }
+
+}
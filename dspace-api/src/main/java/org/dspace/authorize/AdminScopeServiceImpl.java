@@ -0,0 +1,246 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.authorize.service.AdminScopeService;
+import org.dspace.authorize.service.ResourcePolicyService;
+import org.dspace.content.Collection;
+import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.eperson.Group;
+import org.dspace.eperson.service.GroupService;
+import org.dspace.event.Event;
+import org.dspace.event.cluster.ClusterCacheEvictService;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Service implementation for the {@link AdminScope}s. The scopes are computed
+ * from the ADMIN policies of the communities and collections and kept in the
+ * {@code adminScope} cache (see {@code ehcache.xml}), keyed by EPerson and
+ * special groups.
+ * <p>
+ * A scope computed while the scopes were being invalidated is discarded, and
+ * the cache is bypassed while the current transaction holds uncommitted
+ * changes of the policies, groups or hierarchy.
+ */
+public class AdminScopeServiceImpl implements AdminScopeService {
+
+    private static final Logger log = LogManager.getLogger();
+
+    /**
+     * Name of the cache of the scopes
+     */
+    public static final String CACHE_NAME = "adminScope";
+
+    @Autowired(required = true)
+    protected ResourcePolicyService resourcePolicyService;
+    @Autowired(required = true)
+    protected GroupService groupService;
+    @Autowired(required = true)
+    protected CollectionService collectionService;
+    @Autowired(required = true)
+    protected ItemService itemService;
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+    @Autowired(required = false)
+    protected CacheManager cacheManager;
+    @Autowired(required = false)
+    protected ClusterCacheEvictService clusterCacheEvictService;
+
+    /**
+     * incremented by each invalidation, scopes of an older generation are discarded
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    protected AdminScopeServiceImpl() {
+
+    }
+
+    @Override
+    public AdminScope getAdminScope(Context context, EPerson ePerson) throws SQLException {
+        Cache cache = cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+        if (cache == null || hasPendingScopeChanges(context)) {
+            return computeAdminScope(context, ePerson, generation.get());
+        }
+
+        String key = getKey(context, ePerson);
+        AdminScope scope = cache.get(key, AdminScope.class);
+        long currentGeneration = generation.get();
+        if (scope != null && scope.getGeneration() == currentGeneration && scope.isValid(LocalDate.now())) {
+            return scope;
+        }
+
+        scope = computeAdminScope(context, ePerson, currentGeneration);
+        if (generation.get() == currentGeneration) {
+            cache.put(key, scope);
+        }
+        return scope;
+    }
+
+    @Override
+    public boolean isItemAdmin(Context context, EPerson ePerson) throws SQLException {
+        AdminScope scope = getAdminScope(context, ePerson);
+        if (scope.isWithItems()) {
+            return true;
+        }
+
+        // ADMIN policies of single items are not part of the scopes, they are not worth an invalidation
+        // on each change of an item
+        List<Group> groups = new ArrayList<>(groupService.allMemberGroupsSet(context, ePerson));
+        for (ResourcePolicy policy : resourcePolicyService.find(context, ePerson, groups, Constants.ADMIN,
+                                                                Constants.ITEM)) {
+            if (resourcePolicyService.isDateValid(policy)) {
+                return true;
+            }
+        }
+
+        for (UUID uuid : scope.getCollections()) {
+            Collection collection = collectionService.find(context, uuid);
+            if (collection != null && itemService.countItems(context, collection) > 0) {
+                scope.setWithItems();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void invalidate() {
+        generation.incrementAndGet();
+        Cache cache = cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+        if (cache != null) {
+            cache.invalidate();
+        }
+        if (clusterCacheEvictService != null) {
+            clusterCacheEvictService.evictAll(CACHE_NAME);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("core.authorization.admin-scope.enabled", true);
+    }
+
+    /**
+     * Compute the scope of an EPerson from the database.
+     *
+     * @param context    DSpace context
+     * @param ePerson    the EPerson, or null for anonymous
+     * @param generation the current generation of the scopes
+     * @return the scope
+     * @throws SQLException if database error
+     */
+    protected AdminScope computeAdminScope(Context context, EPerson ePerson, long generation) throws SQLException {
+        List<Group> groups = new ArrayList<>(groupService.allMemberGroupsSet(context, ePerson));
+        Set<UUID> communities = new HashSet<>();
+        Set<UUID> collections = new HashSet<>();
+        LocalDate today = LocalDate.now();
+        LocalDate validUntil = null;
+
+        for (int type : new int[] {Constants.COMMUNITY, Constants.COLLECTION}) {
+            for (ResourcePolicy policy : resourcePolicyService.find(context, ePerson, groups, Constants.ADMIN, type)) {
+                validUntil = earliest(validUntil, getValidityChange(policy, today));
+                if (!resourcePolicyService.isDateValid(policy)) {
+                    continue;
+                }
+                DSpaceObject dso = policy.getdSpaceObject();
+                if (dso instanceof Community community) {
+                    addCommunity(community, communities, collections);
+                } else if (dso instanceof Collection collection) {
+                    collections.add(collection.getID());
+                }
+            }
+        }
+
+        log.debug("Computed the admin scope of {}: {} communities and {} collections",
+                  ePerson != null ? ePerson.getID() : "anonymous", communities.size(), collections.size());
+        return new AdminScope(communities, collections, validUntil, generation);
+    }
+
+    /**
+     * Add a community and everything below it to the scope.
+     */
+    private void addCommunity(Community community, Set<UUID> communities, Set<UUID> collections) {
+        if (!communities.add(community.getID())) {
+            return;
+        }
+        for (Collection collection : community.getCollections()) {
+            collections.add(collection.getID());
+        }
+        for (Community subCommunity : community.getSubcommunities()) {
+            addCommunity(subCommunity, communities, collections);
+        }
+    }
+
+    /**
+     * @return the next day on which the policy becomes valid or invalid, or null if it never changes
+     */
+    private LocalDate getValidityChange(ResourcePolicy policy, LocalDate today) {
+        if (policy.getStartDate() != null && today.isBefore(policy.getStartDate())) {
+            return policy.getStartDate();
+        }
+        if (policy.getEndDate() != null && !today.isAfter(policy.getEndDate())) {
+            return policy.getEndDate().plusDays(1);
+        }
+        return null;
+    }
+
+    private LocalDate earliest(LocalDate date, LocalDate other) {
+        if (date == null) {
+            return other;
+        }
+        return other == null || date.isBefore(other) ? date : other;
+    }
+
+    /**
+     * The scope of the current user depends on the special groups of the context as well.
+     */
+    private String getKey(Context context, EPerson ePerson) {
+        StringBuilder key = new StringBuilder(ePerson != null ? ePerson.getID().toString() : "anonymous");
+        EPerson currentUser = context.getCurrentUser();
+        if (currentUser == null || currentUser.equals(ePerson)) {
+            for (UUID specialGroup : new TreeSet<>(context.getSpecialGroupUuids())) {
+                key.append(':').append(specialGroup);
+            }
+        }
+        return key.toString();
+    }
+
+    private boolean hasPendingScopeChanges(Context context) {
+        if (!context.hasEvents()) {
+            return false;
+        }
+        for (Event event : context.getEvents()) {
+            if (AdminScopeConsumer.isScopeChange(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -15,15 +15,22 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.dspace.authorize.service.AdminScopeService;
 import org.dspace.authorize.service.AuthorizeService;
 import org.dspace.authorize.service.ResourcePolicyService;
 import org.dspace.content.Bitstream;
@@ -51,6 +58,7 @@ import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.dspace.eperson.service.GroupService;
 import org.dspace.services.ConfigurationService;
+import org.dspace.services.MetricsService;
 import org.dspace.workflow.WorkflowItemService;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -82,6 +90,8 @@ public class AuthorizeServiceImpl implements AuthorizeService {
     @Autowired(required = true)
     protected ResourcePolicyService resourcePolicyService;
     @Autowired(required = true)
+    protected AdminScopeService adminScopeService;
+    @Autowired(required = true)
     protected WorkspaceItemService workspaceItemService;
     @Autowired(required = true)
     protected WorkflowItemService workflowItemService;
@@ -89,6 +99,13 @@ public class AuthorizeServiceImpl implements AuthorizeService {
     private SearchService searchService;
     @Autowired(required = true)
     private ConfigurationService configurationService;
+    @Autowired(required = true)
+    private MetricsService metricsService;
+
+    /**
+     * timers of the authorization checks, by action and result
+     */
+    private final Map<String, Timer> authorizeTimers = new ConcurrentHashMap<>();
 
 
     protected AuthorizeServiceImpl() {
@@ -152,7 +169,10 @@ public class AuthorizeServiceImpl implements AuthorizeService {
                     + actionText + " by user " + userid);
         }
 
-        if (!authorize(c, o, action, e, useInheritance)) {
+        Timer.Sample sample = Timer.start();
+        boolean authorized = authorize(c, o, action, e, useInheritance);
+        sample.stop(getAuthorizeTimer(action, authorized));
+        if (!authorized) {
             // denied, assemble and throw exception
             int otype = o.getType();
             UUID oid = o.getID();
@@ -181,6 +201,16 @@ public class AuthorizeServiceImpl implements AuthorizeService {
         }
     }
 
+    /**
+     * Get the timer of the authorization checks of an action with the given result.
+     */
+    private Timer getAuthorizeTimer(int action, boolean authorized) {
+        String actionText = action == -1 ? "null" : Constants.actionText[action];
+        String result = authorized ? "granted" : "denied";
+        return authorizeTimers.computeIfAbsent(actionText + "|" + result, key ->
+            metricsService.getTimer("dspace.authorize", "action", actionText, "result", result));
+    }
+
     @Override
     public boolean authorizeActionBoolean(Context c, DSpaceObject o, int a) throws SQLException {
         return authorizeActionBoolean(c, o, a, true);
@@ -352,6 +382,10 @@ public class AuthorizeServiceImpl implements AuthorizeService {
         throws SQLException {
         for (Bundle bundle : bundles) {
             for (Item item : bundle.getItems()) {
+                // an archived item is neither in the workspace nor in the workflow
+                if (item.isArchived()) {
+                    return true;
+                }
                 if (workspaceItemService.findByItem(ctx, item) == null
                     && workflowItemService.findByItem(ctx, item) == null) {
                     return true;
@@ -387,6 +421,13 @@ public class AuthorizeServiceImpl implements AuthorizeService {
             return cachedResult;
         }
 
+        // The administered communities and collections, including the inherited ones, are precomputed
+        if ((o instanceof Community || o instanceof Collection) && adminScopeService.isEnabled()) {
+            boolean admin = adminScopeService.getAdminScope(c, e).contains(o.getID());
+            c.cacheAuthorizedAction(o, Constants.ADMIN, e, admin, null);
+            return admin;
+        }
+
         //
         // First, check all Resource Policies directly on this object
         //
@@ -510,9 +551,50 @@ public class AuthorizeServiceImpl implements AuthorizeService {
     @Override
     public List<ResourcePolicy> getPoliciesActionFilter(Context c, DSpaceObject o,
                                                         int actionID) throws SQLException {
+        List<ResourcePolicy> prefetched = c.getPrefetchedPolicies(o);
+        if (prefetched != null) {
+            List<ResourcePolicy> policies = new ArrayList<>();
+            for (ResourcePolicy rp : prefetched) {
+                if (rp.getAction() == actionID) {
+                    policies.add(rp);
+                }
+            }
+            return policies;
+        }
         return resourcePolicyService.find(c, o, actionID);
     }
 
+    @Override
+    public void prefetchPolicies(Context c, List<? extends DSpaceObject> objects) throws SQLException {
+        // the objects and their parents, which are checked for the admin rights and the inherited policies,
+        // and the bundles of the bitstreams, which are checked for the READ right on their metadata
+        List<DSpaceObject> checked = new ArrayList<>(objects);
+        for (DSpaceObject object : objects) {
+            if (object instanceof Bitstream bitstream) {
+                checked.addAll(bitstream.getBundles());
+            }
+        }
+        Map<UUID, DSpaceObject> toLoad = new LinkedHashMap<>();
+        for (DSpaceObject object : checked) {
+            DSpaceObject current = object;
+            while (current != null && !toLoad.containsKey(current.getID())
+                && c.getPrefetchedPolicies(current) == null) {
+                toLoad.put(current.getID(), current);
+                current = serviceFactory.getDSpaceObjectService(current).getParentObject(c, current);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<ResourcePolicy>> policiesByObject = new HashMap<>();
+        for (ResourcePolicy rp : resourcePolicyService.findByDSpaceObjects(c, toLoad.values())) {
+            policiesByObject.computeIfAbsent(rp.getdSpaceObject().getID(), id -> new ArrayList<>()).add(rp);
+        }
+        for (DSpaceObject object : toLoad.values()) {
+            c.cachePrefetchedPolicies(object, policiesByObject.getOrDefault(object.getID(), new ArrayList<>()));
+        }
+    }
+
     @Override
     public void inheritPolicies(Context c, DSpaceObject src, DSpaceObject dest)
         throws SQLException, AuthorizeException {
@@ -743,7 +825,8 @@ public class AuthorizeServiceImpl implements AuthorizeService {
     }
 
     /**
-     * Checks that the context's current user is a community admin in the site by querying the solr database.
+     * Checks that the context's current user is a community admin in the site, using its {@link AdminScope}
+     * (or by querying the solr database when {@code core.authorization.admin-scope.enabled} is false).
      * This query doesn't use authorization inheritance because direct community admin is enough to perform this check.
      *
      * @param context   context with the current user
@@ -752,11 +835,15 @@ public class AuthorizeServiceImpl implements AuthorizeService {
      */
     @Override
     public boolean isCommunityAdmin(Context context) {
+        if (useAdminScope(context)) {
+            return checkAdminScope(context, AdminScope::isCommunityAdmin);
+        }
         return performCheck(context, RESOURCE_TYPE_FIELD + ":" + IndexableCommunity.TYPE, false);
     }
 
     /**
-     * Checks that the context's current user is a collection admin in the site by querying the solr database.
+     * Checks that the context's current user is a collection admin in the site, using its {@link AdminScope}
+     * (or by querying the solr database when {@code core.authorization.admin-scope.enabled} is false).
      *
      * @param context   context with the current user
      * @return          true if the current user is a collection admin in the site
@@ -764,11 +851,15 @@ public class AuthorizeServiceImpl implements AuthorizeService {
      */
     @Override
     public boolean isCollectionAdmin(Context context) {
+        if (useAdminScope(context)) {
+            return checkAdminScope(context, AdminScope::isCollectionAdmin);
+        }
         return performCheck(context, RESOURCE_TYPE_FIELD + ":" + IndexableCollection.TYPE, true);
     }
 
     /**
-     * Checks that the context's current user is an item admin in the site by querying the solr database.
+     * Checks that the context's current user is an item admin in the site, using its {@link AdminScope}
+     * (or by querying the solr database when {@code core.authorization.admin-scope.enabled} is false).
      *
      * @param context   context with the current user
      * @return          true if the current user is an item admin in the site
@@ -776,12 +867,21 @@ public class AuthorizeServiceImpl implements AuthorizeService {
      */
     @Override
     public boolean isItemAdmin(Context context) {
+        if (useAdminScope(context)) {
+            try {
+                return adminScopeService.isItemAdmin(context, context.getCurrentUser());
+            } catch (SQLException e) {
+                log.error("Failed getting item admin status for " + context.getCurrentUser().getEmail(), e);
+                return false;
+            }
+        }
         return performCheck(context, RESOURCE_TYPE_FIELD + ":" + IndexableItem.TYPE, true);
     }
 
     /**
-     * Checks that the context's current user is a community or collection admin in the site.
-     * This query doesn't use authorization inheritance because direct community/collection admin is enough to
+     * Checks that the context's current user is a community or collection admin in the site, using its
+     * {@link AdminScope} (or by querying the solr database when {@code core.authorization.admin-scope.enabled} is
+     * false). This query doesn't use authorization inheritance because direct community/collection admin is enough to
      * perform this check.
      *
      * @param context   context with the current user
@@ -790,6 +890,9 @@ public class AuthorizeServiceImpl implements AuthorizeService {
      */
     @Override
     public boolean isComColAdmin(Context context) {
+        if (useAdminScope(context)) {
+            return checkAdminScope(context, AdminScope::isComColAdmin);
+        }
         return performCheck(context,
             "(" + RESOURCE_TYPE_FIELD + ":" + IndexableCommunity.TYPE + " OR " +
             RESOURCE_TYPE_FIELD + ":" + IndexableCollection.TYPE + ")", false);
@@ -961,6 +1064,28 @@ public class AuthorizeServiceImpl implements AuthorizeService {
             || canCollectionAdminManageAccounts() && isCollectionAdmin(context));
     }
 
+    /**
+     * The site administrators are left to the solr checks, which don't restrict them to any scope.
+     */
+    private boolean useAdminScope(Context context) {
+        try {
+            return adminScopeService.isEnabled() && context.getCurrentUser() != null && !isAdmin(context);
+        } catch (SQLException e) {
+            log.error("Failed getting admin status for " + context.getCurrentUser().getEmail(), e);
+            return false;
+        }
+    }
+
+    private boolean checkAdminScope(Context context, Predicate<AdminScope> check) {
+        try {
+            return check.test(adminScopeService.getAdminScope(context, context.getCurrentUser()));
+        } catch (SQLException e) {
+            log.error("Failed getting community/collection admin status for "
+                + context.getCurrentUser().getEmail(), e);
+            return false;
+        }
+    }
+
     private boolean performCheck(Context context, String query, boolean inheritAuthorizations) {
         if (context.getCurrentUser() == null) {
             return false;
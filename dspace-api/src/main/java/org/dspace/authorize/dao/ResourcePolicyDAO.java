@@ -8,6 +8,7 @@
 package org.dspace.authorize.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +31,17 @@ public interface ResourcePolicyDAO extends GenericDAO<ResourcePolicy> {
 
     public List<ResourcePolicy> findByDso(Context context, DSpaceObject dso) throws SQLException;
 
+    /**
+     * Find the policies of all the given objects with a single query.
+     *
+     * @param context DSpace context
+     * @param dsos    the objects
+     * @return the policies of the objects
+     * @throws SQLException if database error
+     */
+    public List<ResourcePolicy> findByDsos(Context context, Collection<? extends DSpaceObject> dsos)
+        throws SQLException;
+
     public List<ResourcePolicy> findByDsoAndType(Context context, DSpaceObject dSpaceObject, String type)
         throws SQLException;
 
@@ -0,0 +1,61 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize.service;
+
+import java.sql.SQLException;
+
+import org.dspace.authorize.AdminScope;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+
+/**
+ * Computes and caches the {@link AdminScope} of the EPersons, so that the
+ * administrative checks of the {@link AuthorizeService} neither walk the
+ * parents of an object loading their policies nor query Solr.
+ * <p>
+ * The cached scopes are invalidated when the policies, the groups or the
+ * community/collection hierarchy change, see
+ * {@link org.dspace.authorize.AdminScopeConsumer}.
+ */
+public interface AdminScopeService {
+
+    /**
+     * Get the administrative scope of an EPerson. The scope of the current user
+     * also covers the special groups of the context.
+     *
+     * @param context DSpace context
+     * @param ePerson the EPerson, or null for anonymous
+     * @return the administrative scope
+     * @throws SQLException if database error
+     */
+    public AdminScope getAdminScope(Context context, EPerson ePerson) throws SQLException;
+
+    /**
+     * Whether at least one item is administered by an EPerson: an item with an
+     * ADMIN policy of the EPerson or of its groups, or an item of an
+     * administered collection.
+     *
+     * @param context DSpace context
+     * @param ePerson the EPerson, or null for anonymous
+     * @return true if an item is administered
+     * @throws SQLException if database error
+     */
+    public boolean isItemAdmin(Context context, EPerson ePerson) throws SQLException;
+
+    /**
+     * Discard all the cached scopes, on this node and on the other nodes of the cluster.
+     */
+    public void invalidate();
+
+    /**
+     * @return false if the administrative checks must not use the scopes
+     * ({@code core.authorization.admin-scope.enabled})
+     */
+    public boolean isEnabled();
+
+}
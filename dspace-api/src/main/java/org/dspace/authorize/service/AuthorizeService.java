@@ -310,6 +310,17 @@ public interface AuthorizeService {
      */
     public List<ResourcePolicy> getPoliciesActionFilter(Context c, DSpaceObject o, int actionID) throws SQLException;
 
+    /**
+     * Load the policies of the given objects and of their parents with one query, and keep them in the context
+     * for the following authorization checks of the objects, e.g. when a page of objects is returned. The
+     * prefetched policies are dropped by any change of policies, and when the context is committed or cleared.
+     *
+     * @param c       context
+     * @param objects the objects about to be authorized
+     * @throws SQLException if there's a database problem
+     */
+    public void prefetchPolicies(Context c, List<? extends DSpaceObject> objects) throws SQLException;
+
     /**
      * Return a list of policies for an object that match the action except the record labeled with the rpType
      *
@@ -8,6 +8,7 @@
 package org.dspace.authorize.service;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -59,6 +60,17 @@ public interface ResourcePolicyService {
 
     public List<ResourcePolicy> find(Context c, DSpaceObject o, String type) throws SQLException;
 
+    /**
+     * Find the policies of all the given objects, with one query per 1000 objects.
+     *
+     * @param c    DSpace context
+     * @param dsos the objects
+     * @return the policies of the objects
+     * @throws SQLException if database error
+     */
+    public List<ResourcePolicy> findByDSpaceObjects(Context c, Collection<? extends DSpaceObject> dsos)
+        throws SQLException;
+
     public List<ResourcePolicy> find(Context c, DSpaceObject o, int actionId) throws SQLException;
 
     /**
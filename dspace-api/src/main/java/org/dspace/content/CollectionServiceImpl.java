@@ -320,6 +320,16 @@ public class CollectionServiceImpl extends DSpaceObjectServiceImpl<Collection> i
         return collections;
     }
 
+    @Override
+    public List<Collection> findByIds(Context context, java.util.Collection<UUID> ids) throws SQLException {
+        return collectionDAO.findAllWithMetadata(context, Collection.class, ids);
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Context context, java.util.Collection<UUID> ids) throws SQLException {
+        return collectionDAO.findExistingIDs(context, Collection.class, ids);
+    }
+
     @Override
     public Collection find(Context context, UUID id) throws SQLException {
         return collectionDAO.findByID(context, Collection.class, id);
@@ -154,6 +154,16 @@ public class CommunityServiceImpl extends DSpaceObjectServiceImpl<Community> imp
         return newCommunity;
     }
 
+    @Override
+    public List<Community> findByIds(Context context, java.util.Collection<UUID> ids) throws SQLException {
+        return communityDAO.findAllWithMetadata(context, Community.class, ids);
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Context context, java.util.Collection<UUID> ids) throws SQLException {
+        return communityDAO.findExistingIDs(context, Community.class, ids);
+    }
+
     @Override
     public Community find(Context context, UUID id) throws SQLException {
         return communityDAO.findByID(context, Community.class, id);
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -237,6 +238,16 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
         return null;
     }
 
+    @Override
+    public List<Item> findByIds(Context context, java.util.Collection<UUID> ids) throws SQLException {
+        return itemDAO.findAllWithMetadata(context, Item.class, ids);
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Context context, java.util.Collection<UUID> ids) throws SQLException {
+        return itemDAO.findExistingIDs(context, Item.class, ids);
+    }
+
     @Override
     public Item find(Context context, UUID id) throws SQLException {
         Item item = itemDAO.findByID(context, Item.class, id);
@@ -376,6 +387,12 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
         return itemDAO.findAllRegularItems(context);
     }
 
+    @Override
+    public Iterator<Item> findAllRegularItems(Context context, BiPredicate<UUID, Instant> filter)
+        throws SQLException {
+        return itemDAO.findAllRegularItems(context, filter);
+    }
+
     @Override
     public Iterator<Item> findBySubmitter(Context context, EPerson eperson) throws SQLException {
         return itemDAO.findBySubmitter(context, eperson);
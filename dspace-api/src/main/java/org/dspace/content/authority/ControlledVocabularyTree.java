@@ -0,0 +1,375 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content.authority;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.Logger;
+import org.dspace.app.util.XMLUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * In-memory, indexed form of a controlled vocabulary XML file as used by {@link DSpaceControlledVocabulary}.
+ * <p>
+ * The {@code node} elements of the file are numbered in document order and their attributes, notes and
+ * parent/child relations are kept in arrays, so that lookups by id, label or label substring do not need to walk
+ * the DOM. Substring lookups use a trigram index over the lower cased labels. Trees are shared by all plugin
+ * instances reading the same file and are reloaded when the file is modified.
+ */
+final class ControlledVocabularyTree {
+
+    private static final Logger log = org.apache.logging.log4j.LogManager.getLogger();
+
+    private static final Map<String, ControlledVocabularyTree> trees = new ConcurrentHashMap<>();
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final long lastModified;
+    private final long length;
+
+    private final int size;
+    private final boolean hasRoot;
+    private final String[] ids;
+    private final String[] labels;
+    private final String[] lowerCaseLabels;
+    private final String[] notes;
+    private final boolean[] selectable;
+    private final int[] parents;
+    private final int[] lastDescendants;
+    private final int[][] children;
+    private final Map<String, Integer> idIndex = new HashMap<>();
+    private final Map<String, int[]> nodesById;
+    private final Map<String, int[]> nodesByLabel;
+    private final Map<String, int[]> trigrams;
+
+    /**
+     * Get the tree of a vocabulary file, parsing the file if it was not loaded before or has been modified since.
+     *
+     * @param filename the vocabulary file
+     * @return the tree, or null if the file cannot be read
+     */
+    static ControlledVocabularyTree get(String filename) {
+        File file = new File(filename);
+        long lastModified = file.lastModified();
+        long length = file.length();
+        ControlledVocabularyTree tree = trees.get(filename);
+        if (tree != null && tree.lastModified == lastModified && tree.length == length) {
+            return tree;
+        }
+        return trees.compute(filename, (key, current) -> {
+            if (current != null && current.lastModified == lastModified && current.length == length) {
+                return current;
+            }
+            try {
+                Document document = XMLUtils.getDocumentBuilder().parse(file);
+                ControlledVocabularyTree loaded = new ControlledVocabularyTree(document, lastModified, length);
+                log.info("Loaded " + loaded.size + " vocabulary nodes from " + filename);
+                return loaded;
+            } catch (Exception e) {
+                log.error("Unable to load controlled vocabulary " + filename, e);
+                return current;
+            }
+        });
+    }
+
+    private ControlledVocabularyTree(Document document, long lastModified, long length) {
+        this.lastModified = lastModified;
+        this.length = length;
+
+        List<Element> nodes = new ArrayList<>();
+        List<Integer> parentList = new ArrayList<>();
+        collectNodes(document.getDocumentElement(), -1, nodes, parentList);
+
+        size = nodes.size();
+        hasRoot = size > 0 && nodes.get(0) == document.getDocumentElement();
+        ids = new String[size];
+        labels = new String[size];
+        lowerCaseLabels = new String[size];
+        notes = new String[size];
+        selectable = new boolean[size];
+        parents = new int[size];
+        lastDescendants = new int[size];
+        children = new int[size][];
+
+        Map<String, IntList> idPostings = new HashMap<>();
+        Map<String, IntList> labelPostings = new HashMap<>();
+        Map<String, IntList> gramPostings = new HashMap<>();
+        IntList[] childLists = new IntList[size];
+        for (int i = 0; i < size; i++) {
+            Element node = nodes.get(i);
+            ids[i] = node.hasAttribute("id") ? node.getAttribute("id") : null;
+            labels[i] = node.hasAttribute("label") ? node.getAttribute("label") : null;
+            lowerCaseLabels[i] = labels[i] == null ? "" : toLowerCase(labels[i]);
+            notes[i] = getNote(node);
+            selectable[i] = !node.hasAttribute("selectable") || Boolean.parseBoolean(node.getAttribute("selectable"));
+            parents[i] = parentList.get(i);
+            lastDescendants[i] = i;
+            childLists[i] = new IntList();
+
+            if (ids[i] != null) {
+                idIndex.putIfAbsent(ids[i], i);
+                idPostings.computeIfAbsent(ids[i], k -> new IntList()).add(i);
+            }
+            if (labels[i] != null) {
+                labelPostings.computeIfAbsent(labels[i], k -> new IntList()).add(i);
+            }
+            String label = lowerCaseLabels[i];
+            for (int g = 0; g + GRAM_LENGTH <= label.length(); g++) {
+                gramPostings.computeIfAbsent(label.substring(g, g + GRAM_LENGTH), k -> new IntList()).add(i);
+            }
+        }
+        // nodes are numbered in document order, so the subtree of a node ends at its last descendant
+        for (int i = size - 1; i >= 0; i--) {
+            int parent = parents[i];
+            if (parent >= 0) {
+                lastDescendants[parent] = Math.max(lastDescendants[parent], lastDescendants[i]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (parents[i] >= 0) {
+                childLists[parents[i]].add(i);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            children[i] = childLists[i].toArray();
+        }
+        nodesById = toArrays(idPostings);
+        nodesByLabel = toArrays(labelPostings);
+        trigrams = toArrays(gramPostings);
+    }
+
+    /**
+     * @return the number of nodes in the vocabulary
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the root node, or -1 if the document element is not a vocabulary node
+     */
+    int getRoot() {
+        return hasRoot ? 0 : -1;
+    }
+
+    /**
+     * @param node a node
+     * @return true if the node is the document element of the vocabulary file
+     */
+    boolean isRoot(int node) {
+        return hasRoot && node == 0;
+    }
+
+    /**
+     * @param id the id attribute
+     * @return the first node with the given id in document order, or -1 if there is none
+     */
+    int indexOf(String id) {
+        Integer node = id == null ? null : idIndex.get(id);
+        return node == null ? -1 : node;
+    }
+
+    String getId(int node) {
+        return ids[node];
+    }
+
+    String getLabel(int node) {
+        return labels[node];
+    }
+
+    /**
+     * @param node      a node
+     * @param attribute either "id" or "label"
+     * @return the value of the attribute, or null if the node has no such attribute
+     */
+    String getAttribute(int node, String attribute) {
+        return "id".equals(attribute) ? ids[node] : labels[node];
+    }
+
+    String getNote(int node) {
+        return notes[node];
+    }
+
+    boolean isSelectable(int node) {
+        return selectable[node];
+    }
+
+    /**
+     * @param node a node
+     * @return the closest ancestor node, or -1 for top level nodes
+     */
+    int getParent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * @param node a node
+     * @return the nodes directly composing the given node, in document order
+     */
+    int[] getChildren(int node) {
+        return children[node];
+    }
+
+    /**
+     * Find the nodes whose label contains the last term, below nodes whose labels contain the previous terms, i.e.
+     * the equivalent of {@code //node[contains(@label, term0)]//node[contains(@label, term1)]...} on lower cased
+     * labels.
+     *
+     * @param terms the lower cased terms, one per hierarchy level
+     * @return the matching nodes in document order
+     */
+    int[] findContaining(String[] terms) {
+        int[] matches = null;
+        for (String term : terms) {
+            int[] candidates = findContaining(term);
+            matches = matches == null ? candidates : filterDescendants(candidates, matches);
+        }
+        return matches == null ? new int[0] : matches;
+    }
+
+    /**
+     * Find the nodes whose attribute equals the last value, below nodes whose attributes equal the previous values,
+     * i.e. the equivalent of {@code //node[@attribute = value0]//node[@attribute = value1]...}.
+     *
+     * @param attribute either "id" or "label"
+     * @param values    the values, one per hierarchy level
+     * @return the matching nodes in document order
+     */
+    int[] findEqual(String attribute, String[] values) {
+        Map<String, int[]> index = "id".equals(attribute) ? nodesById : nodesByLabel;
+        int[] matches = null;
+        for (String value : values) {
+            int[] candidates = index.getOrDefault(value, new int[0]);
+            matches = matches == null ? candidates : filterDescendants(candidates, matches);
+        }
+        return matches == null ? new int[0] : matches;
+    }
+
+    private int[] findContaining(String term) {
+        IntList result = new IntList();
+        if (term.length() < GRAM_LENGTH) {
+            for (int i = 0; i < size; i++) {
+                if (lowerCaseLabels[i].contains(term)) {
+                    result.add(i);
+                }
+            }
+            return result.toArray();
+        }
+        // every trigram of the term occurs in the matching labels, so checking the rarest one is enough
+        int[] candidates = null;
+        for (int g = 0; g + GRAM_LENGTH <= term.length(); g++) {
+            int[] postings = trigrams.get(term.substring(g, g + GRAM_LENGTH));
+            if (postings == null) {
+                return new int[0];
+            }
+            if (candidates == null || postings.length < candidates.length) {
+                candidates = postings;
+            }
+        }
+        for (int candidate : candidates) {
+            if (lowerCaseLabels[candidate].contains(term)) {
+                result.add(candidate);
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * Keep the candidates that are descendants of at least one of the ancestors. Both arrays are in document order.
+     */
+    private int[] filterDescendants(int[] candidates, int[] ancestors) {
+        IntList result = new IntList();
+        Deque<Integer> open = new ArrayDeque<>();
+        int next = 0;
+        for (int candidate : candidates) {
+            while (next < ancestors.length && ancestors[next] < candidate) {
+                open.push(ancestors[next++]);
+            }
+            while (!open.isEmpty() && lastDescendants[open.peek()] < candidate) {
+                open.pop();
+            }
+            if (!open.isEmpty()) {
+                result.add(candidate);
+            }
+        }
+        return result.toArray();
+    }
+
+    private static void collectNodes(Element element, int parent, List<Element> nodes, List<Integer> parentList) {
+        int current = parent;
+        if ("node".equals(element.getNodeName())) {
+            current = nodes.size();
+            nodes.add(element);
+            parentList.add(parent);
+        }
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                collectNodes((Element) child, current, nodes, parentList);
+            }
+        }
+    }
+
+    private static String getNote(Element node) {
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if ("hasNote".equals(child.getNodeName()) && StringUtils.isNotBlank(child.getTextContent())) {
+                return child.getTextContent();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lower case the upper case letters of a label one code point at a time, as the XPath
+     * {@code translate()} expression previously used for matching did.
+     */
+    private static String toLowerCase(String label) {
+        StringBuilder lowerCase = new StringBuilder(label.length());
+        label.codePoints().forEach(cp -> lowerCase.appendCodePoint(
+            Character.isLetter(cp) && Character.isUpperCase(cp) ? Character.toLowerCase(cp) : cp));
+        return lowerCase.toString();
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, IntList> postings) {
+        Map<String, int[]> arrays = new HashMap<>(postings.size() * 4 / 3 + 1);
+        postings.forEach((key, list) -> arrays.put(key, list.toArray()));
+        return arrays;
+    }
+
+    /**
+     * Growable list of ascending node numbers, ignoring repeated additions of the last number.
+     */
+    private static class IntList {
+        private int[] items = new int[4];
+        private int size = 0;
+
+        void add(int item) {
+            if (size > 0 && items[size - 1] == item) {
+                return;
+            }
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
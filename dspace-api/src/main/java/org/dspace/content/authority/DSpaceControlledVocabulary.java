@@ -14,11 +14,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -26,9 +21,6 @@ import org.apache.logging.log4j.Logger;
 import org.dspace.core.SelfNamedPlugin;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
 /**
  * ChoiceAuthority source that reads the hierarchical vocabularies
@@ -56,43 +48,27 @@ import org.xml.sax.InputSource;
  * </ul>
  * }
  *
+ * <p>Each vocabulary file is parsed once into a {@link ControlledVocabularyTree}, which is shared by all
+ * plugin instances and reloaded when the file is modified.
+ *
  * @author Michael B. Klein
  */
 
 public class DSpaceControlledVocabulary extends SelfNamedPlugin implements HierarchicalAuthority {
 
     private static final Logger log = org.apache.logging.log4j.LogManager.getLogger();
-    protected static final String xpathTemplate;
-    static {
-        StringBuilder upper = new StringBuilder();
-        StringBuilder lower = new StringBuilder();
-        for (int cp = 'A'; cp <= Character.MAX_CODE_POINT; cp++) {
-            if (Character.isLetter(cp) && Character.isUpperCase(cp)) {
-                int lcp = Character.toLowerCase(cp);
-                upper.appendCodePoint(cp);
-                lower.appendCodePoint(lcp);
-            }
-        }
-        xpathTemplate = "//node[contains(translate(@label,'" + upper + "','" + lower + "'),%s)]";
-    }
-    protected static String idTemplate = "//node[@id = %s]";
-    protected static String idTemplateQuoted = "//node[@id = $nodeId]";
-    protected static String labelTemplate = "//node[@label = %s]";
-    protected static String idParentTemplate = "//node[@id = $nodeId]/parent::isComposedBy/parent::node";
-    protected static String rootTemplate = "/node";
     protected static String idAttribute = "id";
     protected static String labelAttribute = "label";
     protected static String[] pluginNames = null;
     public static final String ID_SPLITTER = ":";
     protected String vocabularyName = null;
-    protected InputSource vocabulary = null;
+    protected String vocabularyFile = null;
     protected Boolean suggestHierarchy = false;
     protected Boolean storeHierarchy = true;
     protected boolean storeAuthority = false;
     protected String hierarchyDelimiter = "::";
     protected Integer preloadLevel = 1;
     protected String valueAttribute = labelAttribute;
-    protected String valueTemplate = labelTemplate;
 
     public DSpaceControlledVocabulary() {
         super();
@@ -148,7 +124,7 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
     }
 
     protected void init(String locale) {
-        if (vocabulary == null) {
+        if (vocabularyFile == null) {
             ConfigurationService config = DSpaceServicesFactory.getInstance().getConfigurationService();
 
             log.info("Initializing " + this.getClass().getName());
@@ -169,7 +145,6 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
             }
             if (storeIDs) {
                 valueAttribute = idAttribute;
-                valueTemplate = idTemplate;
             }
 
             String filename = vocabulariesPath + vocabularyName + ".xml";
@@ -180,28 +155,31 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
                 }
             }
             log.info("Loading " + filename);
-            vocabulary = new InputSource(filename);
+            vocabularyFile = filename;
         }
     }
 
-    protected String buildString(Node node) {
-        if (node.getNodeType() == Node.DOCUMENT_NODE || (
-            node.getParentNode() != null &&
-            node.getParentNode().getNodeType() == Node.DOCUMENT_NODE)) {
+    /**
+     * Get the tree of the vocabulary file, reloading it if the file has been modified.
+     *
+     * @return the vocabulary tree, or null if the file cannot be read
+     */
+    private ControlledVocabularyTree getTree() {
+        return ControlledVocabularyTree.get(vocabularyFile);
+    }
+
+    private String buildString(ControlledVocabularyTree tree, int node) {
+        if (node < 0 || tree.isRoot(node)) {
             return ("");
+        }
+        String parentValue = buildString(tree, tree.getParent(node));
+        String currentValue = tree.getAttribute(node, valueAttribute);
+        if (currentValue == null) {
+            return (parentValue);
+        } else if (parentValue.equals("")) {
+            return currentValue;
         } else {
-            String parentValue = buildString(node.getParentNode());
-            Node currentNodeValue = node.getAttributes().getNamedItem(valueAttribute);
-            if (currentNodeValue != null) {
-                String currentValue = currentNodeValue.getNodeValue();
-                if (parentValue.equals("")) {
-                    return currentValue;
-                } else {
-                    return (parentValue + this.hierarchyDelimiter + currentValue);
-                }
-            } else {
-                return (parentValue);
-            }
+            return (parentValue + this.hierarchyDelimiter + currentValue);
         }
     }
 
@@ -209,31 +187,17 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
     public Choices getMatches(String text, int start, int limit, String locale) {
         init(locale);
         log.debug("Getting matches for '" + text + "'");
+        ControlledVocabularyTree tree = getTree();
+        if (tree == null) {
+            return new Choices(true);
+        }
         String[] textHierarchy = text.split(hierarchyDelimiter, -1);
-        StringBuilder xpathExpressionBuilder = new StringBuilder();
         for (int i = 0; i < textHierarchy.length; i++) {
-            xpathExpressionBuilder.append(String.format(xpathTemplate, "$var" + i));
-        }
-        String xpathExpression = xpathExpressionBuilder.toString();
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setXPathVariableResolver(variableName -> {
-            String varName = variableName.getLocalPart();
-            if (varName.startsWith("var")) {
-                int index = Integer.parseInt(varName.substring(3));
-                return textHierarchy[index].toLowerCase();
-            }
-            throw new IllegalArgumentException("Unexpected variable: " + varName);
-        });
-        int total;
-        List<Choice> choices;
-        try {
-            NodeList results = (NodeList) xpath.evaluate(xpathExpression, vocabulary, XPathConstants.NODESET);
-            total = results.getLength();
-            choices = getChoicesFromNodeList(results, start, limit);
-        } catch (XPathExpressionException e) {
-            log.warn(e.getMessage(), e);
-            return new Choices(true);
+            textHierarchy[i] = textHierarchy[i].toLowerCase();
         }
+        int[] results = tree.findContaining(textHierarchy);
+        int total = results.length;
+        List<Choice> choices = getChoicesFromNodes(tree, results, start, limit);
         return new Choices(choices.toArray(new Choice[choices.size()]), start, total, Choices.CF_AMBIGUOUS,
                 total > start + limit);
     }
@@ -242,29 +206,13 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
     public Choices getBestMatch(String text, String locale) {
         init(locale);
         log.debug("Getting best matches for {}'", text);
-        String[] textHierarchy = text.split(hierarchyDelimiter, -1);
-        StringBuilder xpathExpressionBuilder = new StringBuilder();
-        for (int i = 0; i < textHierarchy.length; i++) {
-            xpathExpressionBuilder.append(String.format(valueTemplate, "$var" + i));
-        }
-        String xpathExpression = xpathExpressionBuilder.toString();
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setXPathVariableResolver(variableName -> {
-            String varName = variableName.getLocalPart();
-            if (varName.startsWith("var")) {
-                int index = Integer.parseInt(varName.substring(3));
-                return textHierarchy[index];
-            }
-            throw new IllegalArgumentException("Unexpected variable: " + varName);
-        });
-        List<Choice> choices;
-        try {
-            NodeList results = (NodeList) xpath.evaluate(xpathExpression, vocabulary, XPathConstants.NODESET);
-            choices = getChoicesFromNodeList(results, 0, 1);
-        } catch (XPathExpressionException e) {
-            log.warn(e.getMessage(), e);
+        ControlledVocabularyTree tree = getTree();
+        if (tree == null) {
             return new Choices(true);
         }
+        String[] textHierarchy = text.split(hierarchyDelimiter, -1);
+        int[] results = tree.findEqual(valueAttribute, textHierarchy);
+        List<Choice> choices = getChoicesFromNodes(tree, results, 0, 1);
         return new Choices(choices.toArray(new Choice[choices.size()]), 0, choices.size(), Choices.CF_AMBIGUOUS, false);
     }
 
@@ -280,19 +228,18 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
 
     @Override
     public Choice getChoice(String authKey, String locale) {
+        init(locale);
         //FIXME hack to deal with an improper use on the angular side of the node id (otherinformation.id) to
         // build a vocabulary entry details ID
         if (!StringUtils.startsWith(authKey, vocabularyName)) {
             authKey = vocabularyName + DSpaceControlledVocabulary.ID_SPLITTER + authKey;
         }
         String nodeId = getNodeIdFromAuthorityKey(authKey);
-        Node node;
-        try {
-            node = getNode(nodeId, locale);
-        } catch (XPathExpressionException e) {
+        ControlledVocabularyTree tree = getTree();
+        if (tree == null) {
             return null;
         }
-        return createChoiceFromNode(node);
+        return createChoiceFromNode(tree, tree.indexOf(nodeId));
     }
 
     @Override
@@ -304,27 +251,34 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
     @Override
     public Choices getTopChoices(String authorityName, int start, int limit, String locale) {
         init(locale);
-        String xpathExpression = rootTemplate;
-        return getChoicesByXpath(xpathExpression, start, limit);
+        ControlledVocabularyTree tree = getTree();
+        if (tree == null) {
+            return new Choices(true);
+        }
+        return getChildChoices(tree, tree.getRoot(), start, limit);
     }
 
     @Override
     public Choices getChoicesByParent(String authorityName, String parentAuthKey, int start, int limit, String locale) {
         init(locale);
+        ControlledVocabularyTree tree = getTree();
+        if (tree == null) {
+            return new Choices(true);
+        }
         String parentId = getNodeIdFromAuthorityKey(parentAuthKey);
-        return getChoicesByXpathWithId(idTemplateQuoted, parentId, start, limit);
+        return getChildChoices(tree, tree.indexOf(parentId), start, limit);
     }
 
     @Override
     public Choice getParentChoice(String authorityName, String childAuthKey, String locale) {
         init(locale);
-        try {
-            String childId = getNodeIdFromAuthorityKey(childAuthKey);
-            return createChoiceFromNode(getNodeByIdFromXPath(idParentTemplate, childId));
-        } catch (XPathExpressionException e) {
-            log.error(e.getMessage(), e);
+        ControlledVocabularyTree tree = getTree();
+        if (tree == null) {
             return null;
         }
+        String childId = getNodeIdFromAuthorityKey(childAuthKey);
+        int child = tree.indexOf(childId);
+        return child < 0 ? null : createChoiceFromNode(tree, tree.getParent(child));
     }
 
     @Override
@@ -343,47 +297,22 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
         return authKey;
     }
 
-    private boolean isRootElement(Node node) {
-        return node != null && node.getOwnerDocument().getDocumentElement().equals(node);
-    }
-
-    private Node getNode(String key, String locale) throws XPathExpressionException {
-        init(locale);
-        return getNodeByIdFromXPath(idTemplateQuoted, key);
-    }
-
-    private Node getNodeByIdFromXPath(String xpathTemplate, String nodeId) throws XPathExpressionException {
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setXPathVariableResolver(variableName -> {
-            if ("nodeId".equals(variableName.getLocalPart())) {
-                return nodeId;
-            }
-            throw new IllegalArgumentException("Unexpected variable: " + variableName);
-        });
-        return (Node) xpath.evaluate(xpathTemplate, vocabulary, XPathConstants.NODE);
-    }
-
-    private List<Choice> getChoicesFromNodeList(NodeList results, int start, int limit) {
+    private List<Choice> getChoicesFromNodes(ControlledVocabularyTree tree, int[] results, int start, int limit) {
         List<Choice> choices = new ArrayList<>();
-        for (int i = 0; i < results.getLength(); i++) {
-            if (i < start) {
-                continue;
-            }
-            if (choices.size() == limit) {
-                break;
-            }
-            Node node = results.item(i);
-            Choice choice = new Choice(getAuthority(node), getLabel(node), getValue(node),
-                                       isSelectable(node));
+        for (int i = Math.max(start, 0); i < results.length && choices.size() < limit; i++) {
+            int node = results[i];
+            Choice choice = new Choice(getAuthority(tree, node), getLabel(tree, node), getValue(tree, node),
+                                       tree.isSelectable(node));
             choice.authorityName = this.vocabularyName;
-            choice.extras = addOtherInformation(getParent(node), getNote(node), getChildren(node), getAuthority(node));
+            choice.extras = addOtherInformation(getParent(tree, node), tree.getNote(node),
+                                                hasChildren(tree, node), getAuthority(tree, node));
             choices.add(choice);
         }
         return choices;
     }
 
     private Map<String, String> addOtherInformation(String parentCurr, String noteCurr,
-            List<String> childrenCurr, String authorityCurr) {
+            boolean hasChildren, String authorityCurr) {
         Map<String, String> extras = new HashMap<>();
         if (StringUtils.isNotBlank(parentCurr)) {
             extras.put("parent", parentCurr);
@@ -391,218 +320,106 @@ public class DSpaceControlledVocabulary extends SelfNamedPlugin implements Hiera
         if (StringUtils.isNotBlank(noteCurr)) {
             extras.put("note", noteCurr);
         }
-        if (childrenCurr.isEmpty()) {
-            extras.put("hasChildren", "false");
-        } else {
-            extras.put("hasChildren", "true");
-        }
+        extras.put("hasChildren", String.valueOf(hasChildren));
         extras.put("id", authorityCurr);
         return extras;
     }
 
     private String getNodeValue(String key, String locale, boolean useHierarchy) {
-        try {
-            String nodeId = getNodeIdFromAuthorityKey(key);
-            Node node = getNode(nodeId, locale);
-            if (Objects.isNull(node)) {
-                return null;
-            }
-            if (useHierarchy) {
-                return this.buildString(node);
-            } else {
-                return node.getAttributes().getNamedItem(labelAttribute).getNodeValue();
-            }
-        } catch (XPathExpressionException e) {
+        init(locale);
+        ControlledVocabularyTree tree = getTree();
+        if (tree == null) {
             return ("");
         }
+        int node = tree.indexOf(getNodeIdFromAuthorityKey(key));
+        if (node < 0) {
+            return null;
+        }
+        if (useHierarchy) {
+            return this.buildString(tree, node);
+        } else {
+            return tree.getLabel(node);
+        }
     }
 
-    private String getLabel(Node node) {
-        String hierarchy = this.buildString(node);
+    private String getLabel(ControlledVocabularyTree tree, int node) {
         if (this.suggestHierarchy) {
-            return hierarchy;
+            return this.buildString(tree, node);
         } else {
-            return node.getAttributes().getNamedItem("label").getNodeValue();
+            return tree.getLabel(node);
         }
     }
 
-    private String getValue(Node node) {
-        String hierarchy = this.buildString(node);
+    private String getValue(ControlledVocabularyTree tree, int node) {
         if (this.storeHierarchy) {
-            return hierarchy;
+            return this.buildString(tree, node);
         } else {
-            return node.getAttributes().getNamedItem(valueAttribute).getNodeValue();
+            return tree.getAttribute(node, valueAttribute);
         }
     }
 
-    private String getNote(Node node) {
-        NodeList childNodes = node.getChildNodes();
-        for (int ci = 0; ci < childNodes.getLength(); ci++) {
-            Node firstChild = childNodes.item(ci);
-            if (firstChild != null && "hasNote".equals(firstChild.getNodeName())) {
-                String nodeValue = firstChild.getTextContent();
-                if (StringUtils.isNotBlank(nodeValue)) {
-                    return nodeValue;
-                }
-            }
-        }
-        return null;
-    }
-
-    private List<String> getChildren(Node node) {
-        List<String> children = new ArrayList<>();
-        NodeList childNodes = node.getChildNodes();
-        for (int ci = 0; ci < childNodes.getLength(); ci++) {
-            Node firstChild = childNodes.item(ci);
-            if (firstChild != null && "isComposedBy".equals(firstChild.getNodeName())) {
-                for (int cii = 0; cii < firstChild.getChildNodes().getLength(); cii++) {
-                    Node childN = firstChild.getChildNodes().item(cii);
-                    if (childN != null && "node".equals(childN.getNodeName())) {
-                        Node childIdAttr = childN.getAttributes().getNamedItem("id");
-                        if (null != childIdAttr) {
-                            children.add(childIdAttr.getNodeValue());
-                        }
-                    }
-                }
-                break;
+    /**
+     * Only children with an id can be browsed, so only those are taken into account.
+     */
+    private boolean hasChildren(ControlledVocabularyTree tree, int node) {
+        for (int child : tree.getChildren(node)) {
+            if (tree.getId(child) != null) {
+                return true;
             }
         }
-        return children;
-    }
-
-    private boolean isSelectable(Node node) {
-        Node selectableAttr = node.getAttributes().getNamedItem("selectable");
-        if (null != selectableAttr) {
-            return Boolean.parseBoolean(selectableAttr.getNodeValue());
-        } else { // Default is true
-            return true;
-        }
+        return false;
     }
 
-    private String getParent(Node node) {
-        Node parentN = node.getParentNode();
-        if (parentN != null) {
-            parentN = parentN.getParentNode();
-            if (parentN != null && !isRootElement(parentN)) {
-                return buildString(parentN);
-            }
+    private String getParent(ControlledVocabularyTree tree, int node) {
+        int parent = tree.getParent(node);
+        if (parent >= 0 && !tree.isRoot(parent)) {
+            return buildString(tree, parent);
         }
         return null;
     }
 
-    private String getAuthority(Node node) {
-        Node idAttr = node.getAttributes().getNamedItem("id");
-        if (null != idAttr) { // 'id' is optional
-            return getPluginInstanceName() + ID_SPLITTER + idAttr.getNodeValue();
-        } else {
-            return null;
-        }
-    }
-
-    private String getNodeId(Node node) {
-        Node idAttr = node.getAttributes().getNamedItem("id");
-        if (null != idAttr) { // 'id' is optional
-            return idAttr.getNodeValue();
+    private String getAuthority(ControlledVocabularyTree tree, int node) {
+        String id = tree.getId(node);
+        if (null != id) { // 'id' is optional
+            return getPluginInstanceName() + ID_SPLITTER + id;
         } else {
             return null;
         }
     }
 
-    private Choices getChoicesByXpath(String xpathExpression, int start, int limit) {
-        List<Choice> choices = new ArrayList<>();
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        try {
-            Node parentNode = (Node) xpath.evaluate(xpathExpression, vocabulary, XPathConstants.NODE);
-            int count = 0;
-            if (parentNode != null) {
-                NodeList childNodes = (NodeList) xpath.evaluate(".//isComposedBy", parentNode, XPathConstants.NODE);
-                if (null != childNodes) {
-                    for (int i = 0; i < childNodes.getLength(); i++) {
-                        Node childNode = childNodes.item(i);
-                        if (childNode != null && "node".equals(childNode.getNodeName())) {
-                            if (count < start || choices.size() >= limit) {
-                                count++;
-                                continue;
-                            }
-                            count++;
-                            choices.add(createChoiceFromNode(childNode));
-                        }
-                    }
-                }
-                return new Choices(choices.toArray(new Choice[choices.size()]), start, count,
-                        Choices.CF_AMBIGUOUS, false);
-            }
-        } catch (XPathExpressionException e) {
-            log.warn(e.getMessage(), e);
-            return new Choices(true);
-        }
-        return new Choices(false);
-    }
-
     /**
-     * Retrieves vocabulary choices by executing an XPath query with a parameterized node ID.
-     * <p>
-     * This method evaluates an XPath template containing a {@code $nodeId} variable placeholder,
-     * substituting the provided node ID value. It then locates the matching parent node and
-     * retrieves all child nodes under {@code isComposedBy} elements, applying pagination to
-     * the results.
-     * <p>
+     * Retrieves the choices composing a vocabulary node, applying pagination to the results.
      *
-     * @param xpathTemplate the XPath expression template containing a {@code $nodeId} variable
-     *                      to be replaced with the actual node identifier
-     * @param nodeId        the node identifier value to substitute into the XPath template
-     * @param start         the zero-based index of the first result to return for pagination
-     * @param limit         the maximum number of choices to return
-     * @return a Choices object containing the matching child nodes with pagination metadata;
-     *         returns an error Choices object if the XPath evaluation fails or if no parent
-     *         node is found
+     * @param tree   the vocabulary tree
+     * @param parent the parent node, or -1 if no such node exists
+     * @param start  the zero-based index of the first result to return for pagination
+     * @param limit  the maximum number of choices to return
+     * @return a Choices object containing the child nodes with pagination metadata; returns an
+     *         error Choices object if the parent node does not exist
      */
-    private Choices getChoicesByXpathWithId(String xpathTemplate, String nodeId, int start, int limit) {
+    private Choices getChildChoices(ControlledVocabularyTree tree, int parent, int start, int limit) {
+        if (parent < 0) {
+            return new Choices(false);
+        }
+        int[] children = tree.getChildren(parent);
         List<Choice> choices = new ArrayList<>();
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setXPathVariableResolver(variableName -> {
-            if ("nodeId".equals(variableName.getLocalPart())) {
-                return nodeId;
-            }
-            throw new IllegalArgumentException("Unexpected variable: " + variableName);
-        });
-        try {
-            Node parentNode = (Node) xpath.evaluate(xpathTemplate, vocabulary, XPathConstants.NODE);
-            int count = 0;
-            if (parentNode != null) {
-                NodeList childNodes = (NodeList) xpath.evaluate(".//isComposedBy", parentNode, XPathConstants.NODE);
-                if (null != childNodes) {
-                    for (int i = 0; i < childNodes.getLength(); i++) {
-                        Node childNode = childNodes.item(i);
-                        if (childNode != null && "node".equals(childNode.getNodeName())) {
-                            if (count < start || choices.size() >= limit) {
-                                count++;
-                                continue;
-                            }
-                            count++;
-                            choices.add(createChoiceFromNode(childNode));
-                        }
-                    }
-                }
-                return new Choices(choices.toArray(new Choice[choices.size()]), start, count,
-                        Choices.CF_AMBIGUOUS, false);
-            }
-        } catch (XPathExpressionException e) {
-            log.warn(e.getMessage(), e);
-            return new Choices(true);
+        for (int i = Math.max(start, 0); i < children.length && choices.size() < limit; i++) {
+            choices.add(createChoiceFromNode(tree, children[i]));
         }
-        return new Choices(false);
+        return new Choices(choices.toArray(new Choice[choices.size()]), start, children.length,
+                Choices.CF_AMBIGUOUS, false);
     }
 
-    private Choice createChoiceFromNode(Node node) {
-        if (node != null && !isRootElement(node)) {
+    private Choice createChoiceFromNode(ControlledVocabularyTree tree, int node) {
+        if (node >= 0 && !tree.isRoot(node)) {
             Choice choice = new Choice(
-                getAuthority(node),
-                getLabel(node),
-                getValue(node),
-                    isSelectable(node));
+                getAuthority(tree, node),
+                getLabel(tree, node),
+                getValue(tree, node),
+                tree.isSelectable(node));
             choice.authorityName = this.vocabularyName;
-            choice.extras = addOtherInformation(getParent(node), getNote(node), getChildren(node), getNodeId(node));
+            choice.extras = addOtherInformation(getParent(tree, node), tree.getNote(node),
+                                                hasChildren(tree, node), tree.getId(node));
             return choice;
         }
         return null;
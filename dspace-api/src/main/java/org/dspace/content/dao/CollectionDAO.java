@@ -10,6 +10,7 @@ package org.dspace.content.dao;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.dspace.content.Collection;
 import org.dspace.content.Item;
@@ -65,4 +66,28 @@ public interface CollectionDAO extends DSpaceObjectLegacySupportDAO<Collection>
     int countRows(Context context) throws SQLException;
 
     List<Map.Entry<Collection, Long>> getCollectionsWithBitstreamSizesTotal(Context context) throws SQLException;
+
+    /**
+     * Find all collections with one of the given UUIDs in a single query, prefetching their metadata.
+     *
+     * @param context DSpace context
+     * @param clazz   the Collection class
+     * @param ids     the UUIDs of the collections to load
+     * @return the collections found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<Collection> findAllWithMetadata(Context context, Class<Collection> clazz, java.util.Collection<UUID> ids)
+        throws SQLException;
+
+    /**
+     * Find which of the given UUIDs belong to an existing collection, without loading the collections.
+     *
+     * @param context DSpace context
+     * @param clazz   the Collection class
+     * @param ids     the UUIDs to look up
+     * @return the UUIDs of the existing collections
+     * @throws SQLException if database error
+     */
+    List<UUID> findExistingIDs(Context context, Class<Collection> clazz, java.util.Collection<UUID> ids)
+        throws SQLException;
 }
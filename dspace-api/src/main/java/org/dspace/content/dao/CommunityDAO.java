@@ -8,7 +8,9 @@
 package org.dspace.content.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import org.dspace.content.Community;
 import org.dspace.content.MetadataField;
@@ -41,4 +43,27 @@ public interface CommunityDAO extends DSpaceObjectLegacySupportDAO<Community> {
         throws SQLException;
 
     int countRows(Context context) throws SQLException;
+
+    /**
+     * Find all communities with one of the given UUIDs in a single query, prefetching their metadata.
+     *
+     * @param context DSpace context
+     * @param clazz   the Community class
+     * @param ids     the UUIDs of the communities to load
+     * @return the communities found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<Community> findAllWithMetadata(Context context, Class<Community> clazz, Collection<UUID> ids)
+        throws SQLException;
+
+    /**
+     * Find which of the given UUIDs belong to an existing community, without loading the communities.
+     *
+     * @param context DSpace context
+     * @param clazz   the Community class
+     * @param ids     the UUIDs to look up
+     * @return the UUIDs of the existing communities
+     * @throws SQLException if database error
+     */
+    List<UUID> findExistingIDs(Context context, Class<Community> clazz, Collection<UUID> ids) throws SQLException;
 }
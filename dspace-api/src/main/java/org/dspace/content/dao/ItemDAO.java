@@ -12,6 +12,7 @@ import java.time.Instant;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
@@ -48,6 +49,18 @@ public interface ItemDAO extends DSpaceObjectLegacySupportDAO<Item> {
      */
     Iterator<Item> findAllRegularItems(Context context) throws SQLException;
 
+    /**
+     * Find all regular items (see {@link #findAllRegularItems(Context)}) whose id and last modified date are
+     * accepted by the given filter. The filter is applied to a projection of these two columns, so the items
+     * that are rejected are never loaded.
+     *
+     * @param context the DSpace context.
+     * @param filter  the filter applied to the id and last modified date of each item.
+     * @return iterator over the accepted regular items.
+     * @throws SQLException if database error.
+     */
+    Iterator<Item> findAllRegularItems(Context context, BiPredicate<UUID, Instant> filter) throws SQLException;
+
     /**
      * Find all Items modified since a Date.
      *
@@ -271,5 +284,28 @@ public interface ItemDAO extends DSpaceObjectLegacySupportDAO<Item> {
      */
     Iterator<Item> findByIds(Context context, List<UUID> ids) throws SQLException;
 
+    /**
+     * Find all items with one of the given UUIDs, prefetching their metadata and owning collections
+     * in one query and their mapped collections in a second one.
+     *
+     * @param context DSpace context
+     * @param clazz   the Item class
+     * @param ids     the UUIDs of the items to load
+     * @return the items found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<Item> findAllWithMetadata(Context context, Class<Item> clazz, java.util.Collection<UUID> ids)
+        throws SQLException;
 
+    /**
+     * Find which of the given UUIDs belong to an existing item, without loading the items.
+     *
+     * @param context DSpace context
+     * @param clazz   the Item class
+     * @param ids     the UUIDs to look up
+     * @return the UUIDs of the existing items
+     * @throws SQLException if database error
+     */
+    List<UUID> findExistingIDs(Context context, Class<Item> clazz, java.util.Collection<UUID> ids)
+        throws SQLException;
 }
@@ -15,6 +15,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
 import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -62,6 +64,27 @@ public class ItemDAOImpl extends AbstractHibernateDSODAO<Item> implements ItemDA
         return new UUIDIterator<Item>(context, uuids, Item.class, this);
     }
 
+    @Override
+    public Iterator<Item> findAllRegularItems(Context context, BiPredicate<UUID, Instant> filter)
+        throws SQLException {
+        // Same selection as findAllRegularItems(Context), streamed in batches so that only the ids of
+        // the accepted items are held in memory
+        Query query = createQuery(
+            context,
+            "SELECT i.id, i.lastModified FROM Item as i " +
+            "LEFT JOIN Version as v ON i = v.item " +
+            "WHERE i.inArchive=true or i.withdrawn=true or (i.inArchive=false and v.id IS NOT NULL) " +
+            "ORDER BY i.id"
+        );
+        query.setHint("org.hibernate.fetchSize", 1000);
+        List<UUID> uuids = new ArrayList<>();
+        try (Stream<Object[]> rows = query.getResultStream()) {
+            rows.filter(row -> filter.test((UUID) row[0], (Instant) row[1]))
+                .forEach(row -> uuids.add((UUID) row[0]));
+        }
+        return new UUIDIterator<Item>(context, uuids, Item.class, this);
+    }
+
     @Override
     public Iterator<Item> findAll(Context context, boolean archived, int limit, int offset) throws SQLException {
         Query query = createQuery(context, "SELECT i.id FROM Item i WHERE inArchive=:in_archive ORDER BY id");
@@ -565,4 +588,23 @@ public class ItemDAOImpl extends AbstractHibernateDSODAO<Item> implements ItemDA
         return new UUIDIterator<Item>(context, ids, Item.class, this);
     }
 
+    @Override
+    public List<Item> findAllWithMetadata(Context context, Class<Item> clazz, java.util.Collection<UUID> ids)
+        throws SQLException {
+        List<Item> items = findAllWithMetadata(context, clazz, ids, " left join fetch dso.owningCollection");
+        // the mapped collections are fetched by a second query into the same session, join fetching them
+        // along with the metadata would return the product of both
+        List<UUID> found = new ArrayList<>(items.size());
+        for (Item item : items) {
+            found.add(item.getID());
+        }
+        for (List<UUID> chunk : partitionIds(found)) {
+            Query query = createQuery(context, "SELECT i FROM Item i left join fetch i.collections"
+                + " WHERE i.id IN (:ids)");
+            query.setParameter("ids", chunk);
+            list(query);
+        }
+        return items;
+    }
+
 }
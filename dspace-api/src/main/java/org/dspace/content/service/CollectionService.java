@@ -90,6 +90,27 @@ public interface CollectionService
      */
     public List<Collection> findAll(Context context) throws SQLException;
 
+    /**
+     * Get the collections with the given ids, loading their metadata in as few queries as possible.
+     * Ids that do not exist are ignored, the order of the returned list is indeterminate.
+     *
+     * @param context DSpace context object
+     * @param ids     the collection ids
+     * @return the collections found
+     * @throws SQLException if database error
+     */
+    public List<Collection> findByIds(Context context, java.util.Collection<UUID> ids) throws SQLException;
+
+    /**
+     * Find which of the given ids belong to an existing collection, without loading the collections.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids to look up
+     * @return the ids of the existing collections
+     * @throws SQLException if database error
+     */
+    public List<UUID> findExistingIds(Context context, java.util.Collection<UUID> ids) throws SQLException;
+
     /**
      * Get all collections in the system. Adds support for limit and offset.
      *
@@ -10,6 +10,7 @@ package org.dspace.content.service;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -79,6 +80,27 @@ public interface CommunityService extends DSpaceObjectService<Community>, DSpace
      */
     public List<Community> findAll(Context context) throws SQLException;
 
+    /**
+     * Get the communities with the given ids, loading their metadata in as few queries as possible.
+     * Ids that do not exist are ignored, the order of the returned list is indeterminate.
+     *
+     * @param context DSpace context object
+     * @param ids     the community ids
+     * @return the communities found
+     * @throws SQLException if database error
+     */
+    public List<Community> findByIds(Context context, Collection<UUID> ids) throws SQLException;
+
+    /**
+     * Find which of the given ids belong to an existing community, without loading the communities.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids to look up
+     * @return the ids of the existing communities
+     * @throws SQLException if database error
+     */
+    public List<UUID> findExistingIds(Context context, Collection<UUID> ids) throws SQLException;
+
     /**
      * Get all communities in the system. Adds support for limit and offset.
      *
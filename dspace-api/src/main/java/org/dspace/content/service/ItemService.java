@@ -14,6 +14,7 @@ import java.time.Instant;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 
 import org.dspace.authorize.AuthorizeException;
 import org.dspace.authorize.ResourcePolicy;
@@ -105,6 +106,27 @@ public interface ItemService
      */
     Iterator<Item> findAll(Context context) throws SQLException;
 
+    /**
+     * Get the items with the given ids, loading their metadata and collections in as few queries as
+     * possible. Ids that do not exist are ignored, the order of the returned list is indeterminate.
+     *
+     * @param context DSpace context object
+     * @param ids     the item ids
+     * @return the items found
+     * @throws SQLException if database error
+     */
+    List<Item> findByIds(Context context, java.util.Collection<UUID> ids) throws SQLException;
+
+    /**
+     * Find which of the given ids belong to an existing item, without loading the items.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids to look up
+     * @return the ids of the existing items
+     * @throws SQLException if database error
+     */
+    List<UUID> findExistingIds(Context context, java.util.Collection<UUID> ids) throws SQLException;
+
     /**
      * Get all the items in the archive. Only items with the "in archive" flag
      * set are included. The order of the list is indeterminate.
@@ -140,6 +162,17 @@ public interface ItemService
      */
     Iterator<Item> findAllRegularItems(Context context) throws SQLException;
 
+    /**
+     * Find all regular items (see {@link #findAllRegularItems(Context)}) whose id and last modified date are
+     * accepted by the given filter, without loading the items that are rejected.
+     *
+     * @param context the DSpace context.
+     * @param filter  the filter applied to the id and last modified date of each item.
+     * @return iterator over the accepted regular items.
+     * @throws SQLException if database error.
+     */
+    Iterator<Item> findAllRegularItems(Context context, BiPredicate<UUID, Instant> filter) throws SQLException;
+
     /**
      * Find all the items in the archive by a given submitter. The order is
      * indeterminate. Only items with the "in archive" flag set are included.
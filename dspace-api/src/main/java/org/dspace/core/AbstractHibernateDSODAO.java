@@ -8,9 +8,13 @@
 package org.dspace.core;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.UUID;
 
+import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
@@ -31,6 +35,90 @@ import org.dspace.content.MetadataField;
  * @param <T> type of DSO represented.
  */
 public abstract class AbstractHibernateDSODAO<T extends DSpaceObject> extends AbstractHibernateDAO<T> {
+
+    /**
+     * Maximum number of identifiers bound to a single IN clause by {@link #findAllWithMetadata}.
+     */
+    protected static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+    /**
+     * Find all DSOs of the given type with one of the given UUIDs, using a single query per
+     * {@link #MAX_IN_CLAUSE_SIZE} identifiers. The metadata values of the returned objects are fetched
+     * by the same query. Identifiers that do not exist are ignored, and the order of the returned list
+     * is unspecified.
+     * @param context current DSpace context.
+     * @param clazz DSO subtype of the records identified by {@code ids}.
+     * @param ids the UUIDs of the records to load.
+     * @return the matching records.
+     * @throws SQLException
+     */
+    public List<T> findAllWithMetadata(Context context, Class<T> clazz, Collection<UUID> ids) throws SQLException {
+        return findAllWithMetadata(context, clazz, ids, "");
+    }
+
+    /**
+     * Find all DSOs of the given type with one of the given UUIDs, see {@link #findAllWithMetadata(Context,
+     * Class, Collection)}, adding the given HQL join fetch clauses on the "dso" alias to prefetch more
+     * associations. Only single valued associations should be added: fetching another collection along
+     * with the metadata would return the product of both.
+     * @param context current DSpace context.
+     * @param clazz DSO subtype of the records identified by {@code ids}.
+     * @param ids the UUIDs of the records to load.
+     * @param additionalFetches additional join fetch clauses, e.g. " left join fetch dso.owningCollection"
+     * @return the matching records.
+     * @throws SQLException
+     */
+    protected List<T> findAllWithMetadata(Context context, Class<T> clazz, Collection<UUID> ids,
+                                          String additionalFetches) throws SQLException {
+        List<T> result = new ArrayList<>(ids.size());
+        for (List<UUID> chunk : partitionIds(ids)) {
+            // the duplicated rows of the metadata join are merged by Hibernate, no SQL DISTINCT is needed
+            Query query = createQuery(context, "SELECT dso FROM " + clazz.getSimpleName() + " dso"
+                + " left join fetch dso.metadata" + additionalFetches
+                + " WHERE dso.id IN (:ids)");
+            query.setParameter("ids", chunk);
+            result.addAll(list(query));
+        }
+        return result;
+    }
+
+    /**
+     * Find which of the given UUIDs belong to an existing DSO of the given type, using a single query per
+     * {@link #MAX_IN_CLAUSE_SIZE} identifiers. Only the identifiers are selected, no entity is loaded.
+     * @param context current DSpace context.
+     * @param clazz DSO subtype of the records identified by {@code ids}.
+     * @param ids the UUIDs to look up.
+     * @return the UUIDs of the existing records.
+     * @throws SQLException
+     */
+    public List<UUID> findExistingIDs(Context context, Class<T> clazz, Collection<UUID> ids) throws SQLException {
+        List<UUID> result = new ArrayList<>(ids.size());
+        for (List<UUID> chunk : partitionIds(ids)) {
+            Query query = createQuery(context, "SELECT dso.id FROM " + clazz.getSimpleName() + " dso"
+                + " WHERE dso.id IN (:ids)");
+            query.setParameter("ids", chunk);
+            result.addAll(query.getResultList());
+        }
+        return result;
+    }
+
+    /**
+     * Split the given identifiers in lists of at most {@link #MAX_IN_CLAUSE_SIZE} distinct elements.
+     * @param ids the identifiers
+     * @return the lists of identifiers, empty if there is no identifier
+     */
+    protected List<List<UUID>> partitionIds(Collection<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        if (CollectionUtils.isEmpty(ids)) {
+            return chunks;
+        }
+        List<UUID> idList = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int start = 0; start < idList.size(); start += MAX_IN_CLAUSE_SIZE) {
+            chunks.add(idList.subList(start, Math.min(start + MAX_IN_CLAUSE_SIZE, idList.size())));
+        }
+        return chunks;
+    }
+
     /**
      * Find a DSO by its "legacy ID".  Former versions of DSpace used integer
      * record IDs, and these may still be found in external records such as AIPs.
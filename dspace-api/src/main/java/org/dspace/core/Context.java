@@ -11,10 +11,12 @@ import java.lang.ref.Cleaner;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
@@ -146,6 +148,12 @@ public class Context implements AutoCloseable {
      */
     private final ContextReadOnlyCache readOnlyCache = new ContextReadOnlyCache();
 
+    /**
+     * Resource policies of DSpace objects loaded in bulk, by object UUID, see
+     * {@link org.dspace.authorize.service.AuthorizeService#prefetchPolicies}
+     */
+    private final Map<UUID, List<ResourcePolicy>> prefetchedPolicies = new HashMap<>();
+
     protected EventService eventService;
 
     private DBConnection dbConnection;
@@ -187,6 +195,35 @@ public class Context implements AutoCloseable {
         init();
     }
 
+    /**
+     * Construct a new context object acting like this one, e.g. for a worker thread: it has the same current user,
+     * reloaded in the new context, the same special groups and ignores the authorization if this one does. A new
+     * database connection is opened.
+     *
+     * @param mode The mode to use when opening the context.
+     * @return the new context
+     * @throws SQLException if the current user cannot be reloaded
+     */
+    public Context copy(Mode mode) throws SQLException {
+        Context copy = new Context(mode);
+        try {
+            if (currentUser != null) {
+                copy.setCurrentUser(EPersonServiceFactory.getInstance().getEPersonService()
+                                                         .find(copy, currentUser.getID()));
+            }
+            for (UUID groupId : getSpecialGroupUuids()) {
+                copy.setSpecialGroup(groupId);
+            }
+            if (ignoreAuthorization()) {
+                copy.turnOffAuthorisationSystem();
+            }
+        } catch (SQLException | RuntimeException e) {
+            copy.abort();
+            throw e;
+        }
+        return copy;
+    }
+
     /**
      * Initializes a new context object.
      */
@@ -625,6 +662,7 @@ public class Context implements AutoCloseable {
                 reloadContextBoundEntities();
             }
         } finally {
+            prefetchedPolicies.clear();
             events = null;
         }
     }
@@ -1006,6 +1044,34 @@ public class Context implements AutoCloseable {
         }
     }
 
+    /**
+     * Returns the prefetched resource policies of the given object.
+     *
+     * @param dspaceObject the object
+     * @return all the policies of the object, or null if they were not prefetched
+     */
+    public List<ResourcePolicy> getPrefetchedPolicies(DSpaceObject dspaceObject) {
+        return prefetchedPolicies.get(dspaceObject.getID());
+    }
+
+    /**
+     * Keep all the resource policies of the given object until they change or the context is committed, rolled
+     * back or its entities are uncached.
+     *
+     * @param dspaceObject the object
+     * @param policies     all the policies of the object
+     */
+    public void cachePrefetchedPolicies(DSpaceObject dspaceObject, List<ResourcePolicy> policies) {
+        prefetchedPolicies.put(dspaceObject.getID(), policies);
+    }
+
+    /**
+     * Forget the prefetched resource policies, e.g. when a policy is created, changed or deleted.
+     */
+    public void clearPrefetchedPolicies() {
+        prefetchedPolicies.clear();
+    }
+
     public Boolean getCachedGroupMembership(Group group, EPerson eperson) {
         if (isReadOnly()) {
             return readOnlyCache.getCachedGroupMembership(group, eperson);
@@ -1041,6 +1107,8 @@ public class Context implements AutoCloseable {
      */
     private void reloadContextBoundEntities() throws SQLException {
         currentUser = reloadEntity(currentUser);
+        // the prefetched policies are detached too
+        prefetchedPolicies.clear();
     }
 
     public String getAuthenticationMethod() {
@@ -20,9 +20,9 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.cli.ParseException;
@@ -63,6 +63,7 @@ public class Curation extends DSpaceRunnable<CurationScriptConfiguration> {
     private String id;
     private String queue;
     private String scope;
+    private Integer concurrency;
     private String reporter;
     private Map<String, String> parameters;
     private boolean verbose;
@@ -162,21 +163,27 @@ public class Curation extends DSpaceRunnable<CurationScriptConfiguration> {
      */
     private long runQueue(TaskQueue queue, Curator curator) throws SQLException, AuthorizeException, IOException {
         // use current time as our reader 'ticket'
-        long ticket = Instant.now().toEpochMilli();
-        Iterator<TaskQueueEntry> entryIter = queue.dequeue(this.queue, ticket).iterator();
-        while (entryIter.hasNext()) {
-            TaskQueueEntry entry = entryIter.next();
-            if (verbose) {
-                super.handler.logInfo("Curating id: " + entry.getObjectId());
-            }
-            curator.clear();
-            for (String taskName : entry.getTaskNames()) {
-                curator.addTask(context, taskName);
+        long startTime = Instant.now().toEpochMilli();
+        long ticket = startTime;
+        Set<TaskQueueEntry> entrySet = queue.dequeue(this.queue, ticket);
+        // a queue may hand out its entries in several batches, each read with a new ticket
+        while (!entrySet.isEmpty()) {
+            for (TaskQueueEntry entry : entrySet) {
+                if (verbose) {
+                    super.handler.logInfo("Curating id: " + entry.getObjectId());
+                }
+                curator.clear();
+                for (String taskName : entry.getTaskNames()) {
+                    curator.addTask(context, taskName);
+                }
+                curator.curate(context, entry.getObjectId());
             }
-            curator.curate(context, entry.getObjectId());
+            queue.release(this.queue, ticket, true);
+            ticket = Math.max(ticket + 1, Instant.now().toEpochMilli());
+            entrySet = queue.dequeue(this.queue, ticket);
         }
         queue.release(this.queue, ticket, true);
-        return ticket;
+        return startTime;
     }
 
     /**
@@ -231,6 +238,10 @@ public class Curation extends DSpaceRunnable<CurationScriptConfiguration> {
             curator.setTransactionScope(txScope);
         }
 
+        if (this.concurrency != null) {
+            curator.setConcurrency(this.concurrency);
+        }
+
         curator.addParameters(parameters);
         // we are operating in batch mode, if anyone cares.
         curator.setInvoked(Curator.Invoked.BATCH);
@@ -348,6 +359,18 @@ public class Curation extends DSpaceRunnable<CurationScriptConfiguration> {
                     "'open' recognized");
             }
         }
+
+        // concurrency
+        if (this.commandLine.getOptionValue('c') != null) {
+            try {
+                this.concurrency = Integer.valueOf(this.commandLine.getOptionValue('c'));
+            } catch (NumberFormatException e) {
+                this.handler.logError("Bad concurrency '" + this.commandLine.getOptionValue('c')
+                        + "': a number of threads is expected");
+                throw new IllegalArgumentException(
+                    "Bad concurrency '" + this.commandLine.getOptionValue('c') + "': a number of threads is expected");
+            }
+        }
     }
 
     /**
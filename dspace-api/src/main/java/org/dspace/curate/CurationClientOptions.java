@@ -61,6 +61,9 @@ public enum CurationClientOptions {
         options.addOption("q", "queue", true, "name of task queue to process");
         options.addOption("s", "scope", true,
             "transaction scope to impose: use 'object', 'curation', or 'open'. If absent, 'open' applies");
+        options.addOption("c", "concurrency", true,
+            "number of threads performing thread-safe tasks over the items of a container. If absent, " +
+                "'curate.concurrency' applies");
         options.addOption("v", "verbose", false, "report activity to stdout");
         options.addOption("h", "help", false, "help");
 
@@ -17,6 +17,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,6 +44,8 @@ import org.dspace.core.factory.CoreServiceFactory;
 import org.dspace.handle.factory.HandleServiceFactory;
 import org.dspace.handle.service.HandleService;
 import org.dspace.scripts.handler.DSpaceRunnableHandler;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.utils.DaemonThreadFactory;
 
 /**
  * Curator orchestrates and manages the application of a one or more curation
@@ -91,6 +101,7 @@ public class Curator {
     protected Invoked iMode = null;
     protected TaskResolver resolver = new TaskResolver();
     protected TxScope txScope = TxScope.OPEN;
+    protected int concurrency = 1;
     protected CommunityService communityService;
     protected DSpaceObjectUtils dspaceObjectUtils;
     protected ItemService itemService;
@@ -116,6 +127,8 @@ public class Curator {
         itemService = ContentServiceFactory.getInstance().getItemService();
         handleService = HandleServiceFactory.getInstance().getHandleService();
         resolver = new TaskResolver();
+        concurrency = DSpaceServicesFactory.getInstance().getConfigurationService()
+                                          .getIntProperty("curate.concurrency", 1);
     }
 
     /**
@@ -232,6 +245,20 @@ public class Curator {
         return this;
     }
 
+    /**
+     * Defines the number of threads performing tasks over the members
+     * of a container. Only tasks declaring the {@link ThreadSafe} property
+     * are performed concurrently, each thread using its own Context. The
+     * default of 1 performs all tasks sequentially.
+     *
+     * @param concurrency number of threads
+     * @return return self (Curator instance) with given concurrency set
+     */
+    public Curator setConcurrency(int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+        return this;
+    }
+
     /**
      * Performs all configured tasks upon object identified by id. If
      * the object can be resolved as a handle, the DSO will be the
@@ -337,7 +364,10 @@ public class Curator {
         }
 
         try {
-            reporter.append(message);
+            // tasks may report concurrently from several threads
+            synchronized (reporter) {
+                reporter.append(message);
+            }
         } catch (IOException ex) {
             System.out.println("Task reporting failure: " +  ex);
         }
@@ -354,6 +384,22 @@ public class Curator {
         return (tr != null) ? tr.statusCode : CURATE_NOTASK;
     }
 
+    /**
+     * Returns the number of performances of the named task per status code,
+     * e.g. over all members of a curated container.
+     *
+     * @param taskName the task name
+     * @return the number of performances for each returned status code
+     */
+    public Map<Integer, Integer> getStatusCounts(String taskName) {
+        TaskRunner tr = trMap.get(taskName);
+        Map<Integer, Integer> counts = new HashMap<>();
+        if (tr != null) {
+            tr.statusCounts.forEach((code, count) -> counts.put(code, count.get()));
+        }
+        return counts;
+    }
+
     /**
      * Returns the result string for the latest performance of the named task.
      *
@@ -487,6 +533,9 @@ public class Curator {
                 context.uncacheEntity(next);
             }
             context.commit();
+            if (concurrency > 1 && tr.task.isThreadSafe()) {
+                return doItemsConcurrently(context, tr, uuids);
+            }
             for (UUID uuid : uuids) {
                 Item item = itemService.find(context, uuid);
                 boolean shouldContinue = tr.run(context, item);
@@ -501,6 +550,82 @@ public class Curator {
         return true;
     }
 
+    /**
+     * Run task for Items on a pool of worker threads. Each worker performs
+     * the task with its own Context, acting as the same user as the given
+     * Context, and commits after each Item like the sequential run.
+     *
+     * @param context the curation Context
+     * @param tr      TaskRunner of a thread-safe task
+     * @param uuids   the Items to curate
+     * @return true if successful, false if the task suspended the curation
+     * @throws IOException if IO error
+     */
+    protected boolean doItemsConcurrently(Context context, TaskRunner tr, List<UUID> uuids) throws IOException {
+        ConcurrentLinkedQueue<UUID> queue = new ConcurrentLinkedQueue<>(uuids);
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        int workers = Math.min(concurrency, uuids.size());
+        ExecutorService executor =
+            Executors.newFixedThreadPool(workers, new DaemonThreadFactory("curator-" + tr.task.getName()));
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                runWorker(context, tr, queue, proceed);
+                return null;
+            }));
+        }
+        executor.shutdown();
+        IOException failure = null;
+        try {
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof IOException ? (IOException) e.getCause()
+                            : new IOException(e.getCause().getMessage(), e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            proceed.set(false);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while curating with task " + tr.task.getName(), e);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return proceed.get();
+    }
+
+    /**
+     * Perform the task on Items taken from the queue until it is empty or the
+     * curation is suspended, using a dedicated Context.
+     */
+    private void runWorker(Context context, TaskRunner tr, ConcurrentLinkedQueue<UUID> queue,
+                           AtomicBoolean proceed) throws IOException, SQLException {
+        Context workerContext = context.copy(context.getCurrentMode());
+        try {
+            UUID uuid;
+            while (proceed.get() && (uuid = queue.poll()) != null) {
+                Item item = itemService.find(workerContext, uuid);
+                if (!tr.run(workerContext, item)) {
+                    proceed.set(false);
+                }
+                workerContext.commit();
+            }
+            workerContext.complete();
+        } catch (IOException | SQLException | RuntimeException e) {
+            proceed.set(false);
+            throw e;
+        } finally {
+            if (workerContext.isValid()) {
+                workerContext.abort();
+            }
+        }
+    }
+
     /**
      * Record a 'visit' to a DSpace object and enforce any policies set
      * on this curator.
@@ -517,8 +642,9 @@ public class Curator {
 
     protected class TaskRunner {
         ResolvedTask task = null;
-        int statusCode = CURATE_UNSET;
-        String result = null;
+        volatile int statusCode = CURATE_UNSET;
+        volatile String result = null;
+        final Map<Integer, AtomicInteger> statusCounts = new ConcurrentHashMap<>();
 
         public TaskRunner(ResolvedTask task) {
             this.task = task;
@@ -530,10 +656,10 @@ public class Curator {
                     throw new IOException("DSpaceObject is null");
                 }
                 String id = (dso.getHandle() != null) ? dso.getHandle() : "workflow item: " + dso.getID();
-                statusCode = task.perform(context, dso);
-                logInfo(logMessage(id));
+                int status = recordStatus(task.perform(context, dso));
+                logInfo(logMessage(id, status));
                 visit(context);
-                return !suspend(statusCode);
+                return !suspend(status);
             } catch (IOException ioe) {
                 //log error & pass exception upwards
                 System.out.println("Error executing curation task '" + task.getName() + "'; " + ioe);
@@ -546,10 +672,10 @@ public class Curator {
                 if (context == null || id == null) {
                     throw new IOException("Context or identifier is null");
                 }
-                statusCode = task.perform(context, id);
-                logInfo(logMessage(id));
+                int status = recordStatus(task.perform(context, id));
+                logInfo(logMessage(id, status));
                 visit(context);
-                return !suspend(statusCode);
+                return !suspend(status);
             } catch (IOException ioe) {
                 //log error & pass exception upwards
                 System.out.println("Error executing curation task '" + task.getName() + "'; " + ioe);
@@ -561,6 +687,18 @@ public class Curator {
             this.result = result;
         }
 
+        /**
+         * Records the status code of a performance of the task.
+         *
+         * @param code the status code
+         * @return the status code
+         */
+        protected int recordStatus(int code) {
+            statusCode = code;
+            statusCounts.computeIfAbsent(code, c -> new AtomicInteger()).incrementAndGet();
+            return code;
+        }
+
         protected boolean suspend(int code) {
             Invoked mode = task.getMode();
             if (mode != null && (mode.equals(Invoked.ANY) || mode.equals(iMode))) {
@@ -580,10 +718,21 @@ public class Curator {
          * @return log message text
          */
         protected String logMessage(String id) {
+            return logMessage(id, statusCode);
+        }
+
+        /**
+         * Builds a useful log message for a performance of a curation task.
+         *
+         * @param id     ID of DSpace Object
+         * @param status status code of the performance
+         * @return log message text
+         */
+        protected String logMessage(String id, int status) {
             StringBuilder mb = new StringBuilder();
             mb.append("Curation task: ").append(task.getName()).
                 append(" performed on: ").append(id).
-                  append(" with status: ").append(statusCode);
+                  append(" with status: ").append(status);
             if (result != null) {
                 mb.append(". Result: '").append(result).append("'");
             }
@@ -599,7 +748,9 @@ public class Curator {
             if (handler == null) {
                 log.info(message);
             } else {
-                handler.logInfo(message);
+                synchronized (handler) {
+                    handler.logInfo(message);
+                }
             }
         }
 
@@ -0,0 +1,218 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.curate;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+
+/**
+ * DatabaseTaskQueue provides a TaskQueue implementation based on the
+ * <code>curation_task_queue</code> database table, which may be drained by
+ * several readers (CLI or webapp, on one or more nodes) at the same time.
+ * <p>
+ * A <code>dequeue</code> leases at most <code>curate.taskqueue.db.batch-size</code>
+ * entries of the queue to the ticket, skipping the entries other readers are
+ * leasing at that moment (<code>SELECT ... FOR UPDATE SKIP LOCKED</code>).
+ * A lease lasts <code>curate.taskqueue.db.visibility-timeout</code> seconds;
+ * entries which are not released in time (e.g. because the reader crashed)
+ * are handed out again, until they have been leased
+ * <code>curate.taskqueue.db.max-attempts</code> times. Entries which reached
+ * that limit stay in the table for inspection.
+ * <p>
+ * Queue operations run on their own connection and transaction, so they never
+ * commit or roll back the work of the Context of the caller.
+ */
+public class DatabaseTaskQueue implements TaskQueue {
+    private static final Logger log = LogManager.getLogger(TaskQueue.class);
+
+    private static final String SELECT_QUEUE_NAMES =
+        "SELECT DISTINCT queue_name FROM curation_task_queue ORDER BY queue_name";
+
+    private static final String INSERT_ENTRY =
+        "INSERT INTO curation_task_queue (queue_name, eperson_id, submit_time, tasks, object_id, attempts) " +
+            "VALUES (?, ?, ?, ?, ?, 0)";
+
+    private static final String SELECT_AVAILABLE =
+        "SELECT id, eperson_id, submit_time, tasks, object_id FROM curation_task_queue " +
+            "WHERE queue_name = ? AND (lease_expires IS NULL OR lease_expires <= ?) AND attempts < ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_ENTRY =
+        "UPDATE curation_task_queue SET lease_ticket = ?, lease_expires = ?, attempts = attempts + 1 WHERE id = ?";
+
+    private static final String DELETE_ENTRY =
+        "DELETE FROM curation_task_queue WHERE id = ? AND lease_ticket = ?";
+
+    private static final String RETURN_ENTRY =
+        "UPDATE curation_task_queue SET lease_ticket = NULL, lease_expires = NULL WHERE id = ? AND lease_ticket = ?";
+
+    protected DataSource dataSource;
+
+    // seconds an entry stays leased to a ticket
+    protected int visibilityTimeout;
+
+    // number of times an entry is leased before it is given up on
+    protected int maxAttempts;
+
+    // maximum number of entries leased per dequeue
+    protected int batchSize;
+
+    // ids of the entries leased by this reader, per queue and ticket
+    protected final Map<String, List<Integer>> leases = new ConcurrentHashMap<>();
+
+    public DatabaseTaskQueue() {
+        ConfigurationService configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        dataSource = DSpaceServicesFactory.getInstance().getServiceManager()
+                                          .getServiceByName("dataSource", DataSource.class);
+        visibilityTimeout = configurationService.getIntProperty("curate.taskqueue.db.visibility-timeout", 3600);
+        maxAttempts = configurationService.getIntProperty("curate.taskqueue.db.max-attempts", 3);
+        batchSize = configurationService.getIntProperty("curate.taskqueue.db.batch-size", 100);
+    }
+
+    @Override
+    public String[] queueNames() {
+        List<String> queueNames = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_QUEUE_NAMES);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                queueNames.add(resultSet.getString(1));
+            }
+        } catch (SQLException e) {
+            log.error("Unable to list the curation task queues", e);
+        }
+        return queueNames.toArray(new String[0]);
+    }
+
+    @Override
+    public void enqueue(String queueName, TaskQueueEntry entry) throws IOException {
+        Set<TaskQueueEntry> entrySet = new HashSet<>();
+        entrySet.add(entry);
+        enqueue(queueName, entrySet);
+    }
+
+    @Override
+    public void enqueue(String queueName, Set<TaskQueueEntry> entrySet) throws IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ENTRY)) {
+                for (TaskQueueEntry entry : entrySet) {
+                    statement.setString(1, queueName);
+                    statement.setString(2, entry.getEpersonId());
+                    statement.setTimestamp(3, new Timestamp(entry.getSubmitTime()));
+                    statement.setString(4, String.join(",", entry.getTaskNames()));
+                    statement.setString(5, entry.getObjectId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Unable to write to curation task queue " + queueName, e);
+        }
+    }
+
+    @Override
+    public Set<TaskQueueEntry> dequeue(String queueName, long ticket) throws IOException {
+        Set<TaskQueueEntry> entrySet = new HashSet<>();
+        List<Integer> ids = new ArrayList<>();
+        Instant now = Instant.now();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_AVAILABLE)) {
+                    statement.setString(1, queueName);
+                    statement.setTimestamp(2, Timestamp.from(now));
+                    statement.setInt(3, maxAttempts);
+                    statement.setInt(4, batchSize > 0 ? batchSize : Integer.MAX_VALUE);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            ids.add(resultSet.getInt("id"));
+                            entrySet.add(new TaskQueueEntry(resultSet.getString("eperson_id"),
+                                                            resultSet.getTimestamp("submit_time").getTime(),
+                                                            Arrays.asList(resultSet.getString("tasks").split(",")),
+                                                            resultSet.getString("object_id")));
+                        }
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement(LEASE_ENTRY)) {
+                    Timestamp leaseExpires = Timestamp.from(now.plusSeconds(visibilityTimeout));
+                    for (Integer id : ids) {
+                        statement.setLong(1, ticket);
+                        statement.setTimestamp(2, leaseExpires);
+                        statement.setInt(3, id);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Unable to read from curation task queue " + queueName, e);
+        }
+        if (!ids.isEmpty()) {
+            leases.put(leaseKey(queueName, ticket), ids);
+        }
+        return entrySet;
+    }
+
+    @Override
+    public void release(String queueName, long ticket, boolean removeEntries) {
+        List<Integer> ids = leases.remove(leaseKey(queueName, ticket));
+        if (ids == null) {
+            return;
+        }
+        // only touch the entries still leased to the ticket, expired leases may have been taken over meanwhile
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(removeEntries ? DELETE_ENTRY
+                                                                                         : RETURN_ENTRY)) {
+                for (Integer id : ids) {
+                    statement.setInt(1, id);
+                    statement.setLong(2, ticket);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            log.error("Unable to release curation task queue " + queueName + " for ticket " + ticket, e);
+        }
+    }
+
+    private String leaseKey(String queueName, long ticket) {
+        return queueName + "|" + ticket;
+    }
+}
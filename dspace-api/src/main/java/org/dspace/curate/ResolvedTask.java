@@ -28,6 +28,7 @@ public class ResolvedTask {
     // annotation data
     private boolean distributive = false;
     private boolean mutative = false;
+    private boolean threadSafe = false;
     private Curator.Invoked mode = null;
     private int[] codes = null;
 
@@ -39,6 +40,7 @@ public class ResolvedTask {
         Class ctClass = cTask.getClass();
         distributive = ctClass.isAnnotationPresent(Distributive.class);
         mutative = ctClass.isAnnotationPresent(Mutative.class);
+        threadSafe = ctClass.isAnnotationPresent(ThreadSafe.class);
         Suspendable suspendAnno = (Suspendable) ctClass.getAnnotation(Suspendable.class);
         if (suspendAnno != null) {
             mode = suspendAnno.invoked();
@@ -121,6 +123,15 @@ public class ResolvedTask {
         return mutative;
     }
 
+    /**
+     * Returns whether task may be performed concurrently on several objects
+     *
+     * @return whether task may be performed concurrently on several objects
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
     public Curator.Invoked getMode() {
         return mode;
     }
@@ -0,0 +1,23 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.curate;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Annotation type for CurationTasks. A task is thread-safe if a single
+ * instance may perform on several objects at the same time, each with
+ * its own Context. The Curator may then perform such a task over the
+ * members of a container concurrently (see {@link Curator#setConcurrency(int)}).
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ThreadSafe {
+}
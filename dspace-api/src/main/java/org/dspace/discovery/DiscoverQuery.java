@@ -41,6 +41,16 @@ public class DiscoverQuery {
     private int start = 0;
     private int maxResults = -1;
 
+    /**
+     * Cursor mark of the first page of a cursor based iteration
+     */
+    public static final String CURSOR_MARK_START = "*";
+
+    /**
+     * Solr cursor mark used instead of the start offset for deep paging, null to page with the offset
+     **/
+    private String cursorMark;
+
     /**
      * Attributes used for sorting of results
      **/
@@ -112,6 +122,23 @@ public class DiscoverQuery {
         this.start = start;
     }
 
+    public String getCursorMark() {
+        return cursorMark;
+    }
+
+    /**
+     * Page the results with a Solr cursor instead of the start offset. Unlike the offset, the cost of
+     * retrieving a page does not grow with its depth. The start offset is ignored while a cursor mark is
+     * set, and the sort is completed with the unique id of the documents as a tiebreaker.
+     *
+     * @param cursorMark {@link #CURSOR_MARK_START} for the first page, then the
+     *                   {@link DiscoverResult#getNextCursorMark()} of the previous page; null to page with the
+     *                   start offset again
+     */
+    public void setCursorMark(String cursorMark) {
+        this.cursorMark = cursorMark;
+    }
+
     public void setSortField(String sortField, SORT_ORDER sortOrder) {
         this.sortField = sortField;
         this.sortOrder = sortOrder;
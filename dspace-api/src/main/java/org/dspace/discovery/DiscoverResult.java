@@ -43,6 +43,7 @@ public class DiscoverResult {
     private int searchTime;
     private Map<String, IndexableObjectHighlightResult> highlightedResults;
     private String spellCheckQuery;
+    private String nextCursorMark;
 
     public DiscoverResult() {
         indexableObjects = new ArrayList<IndexableObject>();
@@ -99,6 +100,19 @@ public class DiscoverResult {
         this.searchTime = searchTime;
     }
 
+    /**
+     * @return the cursor mark of the next page when the query was paged with a cursor mark, see
+     * {@link DiscoverQuery#setCursorMark(String)}. It is equal to the cursor mark of the query once all
+     * results have been retrieved.
+     */
+    public String getNextCursorMark() {
+        return nextCursorMark;
+    }
+
+    public void setNextCursorMark(String nextCursorMark) {
+        this.nextCursorMark = nextCursorMark;
+    }
+
     public void addFacetResult(String facetField, FacetResult... facetResults) {
         List<FacetResult> facetValues = this.facetResults.get(facetField);
         if (facetValues == null) {
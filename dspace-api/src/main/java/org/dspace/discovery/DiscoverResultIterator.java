@@ -18,6 +18,10 @@ import org.dspace.core.ReloadableEntity;
 
 /**
  * Implementation of {@link Iterator} to iterate over the discover search result.
+ * <p>
+ * Unless the query starts at an offset, the pages are retrieved with a Solr cursor (see
+ * {@link DiscoverQuery#setCursorMark(String)}), so that iterating over a large result set does not get
+ * slower with the depth of the pages. The iterator updates the paging of the given query while iterating.
  *
  * @param <T>  the type of the indexed object
  * @param <PK> the type of the id of the indexed object
@@ -36,6 +40,7 @@ public class DiscoverResultIterator<T extends ReloadableEntity, PK extends Seria
     private final DiscoverQuery discoverQuery;
     private final boolean uncacheEntitites;
     private final int maxResults;
+    private final boolean cursorMode;
     private int iteratorCounter;
     private DiscoverResult currentDiscoverResult;
     private Iterator<IndexableObject> currentSlotIterator;
@@ -74,6 +79,10 @@ public class DiscoverResultIterator<T extends ReloadableEntity, PK extends Seria
         this.searchService = SearchUtils.getSearchService();
         this.uncacheEntitites = uncacheEntities;
         this.maxResults = maxResults;
+        this.cursorMode = discoverQuery.getStart() <= 0;
+        if (cursorMode) {
+            discoverQuery.setCursorMark(DiscoverQuery.CURSOR_MARK_START);
+        }
 
         updateCurrentSlotIterator();
     }
@@ -94,15 +103,25 @@ public class DiscoverResultIterator<T extends ReloadableEntity, PK extends Seria
             return true;
         }
 
-        this.discoverQuery.setStart(iteratorCounter);
-
         if (uncacheEntitites) {
             uncacheEntitites();
         }
 
+        if (cursorMode) {
+            String nextCursorMark = currentDiscoverResult.getNextCursorMark();
+            if (nextCursorMark == null || nextCursorMark.equals(discoverQuery.getCursorMark())) {
+                // all results have been retrieved
+                return false;
+            }
+            this.discoverQuery.setCursorMark(nextCursorMark);
+        } else {
+            this.discoverQuery.setStart(iteratorCounter);
+        }
+
         updateCurrentSlotIterator();
 
-        return currentSlotIterator.hasNext();
+        // with a cursor, a page emptied by stale documents is not the end of the results
+        return cursorMode ? hasNext() : currentSlotIterator.hasNext();
     }
 
     /**
@@ -0,0 +1,113 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Compact map from object UUID to the time the object was last indexed, used to decide which objects
+ * of a non-forced index update are stale without querying Solr for each of them.
+ * <p>
+ * The entries are kept in three primitive arrays (24 bytes per object) and must be added in ascending
+ * UUID order, which is the order in which Solr returns documents sorted by their unique id. Entries
+ * added out of order are ignored, so the corresponding objects are considered not indexed.
+ */
+class IndexedTimestamps {
+
+    private long[] mostSigBits = new long[1024];
+    private long[] leastSigBits = new long[1024];
+    private long[] lastIndexed = new long[1024];
+    private int size = 0;
+
+    /**
+     * Add an indexed object.
+     *
+     * @param id          the object UUID, greater than all previously added UUIDs
+     * @param lastIndexed the time the object was last indexed
+     * @return false if the entry was ignored because it was not added in ascending order
+     */
+    boolean add(UUID id, Instant lastIndexed) {
+        if (size > 0 && compare(id.getMostSignificantBits(), id.getLeastSignificantBits(), size - 1) <= 0) {
+            return false;
+        }
+        if (size == mostSigBits.length) {
+            int capacity = size + (size >> 1);
+            mostSigBits = Arrays.copyOf(mostSigBits, capacity);
+            leastSigBits = Arrays.copyOf(leastSigBits, capacity);
+            this.lastIndexed = Arrays.copyOf(this.lastIndexed, capacity);
+        }
+        mostSigBits[size] = id.getMostSignificantBits();
+        leastSigBits[size] = id.getLeastSignificantBits();
+        this.lastIndexed[size] = lastIndexed.toEpochMilli();
+        size++;
+        return true;
+    }
+
+    /**
+     * @return the number of indexed objects
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get the time an object was last indexed.
+     *
+     * @param id the object UUID
+     * @return the time the object was last indexed, null if the object is not indexed
+     */
+    Instant getLastIndexed(UUID id) {
+        int index = indexOf(id);
+        return index < 0 ? null : Instant.ofEpochMilli(lastIndexed[index]);
+    }
+
+    /**
+     * Check whether an object needs to be (re)indexed, i.e. it is not indexed yet or it has been modified
+     * since it was last indexed. This mirrors the check done by {@link SolrServiceImpl} for single objects.
+     *
+     * @param id           the object UUID
+     * @param lastModified the time the object was last modified, may be null
+     * @return true if the object needs to be indexed
+     */
+    boolean requiresIndexing(UUID id, Instant lastModified) {
+        if (lastModified == null) {
+            return true;
+        }
+        Instant indexed = getLastIndexed(id);
+        return indexed == null || indexed.isBefore(lastModified);
+    }
+
+    private int indexOf(UUID id) {
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(most, least, middle);
+            if (comparison > 0) {
+                low = middle + 1;
+            } else if (comparison < 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compare a UUID with the entry at the given index, in the order of their canonical string forms.
+     */
+    private int compare(long most, long least, int index) {
+        int comparison = Long.compareUnsigned(most, mostSigBits[index]);
+        return comparison != 0 ? comparison : Long.compareUnsigned(least, leastSigBits[index]);
+    }
+}
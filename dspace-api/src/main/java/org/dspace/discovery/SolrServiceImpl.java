@@ -25,9 +25,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -46,6 +49,7 @@ import org.apache.solr.client.solrj.util.ClientUtils;
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.apache.solr.common.params.FacetParams;
 import org.apache.solr.common.params.HighlightParams;
 import org.apache.solr.common.params.MoreLikeThisParams;
@@ -78,6 +82,7 @@ import org.dspace.eperson.Group;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.eperson.service.GroupService;
 import org.dspace.services.ConfigurationService;
+import org.dspace.services.MetricsService;
 import org.dspace.services.factory.DSpaceServicesFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -121,6 +126,8 @@ public class SolrServiceImpl implements SearchService, IndexingService {
     protected SolrSearchCore solrSearchCore;
     @Autowired
     protected ConfigurationService configurationService;
+    @Autowired
+    protected MetricsService metricsService;
 
     protected SolrServiceImpl() {
 
@@ -346,10 +353,21 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             int indexObject = 0;
             for (IndexFactory indexableObjectService : indexableObjectServices) {
                 if (type == null || Strings.CS.equals(indexableObjectService.getType(), type)) {
-                    final Iterator<IndexableObject> indexableObjects = indexableObjectService.findAll(context);
+                    final Iterator<? extends IndexableObject> indexableObjects;
+                    boolean forceObject = force;
+                    if (!force && indexableObjectService instanceof ItemIndexFactory itemIndexFactory
+                        && solrSearchCore.getSolr() != null) {
+                        // Compare the last modified dates of all items with the index at once, instead of
+                        // querying the index for each item, and only load the items that are stale
+                        IndexedTimestamps indexed = getIndexedTimestamps(itemIndexFactory.getType());
+                        indexableObjects = itemIndexFactory.findAll(context, indexed::requiresIndexing);
+                        forceObject = true;
+                    } else {
+                        indexableObjects = indexableObjectService.findAll(context);
+                    }
                     while (indexableObjects.hasNext()) {
                         final IndexableObject indexableObject = indexableObjects.next();
-                        indexContent(context, indexableObject, force);
+                        indexContent(context, indexableObject, forceObject);
                         context.uncacheEntity(indexableObject.getIndexedObject());
                         indexObject++;
                         if ((indexObject % 100) == 0 && indexableObjectService instanceof ItemIndexFactory) {
@@ -367,6 +385,50 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         }
     }
 
+    /**
+     * Read the time each object of the given type was last indexed, streaming the whole index with a cursor.
+     *
+     * @param type the resource type of the objects, whose identifiers must be UUIDs
+     * @return the time each indexed object was last indexed
+     * @throws SolrServerException if the index cannot be queried
+     * @throws IOException         if IO error
+     */
+    protected IndexedTimestamps getIndexedTimestamps(String type) throws SolrServerException, IOException {
+        IndexedTimestamps indexed = new IndexedTimestamps();
+        SolrQuery query = new SolrQuery("*:*");
+        query.addFilterQuery(SearchUtils.RESOURCE_TYPE_FIELD + ":" + type);
+        query.setFields(SearchUtils.RESOURCE_ID_FIELD, SearchUtils.LAST_INDEXED_FIELD);
+        // the unique ids of a single type only differ by the UUID, so they are returned in ascending UUID order
+        query.setSort(SearchUtils.RESOURCE_UNIQUE_ID, SolrQuery.ORDER.asc);
+        query.setRows(10000);
+        String cursorMark = CursorMarkParams.CURSOR_MARK_START;
+        while (true) {
+            query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
+            QueryResponse rsp = solrSearchCore.getSolr().query(query, solrSearchCore.REQUEST_METHOD);
+            for (SolrDocument doc : rsp.getResults()) {
+                Object id = doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+                Object value = doc.getFirstValue(SearchUtils.LAST_INDEXED_FIELD);
+                if (value instanceof java.util.Date) {
+                    value = ((java.util.Date) value).toInstant();
+                }
+                if (id instanceof String && value instanceof Instant lastIndexed) {
+                    try {
+                        indexed.add(UUID.fromString((String) id), lastIndexed);
+                    } catch (IllegalArgumentException e) {
+                        log.warn("Unexpected " + SearchUtils.RESOURCE_ID_FIELD + " in the index: " + id);
+                    }
+                }
+            }
+            String nextCursorMark = rsp.getNextCursorMark();
+            if (cursorMark.equals(nextCursorMark)) {
+                break;
+            }
+            cursorMark = nextCursorMark;
+        }
+        log.info("Read the last indexed time of " + indexed.size() + " " + type + " documents");
+        return indexed;
+    }
+
     /**
      * Removes all documents from the Lucene index
      */
@@ -385,6 +447,10 @@ public class SolrServiceImpl implements SearchService, IndexingService {
     /**
      * Iterates over all documents in the Lucene index and verifies they are in
      * database, if not, they are removed.
+     * <p>
+     * The documents are read with a cursor on the unique key, which is not affected by the documents deleted
+     * meanwhile. For each page, the identifiers are grouped by resource type and checked against the database
+     * with one lookup per type; the stale documents are then removed with one delete request per type.
      *
      * @throws IOException            IO exception
      * @throws SQLException           sql exception
@@ -399,49 +465,35 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             if (solrSearchCore.getSolr() == null) {
                 return;
             }
-            // First, we'll just get a count of the total results
-            SolrQuery countQuery = new SolrQuery("*:*");
-            countQuery.setRows(0);  // don't actually request any data
-            // Get the total amount of results
-            QueryResponse totalResponse = solrSearchCore.getSolr().query(countQuery,
-                                                                         solrSearchCore.REQUEST_METHOD);
-            long total = totalResponse.getResults().getNumFound();
-
-            int start = 0;
-            int batch = 100;
+            int batch = configurationService.getIntProperty("discovery.clean.batch-size", 1000);
+            long checked = 0;
+            long deleted = 0;
 
-            // Now get actual Solr Documents in batches
-            SolrQuery query = new SolrQuery();
+            SolrQuery query = new SolrQuery("*:*");
             query.setFields(SearchUtils.RESOURCE_UNIQUE_ID, SearchUtils.RESOURCE_ID_FIELD,
                             SearchUtils.RESOURCE_TYPE_FIELD);
-            query.addSort(SearchUtils.RESOURCE_UNIQUE_ID, SolrQuery.ORDER.asc);
-            query.setQuery("*:*");
+            query.setSort(SearchUtils.RESOURCE_UNIQUE_ID, SolrQuery.ORDER.asc);
             query.setRows(batch);
-            // Keep looping until we hit the total number of Solr docs
-            while (start < total) {
-                query.setStart(start);
+            String cursorMark = CursorMarkParams.CURSOR_MARK_START;
+            while (true) {
+                query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
                 QueryResponse rsp = solrSearchCore.getSolr().query(query, solrSearchCore.REQUEST_METHOD);
                 SolrDocumentList docs = rsp.getResults();
-
-                for (SolrDocument doc : docs) {
-                    String uniqueID = (String) doc.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID);
-
-                    IndexableObject o = findIndexableObject(context, doc);
-
-                    if (o == null) {
-                        log.info("Deleting: " + uniqueID);
-                        /*
-                         * Use IndexWriter to delete, its easier to manage
-                         * write.lock
-                         */
-                        unIndexContent(context, uniqueID);
-                    } else {
-                        log.debug("Keeping: " + o.getUniqueIndexID());
-                    }
+                checked += docs.size();
+                deleted += deleteStaleDocuments(context, docs);
+                // none of the objects checked so far is needed anymore
+                context.uncacheEntities();
+
+                String nextCursorMark = rsp.getNextCursorMark();
+                if (cursorMark.equals(nextCursorMark)) {
+                    break;
                 }
-
-                start += batch;
+                cursorMark = nextCursorMark;
             }
+            if (deleted > 0) {
+                solrSearchCore.getSolr().commit();
+            }
+            log.info("Checked " + checked + " documents, removed " + deleted + " stale documents from the index");
         } catch (IOException | SQLException | SolrServerException e) {
             log.error("Error cleaning discovery index: " + e.getMessage(), e);
         } finally {
@@ -449,6 +501,48 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         }
     }
 
+    /**
+     * Remove the documents of a page of solr documents whose object no longer exists in the database.
+     *
+     * @param context the dspace context
+     * @param docs    the solr documents, with the unique id, resource id and resource type fields
+     * @return the number of documents removed
+     */
+    protected int deleteStaleDocuments(Context context, SolrDocumentList docs)
+        throws SQLException, IOException, SolrServerException {
+        // resource type -> (resource id -> unique id)
+        Map<String, Map<String, String>> idsByType = new LinkedHashMap<>();
+        for (SolrDocument doc : docs) {
+            String type = (String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD);
+            String id = (String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+            String uniqueID = (String) doc.getFirstValue(SearchUtils.RESOURCE_UNIQUE_ID);
+            idsByType.computeIfAbsent(type, k -> new HashMap<>()).put(id, uniqueID);
+        }
+
+        int deleted = 0;
+        for (Map.Entry<String, Map<String, String>> entry : idsByType.entrySet()) {
+            IndexFactory indexFactory = indexObjectServiceFactory.getIndexFactoryByType(entry.getKey());
+            if (indexFactory == null) {
+                log.warn("No index factory found for resource type " + entry.getKey() + ", skipping "
+                             + entry.getValue().size() + " documents");
+                continue;
+            }
+            Set<String> existing = indexFactory.findExistingIds(context, entry.getValue().keySet());
+            List<String> stale = new ArrayList<>();
+            for (Map.Entry<String, String> ids : entry.getValue().entrySet()) {
+                if (existing.contains(ids.getKey())) {
+                    log.debug("Keeping: " + ids.getValue());
+                } else {
+                    log.info("Deleting: " + ids.getValue());
+                    stale.add(ids.getValue());
+                }
+            }
+            indexFactory.delete(stale);
+            deleted += stale.size();
+        }
+        return deleted;
+    }
+
     /**
      * Maintenance to keep a SOLR index efficient.
      * Note: This might take a long time.
@@ -762,7 +856,12 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 return new DiscoverResult();
             }
 
-            return retrieveResult(context, discoveryQuery);
+            Timer.Sample sample = Timer.start();
+            try {
+                return retrieveResult(context, discoveryQuery);
+            } finally {
+                sample.stop(metricsService.getTimer("dspace.discovery.search"));
+            }
 
         } catch (Exception e) {
             throw new org.dspace.discovery.SearchServiceException(e.getMessage(), e);
@@ -770,7 +869,9 @@ public class SolrServiceImpl implements SearchService, IndexingService {
     }
 
     /**
-     * This class implements an iterator over items that is specifically used to iterate over search results
+     * This class implements an iterator over items that is specifically used to iterate over search results.
+     * Unless the query starts at an offset, the pages are retrieved with a Solr cursor, so that iterating over
+     * a large result set does not get slower with the depth of the pages.
      */
     private class SearchIterator implements Iterator<Item> {
         private Context context;
@@ -780,6 +881,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         private int absoluteCursor;
         private int relativeCursor;
         private int pagesize;
+        private boolean cursorMode;
 
         SearchIterator(Context context, DiscoverQuery discoverQuery) throws SearchServiceException {
             this.context = context;
@@ -804,25 +906,51 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 pagesize = 10;
             }
             discoverQuery.setMaxResults(pagesize);
+            cursorMode = discoverQuery.getStart() <= 0;
+            if (cursorMode) {
+                discoverQuery.setCursorMark(DiscoverQuery.CURSOR_MARK_START);
+            }
             this.discoverResult = search(context, dso, discoverQuery);
         }
 
         @Override
         public boolean hasNext() {
-            return absoluteCursor < discoverResult.getTotalSearchResults();
+            if (!cursorMode) {
+                return absoluteCursor < discoverResult.getTotalSearchResults();
+            }
+            while (relativeCursor >= discoverResult.getIndexableObjects().size()) {
+                String nextCursorMark = discoverResult.getNextCursorMark();
+                if (nextCursorMark == null || nextCursorMark.equals(discoverQuery.getCursorMark())) {
+                    return false;
+                }
+                discoverQuery.setCursorMark(nextCursorMark);
+                relativeCursor = 0;
+                try {
+                    // the scope filter has been added to the query by the first search
+                    discoverResult = search(context, discoverQuery);
+                } catch (SearchServiceException e) {
+                    log.error("error while getting search results", e);
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
         public Item next() {
-            //paginate getting results from the discoverquery.
-            if (relativeCursor == pagesize) {
+            if (cursorMode) {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+            } else if (relativeCursor == pagesize) {
+                //paginate getting results from the discoverquery.
                 //  get a new page of results when the last element of the previous page has been read
                 int offset = absoluteCursor;
                 // reset the position counter for getting element relativecursor on a page
                 relativeCursor = 0;
                 discoverQuery.setStart(offset);
                 try {
-                    discoverResult = search(context, dso, discoverQuery);
+                    discoverResult = search(context, discoverQuery);
                 } catch (SearchServiceException e) {
                     log.error("error while getting search results", e);
                 }
@@ -885,7 +1013,10 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             solrQuery.addFilterQuery(filterQuery + ":[* TO *]");
         }
 
-        if (discoveryQuery.getStart() != -1) {
+        if (discoveryQuery.getCursorMark() != null) {
+            // the cursor replaces the start offset, which must be left unset
+            solrQuery.set(CursorMarkParams.CURSOR_MARK_PARAM, discoveryQuery.getCursorMark());
+        } else if (discoveryQuery.getStart() != -1) {
             solrQuery.setStart(discoveryQuery.getStart());
         }
 
@@ -902,6 +1033,16 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             solrQuery.addSort(discoveryQuery.getSortField(), order);
         }
 
+        if (discoveryQuery.getCursorMark() != null
+            && !SearchUtils.RESOURCE_UNIQUE_ID.equals(discoveryQuery.getSortField())) {
+            if (discoveryQuery.getSortField() == null) {
+                // keep the default relevance order
+                solrQuery.addSort("score", SolrQuery.ORDER.desc);
+            }
+            // a cursor requires a sort on the unique key as a tiebreaker
+            solrQuery.addSort(SearchUtils.RESOURCE_UNIQUE_ID, SolrQuery.ORDER.asc);
+        }
+
         for (String property : discoveryQuery.getProperties().keySet()) {
             List<String> values = discoveryQuery.getProperties().get(property);
             solrQuery.add(property, values.toArray(new String[values.size()]));
@@ -1009,10 +1150,13 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 result.setStart(query.getStart());
                 result.setMaxResults(query.getMaxResults());
                 result.setTotalSearchResults(solrQueryResponse.getResults().getNumFound());
+                result.setNextCursorMark(solrQueryResponse.getNextCursorMark());
 
                 List<String> searchFields = query.getSearchFields();
+                Map<String, IndexableObject> indexableObjects =
+                    findIndexableObjects(context, solrQueryResponse.getResults());
                 for (SolrDocument doc : solrQueryResponse.getResults()) {
-                    IndexableObject indexableObject = findIndexableObject(context, doc);
+                    IndexableObject indexableObject = indexableObjects.get(getIndexableObjectKey(doc));
 
                     if (indexableObject != null) {
                         result.addIndexableObject(indexableObject);
@@ -1239,6 +1383,53 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         return indexableObject.orElse(null);
     }
 
+    /**
+     * Find the indexable objects of a page of solr documents. The identifiers are grouped by resource type,
+     * so that each {@link IndexFactory} can load all objects of its type at once instead of issuing one
+     * lookup per document.
+     *
+     * @param context
+     *            The relevant DSpace Context.
+     * @param docs
+     *            the solr documents, the fields RESOURCE_TYPE_FIELD and RESOURCE_ID_FIELD MUST be present
+     * @return the indexable objects found, mapped by {@link #getIndexableObjectKey(SolrDocument)}
+     * @throws SQLException
+     *             An exception that provides information on a database access error or other errors.
+     */
+    protected Map<String, IndexableObject> findIndexableObjects(Context context, Iterable<SolrDocument> docs)
+        throws SQLException {
+        Map<String, List<String>> idsByType = new LinkedHashMap<>();
+        for (SolrDocument doc : docs) {
+            String type = (String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD);
+            String id = (String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+            idsByType.computeIfAbsent(type, k -> new ArrayList<>()).add(id);
+        }
+        Map<String, IndexableObject> result = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : idsByType.entrySet()) {
+            String type = entry.getKey();
+            final IndexFactory indexableObjectService = indexObjectServiceFactory.getIndexFactoryByType(type);
+            Map<String, IndexableObject> found = indexableObjectService.findIndexableObjects(context, entry.getValue());
+            for (String id : entry.getValue()) {
+                IndexableObject indexableObject = found.get(id);
+                if (indexableObject != null) {
+                    result.put(type + "-" + id, indexableObject);
+                } else {
+                    log.warn("Not able to retrieve object RESOURCE_ID:" + id + " - RESOURCE_TYPE_ID:" + type);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param doc the solr document
+     * @return the key of the document in the map returned by {@link #findIndexableObjects(Context, Iterable)}
+     */
+    protected String getIndexableObjectKey(SolrDocument doc) {
+        return doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD) + "-"
+            + doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+    }
+
     public List<IndexableObject> search(Context context, String query, int offset, int max,
             String... filterquery) {
         return search(context, query, null, true, offset, max, filterquery);
@@ -1268,11 +1459,12 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             QueryResponse rsp = solrSearchCore.getSolr().query(solrQuery, solrSearchCore.REQUEST_METHOD);
             SolrDocumentList docs = rsp.getResults();
 
+            Map<String, IndexableObject> indexableObjects = findIndexableObjects(context, docs);
             Iterator iter = docs.iterator();
             List<IndexableObject> result = new ArrayList<>();
             while (iter.hasNext()) {
                 SolrDocument doc = (SolrDocument) iter.next();
-                IndexableObject o = findIndexableObject(context, doc);
+                IndexableObject o = indexableObjects.get(getIndexableObjectKey(doc));
                 if (o != null) {
                     result.add(o);
                 }
@@ -11,9 +11,13 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -154,6 +158,33 @@ public class CollectionIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Ind
         return collection == null ? Optional.empty() : Optional.of(new IndexableCollection(collection));
     }
 
+    @Override
+    public Map<String, IndexableCollection> findIndexableObjects(Context context, java.util.Collection<String> ids)
+        throws SQLException {
+        List<UUID> uuids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uuids.add(UUID.fromString(id));
+        }
+        Map<String, IndexableCollection> result = new HashMap<>();
+        for (Collection collection : collectionService.findByIds(context, uuids)) {
+            result.put(collection.getID().toString(), new IndexableCollection(collection));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> findExistingIds(Context context, java.util.Collection<String> ids) throws SQLException {
+        List<UUID> uuids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uuids.add(UUID.fromString(id));
+        }
+        Set<String> result = new HashSet<>();
+        for (UUID uuid : collectionService.findExistingIds(context, uuids)) {
+            result.add(uuid.toString());
+        }
+        return result;
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCollection indexableCollection) throws SQLException {
         return getCollectionLocations(context, indexableCollection.getIndexedObject());
@@ -11,9 +11,13 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.solr.common.SolrInputDocument;
@@ -121,6 +125,33 @@ public class CommunityIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Inde
         return community == null ? Optional.empty() : Optional.of(new IndexableCommunity(community));
     }
 
+    @Override
+    public Map<String, IndexableCommunity> findIndexableObjects(Context context, java.util.Collection<String> ids)
+        throws SQLException {
+        List<UUID> uuids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uuids.add(UUID.fromString(id));
+        }
+        Map<String, IndexableCommunity> result = new HashMap<>();
+        for (Community community : communityService.findByIds(context, uuids)) {
+            result.put(community.getID().toString(), new IndexableCommunity(community));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> findExistingIds(Context context, java.util.Collection<String> ids) throws SQLException {
+        List<UUID> uuids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uuids.add(UUID.fromString(id));
+        }
+        Set<String> result = new HashSet<>();
+        for (UUID uuid : communityService.findExistingIds(context, uuids)) {
+            result.add(uuid.toString());
+        }
+        return result;
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCommunity indexableDSpaceObject) throws SQLException {
         final Community target = indexableDSpaceObject.getIndexedObject();
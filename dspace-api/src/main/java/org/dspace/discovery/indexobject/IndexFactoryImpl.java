@@ -11,6 +11,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.commons.collections4.ListUtils;
@@ -245,6 +247,13 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
         solrSearchCore.getSolr().deleteById(indexableObjectIdentifier);
     }
 
+    @Override
+    public void delete(Collection<String> indexableObjectIdentifiers) throws IOException, SolrServerException {
+        if (!indexableObjectIdentifiers.isEmpty()) {
+            solrSearchCore.getSolr().deleteById(new ArrayList<>(indexableObjectIdentifiers));
+        }
+    }
+
     @Override
     public void deleteAll() throws IOException, SolrServerException {
         solrSearchCore.getSolr().deleteByQuery(SearchUtils.RESOURCE_TYPE_FIELD + ":" + getType());
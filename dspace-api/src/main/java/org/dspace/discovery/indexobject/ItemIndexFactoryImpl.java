@@ -11,6 +11,7 @@ import static org.dspace.discovery.SolrServiceImpl.SOLR_FIELD_SUFFIX_FACET_PREFI
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -23,6 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -126,6 +128,23 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         };
     }
 
+    @Override
+    public Iterator<IndexableItem> findAll(Context context, BiPredicate<UUID, Instant> filter)
+        throws SQLException {
+        Iterator<Item> items = itemService.findAllRegularItems(context, filter);
+        return new Iterator<IndexableItem>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public IndexableItem next() {
+                return new IndexableItem(items.next());
+            }
+        };
+    }
+
     @Override
     public String getType() {
         return IndexableItem.TYPE;
@@ -662,6 +681,19 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         deleteInProgressData(indexableObjectIdentifier);
     }
 
+    @Override
+    public void delete(java.util.Collection<String> indexableObjectIdentifiers)
+        throws IOException, SolrServerException {
+        if (indexableObjectIdentifiers.isEmpty()) {
+            return;
+        }
+        super.delete(indexableObjectIdentifiers);
+        // Also delete any possible workflowItem / workspaceItem / tasks related to these items
+        String query = "{!terms f=inprogress.item}" + String.join(",", indexableObjectIdentifiers);
+        log.debug("Try to delete all in progress submission [DELETEBYQUERY]:" + query);
+        solrSearchCore.getSolr().deleteByQuery(query);
+    }
+
     @Override
     public boolean supports(Object object) {
         return object instanceof Item;
@@ -701,6 +733,33 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         return item == null ? Optional.empty() : Optional.of(new IndexableItem(item));
     }
 
+    @Override
+    public Map<String, IndexableItem> findIndexableObjects(Context context, java.util.Collection<String> ids)
+        throws SQLException {
+        List<UUID> uuids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uuids.add(UUID.fromString(id));
+        }
+        Map<String, IndexableItem> result = new HashMap<>();
+        for (Item item : itemService.findByIds(context, uuids)) {
+            result.put(item.getID().toString(), new IndexableItem(item));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<String> findExistingIds(Context context, java.util.Collection<String> ids) throws SQLException {
+        List<UUID> uuids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            uuids.add(UUID.fromString(id));
+        }
+        Set<String> result = new HashSet<>();
+        for (UUID uuid : itemService.findExistingIds(context, uuids)) {
+            result.add(uuid.toString());
+        }
+        return result;
+    }
+
     /**
      * Handles indexing when discoverySearchFilter is of type facet.
      *
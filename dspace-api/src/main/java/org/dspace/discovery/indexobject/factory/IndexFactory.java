@@ -9,9 +9,14 @@ package org.dspace.discovery.indexobject.factory;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.common.SolrInputDocument;
@@ -82,6 +87,18 @@ public interface IndexFactory<T extends IndexableObject, S> {
      */
     void delete(String indexableObjectIdentifier) throws IOException, SolrServerException;
 
+    /**
+     * Remove the provided indexable objects from the solr core
+     * @param indexableObjectIdentifiers The identifiers that we want to remove from the search core
+     * @throws IOException               If IO error
+     * @throws SolrServerException       If the solr documents could not be removed from the search core
+     */
+    default void delete(Collection<String> indexableObjectIdentifiers) throws IOException, SolrServerException {
+        for (String indexableObjectIdentifier : indexableObjectIdentifiers) {
+            delete(indexableObjectIdentifier);
+        }
+    }
+
     /**
      * Remove all indexable objects of the implementing type from the search core
      * @throws IOException          If IO error
@@ -98,6 +115,36 @@ public interface IndexFactory<T extends IndexableObject, S> {
      */
     Optional<T> findIndexableObject(Context context, String id) throws SQLException;
 
+    /**
+     * Retrieve the indexable objects for multiple identifiers at once. The default implementation
+     * retrieves them one by one, factories backed by the database should override it to load all of
+     * them with as few queries as possible.
+     * @param context       DSpace context object
+     * @param ids           The identifiers for which we want to retrieve our indexable objects
+     * @return              The indexable objects found, mapped by their identifier
+     * @throws SQLException If database error
+     */
+    default Map<String, T> findIndexableObjects(Context context, Collection<String> ids) throws SQLException {
+        Map<String, T> result = new HashMap<>();
+        for (String id : ids) {
+            findIndexableObject(context, id).ifPresent(object -> result.put(id, object));
+        }
+        return result;
+    }
+
+    /**
+     * Determine which of the provided identifiers still refer to an existing object. The default implementation
+     * looks the objects up with {@link #findIndexableObjects(Context, Collection)}, factories backed by the database
+     * should override it to check the identifiers without loading the objects.
+     * @param context       DSpace context object
+     * @param ids           The identifiers to check
+     * @return              The identifiers of the existing objects
+     * @throws SQLException If database error
+     */
+    default Set<String> findExistingIds(Context context, Collection<String> ids) throws SQLException {
+        return new HashSet<>(findIndexableObjects(context, ids).keySet());
+    }
+
     /**
      * Determine whether the class can handle the factory implementation
      * @param object        The object which we want to check
@@ -9,7 +9,11 @@ package org.dspace.discovery.indexobject.factory;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.BiPredicate;
 
 import org.apache.solr.common.SolrInputDocument;
 import org.dspace.content.Item;
@@ -38,4 +42,14 @@ public interface ItemIndexFactory extends DSpaceObjectIndexFactory<IndexableItem
                             List<DiscoveryConfiguration> discoveryConfigurations)
             throws SQLException, IOException;
 
+    /**
+     * Retrieve all the indexable items whose id and last modified date are accepted by the given filter.
+     * The items rejected by the filter are not loaded from the database.
+     * @param context   DSpace context object
+     * @param filter    The filter applied to the id and last modified date of each item
+     * @return          An iterator over the accepted indexable items
+     * @throws SQLException If database error
+     */
+    Iterator<IndexableItem> findAll(Context context, BiPredicate<UUID, Instant> filter) throws SQLException;
+
 }
\ No newline at end of file
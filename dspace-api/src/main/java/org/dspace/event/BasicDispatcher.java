@@ -8,10 +8,14 @@
 package org.dspace.event;
 
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import io.micrometer.core.instrument.Timer;
 import org.apache.logging.log4j.Logger;
 import org.dspace.core.Context;
 import org.dspace.core.Utils;
+import org.dspace.services.factory.DSpaceServicesFactory;
 
 /**
  * BasicDispatcher implements the primary task of a Dispatcher: it delivers a
@@ -31,6 +35,11 @@ public class BasicDispatcher extends Dispatcher {
      */
     private static Logger log = org.apache.logging.log4j.LogManager.getLogger(BasicDispatcher.class);
 
+    /**
+     * timers of the consumers, by consumer name and phase
+     */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
     @Override
     public void addConsumerProfile(ConsumerProfile cp)
         throws IllegalArgumentException {
@@ -100,6 +109,7 @@ public class BasicDispatcher extends Dispatcher {
                                           + "\": " + event.toString());
                         }
 
+                        Timer.Sample sample = Timer.start();
                         try {
                             cp.getConsumer().consume(ctx, event);
 
@@ -109,6 +119,8 @@ public class BasicDispatcher extends Dispatcher {
                         } catch (Exception e) {
                             log.error("Consumer(\"" + cp.getName()
                                           + "\").consume threw: " + e.toString(), e);
+                        } finally {
+                            sample.stop(getTimer(cp, "consume"));
                         }
                     }
 
@@ -124,15 +136,32 @@ public class BasicDispatcher extends Dispatcher {
                                       + "\"");
                     }
 
+                    Timer.Sample sample = Timer.start();
                     try {
                         cp.getConsumer().end(ctx);
                     } catch (Exception e) {
                         log.error("Error in Consumer(\"" + cp.getName()
                                       + "\").end: " + e.toString(), e);
+                    } finally {
+                        sample.stop(getTimer(cp, "end"));
                     }
                 }
             }
         }
     }
 
+    /**
+     * Get the timer of a consumer of this dispatcher.
+     *
+     * @param cp    the consumer profile
+     * @param phase "consume" or "end"
+     * @return the timer
+     */
+    protected Timer getTimer(ConsumerProfile cp, String phase) {
+        return timers.computeIfAbsent(cp.getName() + "|" + phase, key ->
+            DSpaceServicesFactory.getInstance().getMetricsService()
+                                 .getTimer("dspace.event.consumer", "dispatcher", name,
+                                           "consumer", cp.getName(), "phase", phase));
+    }
+
 }
@@ -0,0 +1,237 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.annotation.PostConstruct;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.EventService;
+import org.dspace.services.model.Event;
+import org.dspace.services.model.EventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Keeps the caches of the nodes of a cluster consistent: evictions from the
+ * Spring caches (see {@code cache.xml}) and changes of the entities of the
+ * Hibernate second level cache are sent to the other nodes as cluster events,
+ * which evict the same entries from their own caches.
+ * <p>
+ * Entity changes are sent once committed. Does nothing unless
+ * {@code event.cluster.enabled} is true.
+ */
+public class ClusterCacheEvictService implements EventListener {
+
+    private static final Logger log = LogManager.getLogger();
+
+    /**
+     * Event evicting the "key" (or all the entries if none) of the "cache" Spring cache.
+     */
+    public static final String EVICT_EVENT = "cache.evict";
+
+    /**
+     * Event evicting the "id" (or all the instances if none) of the "entity" Hibernate entity.
+     */
+    public static final String EVICT_ENTITY_EVENT = "cache.evictEntity";
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    @Qualifier("sessionFactory")
+    private SessionFactory sessionFactory;
+
+    private EventService eventService;
+
+    @Autowired
+    public void setEventService(EventService eventService) {
+        this.eventService = eventService;
+        eventService.registerEventListener(this);
+    }
+
+    /**
+     * Send the changes of the cached entities to the other nodes once committed.
+     */
+    @PostConstruct
+    public void init() {
+        if (!isEnabled()) {
+            return;
+        }
+        EntityEvictionListener listener = new EntityEvictionListener();
+        EventListenerRegistry registry = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                                                       .getServiceRegistry()
+                                                       .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    /**
+     * Evict an entry of a Spring cache on the other nodes.
+     *
+     * @param cacheName the name of the cache
+     * @param key       the key of the entry
+     */
+    public void evict(String cacheName, String key) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("cache", cacheName);
+        properties.put("key", key);
+        fireClusterEvent(EVICT_EVENT, properties);
+    }
+
+    /**
+     * Evict all the entries of a Spring cache on the other nodes.
+     *
+     * @param cacheName the name of the cache
+     */
+    public void evictAll(String cacheName) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("cache", cacheName);
+        fireClusterEvent(EVICT_EVENT, properties);
+    }
+
+    /**
+     * Evict an entity from the Hibernate second level cache of the other nodes.
+     *
+     * @param entityName the name of the entity
+     * @param id         the identifier of the entity, or null to evict all its instances
+     */
+    public void evictEntity(String entityName, Object id) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("entity", entityName);
+        if (id instanceof UUID || id instanceof Integer) {
+            properties.put("id", id.toString());
+            properties.put("idType", id.getClass().getSimpleName());
+        }
+        fireClusterEvent(EVICT_ENTITY_EVENT, properties);
+    }
+
+    private void fireClusterEvent(String name, Map<String, String> properties) {
+        if (!isEnabled()) {
+            return;
+        }
+        eventService.fireEvent(new Event(name, null, null, properties, new Event.Scope[] {Event.Scope.CLUSTER},
+                                         true));
+    }
+
+    private boolean isEnabled() {
+        return configurationService.getBooleanProperty("event.cluster.enabled", false);
+    }
+
+    @Override
+    public String[] getEventNamePrefixes() {
+        return new String[] {EVICT_EVENT};
+    }
+
+    @Override
+    public String getResourcePrefix() {
+        return null;
+    }
+
+    /**
+     * Evict the entries named by an event of another node.
+     */
+    @Override
+    public void receiveEvent(Event event) {
+        Map<String, String> properties = event.getProperties();
+        if (properties == null) {
+            return;
+        }
+        if (EVICT_EVENT.equals(event.getName())) {
+            Cache cache = cacheManager.getCache(properties.get("cache"));
+            if (cache == null) {
+                return;
+            }
+            if (properties.get("key") != null) {
+                cache.evictIfPresent(properties.get("key"));
+            } else {
+                cache.invalidate();
+            }
+        } else if (EVICT_ENTITY_EVENT.equals(event.getName()) && properties.get("entity") != null) {
+            String entityName = properties.get("entity");
+            org.hibernate.Cache cache = sessionFactory.getCache();
+            Object id = parseId(properties.get("id"), properties.get("idType"));
+            if (id != null) {
+                cache.evictEntityData(entityName, id);
+            } else {
+                cache.evictEntityData(entityName);
+            }
+            cache.evictQueryRegions();
+        }
+    }
+
+    private Object parseId(String id, String idType) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            if (UUID.class.getSimpleName().equals(idType)) {
+                return UUID.fromString(id);
+            } else if (Integer.class.getSimpleName().equals(idType)) {
+                return Integer.valueOf(id);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid entity id {} of type {}", id, idType);
+        }
+        return null;
+    }
+
+    /**
+     * Sends the committed changes of the cached entities to the other nodes.
+     */
+    private class EntityEvictionListener implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (event.getPersister().canWriteToCache()) {
+                evictEntity(event.getPersister().getEntityName(), event.getId());
+            }
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+            // nothing changed
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (event.getPersister().canWriteToCache()) {
+                evictEntity(event.getPersister().getEntityName(), event.getId());
+            }
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+            // nothing changed
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.canWriteToCache();
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.model.ClusterEventTransport;
+import org.dspace.services.model.Event;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * Sends the cluster events through the PostgreSQL LISTEN/NOTIFY mechanism:
+ * events are published with {@code pg_notify} on the
+ * {@code event.cluster.channel} channel, and each node listens to that
+ * channel on a dedicated connection.
+ * <p>
+ * Notifications are not stored: a node which is disconnected from the
+ * database misses the events sent meanwhile, so caches should keep a time
+ * to live.
+ */
+public class PostgresClusterEventTransport implements ClusterEventTransport {
+
+    private static final Logger log = LogManager.getLogger();
+
+    /**
+     * PostgreSQL rejects notification payloads of 8000 bytes or more.
+     */
+    private static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    @Autowired
+    @Qualifier("dataSource")
+    private DataSource dataSource;
+
+    private volatile boolean running;
+
+    private Thread listenerThread;
+
+    @Override
+    public synchronized void start(Consumer<Event> receiver) {
+        if (running || !configurationService.getBooleanProperty("event.cluster.enabled", false)) {
+            return;
+        }
+        if (!StringUtils.startsWith(configurationService.getProperty("db.url"), "jdbc:postgresql:")) {
+            log.warn("Cluster events need a PostgreSQL database, they are not sent nor received");
+            return;
+        }
+        String channel = getChannel();
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            log.error("Invalid event.cluster.channel {}, cluster events are not sent nor received", channel);
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(() -> listen(channel, receiver), "cluster-events");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Sending cluster events on channel {} as node {}", channel, nodeId);
+    }
+
+    @Override
+    public void publish(Event event) {
+        if (!running) {
+            return;
+        }
+        String payload = encode(event);
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.warn("Event ({}) is too large to be sent to the cluster", event);
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, getChannel());
+            statement.setString(2, payload);
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to send event ({}) to the cluster: {}", event, e.getMessage());
+        }
+    }
+
+    @Override
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    /**
+     * Receive the notifications of the channel until stopped, reconnecting
+     * after a failure.
+     */
+    private void listen(String channel, Consumer<Event> receiver) {
+        long reconnectDelay = configurationService.getLongProperty("event.cluster.reconnect.delay", 5000);
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(configurationService.getProperty("db.url"),
+                                                                     configurationService.getProperty("db.username"),
+                                                                     configurationService.getProperty("db.password"))) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        Event event = decode(notification.getParameter());
+                        if (event != null) {
+                            deliver(receiver, event);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Lost the cluster events connection, reconnecting in {} ms: {}",
+                             reconnectDelay, e.getMessage());
+                    try {
+                        Thread.sleep(reconnectDelay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void deliver(Consumer<Event> receiver, Event event) {
+        try {
+            receiver.accept(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to receive cluster event ({}): {}", event, e.getMessage(), e);
+        }
+    }
+
+    private String getChannel() {
+        return configurationService.getProperty("event.cluster.channel", "dspace_events");
+    }
+
+    /**
+     * Encode an event as a notification payload.
+     *
+     * @param event the event
+     * @return the JSON payload
+     */
+    String encode(Event event) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("node", nodeId);
+        payload.put("name", event.getName());
+        payload.put("resource", event.getResourceReference());
+        payload.put("user", event.getUserId());
+        payload.put("modify", event.isModify());
+        payload.put("properties", event.getProperties());
+        try {
+            return mapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode event " + event, e);
+        }
+    }
+
+    /**
+     * Decode a notification payload.
+     *
+     * @param payload the JSON payload
+     * @return the event, or null if it was sent by this node or is invalid
+     */
+    Event decode(String payload) {
+        Map<String, Object> values;
+        try {
+            values = mapper.readValue(payload, new TypeReference<Map<String, Object>>() { });
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring invalid cluster event {}", payload);
+            return null;
+        }
+        if (nodeId.equals(values.get("node")) || !(values.get("name") instanceof String name)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> properties = (Map<String, String>) values.get("properties");
+        return new Event(name, (String) values.get("resource"), (String) values.get("user"), properties,
+                         new Event.Scope[] {Event.Scope.CLUSTER}, Boolean.TRUE.equals(values.get("modify")));
+    }
+
+}
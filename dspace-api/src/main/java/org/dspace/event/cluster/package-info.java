@@ -0,0 +1,14 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+/**
+ * Sends the cluster scoped events of the {@link org.dspace.services.EventService}
+ * to the other DSpace nodes sharing the database, and keeps their caches
+ * consistent with them. Enabled by {@code event.cluster.enabled}.
+ */
+
+package org.dspace.event.cluster;
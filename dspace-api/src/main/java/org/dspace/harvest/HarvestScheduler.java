@@ -9,11 +9,24 @@ package org.dspace.harvest;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Stack;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,9 +40,16 @@ import org.dspace.harvest.factory.HarvestServiceFactory;
 import org.dspace.harvest.service.HarvestedCollectionService;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.utils.DaemonThreadFactory;
 
 /**
  * The class responsible for scheduling harvesting cycles are regular intervals.
+ * <p>
+ * Collections that are due for a harvest are kept in a queue ordered by their next due time and are run on a
+ * bounded executor of {@code oai.harvester.maxThreads} workers. At most {@code oai.harvester.maxThreadsPerHost}
+ * harvests run against the same remote OAI-PMH host at once, and a host whose harvests fail is backed off
+ * exponentially (starting at {@code oai.harvester.failureBackoff} seconds, capped at
+ * {@code oai.harvester.maxFailureBackoff} seconds) before further harvests from it are started.
  *
  * @author alexey
  */
@@ -43,11 +63,32 @@ public class HarvestScheduler implements Runnable {
 
     public static final Object lock = new Object();
 
-    protected static Stack<HarvestThread> harvestThreads;
-
     protected static Integer maxActiveThreads;
 
-    protected static volatile Integer activeThreads = 0;
+    protected static Integer maxThreadsPerHost;
+
+    protected static long failureBackoff;
+
+    protected static long maxFailureBackoff;
+
+    /* Duration of the last completed harvest of each collection, kept across scheduler restarts */
+    protected static final Map<UUID, Duration> lastHarvestDurations = new ConcurrentHashMap<>();
+
+    /* Harvests waiting for a free worker, ordered by due time. Guarded by this scheduler instance. */
+    protected final NavigableSet<HarvestThread> harvestQueue = new TreeSet<>(
+        Comparator.comparing(HarvestThread::getDueTime)
+                  .thenComparing(HarvestThread::getCollectionId));
+
+    /* Collections currently queued or running, used to avoid queueing the same collection twice */
+    protected final Set<UUID> scheduledCollections = new HashSet<>();
+
+    protected final Map<String, Integer> runningPerHost = new HashMap<>();
+
+    protected final Map<String, HostBackoff> hostBackoffs = new HashMap<>();
+
+    protected int activeThreads = 0;
+
+    protected ExecutorService harvestExecutor;
 
     public static final int HARVESTER_STATUS_RUNNING = 1;
 
@@ -132,12 +173,14 @@ public class HarvestScheduler implements Runnable {
                                                 .findByEmail(mainContext, harvestAdminParam);
         }
 
-        harvestThreads = new Stack<>();
-
         maxActiveThreads = configurationService.getIntProperty("oai.harvester.maxThreads");
         if (maxActiveThreads == 0) {
             maxActiveThreads = 3;
         }
+        maxThreadsPerHost = configurationService.getIntProperty("oai.harvester.maxThreadsPerHost", 1);
+        if (maxThreadsPerHost <= 0) {
+            maxThreadsPerHost = maxActiveThreads;
+        }
         minHeartbeat = configurationService.getIntProperty("oai.harvester.minHeartbeat");
         minHeartbeat = minHeartbeat * 1000; // multiple by 1000 to turn seconds to ms
         if (minHeartbeat == 0) {
@@ -148,6 +191,10 @@ public class HarvestScheduler implements Runnable {
         if (maxHeartbeat == 0) {
             maxHeartbeat = 3600000;
         }
+        failureBackoff = configurationService.getLongProperty("oai.harvester.failureBackoff", 300) * 1000;
+        maxFailureBackoff = configurationService.getLongProperty("oai.harvester.maxFailureBackoff", 43200) * 1000;
+
+        harvestExecutor = Executors.newFixedThreadPool(maxActiveThreads, new DaemonThreadFactory("harvest-worker"));
     }
 
     @Override
@@ -178,6 +225,7 @@ public class HarvestScheduler implements Runnable {
                         case HARVESTER_INTERRUPT_STOP:
                             interrupt = HARVESTER_INTERRUPT_NONE;
                             status = HARVESTER_STATUS_STOPPED;
+                            shutdown(mainContext);
                             return;
                         default:
                             break;
@@ -196,7 +244,7 @@ public class HarvestScheduler implements Runnable {
 
                 status = HARVESTER_STATUS_RUNNING;
 
-                // Stage #1: if something is ready for harvest, push it onto the ready stack, mark it as "queued"
+                // Stage #1: if something is ready for harvest, push it onto the ready queue, mark it as "queued"
                 List<HarvestedCollection> cids = harvestedCollectionService.findReady(mainContext);
                 log.info("Collections ready for immediate harvest: " + cids.toString());
 
@@ -204,31 +252,10 @@ public class HarvestScheduler implements Runnable {
                     addThread(mainContext, harvestedCollection);
                 }
 
-                // Stage #2: start up all the threads currently in the queue up to the maximum number
-                while (!harvestThreads.isEmpty()) {
-                    synchronized (HarvestScheduler.class) {
-                        activeThreads++;
-                    }
-                    Thread activeThread = new Thread(harvestThreads.pop());
-                    activeThread.start();
-                    log.info("Thread started: " + activeThread.toString());
-
-                    /* Wait while the number of threads running is greater than or equal to max */
-                    while (activeThreads >= maxActiveThreads) {
-                        /* Wait a second */
-                        Thread.sleep(1000);
-                    }
-                }
-
-                // Finally, wait for the last few remaining threads to finish
-                // TODO: this step might be unnecessary. Theoretically a single very long harvest process
-                // could then lock out all the other ones from starting on their next iteration.
-                // FIXME: also, this might lead to a situation when a single thread getting stuck without
-                // throwing an exception would shut down the whole scheduler
-                while (activeThreads != 0) {
-                    /* Wait a second */
-                    Thread.sleep(1000);
-                }
+                // Stage #2: start as many queued harvests as the global and per-host limits allow. Harvests
+                // that cannot start yet stay queued and are dispatched as soon as a running one completes.
+                dispatch();
+                log.info("Harvest queue: " + getQueuedCount() + " queued, " + getRunningCount() + " running");
 
                 // Commit everything
                 try {
@@ -244,7 +271,8 @@ public class HarvestScheduler implements Runnable {
                 e.printStackTrace();
             }
 
-            // Stage #3: figure out how long until the next iteration and wait
+            // Stage #3: figure out how long until the next iteration and wait. Completing harvests wake the
+            // scheduler early so that queued harvests can take their place.
             try {
                 Context tempContext = new Context();
                 HarvestedCollection hc = harvestedCollectionService.findOldestHarvest(tempContext);
@@ -261,13 +289,13 @@ public class HarvestScheduler implements Runnable {
                     nextHarvest = nextTime.toEpochMilli() - Instant.now().toEpochMilli();
                 }
 
-                long upperBound = Math.min(nextHarvest, maxHeartbeat);
+                long upperBound = Math.min(Math.min(nextHarvest, maxHeartbeat), getBackoffWait());
                 long delay = Math.max(upperBound, minHeartbeat) + 1000;
 
 
                 tempContext.complete();
 
-                status = HARVESTER_STATUS_SLEEPING;
+                status = getRunningCount() > 0 ? HARVESTER_STATUS_RUNNING : HARVESTER_STATUS_SLEEPING;
                 synchronized (lock) {
                     lock.wait(delay);
                 }
@@ -283,10 +311,10 @@ public class HarvestScheduler implements Runnable {
 
 
     /**
-     * Adds a thread to the ready stack. Can also be called externally to queue up a collection
+     * Adds a thread to the ready queue. Can also be called externally to queue up a collection
      * for harvesting before it is "due" for another cycle. This allows starting a harvest process
      * from the UI that still "plays nice" with these thread mechanics instead of making an
-     * asynchronous call to runHarvest().
+     * asynchronous call to runHarvest(). Collections that are already queued or running are ignored.
      *
      * @param context             The relevant DSpace Context.
      * @param harvestedCollection collection to be harvested
@@ -297,19 +325,207 @@ public class HarvestScheduler implements Runnable {
      */
     public void addThread(Context context, HarvestedCollection harvestedCollection)
         throws SQLException, IOException, AuthorizeException {
-        log.debug("****** Entered the addThread method. Active threads: " + harvestThreads.toString());
+        UUID collectionId = harvestedCollection.getCollection().getID();
+        synchronized (this) {
+            log.debug("****** Entered the addThread method. Queued threads: " + harvestQueue.toString());
+            if (!scheduledCollections.add(collectionId)) {
+                log.debug("Collection " + collectionId + " is already queued or running, skipping");
+                return;
+            }
+        }
         context.setCurrentUser(harvestAdmin);
 
         harvestedCollection.setHarvestStatus(HarvestedCollection.STATUS_QUEUED);
         harvestedCollectionService.update(context, harvestedCollection);
         context.dispatchEvents();
 
-        HarvestThread ht = new HarvestThread(harvestedCollection.getCollection().getID());
-        harvestThreads.push(ht);
-
-        log.debug("****** Queued up a thread. Active threads: " + harvestThreads.toString());
+        HarvestThread ht = createHarvestThread(collectionId, harvestedCollection.getOaiSource(),
+                                               getDueTime(harvestedCollection));
+        synchronized (this) {
+            harvestQueue.add(ht);
+            log.debug("****** Queued up a thread. Queued threads: " + harvestQueue.toString());
+        }
         log.info("Thread queued up: " + ht.toString());
     }
 
+    /**
+     * Create the task harvesting a collection.
+     *
+     * @param collectionId UUID of the collection to be harvested
+     * @param oaiSource    base URL of the OAI-PMH server of the collection
+     * @param dueTime      time at which the collection became due for a harvest
+     * @return the harvest task
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected HarvestThread createHarvestThread(UUID collectionId, String oaiSource, Instant dueTime)
+        throws SQLException {
+        return new HarvestThread(collectionId, oaiSource, dueTime);
+    }
+
+    /**
+     * Get the time at which the given collection became due for its next harvest. Collections that were never
+     * harvested are due immediately.
+     *
+     * @param harvestedCollection collection to be harvested
+     * @return the due time used to order the harvest queue
+     */
+    protected Instant getDueTime(HarvestedCollection harvestedCollection) {
+        if (harvestedCollection.getHarvestDate() == null) {
+            return Instant.EPOCH;
+        }
+        int harvestInterval = configurationService.getIntProperty("oai.harvester.harvestFrequency");
+        if (harvestInterval == 0) {
+            harvestInterval = 720;
+        }
+        return harvestedCollection.getHarvestDate().plus(harvestInterval, ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Start queued harvests, in due time order, as long as a worker is free, the remote host of the harvest is
+     * below its concurrency limit and is not backed off after a failure.
+     */
+    protected void dispatch() {
+        List<HarvestThread> toStart = new ArrayList<>();
+        synchronized (this) {
+            Instant now = Instant.now();
+            Iterator<HarvestThread> iterator = harvestQueue.iterator();
+            while (iterator.hasNext() && activeThreads < maxActiveThreads) {
+                HarvestThread ht = iterator.next();
+                String host = ht.getRemoteHost();
+                if (runningPerHost.getOrDefault(host, 0) >= maxThreadsPerHost) {
+                    continue;
+                }
+                HostBackoff backoff = hostBackoffs.get(host);
+                if (backoff != null && backoff.blockedUntil.isAfter(now)) {
+                    continue;
+                }
+                iterator.remove();
+                activeThreads++;
+                runningPerHost.merge(host, 1, Integer::sum);
+                toStart.add(ht);
+            }
+        }
 
+        for (HarvestThread ht : toStart) {
+            harvestExecutor.execute(() -> {
+                Instant start = Instant.now();
+                try {
+                    ht.run();
+                } finally {
+                    harvestCompleted(ht, Duration.between(start, Instant.now()));
+                }
+            });
+            log.info("Thread started: " + ht.toString());
+        }
+    }
+
+    /**
+     * Record the outcome of a finished harvest, release its slot and wake up the scheduler so that queued
+     * harvests can be dispatched.
+     *
+     * @param ht       the finished harvest
+     * @param duration how long the harvest took
+     */
+    protected void harvestCompleted(HarvestThread ht, Duration duration) {
+        lastHarvestDurations.put(ht.getCollectionId(), duration);
+        synchronized (this) {
+            activeThreads--;
+            scheduledCollections.remove(ht.getCollectionId());
+            String host = ht.getRemoteHost();
+            runningPerHost.computeIfPresent(host, (key, count) -> count > 1 ? count - 1 : null);
+            if (ht.hasSucceeded()) {
+                hostBackoffs.remove(host);
+            } else {
+                HostBackoff backoff = hostBackoffs.computeIfAbsent(host, key -> new HostBackoff());
+                backoff.failures++;
+                long delay = failureBackoff << Math.min(backoff.failures - 1, 20);
+                delay = Math.min(delay, maxFailureBackoff);
+                backoff.blockedUntil = Instant.now().plusMillis(delay);
+                log.warn("Harvest of collection " + ht.getCollectionId() + " from host '" + host + "' failed ("
+                             + backoff.failures + " consecutive failures), backing off host until "
+                             + backoff.blockedUntil);
+            }
+        }
+        log.info("Harvest of collection " + ht.getCollectionId() + " finished in " + duration.toMillis() + " ms");
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * @return milliseconds until the earliest host backoff of a queued harvest expires, or Long.MAX_VALUE if no
+     * queued harvest is waiting on a backoff
+     */
+    protected synchronized long getBackoffWait() {
+        Instant now = Instant.now();
+        long wait = Long.MAX_VALUE;
+        for (HarvestThread ht : harvestQueue) {
+            HostBackoff backoff = hostBackoffs.get(ht.getRemoteHost());
+            if (backoff != null && backoff.blockedUntil.isAfter(now)) {
+                wait = Math.min(wait, backoff.blockedUntil.toEpochMilli() - now.toEpochMilli());
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * Stop the scheduler: queued harvests are discarded and their collections set back to ready, running
+     * harvests are allowed to finish.
+     *
+     * @param context The relevant DSpace Context.
+     */
+    protected void shutdown(Context context) {
+        List<HarvestThread> discarded;
+        synchronized (this) {
+            discarded = new ArrayList<>(harvestQueue);
+            harvestQueue.clear();
+            for (HarvestThread ht : discarded) {
+                scheduledCollections.remove(ht.getCollectionId());
+            }
+        }
+        harvestExecutor.shutdown();
+        try {
+            for (HarvestThread ht : discarded) {
+                HarvestedCollection hc = harvestedCollectionService
+                    .find(context, collectionService.find(context, ht.getCollectionId()));
+                if (hc != null && hc.getHarvestStatus() == HarvestedCollection.STATUS_QUEUED) {
+                    hc.setHarvestStatus(HarvestedCollection.STATUS_READY);
+                    harvestedCollectionService.update(context, hc);
+                }
+            }
+            context.complete();
+        } catch (SQLException e) {
+            log.error("Unable to reset queued harvests while stopping the scheduler", e);
+            context.abort();
+        }
+    }
+
+    /**
+     * @return the number of harvests waiting for a free worker
+     */
+    public synchronized int getQueuedCount() {
+        return harvestQueue.size();
+    }
+
+    /**
+     * @return the number of harvests currently running
+     */
+    public synchronized int getRunningCount() {
+        return activeThreads;
+    }
+
+    /**
+     * @return the duration of the last completed harvest, per collection UUID
+     */
+    public static Map<UUID, Duration> getLastHarvestDurations() {
+        return Collections.unmodifiableMap(new HashMap<>(lastHarvestDurations));
+    }
+
+    /**
+     * Consecutive failure count and backoff deadline of a remote OAI-PMH host.
+     */
+    protected static class HostBackoff {
+        protected int failures = 0;
+        protected Instant blockedUntil = Instant.EPOCH;
+    }
 }
@@ -9,7 +9,10 @@ package org.dspace.harvest;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.dspace.authorize.AuthorizeException;
 import org.dspace.core.Context;
@@ -47,12 +50,24 @@ public class HarvestSchedulingServiceImpl implements HarvestSchedulingService {
         if (mainHarvestThread != null && harvester != null) {
             stopScheduler();
         }
-        harvester = new HarvestScheduler();
+        harvester = createScheduler();
         HarvestScheduler.setInterrupt(HarvestScheduler.HARVESTER_INTERRUPT_NONE);
         mainHarvestThread = new Thread(harvester);
         mainHarvestThread.start();
     }
 
+    /**
+     * Create the scheduler started by {@link #startNewScheduler()}.
+     *
+     * @return a new scheduler
+     * @throws SQLException       An exception that provides information on a database access error or other errors.
+     * @throws AuthorizeException Exception indicating the current user of the context does not have permission
+     *                            to perform a particular action.
+     */
+    protected HarvestScheduler createScheduler() throws SQLException, AuthorizeException {
+        return new HarvestScheduler();
+    }
+
     @Override
     public synchronized void stopScheduler() throws SQLException, AuthorizeException {
         synchronized (HarvestScheduler.lock) {
@@ -87,4 +102,19 @@ public class HarvestSchedulingServiceImpl implements HarvestSchedulingService {
         }
     }
 
+    @Override
+    public synchronized int getQueuedHarvestCount() {
+        return harvester != null ? harvester.getQueuedCount() : 0;
+    }
+
+    @Override
+    public synchronized int getRunningHarvestCount() {
+        return harvester != null ? harvester.getRunningCount() : 0;
+    }
+
+    @Override
+    public Map<UUID, Duration> getLastHarvestDurations() {
+        return HarvestScheduler.getLastHarvestDurations();
+    }
+
 }
@@ -7,9 +7,12 @@
  */
 package org.dspace.harvest;
 
+import java.net.URI;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.UUID;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
 import org.dspace.content.Collection;
 import org.dspace.content.factory.ContentServiceFactory;
@@ -19,33 +22,85 @@ import org.dspace.harvest.factory.HarvestServiceFactory;
 import org.dspace.harvest.service.HarvestedCollectionService;
 
 /**
- * A harvester thread used to execute a single harvest cycle on a collection
+ * A harvest task used to execute a single harvest cycle on a collection. Instances are queued by the
+ * {@link HarvestScheduler} ordered by their due time and run on its bounded executor.
  *
  * @author alexey
  */
-public class HarvestThread extends Thread {
+public class HarvestThread implements Runnable {
 
     private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(HarvestThread.class);
     protected UUID collectionId;
+    protected String remoteHost;
+    protected Instant dueTime;
     protected CollectionService collectionService = ContentServiceFactory.getInstance().getCollectionService();
     protected HarvestedCollectionService harvestedCollectionService =
         HarvestServiceFactory.getInstance().getHarvestedCollectionService();
 
+    /* Outcome of the last run, read by the scheduler once the task has completed */
+    protected volatile boolean succeeded = false;
 
     protected HarvestThread(UUID collectionId) throws SQLException {
+        this(collectionId, null, Instant.now());
+    }
+
+    protected HarvestThread(UUID collectionId, String oaiSource, Instant dueTime) throws SQLException {
         this.collectionId = collectionId;
+        this.remoteHost = getRemoteHost(oaiSource);
+        this.dueTime = dueTime != null ? dueTime : Instant.now();
+    }
+
+    /**
+     * Determine the host name used to group harvests of the same remote OAI-PMH provider.
+     *
+     * @param oaiSource base URL of the OAI-PMH server
+     * @return the lower case host name, the raw source if it cannot be parsed, or an empty string
+     */
+    protected static String getRemoteHost(String oaiSource) {
+        if (StringUtils.isBlank(oaiSource)) {
+            return "";
+        }
+        try {
+            String host = URI.create(oaiSource.trim()).getHost();
+            if (host != null) {
+                return host.toLowerCase();
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Unable to parse OAI source " + oaiSource, e);
+        }
+        return oaiSource.trim().toLowerCase();
+    }
+
+    public UUID getCollectionId() {
+        return collectionId;
+    }
+
+    public String getRemoteHost() {
+        return remoteHost;
+    }
+
+    public Instant getDueTime() {
+        return dueTime;
+    }
+
+    /**
+     * @return true if the last run of this task completed without an error status
+     */
+    public boolean hasSucceeded() {
+        return succeeded;
     }
 
     @Override
     public void run() {
         log.info("Thread for collection " + collectionId + " starts.");
-        runHarvest();
+        succeeded = runHarvest();
     }
 
-    private void runHarvest() {
+    private boolean runHarvest() {
         Context context;
         Collection dso;
         HarvestedCollection hc = null;
+        boolean success = false;
         try {
             context = new Context();
             dso = collectionService.find(context, collectionId);
@@ -55,6 +110,8 @@ public class HarvestThread extends Thread {
                 dso = hc.getCollection();
                 OAIHarvester harvester = new OAIHarvester(context, dso, hc);
                 harvester.runHarvest();
+                success = hc.getHarvestStatus() != HarvestedCollection.STATUS_OAI_ERROR
+                    && hc.getHarvestStatus() != HarvestedCollection.STATUS_UNKNOWN_ERROR;
             } catch (RuntimeException e) {
                 log.error("Runtime exception in thread: " + this.toString());
                 log.error(e.getMessage() + " " + e.getCause());
@@ -77,15 +134,17 @@ public class HarvestThread extends Thread {
                     log.error("Unexpected exception while recovering from a harvesting error: " + e.getMessage(), e);
                     context.abort();
                 }
-
-                synchronized (HarvestScheduler.class) {
-                    HarvestScheduler.activeThreads--;
-                }
             }
         } catch (SQLException e) {
             log.error(e.getMessage(), e);
         }
 
-        log.info("Thread for collection " + hc.getCollection().getID() + " completes.");
+        log.info("Thread for collection " + collectionId + " completes.");
+        return success;
+    }
+
+    @Override
+    public String toString() {
+        return "HarvestThread[collection=" + collectionId + ", host=" + remoteHost + ", due=" + dueTime + "]";
     }
 }
@@ -9,6 +9,9 @@ package org.dspace.harvest.service;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
 
 import org.dspace.authorize.AuthorizeException;
 
@@ -64,4 +67,25 @@ public interface HarvestSchedulingService {
      *                            to perform a particular action.
      */
     void resetScheduler() throws SQLException, AuthorizeException, IOException;
+
+    /**
+     * Get the number of harvests queued in the active scheduler and waiting for a free worker.
+     *
+     * @return the number of queued harvests, 0 if no scheduler is active
+     */
+    int getQueuedHarvestCount();
+
+    /**
+     * Get the number of harvests currently running in the active scheduler.
+     *
+     * @return the number of running harvests, 0 if no scheduler is active
+     */
+    int getRunningHarvestCount();
+
+    /**
+     * Get the duration of the last completed scheduled harvest of each collection.
+     *
+     * @return map of collection UUID to the duration of its last harvest
+     */
+    Map<UUID, Duration> getLastHarvestDurations();
 }
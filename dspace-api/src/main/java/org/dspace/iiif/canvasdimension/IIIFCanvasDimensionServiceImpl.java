@@ -15,10 +15,19 @@ import static org.dspace.iiif.util.IIIFSharedUtils.METADATA_IIIF_WIDTH_QUALIFIER
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.dspace.authorize.AuthorizeException;
 import org.dspace.content.Bitstream;
 import org.dspace.content.Bundle;
@@ -31,6 +40,7 @@ import org.dspace.content.service.CommunityService;
 import org.dspace.content.service.DSpaceObjectService;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
+import org.dspace.eperson.service.EPersonService;
 import org.dspace.iiif.IIIFApiQueryService;
 import org.dspace.iiif.canvasdimension.service.IIIFCanvasDimensionService;
 import org.dspace.iiif.util.IIIFSharedUtils;
@@ -38,12 +48,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * This service sets canvas dimensions for bitstreams. Processes communities,
- * collections, and individual items.
+ * collections, and individual items. The items of a collection can optionally be
+ * processed by several threads, each using its own Context.
  *
  * @author Michael Spalti mspalti@willamette.edu
  */
 public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionService {
 
+    private static final Logger log = LogManager.getLogger(IIIFCanvasDimensionServiceImpl.class);
+
     @Autowired()
     ItemService itemService;
     @Autowired()
@@ -54,12 +67,15 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
     DSpaceObjectService<Bitstream> dSpaceObjectService;
     @Autowired()
     IIIFApiQueryService iiifApiQuery;
+    @Autowired()
+    EPersonService ePersonService;
 
     private boolean forceProcessing = false;
     private boolean isQuiet = false;
     private List<String> skipList = null;
     private int max2Process = Integer.MAX_VALUE;
-    private int processed = 0;
+    private int threads = 1;
+    private final AtomicInteger processed = new AtomicInteger();
 
     // used to check for existing canvas dimension
     private static final String IIIF_WIDTH_METADATA = METADATA_IIIF_SCHEMA + "." + METADATA_IIIF_IMAGE_ELEMENT +
@@ -85,6 +101,11 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
         this.skipList = skipList;
     }
 
+    @Override
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
     @Override
     public int processCommunity(Context context, Community community) throws Exception {
         if (!inSkipList(community.getHandle())) {
@@ -97,18 +118,22 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
                 processCollection(context, collection);
             }
         }
-        return processed;
+        return processed.get();
     }
 
     @Override
     public int processCollection(Context context, Collection collection) throws Exception {
         if (!inSkipList(collection.getHandle())) {
             Iterator<Item> itemIterator = itemService.findAllByCollection(context, collection);
-            while (itemIterator.hasNext() && processed < max2Process) {
-                processItem(context, itemIterator.next());
+            if (threads > 1) {
+                processItemsInParallel(context, itemIterator);
+            } else {
+                while (itemIterator.hasNext() && processed.get() < max2Process) {
+                    processItem(context, itemIterator.next());
+                }
             }
         }
-        return processed;
+        return processed.get();
     }
 
     @Override
@@ -117,13 +142,74 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
             boolean isIIIFItem = IIIFSharedUtils.isIIIFItem(item);
             if (isIIIFItem) {
                 if (processItemBundles(context, item)) {
-                    ++processed;
+                    processed.incrementAndGet();
                 }
                 context.uncacheEntity(item);
             }
         }
     }
 
+    /**
+     * Process the items on a pool of worker threads. Each item is loaded, processed and committed in
+     * a Context owned by the worker, acting as the current user of the given context.
+     * @param context
+     * @param itemIterator
+     * @throws Exception the first exception raised while processing an item
+     */
+    private void processItemsInParallel(Context context, Iterator<Item> itemIterator) throws Exception {
+        List<UUID> itemIds = new ArrayList<>();
+        while (itemIterator.hasNext()) {
+            Item item = itemIterator.next();
+            itemIds.add(item.getID());
+            context.uncacheEntity(item);
+        }
+        UUID userId = context.getCurrentUser() != null ? context.getCurrentUser().getID() : null;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (UUID itemId : itemIds) {
+                futures.add(executor.submit(() -> {
+                    if (processed.get() >= max2Process) {
+                        return null;
+                    }
+                    Context workerContext = new Context(Context.Mode.BATCH_EDIT);
+                    try {
+                        if (userId != null) {
+                            workerContext.setCurrentUser(ePersonService.find(workerContext, userId));
+                        }
+                        Item item = itemService.find(workerContext, itemId);
+                        if (item != null) {
+                            processItem(workerContext, item);
+                        }
+                        workerContext.complete();
+                    } finally {
+                        if (workerContext.isValid()) {
+                            workerContext.abort();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Exception failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Unable to set canvas dimensions", e.getCause());
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Process all IIIF bundles for an item.
      * @param context
@@ -151,9 +237,10 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
     }
 
     /**
-     * Gets image height and width for the bitstream. For jp2 images, height and width are
-     * obtained from the IIIF image server. For other formats supported by ImageIO these values
-     * are read from the actual DSpace bitstream content. If bitstream width metadata already exists,
+     * Gets image height and width for the bitstream. The values are read from the image headers,
+     * first from a ranged read of the leading bytes of the bitstream and, if the headers extend
+     * beyond those bytes, from the full bitstream content. Formats whose headers cannot be read
+     * fall back to the IIIF image server. If bitstream width metadata already exists,
      * the bitstream is processed when forceProcessing is true.
      * @param context
      * @param bitstream
@@ -173,25 +260,31 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
                 if (forceProcessing && !isQuiet) {
                     System.out.println("Force processing for bitstream: " + bitstream.getID());
                 }
-                int[] dims;
-                InputStream stream = null;
-                try {
-                    stream = bitstreamService.retrieve(context, bitstream);
+                int[] dims = null;
+                try (InputStream header = bitstreamService.retrieve(context, bitstream, 0,
+                                                                     ImageDimensionReader.HEADER_PROBE_SIZE)) {
+                    dims = ImageDimensionReader.getHeaderDimensions(header.readAllBytes());
+                } catch (IOException e) {
+                    log.debug("Unable to read image header of bitstream " + bitstream.getID(), e);
+                }
+                if (dims == null && bitstream.getSizeBytes() > ImageDimensionReader.HEADER_PROBE_SIZE) {
+                    InputStream stream = null;
                     try {
+                        stream = bitstreamService.retrieve(context, bitstream);
                         dims = ImageDimensionReader.getImageDimensions(stream);
-                        if (dims == null) {
-                            // If image dimensions are not available try the iiif image server.
-                            dims = iiifApiQuery.getImageDimensions(bitstream);
-                        }
                     } catch (IOException e) {
-                        // If an exception was raised by ImageIO, try the iiif image server.
-                        dims = iiifApiQuery.getImageDimensions(bitstream);
-                    }
-                } finally {
-                    if (stream != null) {
-                        stream.close();
+                        // If an exception was raised by ImageIO, try the iiif image server below.
+                        dims = null;
+                    } finally {
+                        if (stream != null) {
+                            stream.close();
+                        }
                     }
                 }
+                if (dims == null) {
+                    // If image dimensions are not available try the iiif image server.
+                    dims = iiifApiQuery.getImageDimensions(bitstream);
+                }
 
                 if (dims != null) {
                     processed = setBitstreamMetadata(context, bitstream, dims);
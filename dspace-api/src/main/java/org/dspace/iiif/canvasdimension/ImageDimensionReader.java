@@ -9,39 +9,230 @@ package org.dspace.iiif.canvasdimension;
 
 import static org.dspace.iiif.canvasdimension.Util.checkDimensions;
 
-import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 /**
  * Reads and return height and width dimensions for image bitstreams.
+ * <p>
+ * Dimensions are read from the image headers only: JPEG 2000 and TIFF headers are parsed directly, other
+ * formats are probed with the ImageIO {@link ImageReader} without decoding any pixel data.
  *
  * @author Michael Spalti mspalti@willamette.edu
  */
 public class ImageDimensionReader {
 
+    /**
+     * Number of leading bytes of a bitstream that are usually enough to read the image dimensions.
+     */
+    public static final int HEADER_PROBE_SIZE = 64 * 1024;
+
+    private static final int JP2_BOX_HEADER = 0x6A703268; // "jp2h"
+    private static final int JP2_BOX_IHDR = 0x69686472; // "ihdr"
+    private static final int J2K_SOC_SIZ = 0xFF4FFF51;
+    private static final int TIFF_TAG_IMAGE_WIDTH = 256;
+    private static final int TIFF_TAG_IMAGE_LENGTH = 257;
+    private static final int TIFF_TYPE_SHORT = 3;
+    private static final int TIFF_TYPE_LONG = 4;
+
     private ImageDimensionReader() {}
 
     /**
-     * Uses ImageIO to read height and width dimensions.
+     * Uses the image headers to read height and width dimensions. The stream is read only
+     * as far as needed to find the dimensions; image data is never decoded.
      * @param image inputstream for dspace image
      * @return image dimensions or null if the image format cannot be read.
-     * @throws Exception
+     * @throws IOException
      */
     public static int[] getImageDimensions(InputStream image) throws IOException {
-        int[] dims = new int[2];
-        BufferedImage buf = ImageIO.read(image);
-        if (buf != null) {
-            int width = buf.getWidth(null);
-            int height = buf.getHeight(null);
+        try (ImageInputStream iis = ImageIO.createImageInputStream(image)) {
+            if (iis == null) {
+                return null;
+            }
+            byte[] header = new byte[HEADER_PROBE_SIZE];
+            iis.mark();
+            int length = 0;
+            int read;
+            while (length < header.length && (read = iis.read(header, length, header.length - length)) > 0) {
+                length += read;
+            }
+            iis.reset();
+            int[] dims = length > 0 ? parseHeader(header, length) : null;
+            if (dims == null) {
+                dims = readWithImageReader(iis);
+            }
+            return dims != null ? checkDimensions(dims) : null;
+        }
+    }
+
+    /**
+     * Reads height and width dimensions from the leading bytes of an image only.
+     * @param header the first bytes of the image, see {@link #HEADER_PROBE_SIZE}
+     * @return image dimensions or null if they cannot be determined from these bytes.
+     */
+    public static int[] getHeaderDimensions(byte[] header) {
+        int[] dims = parseHeader(header, header.length);
+        if (dims == null) {
+            try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(header))) {
+                dims = readWithImageReader(iis);
+            } catch (IOException e) {
+                // the dimensions are beyond the header bytes or the format is unknown
+                dims = null;
+            }
+        }
+        return dims != null ? checkDimensions(dims) : null;
+    }
+
+    /**
+     * Uses an ImageIO reader to read the dimensions of the first image without decoding it.
+     */
+    private static int[] readWithImageReader(ImageInputStream iis) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        while (readers.hasNext()) {
+            ImageReader reader = readers.next();
+            try {
+                iis.mark();
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width > 0 && height > 0) {
+                    return new int[] {width, height};
+                }
+            } catch (IOException | RuntimeException e) {
+                // try the next reader registered for this format
+            } finally {
+                reader.dispose();
+                iis.reset();
+            }
+        }
+        return null;
+    }
+
+    private static int[] parseHeader(byte[] header, int length) {
+        if (length < 8) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(header, 0, length).slice();
+        if (buffer.getInt(0) == J2K_SOC_SIZ) {
+            return parseJ2kCodestream(buffer);
+        }
+        if (buffer.getInt(0) == 12 && buffer.getInt(4) == 0x6A502020) { // "jP  " signature box
+            return parseJp2Boxes(buffer, 0, length);
+        }
+        if ((header[0] == 'I' && header[1] == 'I') || (header[0] == 'M' && header[1] == 'M')) {
+            return parseTiff(buffer);
+        }
+        return null;
+    }
+
+    /**
+     * Width and height of a raw JPEG 2000 codestream, from the SIZ marker segment.
+     */
+    private static int[] parseJ2kCodestream(ByteBuffer buffer) {
+        // SOC (2), SIZ (2), Lsiz (2), Rsiz (2), Xsiz (4), Ysiz (4), XOsiz (4), YOsiz (4)
+        if (buffer.limit() < 24) {
+            return null;
+        }
+        long width = Integer.toUnsignedLong(buffer.getInt(8)) - Integer.toUnsignedLong(buffer.getInt(16));
+        long height = Integer.toUnsignedLong(buffer.getInt(12)) - Integer.toUnsignedLong(buffer.getInt(20));
+        return toDimensions(width, height);
+    }
+
+    /**
+     * Width and height of a JP2 file, from the image header box within the JP2 header box.
+     */
+    private static int[] parseJp2Boxes(ByteBuffer buffer, int start, int end) {
+        int position = start;
+        while (position + 8 <= end) {
+            long boxLength = Integer.toUnsignedLong(buffer.getInt(position));
+            int boxType = buffer.getInt(position + 4);
+            int headerLength = 8;
+            if (boxLength == 1) {
+                if (position + 16 > end) {
+                    return null;
+                }
+                boxLength = buffer.getLong(position + 8);
+                headerLength = 16;
+            } else if (boxLength == 0) {
+                boxLength = end - position;
+            }
+            if (boxLength < headerLength) {
+                return null;
+            }
+            if (boxType == JP2_BOX_HEADER) {
+                return parseJp2Boxes(buffer, position + headerLength, (int) Math.min(end, position + boxLength));
+            }
+            if (boxType == JP2_BOX_IHDR) {
+                if (position + headerLength + 8 > end) {
+                    return null;
+                }
+                long height = Integer.toUnsignedLong(buffer.getInt(position + headerLength));
+                long width = Integer.toUnsignedLong(buffer.getInt(position + headerLength + 4));
+                return toDimensions(width, height);
+            }
+            if (position + boxLength > end) {
+                return null;
+            }
+            position += (int) boxLength;
+        }
+        return null;
+    }
+
+    /**
+     * Width and height of the first image of a (classic, non-BigTIFF) TIFF file, from its first IFD.
+     */
+    private static int[] parseTiff(ByteBuffer buffer) {
+        buffer.order(buffer.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        if (buffer.getShort(2) != 42) {
+            return null;
+        }
+        long ifdOffset = Integer.toUnsignedLong(buffer.getInt(4));
+        if (ifdOffset + 2 > buffer.limit()) {
+            // the first IFD is written after the image data
+            return null;
+        }
+        int entries = Short.toUnsignedInt(buffer.getShort((int) ifdOffset));
+        long width = -1;
+        long height = -1;
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifdOffset + 2 + i * 12;
+            if (entry + 12 > buffer.limit()) {
+                return null;
+            }
+            int tag = Short.toUnsignedInt(buffer.getShort(entry));
+            int type = Short.toUnsignedInt(buffer.getShort(entry + 2));
+            long value;
+            if (type == TIFF_TYPE_SHORT) {
+                value = Short.toUnsignedInt(buffer.getShort(entry + 8));
+            } else if (type == TIFF_TYPE_LONG) {
+                value = Integer.toUnsignedLong(buffer.getInt(entry + 8));
+            } else {
+                continue;
+            }
+            if (tag == TIFF_TAG_IMAGE_WIDTH) {
+                width = value;
+            } else if (tag == TIFF_TAG_IMAGE_LENGTH) {
+                height = value;
+            }
             if (width > 0 && height > 0) {
-                dims[0] = width;
-                dims[1] = height;
-                return checkDimensions(dims);
+                return toDimensions(width, height);
             }
         }
         return null;
     }
 
+    private static int[] toDimensions(long width, long height) {
+        if (width <= 0 || height <= 0 || width > Integer.MAX_VALUE || height > Integer.MAX_VALUE) {
+            return null;
+        }
+        return new int[] {(int) width, (int) height};
+    }
+
 }
@@ -66,4 +66,11 @@ public interface IIIFCanvasDimensionService {
      */
     void setSkipList(List<String> skipList);
 
+    /**
+     * Set the number of threads used to process the items of a collection.
+     * Values greater than 1 process items concurrently, each in its own Context.
+     * @param threads
+     */
+    void setThreads(int threads);
+
 }
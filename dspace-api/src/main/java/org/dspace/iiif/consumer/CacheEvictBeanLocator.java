@@ -47,4 +47,11 @@ public class CacheEvictBeanLocator implements ApplicationContextAware {
         return null;
     }
 
+    public static ManifestPregenerator getManifestPregenerator() {
+        if (context != null) {
+            return context.getBeanProvider(ManifestPregenerator.class).getIfAvailable();
+        }
+        return null;
+    }
+
 }
@@ -9,6 +9,7 @@ package org.dspace.iiif.consumer;
 
 import java.util.Objects;
 
+import org.dspace.event.cluster.ClusterCacheEvictService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
@@ -22,8 +23,14 @@ public class CanvasCacheEvictService {
     @Autowired
     CacheManager cacheManager;
 
+    @Autowired(required = false)
+    ClusterCacheEvictService clusterCacheEvictService;
+
     public void evictSingleCacheValue(String cacheKey) {
         Objects.requireNonNull(cacheManager.getCache(CACHE_NAME)).evictIfPresent(cacheKey);
+        if (clusterCacheEvictService != null) {
+            clusterCacheEvictService.evict(CACHE_NAME, cacheKey);
+        }
     }
 
 }
@@ -19,10 +19,13 @@ import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.event.Consumer;
 import org.dspace.event.Event;
+import org.dspace.services.factory.DSpaceServicesFactory;
 
 
 /**
- * This consumer is used to evict modified items from the manifests cache.
+ * This consumer is used to evict modified items from the manifests cache. When the persistent
+ * {@link ManifestStore} is enabled, the stored manifests of modified items are removed as well and,
+ * if a {@link ManifestPregenerator} is available, rendered again ahead of the next request.
  */
 public class IIIFCacheEventConsumer implements Consumer {
 
@@ -37,8 +40,12 @@ public class IIIFCacheEventConsumer implements Consumer {
     // Collects modified bitstreams for individual removal from canvas dimension cache.
     private final Set<DSpaceObject> toEvictFromCanvasCache = new HashSet<>();
 
+    // Persistent manifest store, also cleaned when this consumer runs outside of the webapp.
+    private ManifestStore manifestStore;
+
     @Override
     public void initialize() throws Exception {
+        manifestStore = new ManifestStore(DSpaceServicesFactory.getInstance().getConfigurationService());
     }
 
     @Override
@@ -152,6 +159,23 @@ public class IIIFCacheEventConsumer implements Consumer {
                 canvasCacheEvictService.evictSingleCacheValue(uuid.toString());
             }
         }
+        if (manifestStore.isEnabled()) {
+            Set<UUID> modifiedItems = new HashSet<>();
+            for (DSpaceObject dso : toEvictFromManifestCache) {
+                if (dso != null) {
+                    modifiedItems.add(dso.getID());
+                }
+            }
+            if (clearAll) {
+                manifestStore.removeAll();
+            } else {
+                modifiedItems.forEach(manifestStore::remove);
+            }
+            ManifestPregenerator manifestPregenerator = CacheEvictBeanLocator.getManifestPregenerator();
+            if (manifestPregenerator != null && !modifiedItems.isEmpty()) {
+                manifestPregenerator.pregenerate(modifiedItems);
+            }
+        }
 
         clearAll = false;
         toEvictFromManifestCache.clear();
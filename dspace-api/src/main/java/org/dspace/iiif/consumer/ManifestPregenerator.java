@@ -0,0 +1,27 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.iiif.consumer;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Renders IIIF manifests ahead of time into the {@link ManifestStore}. Implemented by the IIIF
+ * webapp module, and invoked by the {@link IIIFCacheEventConsumer} for items whose manifest was
+ * invalidated.
+ */
+public interface ManifestPregenerator {
+
+    /**
+     * Asynchronously render and store the manifests of the given items.
+     *
+     * @param itemIds uuids of the items whose manifest should be rendered
+     */
+    void pregenerate(Set<UUID> itemIds);
+
+}
@@ -0,0 +1,205 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.iiif.consumer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persistent store of rendered IIIF manifests. Manifests are written as gzip compressed JSON files
+ * below {@code iiif.manifest.store.dir}, so that they survive restarts and evictions of the
+ * in-memory "manifests" cache. The store is only used when {@code iiif.manifest.store.enabled}
+ * is true.
+ */
+@Component
+public class ManifestStore {
+
+    private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(ManifestStore.class);
+
+    private static final String FILE_SUFFIX = ".json.gz";
+
+    private final ConfigurationService configurationService;
+
+    @Autowired
+    public ManifestStore(ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    /**
+     * @return true if rendered manifests should be persisted and served from this store
+     */
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("iiif.manifest.store.enabled", false);
+    }
+
+    /**
+     * Get the stored manifest of an item.
+     *
+     * @param itemId the item uuid
+     * @return the stored manifest, empty if the manifest was never rendered or has been removed
+     */
+    public Optional<StoredManifest> get(UUID itemId) {
+        Path path = getPath(itemId);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new StoredManifest(path, attributes.lastModifiedTime().toInstant(),
+                                                  attributes.size()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Unable to read stored IIIF manifest " + path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store the rendered manifest of an item, replacing any previous version.
+     *
+     * @param itemId   the item uuid
+     * @param manifest the manifest as JSON
+     * @return the stored manifest
+     * @throws IOException if the manifest cannot be written
+     */
+    public StoredManifest put(UUID itemId, String manifest) throws IOException {
+        Path path = getPath(itemId);
+        Files.createDirectories(path.getParent());
+        Path tmp = Files.createTempFile(path.getParent(), itemId.toString(), ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                out.write(manifest.getBytes(StandardCharsets.UTF_8));
+            }
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new StoredManifest(path, attributes.lastModifiedTime().toInstant(), attributes.size(), manifest);
+    }
+
+    /**
+     * Remove the stored manifest of an item.
+     *
+     * @param itemId the item uuid
+     */
+    public void remove(UUID itemId) {
+        try {
+            Files.deleteIfExists(getPath(itemId));
+        } catch (IOException e) {
+            log.error("Unable to remove stored IIIF manifest for item " + itemId, e);
+        }
+    }
+
+    /**
+     * Remove all stored manifests.
+     */
+    public void removeAll() {
+        Path root = getRoot();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder())
+                 .filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX))
+                 .forEach(path -> {
+                     try {
+                         Files.deleteIfExists(path);
+                     } catch (IOException e) {
+                         log.error("Unable to remove stored IIIF manifest " + path, e);
+                     }
+                 });
+        } catch (IOException e) {
+            log.error("Unable to clear stored IIIF manifests in " + root, e);
+        }
+    }
+
+    private Path getRoot() {
+        String dir = configurationService.getProperty("iiif.manifest.store.dir",
+            configurationService.getProperty("dspace.dir") + "/iiif/manifests");
+        return Paths.get(dir);
+    }
+
+    private Path getPath(UUID itemId) {
+        String name = itemId.toString();
+        // spread the files over 256 sub directories
+        return getRoot().resolve(name.substring(0, 2)).resolve(name + FILE_SUFFIX);
+    }
+
+    /**
+     * A manifest persisted in the store, with the validators used for HTTP revalidation.
+     */
+    public static class StoredManifest {
+
+        private final Path path;
+        private final Instant lastModified;
+        private final String eTag;
+        private String json;
+
+        StoredManifest(Path path, Instant lastModified, long size) {
+            this(path, lastModified, size, null);
+        }
+
+        StoredManifest(Path path, Instant lastModified, long size, String json) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.eTag = "\"" + Long.toHexString(lastModified.toEpochMilli()) + "-" + Long.toHexString(size) + "\"";
+            this.json = json;
+        }
+
+        /**
+         * @return the time the manifest was rendered
+         */
+        public Instant getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * @return an entity tag derived from the time and size of the stored manifest
+         */
+        public String getETag() {
+            return eTag;
+        }
+
+        /**
+         * @return the manifest as JSON
+         * @throws IOException if the stored manifest cannot be read
+         */
+        public String getJson() throws IOException {
+            if (json == null) {
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+                    json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+            return json;
+        }
+    }
+}
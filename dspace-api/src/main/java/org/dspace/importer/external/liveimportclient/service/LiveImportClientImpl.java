@@ -7,31 +7,47 @@
  */
 package org.dspace.importer.external.liveimportclient.service;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dspace.app.client.DSpaceHttpClientFactory;
+import org.dspace.service.impl.HttpConnectionPoolService;
 import org.dspace.services.ConfigurationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 
 /**
  * Implementation of {@link LiveImportClient}.
+ * <p>
+ * All the requests share a pool of connections (see the
+ * {@code external-providers.client.*} properties), and the responses of the
+ * GET requests are cached per provider host (see the
+ * {@code external-providers.cache.*} properties), so that identical lookups
+ * of several submitters don't reach the provider again.
  *
  * @author Mykhaylo Boychuk (mykhaylo.boychuk at 4science dot com)
  */
@@ -42,11 +58,29 @@ public class LiveImportClientImpl implements LiveImportClient {
     public static final String URI_PARAMETERS = "uriParameters";
     public static final String HEADER_PARAMETERS = "headerParameters";
 
+    private static final int DEFAULT_CACHE_TTL = 300;
+
+    private static final int DEFAULT_CACHE_SIZE = 500;
+
     private CloseableHttpClient httpClient;
 
+    /**
+     * client on the pool of connections, used unless a client is injected
+     */
+    private volatile CloseableHttpClient pooledHttpClient;
+
+    /**
+     * responses of the GET requests, by provider host
+     */
+    private final Map<String, Cache<String, String>> responseCaches = new ConcurrentHashMap<>();
+
     @Autowired
     private ConfigurationService configurationService;
 
+    @Autowired(required = false)
+    @Qualifier("externalProvidersHttpConnectionPoolService")
+    private HttpConnectionPoolService connectionPoolService;
+
     @Override
     public String executeHttpGetRequest(int timeout, String URL, Map<String, Map<String, String>> params) {
         HttpGet method = null;
@@ -55,12 +89,22 @@ public class LiveImportClientImpl implements LiveImportClient {
             .setConnectTimeout(timeout)
             .setSocketTimeout(timeout)
             .build();
-        try (CloseableHttpClient httpClient = Optional.ofNullable(this.httpClient)
-                                        .orElse(DSpaceHttpClientFactory.getInstance().buildWithRequestConfig(config))) {
+        try {
             String uri = buildUrl(URL, params.get(URI_PARAMETERS));
-            method = new HttpGet(uri);
-
             Map<String, String> headerParams = params.get(HEADER_PARAMETERS);
+
+            Cache<String, String> responseCache = getResponseCache(uri);
+            String cacheKey = getCacheKey(uri, headerParams);
+            if (responseCache != null) {
+                String cachedResponse = responseCache.getIfPresent(cacheKey);
+                if (cachedResponse != null) {
+                    log.debug("Using the cached response of GET request to \"{}\"", uri);
+                    return cachedResponse;
+                }
+            }
+
+            method = new HttpGet(uri);
+            method.setConfig(config);
             if (MapUtils.isNotEmpty(headerParams)) {
                 for (String param : headerParams.keySet()) {
                     method.setHeader(param, headerParams.get(param));
@@ -70,13 +114,11 @@ public class LiveImportClientImpl implements LiveImportClient {
             if (log.isDebugEnabled()) {
                 log.debug("Performing GET request to \"" + uri + "\"...");
             }
-            HttpResponse httpResponse = httpClient.execute(method);
-            if (isNotSuccessfull(httpResponse)) {
-                throw new RuntimeException("The request failed with: " + getStatusCode(httpResponse) + " code, reason= "
-                                           + httpResponse.getStatusLine().getReasonPhrase());
+            String response = execute(method);
+            if (responseCache != null) {
+                responseCache.put(cacheKey, response);
             }
-            InputStream inputStream = httpResponse.getEntity().getContent();
-            return IOUtils.toString(inputStream, Charset.defaultCharset());
+            return response;
         } catch (Exception e1) {
             log.error(e1.getMessage(), e1);
         } finally {
@@ -87,13 +129,14 @@ public class LiveImportClientImpl implements LiveImportClient {
         return StringUtils.EMPTY;
     }
 
+    /**
+     * POST requests are not cached: providers use them to get access tokens,
+     * or to send queries which may not be repeated.
+     */
     @Override
     public String executeHttpPostRequest(String URL, Map<String, Map<String, String>> params, String entry) {
         HttpPost method = null;
-        RequestConfig config = RequestConfig.custom().build();
-        try (CloseableHttpClient httpClient = Optional.ofNullable(this.httpClient)
-                .orElse(DSpaceHttpClientFactory.getInstance().buildWithRequestConfig(config))) {
-
+        try {
             String uri = buildUrl(URL, params.get(URI_PARAMETERS));
             method = new HttpPost(uri);
             if (StringUtils.isNotBlank(entry)) {
@@ -104,12 +147,7 @@ public class LiveImportClientImpl implements LiveImportClient {
             if (log.isDebugEnabled()) {
                 log.debug("Performing POST request to \"" + uri + "\"..." );
             }
-            HttpResponse httpResponse = httpClient.execute(method);
-            if (isNotSuccessfull(httpResponse)) {
-                throw new RuntimeException();
-            }
-            InputStream inputStream = httpResponse.getEntity().getContent();
-            return IOUtils.toString(inputStream, Charset.defaultCharset());
+            return execute(method);
         } catch (Exception e1) {
             log.error(e1.getMessage(), e1);
         } finally {
@@ -120,6 +158,90 @@ public class LiveImportClientImpl implements LiveImportClient {
         return StringUtils.EMPTY;
     }
 
+    /**
+     * Execute a request and read the whole response, which releases the
+     * connection to the pool.
+     *
+     * @param method the request
+     * @return the response in String type converted from InputStream
+     * @throws IOException if the request failed
+     */
+    private String execute(HttpRequestBase method) throws IOException {
+        try (CloseableHttpResponse httpResponse = getClient().execute(method)) {
+            if (isNotSuccessfull(httpResponse)) {
+                throw new RuntimeException("The request failed with: " + getStatusCode(httpResponse) + " code, reason= "
+                                           + httpResponse.getStatusLine().getReasonPhrase());
+            }
+            InputStream inputStream = httpResponse.getEntity().getContent();
+            return IOUtils.toString(inputStream, Charset.defaultCharset());
+        }
+    }
+
+    /**
+     * @return the injected client if any, otherwise the client on the pool of connections
+     */
+    private CloseableHttpClient getClient() {
+        if (httpClient != null) {
+            return httpClient;
+        }
+        CloseableHttpClient client = pooledHttpClient;
+        if (client == null) {
+            synchronized (this) {
+                if (pooledHttpClient == null) {
+                    pooledHttpClient = connectionPoolService != null ? connectionPoolService.getProxiedClient()
+                        : DSpaceHttpClientFactory.getInstance().build();
+                }
+                client = pooledHttpClient;
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Get the cache of the responses of the provider host of an URI. The size
+     * and time to live of the cache are read once, from
+     * {@code external-providers.cache.size[.host]} and
+     * {@code external-providers.cache.ttl[.host]}.
+     *
+     * @param uri the URI of the request
+     * @return the cache, or null if the responses of the host are not cached
+     */
+    private Cache<String, String> getResponseCache(String uri) {
+        if (!configurationService.getBooleanProperty("external-providers.cache.enabled", true)) {
+            return null;
+        }
+        String host = URI.create(uri).getHost();
+        if (host == null) {
+            return null;
+        }
+        Cache<String, String> responseCache = responseCaches.get(host);
+        if (responseCache != null) {
+            return responseCache;
+        }
+        int ttl = configurationService.getIntProperty("external-providers.cache.ttl." + host,
+            configurationService.getIntProperty("external-providers.cache.ttl", DEFAULT_CACHE_TTL));
+        int size = configurationService.getIntProperty("external-providers.cache.size." + host,
+            configurationService.getIntProperty("external-providers.cache.size", DEFAULT_CACHE_SIZE));
+        if (ttl <= 0 || size <= 0) {
+            return null;
+        }
+        return responseCaches.computeIfAbsent(host, h -> CacheBuilder.newBuilder()
+                                                                   .maximumSize(size)
+                                                                   .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                                                                   .build());
+    }
+
+    /**
+     * The headers are part of the key, as they may hold the credentials or
+     * the accepted format of the response.
+     */
+    private String getCacheKey(String uri, Map<String, String> headerParams) {
+        if (MapUtils.isEmpty(headerParams)) {
+            return uri;
+        }
+        return uri + new TreeMap<>(headerParams);
+    }
+
     /**
      * Allows to set the header parameters to the HTTP Post method
      * 
@@ -171,4 +293,12 @@ public class LiveImportClientImpl implements LiveImportClient {
         this.httpClient = httpClient;
     }
 
+    public void setConfigurationService(ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    public void setConnectionPoolService(HttpConnectionPoolService connectionPoolService) {
+        this.connectionPoolService = connectionPoolService;
+    }
+
 }
@@ -12,12 +12,22 @@ import static org.dspace.profile.OrcidSynchronizationMode.BATCH;
 import static org.dspace.profile.OrcidSynchronizationMode.MANUAL;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import com.google.common.util.concurrent.RateLimiter;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
@@ -28,16 +38,19 @@ import org.dspace.eperson.EPerson;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.orcid.OrcidHistory;
 import org.dspace.orcid.OrcidQueue;
+import org.dspace.orcid.OrcidToken;
 import org.dspace.orcid.exception.OrcidValidationException;
 import org.dspace.orcid.factory.OrcidServiceFactory;
 import org.dspace.orcid.service.OrcidHistoryService;
 import org.dspace.orcid.service.OrcidQueueService;
 import org.dspace.orcid.service.OrcidSynchronizationService;
+import org.dspace.orcid.service.OrcidTokenService;
 import org.dspace.profile.OrcidSynchronizationMode;
 import org.dspace.scripts.DSpaceRunnable;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
 import org.dspace.utils.DSpace;
+import org.dspace.utils.DaemonThreadFactory;
 
 /**
  * Script that perform the bulk synchronization with ORCID registry of all the
@@ -50,16 +63,30 @@ public class OrcidBulkPush extends DSpaceRunnable<OrcidBulkPushScriptConfigurati
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    private static final int TOO_MANY_REQUESTS = 429;
+
     private OrcidQueueService orcidQueueService;
 
     private OrcidHistoryService orcidHistoryService;
 
     private OrcidSynchronizationService orcidSynchronizationService;
 
+    private OrcidTokenService orcidTokenService;
+
     private ConfigurationService configurationService;
 
     private Context context;
 
+    /**
+     * Limits the requests sent to ORCID by all the threads, null if unlimited.
+     */
+    private RateLimiter globalRateLimiter;
+
+    /**
+     * Limits the requests sent to ORCID with the same access token.
+     */
+    private final Map<String, RateLimiter> rateLimiterByToken = new ConcurrentHashMap<>();
+
     /**
      * Cache that stores the synchronization mode set for a specific profile item.
      */
@@ -73,8 +100,14 @@ public class OrcidBulkPush extends DSpaceRunnable<OrcidBulkPushScriptConfigurati
         this.orcidQueueService = orcidServiceFactory.getOrcidQueueService();
         this.orcidHistoryService = orcidServiceFactory.getOrcidHistoryService();
         this.orcidSynchronizationService = orcidServiceFactory.getOrcidSynchronizationService();
+        this.orcidTokenService = orcidServiceFactory.getOrcidTokenService();
         this.configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
 
+        int permitsPerSecond = configurationService.getIntProperty("orcid.bulk-synchronization.requests-per-second", 0);
+        if (permitsPerSecond > 0) {
+            globalRateLimiter = RateLimiter.create(permitsPerSecond);
+        }
+
         if (commandLine.hasOption('f')) {
             ignoreMaxAttempts = true;
         }
@@ -106,19 +139,111 @@ public class OrcidBulkPush extends DSpaceRunnable<OrcidBulkPushScriptConfigurati
 
     /**
      * Find all the Orcid Queue records that need to be synchronized and perform the
-     * synchronization.
+     * synchronization. The records are grouped by profile: the records of the same
+     * profile are synchronized in order by the same thread, while the profiles are
+     * synchronized in parallel by {@code orcid.bulk-synchronization.threads}
+     * threads.
      */
-    private void performBulkSynchronization() throws SQLException {
+    private void performBulkSynchronization() throws Exception {
 
         List<OrcidQueue> queueRecords = findQueueRecordsToSynchronize();
         handler.logInfo("Found " + queueRecords.size() + " queue records to synchronize with ORCID");
 
+        Map<UUID, List<Integer>> recordsByProfileItem = new LinkedHashMap<>();
         for (OrcidQueue queueRecord : queueRecords) {
-            performSynchronization(queueRecord);
+            recordsByProfileItem.computeIfAbsent(queueRecord.getProfileItem().getID(), id -> new ArrayList<>())
+                .add(queueRecord.getID());
+        }
+
+        if (recordsByProfileItem.isEmpty()) {
+            return;
+        }
+
+        ConcurrentLinkedQueue<List<Integer>> profiles = new ConcurrentLinkedQueue<>(recordsByProfileItem.values());
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        int threads = configurationService.getIntProperty("orcid.bulk-synchronization.threads", 1);
+        int workers = Math.max(1, Math.min(threads, profiles.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(workers, new DaemonThreadFactory("orcid-bulk-push"));
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                runSynchronizationWorker(profiles, proceed);
+                return null;
+            }));
+        }
+        executor.shutdown();
+        Exception failure = null;
+        try {
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            proceed.set(false);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        if (failure != null) {
+            throw failure;
         }
 
     }
 
+    /**
+     * Synchronize the records of the profiles taken from the queue until it is
+     * empty, using a dedicated Context. The outcome of each request sent to
+     * ORCID is committed at once, while the attempts of the records that were
+     * not synchronized are committed every
+     * {@code orcid.bulk-synchronization.batch-size} records.
+     */
+    private void runSynchronizationWorker(ConcurrentLinkedQueue<List<Integer>> profiles, AtomicBoolean proceed)
+        throws SQLException {
+        int batchSize = configurationService.getIntProperty("orcid.bulk-synchronization.batch-size", 20);
+        Context workerContext = new Context();
+        try {
+            if (context.getCurrentUser() != null) {
+                workerContext.setCurrentUser(workerContext.reloadEntity(context.getCurrentUser()));
+            }
+            workerContext.turnOffAuthorisationSystem();
+
+            int processed = 0;
+            List<Integer> failedRecordIds = new ArrayList<>();
+            List<Integer> queueRecordIds;
+            while (proceed.get() && (queueRecordIds = profiles.poll()) != null) {
+                for (Integer queueRecordId : queueRecordIds) {
+                    if (!proceed.get()) {
+                        break;
+                    }
+                    if (!performSynchronization(workerContext, queueRecordId, proceed)) {
+                        failedRecordIds.add(queueRecordId);
+                    }
+                    if (failedRecordIds.size() >= batchSize) {
+                        incrementAttempts(workerContext, failedRecordIds);
+                    }
+                    if (++processed % batchSize == 0) {
+                        workerContext.uncacheEntities();
+                    }
+                }
+            }
+            incrementAttempts(workerContext, failedRecordIds);
+            workerContext.complete();
+        } catch (SQLException | RuntimeException e) {
+            proceed.set(false);
+            throw e;
+        } finally {
+            if (workerContext.isValid()) {
+                workerContext.abort();
+            }
+        }
+    }
+
     /**
      * Returns all the stored Orcid Queue records (ignoring or not the max attempts)
      * related to a profile that has the synchronization mode set to BATCH.
@@ -146,35 +271,118 @@ public class OrcidBulkPush extends DSpaceRunnable<OrcidBulkPushScriptConfigurati
 
     /**
      * Try to synchronize the given queue record with ORCID, handling any errors.
+     * The changes made for a record that fails with an error are rolled back.
+     *
+     * @return false if the attempts of the record must be incremented
      */
-    private void performSynchronization(OrcidQueue queueRecord) {
+    private boolean performSynchronization(Context workerContext, Integer queueRecordId, AtomicBoolean proceed)
+        throws SQLException {
 
-        try {
+        OrcidQueue queueRecord = orcidQueueService.find(workerContext, queueRecordId);
+        if (queueRecord == null) {
+            return true;
+        }
 
-            queueRecord = reload(queueRecord);
+        logInfo(getOperationInfoMessage(queueRecord));
 
-            handler.logInfo(getOperationInfoMessage(queueRecord));
+        try {
 
-            OrcidHistory orcidHistory = orcidHistoryService.synchronizeWithOrcid(context, queueRecord, false);
+            OrcidHistory orcidHistory = synchronizeWithRetries(workerContext, queueRecord, proceed);
 
-            handler.logInfo(getSynchronizationResultMessage(orcidHistory));
+            logInfo(getSynchronizationResultMessage(orcidHistory));
 
-            commitTransaction();
+            return isSuccessful(orcidHistory);
 
         } catch (OrcidValidationException ex) {
-            rollbackTransaction();
-            handler.logError(getValidationErrorMessage(ex));
+            workerContext.rollback();
+            logError(getValidationErrorMessage(ex));
+        } catch (SQLException ex) {
+            throw ex;
         } catch (Exception ex) {
-            rollbackTransaction();
+            workerContext.rollback();
             String errorMessage = getUnexpectedErrorMessage(ex);
             LOGGER.error(errorMessage, ex);
-            handler.logError(errorMessage);
-        } finally {
-            incrementAttempts(queueRecord);
+            logError(errorMessage);
+        }
+
+        return false;
+
+    }
+
+    /**
+     * Synchronize the given queue record with ORCID, waiting for the global and
+     * the per token rate limits before each request. Requests rejected with a
+     * 429 or 5xx status are retried up to
+     * {@code orcid.bulk-synchronization.max-retries} times, with an exponential
+     * backoff; the history of each failed request is kept.
+     */
+    private OrcidHistory synchronizeWithRetries(Context workerContext, OrcidQueue queueRecord,
+        AtomicBoolean proceed) throws SQLException {
+
+        int maxRetries = configurationService.getIntProperty("orcid.bulk-synchronization.max-retries", 3);
+        long backoff = configurationService.getLongProperty("orcid.bulk-synchronization.retry-backoff", 1000);
+        long maxBackoff = configurationService.getLongProperty("orcid.bulk-synchronization.max-retry-backoff",
+            30000);
+        RateLimiter tokenRateLimiter = getTokenRateLimiter(workerContext, queueRecord.getProfileItem());
+
+        for (int retry = 0; ; retry++) {
+            if (globalRateLimiter != null) {
+                globalRateLimiter.acquire();
+            }
+            if (tokenRateLimiter != null) {
+                tokenRateLimiter.acquire();
+            }
+
+            OrcidHistory orcidHistory = orcidHistoryService.synchronizeWithOrcid(workerContext, queueRecord, false);
+            // ORCID has applied the request: its history record and put code must not be lost with a later failure
+            workerContext.commit();
+            if (!isRetryable(orcidHistory) || retry >= maxRetries || !proceed.get()) {
+                return orcidHistory;
+            }
+
+            long delay = Math.min(backoff << Math.min(retry, 30), maxBackoff);
+            logWarning("History record created with status " + orcidHistory.getStatus() + ". Retrying the "
+                + "synchronization of the queue record with ID " + queueRecord.getID() + " in " + delay + " ms");
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return orcidHistory;
+            }
+            // the commit detached the queue record
+            queueRecord = workerContext.reloadEntity(queueRecord);
+            if (queueRecord == null) {
+                return orcidHistory;
+            }
         }
 
     }
 
+    /**
+     * Returns the rate limiter of the access token of the given profile item,
+     * or null if the requests per token are not limited.
+     */
+    private RateLimiter getTokenRateLimiter(Context workerContext, Item profileItem) {
+        int permitsPerSecond = configurationService.getIntProperty(
+            "orcid.bulk-synchronization.requests-per-second-per-token", 0);
+        if (permitsPerSecond <= 0) {
+            return null;
+        }
+        OrcidToken orcidToken = orcidTokenService.findByProfileItem(workerContext, profileItem);
+        String accessToken = orcidToken != null ? orcidToken.getAccessToken() : profileItem.getID().toString();
+        return rateLimiterByToken.computeIfAbsent(accessToken, token -> RateLimiter.create(permitsPerSecond));
+    }
+
+    private boolean isRetryable(OrcidHistory orcidHistory) {
+        Integer status = orcidHistory.getStatus();
+        return status != null && (status == TOO_MANY_REQUESTS || status >= 500);
+    }
+
+    private boolean isSuccessful(OrcidHistory orcidHistory) {
+        Integer status = orcidHistory.getStatus();
+        return status != null && status >= 200 && status < 300;
+    }
+
     /**
      * Returns the Synchronization mode related to the given profile item.
      */
@@ -257,20 +465,45 @@ public class OrcidBulkPush extends DSpaceRunnable<OrcidBulkPushScriptConfigurati
         return "An unexpected error occurs during the synchronization: " + getRootMessage(ex);
     }
 
-    private void incrementAttempts(OrcidQueue queueRecord) {
-        queueRecord = reload(queueRecord);
-        if (queueRecord == null) {
+    /**
+     * Increment and commit the attempts of the given queue records, then clear
+     * the list.
+     */
+    private void incrementAttempts(Context workerContext, List<Integer> queueRecordIds) throws SQLException {
+        if (queueRecordIds.isEmpty()) {
             return;
         }
+        for (Integer queueRecordId : queueRecordIds) {
+            OrcidQueue queueRecord = orcidQueueService.find(workerContext, queueRecordId);
+            if (queueRecord != null) {
+                queueRecord.setAttempts(queueRecord.getAttempts() != null ? queueRecord.getAttempts() + 1 : 1);
+                orcidQueueService.update(workerContext, queueRecord);
+            }
+        }
+        workerContext.commit();
+        queueRecordIds.clear();
+    }
 
-        try {
-            queueRecord.setAttempts(queueRecord.getAttempts() != null ? queueRecord.getAttempts() + 1 : 1);
-            orcidQueueService.update(context, queueRecord);
-            commitTransaction();
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+    /*
+     * The handler is shared by the worker threads.
+     */
+
+    private void logInfo(String message) {
+        synchronized (handler) {
+            handler.logInfo(message);
         }
+    }
 
+    private void logWarning(String message) {
+        synchronized (handler) {
+            handler.logWarning(message);
+        }
+    }
+
+    private void logError(String message) {
+        synchronized (handler) {
+            handler.logError(message);
+        }
     }
 
     /**
@@ -288,30 +521,6 @@ public class OrcidBulkPush extends DSpaceRunnable<OrcidBulkPushScriptConfigurati
         }
     }
 
-    private OrcidQueue reload(OrcidQueue queueRecord) {
-        try {
-            return context.reloadEntity(queueRecord);
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private void commitTransaction() {
-        try {
-            context.commit();
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private void rollbackTransaction() {
-        try {
-            context.rollback();
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     private String getRootMessage(Exception ex) {
         String message = ExceptionUtils.getRootCauseMessage(ex);
         return isNotEmpty(message) ? message.substring(message.indexOf(":") + 1).trim() : "Generic error";
@@ -29,6 +29,15 @@ public interface ClientInfoService {
      */
     String getClientIp(String remoteIp, String xForwardedForHeaderValue);
 
+    /**
+     * Get the client IP of this request taking into account the X-Forwarded-For header and the "useProxies" setting,
+     * without the anonymization of "client.ip-anonymization.parts". This address must only be used for access
+     * checks, never stored nor logged.
+     * @param request The client HTTP request
+     * @return The IP address of the originating client
+     */
+    String getNonAnonymizedClientIp(HttpServletRequest request);
+
     /**
      * Does DSpace take into account HTTP proxy headers or not
      * @return true if this is the case, false otherwise
@@ -57,6 +57,24 @@ public class ClientInfoServiceImpl implements ClientInfoService {
 
     @Override
     public String getClientIp(String remoteIp, String xForwardedForHeaderValue) {
+        String ip = getNonAnonymizedClientIp(remoteIp, xForwardedForHeaderValue);
+
+        if (isIPv4Address(ip)) {
+            int ipAnonymizationBytes = getIpAnonymizationBytes();
+            if (ipAnonymizationBytes > 0) {
+                ip = anonymizeIpAddress(ip, ipAnonymizationBytes);
+            }
+        }
+
+        return ip;
+    }
+
+    @Override
+    public String getNonAnonymizedClientIp(HttpServletRequest request) {
+        return getNonAnonymizedClientIp(request.getRemoteAddr(), request.getHeader(X_FORWARDED_FOR_HEADER));
+    }
+
+    private String getNonAnonymizedClientIp(String remoteIp, String xForwardedForHeaderValue) {
         String ip = remoteIp;
 
         if (isUseProxiesEnabled()) {
@@ -71,13 +89,6 @@ public class ClientInfoServiceImpl implements ClientInfoService {
                          "To trust X-Forwarded-For headers, set useProxies=true.");
         }
 
-        if (isIPv4Address(ip)) {
-            int ipAnonymizationBytes = getIpAnonymizationBytes();
-            if (ipAnonymizationBytes > 0) {
-                ip = anonymizeIpAddress(ip, ipAnonymizationBytes);
-            }
-        }
-
         return ip;
     }
 
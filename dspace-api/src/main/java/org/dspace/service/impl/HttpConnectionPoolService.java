@@ -119,6 +119,20 @@ public class HttpConnectionPoolService {
         return httpClient;
     }
 
+    /**
+     * Create an HTTP client which uses a pooled connection, with the proxy and
+     * the interceptors of the {@link DSpaceHttpClientFactory}. Closing the
+     * client leaves the pool open.
+     *
+     * @return the client.
+     */
+    public CloseableHttpClient getProxiedClient() {
+        return DSpaceHttpClientFactory.getInstance().build(builder -> builder
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .setConnectionManager(connManager)
+                .setConnectionManagerShared(true));
+    }
+
     /**
      * A connection keep-alive strategy that obeys the Keep-Alive header and
      * applies a default if none is given.
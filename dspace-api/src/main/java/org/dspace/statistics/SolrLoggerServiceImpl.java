@@ -105,6 +105,7 @@ import org.dspace.services.ConfigurationService;
 import org.dspace.statistics.service.SolrLoggerService;
 import org.dspace.statistics.util.LocationUtils;
 import org.dspace.statistics.util.SpiderDetector;
+import org.dspace.usage.UsageEvent;
 import org.dspace.usage.UsageWorkflowEvent;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -283,6 +284,28 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
     @Override
     public void postView(DSpaceObject dspaceObject,
                          String ip, String userAgent, String xforwardedfor, EPerson currentUser, String referrer) {
+        postView(dspaceObject, ip, userAgent, xforwardedfor, currentUser, referrer, SpiderDetector.isSpider(ip));
+    }
+
+    @Override
+    public void postView(Context context, DSpaceObject dspaceObject, UsageEvent event, EPerson currentUser) {
+        // Do not record statistics for Admin users
+        try {
+            if (authorizeService.isAdmin(context, currentUser)) {
+                return;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        boolean isSpiderBot = SpiderDetector.isSpider(event.getIp(), event.getXforwardedfor(),
+                                                      event.getRemoteHost(), event.getUserAgent());
+        postView(dspaceObject, event.getIp(), event.getUserAgent(), event.getXforwardedfor(), currentUser,
+                 event.getReferrer(), isSpiderBot);
+    }
+
+    protected void postView(DSpaceObject dspaceObject, String ip, String userAgent, String xforwardedfor,
+                            EPerson currentUser, String referrer, boolean isSpiderBot) {
         if (dspaceObject instanceof Bitstream && !isBitstreamLoggable((Bitstream) dspaceObject)) {
             return;
         }
@@ -294,7 +317,7 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
 
         try {
             SolrInputDocument doc1 = getCommonSolrDoc(dspaceObject, ip, userAgent, xforwardedfor,
-                                                      currentUser, referrer);
+                                                      currentUser, referrer, isSpiderBot);
             if (doc1 == null) {
                 return;
             }
@@ -446,7 +469,13 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
     protected SolrInputDocument getCommonSolrDoc(DSpaceObject dspaceObject, String ip, String userAgent,
                                                  String xforwardedfor, EPerson currentUser,
                                                  String referrer) throws SQLException {
-        boolean isSpiderBot = SpiderDetector.isSpider(ip);
+        return getCommonSolrDoc(dspaceObject, ip, userAgent, xforwardedfor, currentUser, referrer,
+                                SpiderDetector.isSpider(ip));
+    }
+
+    protected SolrInputDocument getCommonSolrDoc(DSpaceObject dspaceObject, String ip, String userAgent,
+                                                 String xforwardedfor, EPerson currentUser,
+                                                 String referrer, boolean isSpiderBot) throws SQLException {
         if (isSpiderBot &&
             !configurationService.getBooleanProperty("usage-statistics.logBots", true)) {
             return null;
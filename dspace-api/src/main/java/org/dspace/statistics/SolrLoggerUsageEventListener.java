@@ -7,12 +7,18 @@
  */
 package org.dspace.statistics;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.services.model.AsyncEventListener;
 import org.dspace.services.model.Event;
 import org.dspace.statistics.service.SolrLoggerService;
 import org.dspace.usage.AbstractUsageEventListener;
@@ -24,10 +30,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 /**
  * Simple SolrLoggerUsageEvent facade to separate Solr specific
  * logging implementation from DSpace.
+ * <p>
+ * Views are logged asynchronously, after the request ended: the request data
+ * is captured by {@link UsageEvent#detach()} and the object is reloaded in a
+ * new Context. Searches and workflow events are logged synchronously.
  *
  * @author mdiggory
  */
-public class SolrLoggerUsageEventListener extends AbstractUsageEventListener {
+public class SolrLoggerUsageEventListener extends AbstractUsageEventListener implements AsyncEventListener {
 
     private static final Logger log = LogManager.getLogger(SolrLoggerUsageEventListener.class);
 
@@ -38,6 +48,14 @@ public class SolrLoggerUsageEventListener extends AbstractUsageEventListener {
         this.solrLoggerService = solrLoggerService;
     }
 
+    @Override
+    public Event prepareEvent(Event event) {
+        if (event instanceof UsageEvent ue && UsageEvent.Action.VIEW == ue.getAction() && ue.getRequest() != null) {
+            return ue.detach();
+        }
+        return null;
+    }
+
     @Override
     public void receiveEvent(Event event) {
 
@@ -49,7 +67,9 @@ public class SolrLoggerUsageEventListener extends AbstractUsageEventListener {
                 EPerson currentUser = ue.getContext() == null ? null : ue.getContext().getCurrentUser();
 
                 if (UsageEvent.Action.VIEW == ue.getAction()) {
-                    if (ue.getRequest() != null) {
+                    if (ue.isDetached()) {
+                        postDetachedView(ue, currentUser);
+                    } else if (ue.getRequest() != null) {
                         solrLoggerService.postView(ue.getObject(), ue.getRequest(), currentUser, ue.getReferrer());
                     } else {
                         solrLoggerService.postView(ue.getObject(), ue.getIp(), ue.getUserAgent(), ue.getXforwardedfor(),
@@ -76,4 +96,26 @@ public class SolrLoggerUsageEventListener extends AbstractUsageEventListener {
 
     }
 
+    /**
+     * Log a view detached from its request, reloading the object and the user
+     * in a new Context as the one of the request may be closed.
+     */
+    private void postDetachedView(UsageEvent ue, EPerson currentUser) throws SQLException {
+        Context context = new Context(Context.Mode.READ_ONLY);
+        try {
+            DSpaceObject object = ContentServiceFactory.getInstance().getDSpaceObjectService(ue.getObject())
+                                                       .find(context, ue.getObject().getID());
+            EPerson user = currentUser == null ? null
+                : EPersonServiceFactory.getInstance().getEPersonService().find(context, currentUser.getID());
+            if (object != null) {
+                solrLoggerService.postView(context, object, ue, user);
+            }
+            context.complete();
+        } finally {
+            if (context.isValid()) {
+                context.abort();
+            }
+        }
+    }
+
 }
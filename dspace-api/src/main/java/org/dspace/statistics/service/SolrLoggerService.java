@@ -21,6 +21,7 @@ import org.dspace.content.DSpaceObject;
 import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
 import org.dspace.statistics.ObjectCount;
+import org.dspace.usage.UsageEvent;
 import org.dspace.usage.UsageWorkflowEvent;
 
 /**
@@ -73,6 +74,17 @@ public interface SolrLoggerService {
     public void postView(DSpaceObject dspaceObject,
                          String ip, String userAgent, String xforwardedfor, EPerson currentUser, String referrer);
 
+    /**
+     * Store a usage event read from a request which may have ended already.
+     * The object and user are expected to be loaded in the given context.
+     *
+     * @param context      the DSpace context.
+     * @param dspaceObject the object used.
+     * @param event        the usage event, detached from its request by {@link UsageEvent#detach()}.
+     * @param currentUser  the user of the request.
+     */
+    public void postView(Context context, DSpaceObject dspaceObject, UsageEvent event, EPerson currentUser);
+
     public void postSearch(DSpaceObject resultObject, HttpServletRequest request, EPerson currentUser,
                            List<String> queries, int rpp, String sortBy, String order, int page, DSpaceObject scope);
 
@@ -12,6 +12,8 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.dspace.content.Bitstream;
 
 /**
@@ -45,6 +47,25 @@ public interface BitStoreService {
      */
     public InputStream get(Bitstream bitstream) throws IOException;
 
+    /**
+     * Retrieve a range of the bits for bitstream. Stores able to serve partial
+     * content (e.g. S3 ranged GETs) should override this method so that only the
+     * requested bytes are transferred; the default implementation skips and
+     * truncates the full stream.
+     *
+     * @param bitstream DSpace Bitstream object
+     * @param offset    position of the first byte to return
+     * @param length    maximum number of bytes to return
+     * @return The stream of bits, at most length bytes long
+     * @throws java.io.IOException If a problem occurs while retrieving the bits, or if no
+     *                             asset with ID exists in the store
+     */
+    public default InputStream get(Bitstream bitstream, long offset, long length) throws IOException {
+        InputStream in = get(bitstream);
+        IOUtils.skip(in, offset);
+        return BoundedInputStream.builder().setInputStream(in).setMaxCount(length).get();
+    }
+
     /**
      * Store a stream of bits.
      *
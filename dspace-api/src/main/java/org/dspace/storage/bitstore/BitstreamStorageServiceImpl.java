@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nullable;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -30,6 +31,7 @@ import org.dspace.content.service.BitstreamService;
 import org.dspace.core.Context;
 import org.dspace.core.Utils;
 import org.dspace.services.ConfigurationService;
+import org.dspace.services.MetricsService;
 import org.dspace.storage.bitstore.service.BitstreamStorageService;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -75,6 +77,8 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
     protected BitstreamLinkingService bitstreamLinkingService;
     @Autowired(required = true)
     protected ConfigurationService configurationService;
+    @Autowired(required = true)
+    protected MetricsService metricsService;
 
     /**
      * asset stores
@@ -124,7 +128,15 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
 
         BitStoreService store = this.getStore(incoming);
         //For efficiencies sake, PUT is responsible for setting bitstream size_bytes, checksum, and checksum_algorithm
-        store.put(bitstream, is);
+        String storeTag = String.valueOf(incoming);
+        Timer.Sample sample = Timer.start();
+        try {
+            store.put(bitstream, is);
+        } finally {
+            sample.stop(metricsService.getTimer("dspace.bitstore.store", "store", storeTag));
+        }
+        metricsService.getCounter("dspace.bitstore.stored.bytes", "store", storeTag)
+                      .increment(bitstream.getSizeBytes());
         //bitstream.setSizeBytes(file.length());
         //bitstream.setChecksum(Utils.toHex(dis.getMessageDigest().digest()));
         //bitstream.setChecksumAlgorithm("MD5");
@@ -221,7 +233,33 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
     public InputStream retrieve(Context context, Bitstream bitstream)
         throws SQLException, IOException {
         Integer storeNumber = bitstream.getStoreNumber();
-        return this.getStore(storeNumber).get(bitstream);
+        Timer.Sample sample = Timer.start();
+        try {
+            return this.getStore(storeNumber).get(bitstream);
+        } finally {
+            recordRetrieve(sample, storeNumber, bitstream.getSizeBytes());
+        }
+    }
+
+    @Override
+    public InputStream retrieve(Context context, Bitstream bitstream, long offset, long length)
+        throws SQLException, IOException {
+        Integer storeNumber = bitstream.getStoreNumber();
+        Timer.Sample sample = Timer.start();
+        try {
+            return this.getStore(storeNumber).get(bitstream, offset, length);
+        } finally {
+            recordRetrieve(sample, storeNumber, length);
+        }
+    }
+
+    /**
+     * Record the time taken to open a bitstream (not to read it) and the number of bytes requested.
+     */
+    private void recordRetrieve(Timer.Sample sample, Integer storeNumber, long bytes) {
+        String storeTag = String.valueOf(storeNumber);
+        sample.stop(metricsService.getTimer("dspace.bitstore.retrieve", "store", storeTag));
+        metricsService.getCounter("dspace.bitstore.retrieved.bytes", "store", storeTag).increment(bytes);
     }
 
     @Override
@@ -357,6 +357,38 @@ public class S3BitStoreService extends BaseBitStoreService {
         }
     }
 
+    /**
+     * Retrieve a range of the bits for the asset with ID using a ranged GET, so
+     * that only the requested bytes are transferred from the bucket.
+     *
+     * @param bitstream The ID of the asset to retrieve
+     * @param offset    position of the first byte to return
+     * @param length    maximum number of bytes to return
+     * @return The stream of bits
+     * @throws java.io.IOException If a problem occurs while retrieving the bits
+     */
+    @Override
+    public InputStream get(Bitstream bitstream, long offset, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        String key = getFullKey(bitstream.getInternalId());
+        // Strip -R from bitstream key if it's registered
+        if (isRegisteredBitstream(key)) {
+            key = key.substring(REGISTERED_FLAG.length());
+        }
+
+        final String objectKey = key;
+        final String range = "bytes=" + offset + "-" + (offset + length - 1);
+
+        try {
+            return s3AsyncClient.getObject(r -> r.bucket(bucketName).key(objectKey).range(range),
+                AsyncResponseTransformer.toBlockingInputStream()).join();
+        } catch (CompletionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
     /**
      * Store a stream of bits.
      *
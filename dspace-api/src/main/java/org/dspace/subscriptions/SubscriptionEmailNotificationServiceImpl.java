@@ -15,32 +15,52 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.authorize.service.ResourcePolicyService;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
 import org.dspace.content.DSpaceObject;
 import org.dspace.content.Item;
 import org.dspace.core.Context;
 import org.dspace.discovery.IndexableObject;
+import org.dspace.discovery.SearchServiceException;
+import org.dspace.discovery.indexobject.IndexableItem;
 import org.dspace.eperson.EPerson;
+import org.dspace.eperson.Group;
 import org.dspace.eperson.Subscription;
+import org.dspace.eperson.service.GroupService;
 import org.dspace.eperson.service.SubscribeService;
 import org.dspace.scripts.DSpaceRunnable;
 import org.dspace.scripts.handler.DSpaceRunnableHandler;
+import org.dspace.services.ConfigurationService;
 import org.dspace.subscriptions.service.DSpaceObjectUpdates;
 import org.dspace.subscriptions.service.SubscriptionGenerator;
+import org.dspace.utils.DaemonThreadFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 /**
- * Implementation of {@link DSpaceRunnable} to find subscribed objects and send notification mails about them
+ * Implementation of {@link DSpaceRunnable} to find subscribed objects and send notification mails about them.
+ * The updates of each subscribed object are found once for all its subscribers, and the subscribers are
+ * notified on {@code subscription.threads} threads.
  *
  * @author alba aliu
  */
@@ -57,6 +77,12 @@ public class SubscriptionEmailNotificationServiceImpl implements SubscriptionEma
     private AuthorizeService authorizeService;
     @Autowired
     private SubscribeService subscribeService;
+    @Autowired
+    private ConfigurationService configurationService;
+    @Autowired
+    private GroupService groupService;
+    @Autowired
+    private ResourcePolicyService resourcePolicyService;
 
     @SuppressWarnings("rawtypes")
     public SubscriptionEmailNotificationServiceImpl(Map<String, DSpaceObjectUpdates> contentUpdates,
@@ -65,73 +91,49 @@ public class SubscriptionEmailNotificationServiceImpl implements SubscriptionEma
         this.subscriptionType2generators = subscriptionType2generators;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @SuppressWarnings("rawtypes")
     public void perform(Context context, DSpaceRunnableHandler handler, String subscriptionType, String frequency) {
-        Map<DSpaceObject, List<IndexableObject>> communityItemsMap = new HashMap<>();
-        Map<DSpaceObject, List<IndexableObject>> collectionsItemsMap = new HashMap<>();
         EPerson currentEperson = context.getCurrentUser();
+        long start = System.currentTimeMillis();
         try {
+            // Here is verified if SubscriptionType is "content" Or "statistics" as them are configured
+            if (!subscriptionType2generators.containsKey(subscriptionType)) {
+                throw new IllegalArgumentException("Currently this SubscriptionType:" + subscriptionType +
+                                                   " is not supported!");
+            }
             List<Subscription> subscriptions =
                                findAllSubscriptionsBySubscriptionTypeAndFrequency(context, subscriptionType, frequency);
-            // Here is verified if SubscriptionType is "content" Or "statistics" as them are configured
-            if (subscriptionType2generators.containsKey(subscriptionType)) {
-                // the list of the person who has subscribed
-                int iterator = 0;
-                for (Subscription subscription : subscriptions) {
-                    DSpaceObject dSpaceObject = subscription.getDSpaceObject();
-                    EPerson ePerson = subscription.getEPerson();
-                    // Set the current user to the subscribed eperson because the Solr query checks
-                    // the permissions of the current user in the ANONYMOUS group.
-                    // If there is no user (i.e., `current user = null`), it will send an email with no new items.
-                    context.setCurrentUser(ePerson);
-                    if (!authorizeService.authorizeActionBoolean(context, ePerson, dSpaceObject, READ, true)) {
-                        iterator++;
-                        continue;
-                    }
-
-                    if (dSpaceObject.getType() == COMMUNITY) {
-                        List<IndexableObject> indexableCommunityItems = contentUpdates
-                                .get(Community.class.getSimpleName().toLowerCase())
-                                .findUpdates(context, dSpaceObject, frequency);
-                        List<IndexableObject> filteredItems = getItems(context, ePerson, indexableCommunityItems);
-                        if (!filteredItems.isEmpty()) {
-                            communityItemsMap.put(dSpaceObject, filteredItems);
-                        }
-                    } else if (dSpaceObject.getType() == COLLECTION) {
-                        List<IndexableObject> indexableCollectionItems = contentUpdates
-                                .get(Collection.class.getSimpleName().toLowerCase())
-                                .findUpdates(context, dSpaceObject, frequency);
-                        List<IndexableObject> filteredItems = getItems(context, ePerson, indexableCollectionItems);
-                        if (!filteredItems.isEmpty()) {
-                            collectionsItemsMap.put(dSpaceObject, filteredItems);
-                        }
-                    } else {
-                        log.warn("found an invalid DSpace Object type ({}) among subscriptions to send",
-                                 dSpaceObject.getType());
-                        continue;
-                    }
+            // the subscribed objects of each person, as the subscriptions are ordered by eperson id
+            Map<EPerson, List<DSpaceObject>> subscribedObjects = new LinkedHashMap<>();
+            for (Subscription subscription : subscriptions) {
+                subscribedObjects.computeIfAbsent(subscription.getEPerson(), ePerson -> new ArrayList<>())
+                                 .add(subscription.getDSpaceObject());
+            }
 
-                    if (iterator < subscriptions.size() - 1) {
-                        // as the subscriptions are ordered by eperson id, so we send them by ePerson
-                        if (ePerson.equals(subscriptions.get(iterator + 1).getEPerson())) {
-                            iterator++;
-                            continue;
-                        } else {
-                            subscriptionType2generators.get(subscriptionType)
-                                .notifyForSubscriptions(context, ePerson, communityItemsMap, collectionsItemsMap);
-                            communityItemsMap.clear();
-                            collectionsItemsMap.clear();
-                        }
-                    } else {
-                        //in the end of the iteration
-                        subscriptionType2generators.get(subscriptionType)
-                            .notifyForSubscriptions(context, ePerson, communityItemsMap, collectionsItemsMap);
+            Map<UUID, List<Item>> updates = findUpdates(context, subscriptions, frequency);
+            SubscriptionGenerator generator = subscriptionType2generators.get(subscriptionType);
+            Map<String, Boolean> readDecisions = new ConcurrentHashMap<>();
+            AtomicInteger notified = new AtomicInteger();
+            int threads = configurationService.getIntProperty("subscription.threads", 1);
+            if (threads > 1 && subscribedObjects.size() > 1) {
+                notifySubscribersConcurrently(threads, generator, subscribedObjects, updates, readDecisions,
+                                              notified);
+            } else {
+                for (Map.Entry<EPerson, List<DSpaceObject>> entry : subscribedObjects.entrySet()) {
+                    if (notifySubscriber(context, generator, entry.getKey(), entry.getValue(), updates,
+                                         readDecisions)) {
+                        notified.incrementAndGet();
                     }
-                    iterator++;
                 }
-            } else {
-                throw new IllegalArgumentException("Currently this SubscriptionType:" + subscriptionType +
-                                                   " is not supported!");
+            }
+
+            String report = String.format("Processed %d %s subscriptions of %d subscribers with %d queries, " +
+                                              "%d subscribers notified of updates in %d ms", subscriptions.size(),
+                                          subscriptionType, subscribedObjects.size(), updates.size(),
+                                          notified.get(), System.currentTimeMillis() - start);
+            log.info(report);
+            if (handler != null) {
+                handler.logInfo(report);
             }
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -142,17 +144,184 @@ public class SubscriptionEmailNotificationServiceImpl implements SubscriptionEma
         context.setCurrentUser(currentEperson);
     }
 
+    /**
+     * Find the updated items of each subscribed object once, whoever the subscribers are. The query is run
+     * without any restriction of the current user, the items are filtered for each subscriber afterwards.
+     *
+     * @return the updated items by subscribed object ID
+     */
     @SuppressWarnings("rawtypes")
-    private List<IndexableObject> getItems(Context context, EPerson ePerson, List<IndexableObject> indexableItems)
-            throws SQLException {
-        List<IndexableObject> items = new ArrayList<IndexableObject>();
-        for (IndexableObject indexableitem : indexableItems) {
-            Item item = (Item) indexableitem.getIndexedObject();
-            if (authorizeService.authorizeActionBoolean(context, ePerson, item, READ, true)) {
-                items.add(indexableitem);
+    private Map<UUID, List<Item>> findUpdates(Context context, List<Subscription> subscriptions, String frequency)
+        throws SearchServiceException {
+        int maxResults = configurationService.getIntProperty("subscription.updates.max-results", 100);
+        Map<UUID, List<Item>> updates = new HashMap<>();
+        context.turnOffAuthorisationSystem();
+        try {
+            for (Subscription subscription : subscriptions) {
+                DSpaceObject dSpaceObject = subscription.getDSpaceObject();
+                if (updates.containsKey(dSpaceObject.getID())) {
+                    continue;
+                }
+                DSpaceObjectUpdates objectUpdates;
+                if (dSpaceObject.getType() == COMMUNITY) {
+                    objectUpdates = contentUpdates.get(Community.class.getSimpleName().toLowerCase());
+                } else if (dSpaceObject.getType() == COLLECTION) {
+                    objectUpdates = contentUpdates.get(Collection.class.getSimpleName().toLowerCase());
+                } else {
+                    log.warn("found an invalid DSpace Object type ({}) among subscriptions to send",
+                             dSpaceObject.getType());
+                    continue;
+                }
+                List<Item> items = new ArrayList<>();
+                for (IndexableObject indexableObject : objectUpdates.findUpdates(context, dSpaceObject, frequency,
+                                                                                 maxResults)) {
+                    items.add((Item) indexableObject.getIndexedObject());
+                }
+                updates.put(dSpaceObject.getID(), items);
             }
+        } finally {
+            context.restoreAuthSystemState();
+        }
+        return updates;
+    }
+
+    /**
+     * Notify the subscribers on {@code subscription.threads} worker threads, each with its own Context.
+     */
+    @SuppressWarnings("rawtypes")
+    private void notifySubscribersConcurrently(int threads, SubscriptionGenerator generator,
+                                               Map<EPerson, List<DSpaceObject>> subscribedObjects,
+                                               Map<UUID, List<Item>> updates, Map<String, Boolean> readDecisions,
+                                               AtomicInteger notified) throws Exception {
+        ConcurrentLinkedQueue<Map.Entry<EPerson, List<DSpaceObject>>> subscribers =
+            new ConcurrentLinkedQueue<>(subscribedObjects.entrySet());
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        int workers = Math.min(threads, subscribers.size());
+        ExecutorService executor = Executors.newFixedThreadPool(workers, new DaemonThreadFactory("subscription-email"));
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                Context workerContext = new Context(Context.Mode.READ_ONLY);
+                try {
+                    Map.Entry<EPerson, List<DSpaceObject>> subscriber;
+                    while (proceed.get() && (subscriber = subscribers.poll()) != null) {
+                        EPerson ePerson = workerContext.reloadEntity(subscriber.getKey());
+                        List<DSpaceObject> dSpaceObjects = new ArrayList<>();
+                        for (DSpaceObject dSpaceObject : subscriber.getValue()) {
+                            dSpaceObjects.add(workerContext.reloadEntity(dSpaceObject));
+                        }
+                        if (notifySubscriber(workerContext, generator, ePerson, dSpaceObjects, updates,
+                                             readDecisions)) {
+                            notified.incrementAndGet();
+                        }
+                    }
+                    workerContext.complete();
+                } catch (Exception e) {
+                    proceed.set(false);
+                    throw e;
+                } finally {
+                    if (workerContext.isValid()) {
+                        workerContext.abort();
+                    }
+                }
+                return null;
+            }));
+        }
+        executor.shutdown();
+        Exception failure = null;
+        try {
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            proceed.set(false);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Send the updates of the subscribed objects which can be read by a subscriber.
+     *
+     * @return true if the subscriber has been notified of some updates
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private boolean notifySubscriber(Context context, SubscriptionGenerator generator, EPerson ePerson,
+                                     List<DSpaceObject> dSpaceObjects, Map<UUID, List<Item>> updates,
+                                     Map<String, Boolean> readDecisions) throws SQLException {
+        Map<DSpaceObject, List<IndexableObject>> communityItemsMap = new HashMap<>();
+        Map<DSpaceObject, List<IndexableObject>> collectionsItemsMap = new HashMap<>();
+        // Set the current user to the subscribed eperson, the READ permissions are checked for this user
+        context.setCurrentUser(ePerson);
+        String groupsKey = getGroupsKey(context, ePerson);
+        for (DSpaceObject dSpaceObject : dSpaceObjects) {
+            List<Item> items = updates.get(dSpaceObject.getID());
+            if (items == null || !canRead(context, ePerson, dSpaceObject, groupsKey, readDecisions)) {
+                continue;
+            }
+            List<IndexableObject> filteredItems = new ArrayList<>();
+            for (Item item : items) {
+                Item reloadedItem = context.reloadEntity(item);
+                if (reloadedItem != null && canRead(context, ePerson, reloadedItem, groupsKey, readDecisions)) {
+                    filteredItems.add(new IndexableItem(reloadedItem));
+                }
+            }
+            if (filteredItems.isEmpty()) {
+                continue;
+            }
+            if (dSpaceObject.getType() == COMMUNITY) {
+                communityItemsMap.put(dSpaceObject, filteredItems);
+            } else {
+                collectionsItemsMap.put(dSpaceObject, filteredItems);
+            }
+        }
+        generator.notifyForSubscriptions(context, ePerson, communityItemsMap, collectionsItemsMap);
+        return !communityItemsMap.isEmpty() || !collectionsItemsMap.isEmpty();
+    }
+
+    /**
+     * Check the READ permission of a subscriber on an object. The decisions are shared by the subscribers
+     * with the same groups, unless the permissions of the subscriber depend on the subscriber's own policies.
+     */
+    private boolean canRead(Context context, EPerson ePerson, DSpaceObject dSpaceObject, String groupsKey,
+                            Map<String, Boolean> readDecisions) throws SQLException {
+        if (groupsKey == null) {
+            return authorizeService.authorizeActionBoolean(context, ePerson, dSpaceObject, READ, true);
+        }
+        String key = dSpaceObject.getID() + groupsKey;
+        Boolean decision = readDecisions.get(key);
+        if (decision == null) {
+            decision = authorizeService.authorizeActionBoolean(context, ePerson, dSpaceObject, READ, true);
+            readDecisions.put(key, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * @return the sorted IDs of the groups of a subscriber, or null if the subscriber has own policies
+     */
+    private String getGroupsKey(Context context, EPerson ePerson) throws SQLException {
+        if (!resourcePolicyService.find(context, ePerson).isEmpty()) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder();
+        for (UUID group : groupService.allMemberGroupsSet(context, ePerson).stream()
+                                      .map(Group::getID)
+                                      .collect(Collectors.toCollection(TreeSet::new))) {
+            key.append(':').append(group);
         }
-        return items;
+        return key.toString();
     }
 
     /**
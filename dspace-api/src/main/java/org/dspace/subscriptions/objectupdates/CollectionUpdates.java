@@ -33,9 +33,10 @@ public class CollectionUpdates implements DSpaceObjectUpdates {
 
     @Override
     @SuppressWarnings("rawtypes")
-    public List<IndexableObject> findUpdates(Context context, DSpaceObject dSpaceObject, String frequency)
-            throws SearchServiceException {
+    public List<IndexableObject> findUpdates(Context context, DSpaceObject dSpaceObject, String frequency,
+                                             int maxResults) throws SearchServiceException {
         DiscoverQuery discoverQuery = new DiscoverQuery();
+        discoverQuery.setMaxResults(maxResults);
         getDefaultFilterQueries().stream().forEach(fq -> discoverQuery.addFilterQueries(fq));
         discoverQuery.addFilterQueries("location.coll:(" + dSpaceObject.getID() + ")");
         discoverQuery.addFilterQueries("lastModified:" + FrequencyType.findLastFrequency(frequency));
@@ -29,8 +29,22 @@ public interface DSpaceObjectUpdates {
      * @param context current DSpace session.
      */
     @SuppressWarnings("rawtypes")
-    public List<IndexableObject> findUpdates(Context context, DSpaceObject dSpaceObject, String frequency)
-            throws SearchServiceException;
+    default List<IndexableObject> findUpdates(Context context, DSpaceObject dSpaceObject, String frequency)
+            throws SearchServiceException {
+        return findUpdates(context, dSpaceObject, frequency, -1);
+    }
+
+    /**
+     * Find the objects updated in the given frequency period, related with the subscribed DSO.
+     *
+     * @param context      current DSpace session.
+     * @param dSpaceObject the subscribed DSO
+     * @param frequency    the frequency of the subscription
+     * @param maxResults   the maximum number of objects to return, or -1 for the default of the search service
+     */
+    @SuppressWarnings("rawtypes")
+    public List<IndexableObject> findUpdates(Context context, DSpaceObject dSpaceObject, String frequency,
+                                             int maxResults) throws SearchServiceException;
 
     default List<String> getDefaultFilterQueries() {
         return Arrays.asList("search.resourcetype:" + Item.class.getSimpleName(),
@@ -20,6 +20,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dspace.core.Constants;
 import org.dspace.services.ConfigurationService;
+import org.dspace.services.model.AsyncEventListener;
 import org.dspace.services.model.Event;
 import org.dspace.utils.DSpace;
 
@@ -30,12 +31,13 @@ import org.dspace.utils.DSpace;
  * will be interpreted as relative to the directory named in {@code log.dir}.
  * If no name is configured, it defaults to "usage-events.tsv".  If the file is
  * new or empty, a column heading record will be written when the file is opened.
+ * The records are written asynchronously, in the order of the events.
  *
  * @author Mark H. Wood
  * @author Mark Diggory
  */
 public class TabFileUsageEventListener
-    extends AbstractUsageEventListener {
+    extends AbstractUsageEventListener implements AsyncEventListener {
     /**
      * log category.
      */
@@ -97,6 +99,16 @@ public class TabFileUsageEventListener
         initialized = true;
     }
 
+    @Override
+    public Event prepareEvent(Event event) {
+        if (!(event instanceof UsageEvent ue) || ue.getRequest() == null) {
+            return null;
+        }
+        // the record always has a session ID
+        ue.getRequest().getSession();
+        return ue.detach();
+    }
+
     @Override
     public synchronized void receiveEvent(Event event) {
         if (!initialized) {
@@ -119,8 +131,8 @@ public class TabFileUsageEventListener
                 .append('\t').append(ue.getName()) // event type
                 .append('\t').append(Constants.typeText[ue.getObject().getType()])
                 .append('\t').append(ue.getObject().getID().toString())
-                .append('\t').append(ue.getRequest().getSession().getId())
-                .append('\t').append(ue.getRequest().getRemoteAddr());
+                .append('\t').append(ue.isDetached() ? ue.getSessionId() : ue.getRequest().getSession().getId())
+                .append('\t').append(ue.isDetached() ? ue.getIp() : ue.getRequest().getRemoteAddr());
 
         String epersonName = (null == ue.getContext().getCurrentUser()
             ? "anonymous"
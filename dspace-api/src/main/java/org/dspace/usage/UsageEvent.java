@@ -8,6 +8,7 @@
 package org.dspace.usage;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import org.dspace.content.DSpaceObject;
 import org.dspace.core.Constants;
 import org.dspace.core.Context;
@@ -66,6 +67,12 @@ public class UsageEvent extends Event {
 
     private String referrer;
 
+    private String remoteHost;
+
+    private String sessionId;
+
+    private boolean detached;
+
     private static String checkParams(Action action, HttpServletRequest request, Context context, DSpaceObject object) {
         StringBuilder eventName = new StringBuilder();
         if (action == null) {
@@ -195,6 +202,42 @@ public class UsageEvent extends Event {
     }
 
 
+    /**
+     * Copy this event for a listener receiving it after the request ended, see
+     * {@link org.dspace.services.model.AsyncEventListener#prepareEvent}. The
+     * copy has no request: the client IP address, user agent, X-Forwarded-For
+     * header, remote host, session ID (if a session exists) and referrer are
+     * read from the request up front instead. The Context of the copy may be
+     * closed when the listener receives it, only its current user should be
+     * used.
+     *
+     * @return a copy of this event without request, or this event if it has none
+     */
+    public UsageEvent detach() {
+        if (request == null) {
+            return this;
+        }
+        UsageEvent copy = new UsageEvent(action, request.getRemoteAddr(), request.getHeader("User-Agent"),
+                                         request.getHeader("X-Forwarded-For"), context, object);
+        copy.setId(getId());
+        copy.setUserId(getUserId());
+        copy.setScopes(getScopes());
+        copy.setProperties(getProperties());
+        copy.setReferrer(referrer != null ? referrer : request.getHeader("referer"));
+        copy.setRemoteHost(request.getRemoteHost());
+        HttpSession session = request.getSession(false);
+        copy.setSessionId(session == null ? null : session.getId());
+        copy.detached = true;
+        return copy;
+    }
+
+    /**
+     * @return true if this event was copied from a request by {@link #detach()}
+     */
+    public boolean isDetached() {
+        return detached;
+    }
+
     public HttpServletRequest getRequest() {
         return request;
     }
@@ -254,4 +297,20 @@ public class UsageEvent extends Event {
     public void setReferrer(String referrer) {
         this.referrer = referrer;
     }
+
+    public String getRemoteHost() {
+        return remoteHost;
+    }
+
+    public void setRemoteHost(String remoteHost) {
+        this.remoteHost = remoteHost;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
 }
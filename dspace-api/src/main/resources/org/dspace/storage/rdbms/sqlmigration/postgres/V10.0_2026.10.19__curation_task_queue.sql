@@ -0,0 +1,29 @@
+--
+-- The contents of this file are subject to the license and copyright
+-- detailed in the LICENSE and NOTICE files at the root of the source
+-- tree and available online at
+--
+-- http://www.dspace.org/license/
+--
+
+-----------------------------------------------------------------------------------
+-- Create table for the database backed curation task queue
+-----------------------------------------------------------------------------------
+
+CREATE SEQUENCE curation_task_queue_id_seq;
+
+CREATE TABLE curation_task_queue
+(
+    id INTEGER NOT NULL DEFAULT nextval('curation_task_queue_id_seq'),
+    queue_name CHARACTER VARYING(255) NOT NULL,
+    eperson_id CHARACTER VARYING(255),
+    submit_time TIMESTAMP NOT NULL,
+    tasks TEXT NOT NULL,
+    object_id CHARACTER VARYING(255) NOT NULL,
+    lease_ticket BIGINT,
+    lease_expires TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT curation_task_queue_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX curation_task_queue_queue_name_idx ON curation_task_queue(queue_name, id);
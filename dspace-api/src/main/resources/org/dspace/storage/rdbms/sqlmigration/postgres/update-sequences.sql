@@ -22,6 +22,7 @@
 SELECT setval('alert_id_seq', max(alert_id)) FROM systemwidealert;
 SELECT setval('bitstreamformatregistry_seq', max(bitstream_format_id)) FROM bitstreamformatregistry;
 SELECT setval('checksum_history_check_id_seq', max(check_id)) FROM checksum_history;
+SELECT setval('curation_task_queue_id_seq', max(id)) FROM curation_task_queue;
 SELECT setval('cwf_claimtask_seq', max(claimtask_id)) FROM cwf_claimtask;
 SELECT setval('cwf_collectionrole_seq', max(collectionrole_id)) FROM cwf_collectionrole;
 SELECT setval('cwf_in_progress_user_seq', max(in_progress_user_id)) FROM cwf_in_progress_user;
@@ -13,9 +13,12 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.apache.commons.codec.CharEncoding;
 import org.apache.commons.io.IOUtils;
@@ -227,6 +230,85 @@ public class ItemExportCLIIT extends AbstractIntegrationTestWithDatabase {
         checkZip(zipFileName);
     }
 
+    @Test
+    public void exportZipItemWithBitstreamsEntries() throws Exception {
+        // create item
+        context.turnOffAuthorisationSystem();
+        Item item = ItemBuilder.createItem(context, collection)
+                .withTitle(title)
+                .withMetadata("dc", "date", "issued", dateIssued)
+                .build();
+        // create bitstreams
+        String bitstreamContent = "TEST TEST TEST";
+        try (InputStream is = IOUtils.toInputStream(bitstreamContent, CharEncoding.UTF_8)) {
+            BitstreamBuilder.createBitstream(context, item, is)
+                    .withName("Bitstream")
+                    .withMimeType("text/plain")
+                    .build();
+        }
+        try (InputStream is = IOUtils.toInputStream("PNG", CharEncoding.UTF_8)) {
+            BitstreamBuilder.createBitstream(context, item, is)
+                    .withName("image.png")
+                    .withMimeType("image/png")
+                    .build();
+        }
+        context.restoreAuthSystemState();
+
+        String[] args = new String[] { "export", "-t", "ITEM",
+                "-i", item.getHandle(), "-d", tempDir.toString(), "-z", zipFileName, "-n", "1" };
+        perfomExportScript(args);
+
+        checkZip(zipFileName);
+        try (ZipFile zip = new ZipFile(tempDir.resolve(zipFileName).toFile())) {
+            assertEquals(item.getHandle(), readZipEntry(zip, "1/handle").trim());
+            assertTrue(readZipEntry(zip, "1/dublin_core.xml").contains(title));
+            assertTrue(readZipEntry(zip, "1/contents").contains("Bitstream\tbundle:ORIGINAL"));
+            assertEquals(collection.getHandle(), readZipEntry(zip, "1/collections").trim());
+            assertEquals(bitstreamContent, readZipEntry(zip, "1/Bitstream"));
+            // already compressed formats are not deflated again
+            assertEquals(ZipEntry.STORED, zip.getEntry("1/image.png").getMethod());
+            assertEquals("PNG", readZipEntry(zip, "1/image.png"));
+        }
+    }
+
+    @Test
+    public void exportZipCollectionConcurrently() throws Exception {
+        // create items
+        context.turnOffAuthorisationSystem();
+        for (int i = 1; i <= 5; i++) {
+            Item item = ItemBuilder.createItem(context, collection)
+                    .withTitle(title + " " + i)
+                    .build();
+            try (InputStream is = IOUtils.toInputStream("TEST " + i, CharEncoding.UTF_8)) {
+                BitstreamBuilder.createBitstream(context, item, is)
+                        .withName("Bitstream")
+                        .withMimeType("text/plain")
+                        .build();
+            }
+        }
+        context.restoreAuthSystemState();
+
+        configurationService.setProperty("org.dspace.app.itemexport.zip.threads", 2);
+        // read the bitstreams in the writing thread rather than buffering them
+        configurationService.setProperty("org.dspace.app.itemexport.zip.buffer.size", 0);
+        try {
+            String[] args = new String[] { "export", "-t", "COLLECTION",
+                    "-i", collection.getHandle(), "-d", tempDir.toString(), "-z", zipFileName, "-n", "1" };
+            perfomExportScript(args);
+        } finally {
+            configurationService.setProperty("org.dspace.app.itemexport.zip.threads", null);
+            configurationService.setProperty("org.dspace.app.itemexport.zip.buffer.size", null);
+        }
+
+        checkZip(zipFileName);
+        try (ZipFile zip = new ZipFile(tempDir.resolve(zipFileName).toFile())) {
+            for (int i = 1; i <= 5; i++) {
+                assertNotNull(zip.getEntry(i + "/dublin_core.xml"));
+                assertTrue(readZipEntry(zip, i + "/Bitstream").startsWith("TEST "));
+            }
+        }
+    }
+
     @Test
     public void migrateCollection() throws Exception {
         // create items
@@ -356,6 +438,14 @@ public class ItemExportCLIIT extends AbstractIntegrationTestWithDatabase {
         assertNotNull(itemService.find(context, item.getID()));
     }
 
+    private String readZipEntry(ZipFile zip, String name) throws Exception {
+        ZipEntry entry = zip.getEntry(name);
+        assertNotNull(name, entry);
+        try (InputStream is = zip.getInputStream(entry)) {
+            return IOUtils.toString(is, StandardCharsets.UTF_8);
+        }
+    }
+
     private void perfomExportScript(String[] args)
             throws Exception {
         runDSpaceScript(args);
@@ -138,6 +138,40 @@ public class ItemImportCLIIT extends AbstractIntegrationTestWithDatabase {
         checkBitstream();
     }
 
+    @Test
+    public void importItemsBySafInParallel() throws Exception {
+        // create simple SAF with several items
+        Path safDir = Files.createDirectory(Path.of(tempDir.toString() + "/test"));
+        for (int i = 0; i < 3; i++) {
+            Path itemDir = Files.createDirectory(Path.of(safDir.toString() + "/item_00" + i));
+            Files.copy(getClass().getResourceAsStream("dublin_core.xml"),
+                    Path.of(itemDir.toString() + "/dublin_core.xml"));
+            Path contentsFile = Files.createFile(Path.of(itemDir.toString() + "/contents"));
+            Files.writeString(contentsFile,
+                    "file1.txt");
+            Path bitstreamFile = Files.createFile(Path.of(itemDir.toString() + "/file1.txt"));
+            Files.writeString(bitstreamFile,
+                    "TEST TEST TEST " + i);
+        }
+
+        String[] args = new String[] { "import", "-a", "-e", admin.getEmail(), "-c", collection.getID().toString(),
+                "-s", safDir.toString(), "-m", tempDir.toString() + "/mapfile.out", "-P", "2" };
+        perfomImportScript(args);
+
+        int count = 0;
+        Iterator<Item> items = itemService.findArchivedByMetadataField(context, "dc", "title", null,
+                publicationTitle);
+        while (items.hasNext()) {
+            Item item = items.next();
+            assertEquals(itemService.getMetadata(item, "dc.date.issued"), "1990");
+            assertEquals(item.getBundles("ORIGINAL").get(0).getBitstreams().get(0).getName(), "file1.txt");
+            count++;
+        }
+        assertEquals(3, count);
+        // every imported item is in the mapfile
+        assertEquals(3, Files.readAllLines(Path.of(tempDir.toString() + "/mapfile.out")).size());
+    }
+
     @Test
     public void importItemBySafWithAnotherMetadataSchema() throws Exception {
         // create simple SAF
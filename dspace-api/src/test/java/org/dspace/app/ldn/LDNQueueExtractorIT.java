@@ -0,0 +1,225 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.ldn;
+
+import static org.dspace.app.ldn.LDNMessageEntity.QUEUE_STATUS_FAILED;
+import static org.dspace.app.ldn.LDNMessageEntity.QUEUE_STATUS_PROCESSING;
+import static org.dspace.app.ldn.LDNMessageEntity.QUEUE_STATUS_QUEUED;
+import static org.dspace.app.ldn.LDNMessageEntity.QUEUE_STATUS_QUEUED_FOR_RETRY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.app.ldn.factory.LDNMessageServiceFactory;
+import org.dspace.app.ldn.service.LDNMessageService;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.builder.LDNMessageBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.core.Context;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the leasing of the LDN messages queue and of its
+ * concurrent processing by {@link LDNQueueExtractor}.
+ */
+public class LDNQueueExtractorIT extends AbstractIntegrationTestWithDatabase {
+
+    private final LDNMessageService ldnMessageService = LDNMessageServiceFactory.getInstance()
+                                                                                .getLDNMessageService();
+
+    private Item item;
+
+    @Before
+    public void setup() {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection")
+                                                 .build();
+        item = ItemBuilder.createItem(context, collection).withTitle("Item").build();
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void testLeaseMessagesToProcess() throws Exception {
+        LDNMessageEntity first = createMessage(item, QUEUE_STATUS_QUEUED, 0);
+        LDNMessageEntity retry = createMessage(null, QUEUE_STATUS_QUEUED_FOR_RETRY, 1);
+        // too many attempts
+        createMessage(null, QUEUE_STATUS_QUEUED, 5);
+        context.commit();
+
+        assertThat(lease(10, null, null), contains(retry.getID(), first.getID()));
+
+        context.uncacheEntities();
+        assertEquals(QUEUE_STATUS_PROCESSING, ldnMessageService.find(context, first.getID()).getQueueStatus());
+
+        // a new message about the item waits for the leased one
+        item = context.reloadEntity(item);
+        createMessage(item, QUEUE_STATUS_QUEUED, 0);
+        context.commit();
+
+        assertThat(lease(10, null, null), empty());
+    }
+
+    @Test
+    public void testConcurrentLeasesAreDisjoint() throws Exception {
+        LDNMessageEntity first = createMessage(null, QUEUE_STATUS_QUEUED, 0);
+        LDNMessageEntity second = createMessage(null, QUEUE_STATUS_QUEUED, 0);
+        context.commit();
+
+        CountDownLatch leased = new CountDownLatch(1);
+        CountDownLatch secondLeaseDone = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the first lease is only committed once the second one is taken, its message stays locked meanwhile
+            Future<List<String>> firstLease = executor.submit(() -> lease(1, leased, secondLeaseDone));
+            leased.await();
+            List<String> secondLease = lease(10, null, null);
+            secondLeaseDone.countDown();
+
+            assertThat(firstLease.get(), hasSize(1));
+            assertThat(secondLease, hasSize(1));
+            assertThat(List.of(firstLease.get().get(0), secondLease.get(0)),
+                       containsInAnyOrder(first.getID(), second.getID()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLeasesOfTheSameObjectAreSerialized() throws Exception {
+        LDNMessageEntity first = createMessage(item, QUEUE_STATUS_QUEUED, 0);
+        LDNMessageEntity second = createMessage(item, QUEUE_STATUS_QUEUED, 0);
+        context.commit();
+
+        CountDownLatch leased = new CountDownLatch(1);
+        CountDownLatch firstLeaseCommit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> firstLease = executor.submit(() -> lease(1, leased, firstLeaseCommit));
+            leased.await();
+            // the other message about the item is not locked, but the second lease waits for the first one
+            Future<List<String>> secondLease = executor.submit(() -> lease(10, null, null));
+            assertNull(getWithin(secondLease, 1));
+            firstLeaseCommit.countDown();
+
+            assertThat(firstLease.get(), hasSize(1));
+            assertThat(List.of(first.getID(), second.getID()), hasItem(firstLease.get().get(0)));
+            // once committed, the first lease makes the second one skip the item
+            assertThat(secondLease.get(), empty());
+        } finally {
+            firstLeaseCommit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExtractMessagesConcurrently() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            createMessage(item, QUEUE_STATUS_QUEUED, 0);
+            createMessage(null, QUEUE_STATUS_QUEUED, 0);
+        }
+        context.commit();
+
+        // the messages have no type nor origin, so their processing fails
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(Integer.valueOf(0),
+                         executor.submit(() -> LDNQueueExtractor.extractMessagesConcurrently(3)).get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        context.uncacheEntities();
+        List<LDNMessageEntity> messages = ldnMessageService.findAll(context);
+        assertThat(messages, hasSize(8));
+        for (LDNMessageEntity message : messages) {
+            // each message has been processed once
+            assertEquals(QUEUE_STATUS_FAILED, message.getQueueStatus());
+            assertEquals(Integer.valueOf(1), message.getQueueAttempts());
+        }
+    }
+
+    /**
+     * Lease messages with a Context of another thread, as the Hibernate session is bound to the thread.
+     */
+    private List<String> lease(int limit, CountDownLatch leased, CountDownLatch commit) throws Exception {
+        Callable<List<String>> lease = () -> {
+            try (Context leaseContext = new Context()) {
+                List<String> ids = getIds(ldnMessageService.leaseMessagesToProcess(leaseContext, limit));
+                if (leased != null) {
+                    leased.countDown();
+                    commit.await();
+                }
+                leaseContext.complete();
+                return ids;
+            }
+        };
+        if (leased != null) {
+            return lease.call();
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(lease).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T getWithin(Future<T> future, long seconds) throws Exception {
+        try {
+            return future.get(seconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    private LDNMessageEntity createMessage(Item object, Integer queueStatus, int attempts) {
+        LDNMessageEntity message = LDNMessageBuilder.createNotifyServiceBuilder(context,
+                                                                                "urn:uuid:" + UUID.randomUUID())
+                                                    .build();
+        message.setObject(object);
+        message.setQueueStatus(queueStatus);
+        message.setQueueAttempts(attempts);
+        message.setQueueTimeout(Instant.now().minus(1, ChronoUnit.MINUTES));
+        try {
+            ldnMessageService.update(context, message);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return message;
+    }
+
+    private List<String> getIds(List<LDNMessageEntity> messages) {
+        return messages.stream().map(LDNMessageEntity::getID).collect(Collectors.toList());
+    }
+
+}
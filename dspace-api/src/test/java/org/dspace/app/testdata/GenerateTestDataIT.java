@@ -0,0 +1,216 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.testdata;
+
+import static org.dspace.core.Constants.READ;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.authorize.ResourcePolicy;
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.builder.EntityTypeBuilder;
+import org.dspace.builder.RelationshipTypeBuilder;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
+import org.dspace.content.Collection;
+import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.EntityType;
+import org.dspace.content.Item;
+import org.dspace.content.Relationship;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.CommunityService;
+import org.dspace.content.service.ItemService;
+import org.dspace.content.service.RelationshipService;
+import org.dspace.core.Constants;
+import org.dspace.discovery.MockSolrSearchCore;
+import org.dspace.eperson.Group;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.eperson.service.GroupService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Integration tests of the {@link GenerateTestData} script.
+ */
+public class GenerateTestDataIT extends AbstractIntegrationTestWithDatabase {
+
+    private final CommunityService communityService = ContentServiceFactory.getInstance().getCommunityService();
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+    private final RelationshipService relationshipService = ContentServiceFactory.getInstance()
+                                                                                 .getRelationshipService();
+    private final AuthorizeService authorizeService = AuthorizeServiceFactory.getInstance().getAuthorizeService();
+    private final GroupService groupService = EPersonServiceFactory.getInstance().getGroupService();
+    private final MockSolrSearchCore searchCore = DSpaceServicesFactory.getInstance().getServiceManager()
+                                                                       .getServiceByName(null,
+                                                                                         MockSolrSearchCore.class);
+
+    private String seed;
+
+    /**
+     * The generated objects are not created by the builders, so they are removed here.
+     */
+    @After
+    public void deleteTestData() throws Exception {
+        if (seed == null) {
+            return;
+        }
+        context.turnOffAuthorisationSystem();
+        for (Community community : findCommunities()) {
+            communityService.delete(context, community);
+        }
+        Group readers = groupService.findByName(context, "Test data " + seed + " readers");
+        if (readers != null) {
+            groupService.delete(context, readers);
+        }
+        context.commit();
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void testGenerateTestData() throws Exception {
+        seed = "7";
+        assertEquals(0, runDSpaceScript("generate-test-data", "-i", "20", "-c", "2", "-a", "5", "-b", "2",
+                                        "-z", "100", "-r", "100", "-t", "7", "-d", seed));
+
+        Community community = findCommunity();
+        assertNotNull(community);
+        assertThat(community.getCollections(), hasSize(2));
+        Group readers = groupService.findByName(context, "Test data " + seed + " readers");
+        assertNotNull(readers);
+
+        List<Item> items = getItems(community);
+        assertThat(items, hasSize(20));
+        for (Item item : items) {
+            assertTrue(item.isArchived());
+            assertNotNull(itemService.getMetadataFirstValue(item, "dc", "title", null, Item.ANY));
+            assertThat(itemService.getMetadata(item, "dc", "contributor", "author", Item.ANY), not(hasSize(0)));
+
+            List<Bundle> bundles = itemService.getBundles(item, Constants.CONTENT_BUNDLE_NAME);
+            assertThat(bundles, hasSize(1));
+            assertThat(bundles.get(0).getBitstreams(), hasSize(2));
+            for (Bitstream bitstream : bundles.get(0).getBitstreams()) {
+                assertEquals(100, bitstream.getSizeBytes());
+                assertOnlyReadableBy(bitstream, readers);
+            }
+            assertOnlyReadableBy(item, readers);
+            assertFalse(authorizeService.authorizeActionBoolean(context, eperson, item, READ, true));
+
+            assertEquals(1, searchCore.getSolr().query(new SolrQuery("search.resourceid:" + item.getID()))
+                                      .getResults().getNumFound());
+        }
+    }
+
+    @Test
+    public void testGenerateAuthorEntities() throws Exception {
+        context.turnOffAuthorisationSystem();
+        EntityType publication = EntityTypeBuilder.createEntityTypeBuilder(context, "Publication").build();
+        EntityType person = EntityTypeBuilder.createEntityTypeBuilder(context, "Person").build();
+        RelationshipTypeBuilder.createRelationshipTypeBuilder(context, publication, person, "isAuthorOfPublication",
+                                                              "isPublicationOfAuthor", 0, null, 0, null);
+        context.restoreAuthSystemState();
+
+        seed = "8";
+        assertEquals(0, runDSpaceScript("generate-test-data", "-i", "10", "-c", "1", "-a", "3", "-b", "0",
+                                        "-r", "0", "-p", "-n", "-d", seed));
+
+        Community community = findCommunity();
+        assertNotNull(community);
+        List<Item> items = getItems(community);
+        // the publications and their authors
+        assertThat(items, hasSize(13));
+        int persons = 0;
+        for (Item item : items) {
+            String entityType = itemService.getEntityTypeLabel(item);
+            List<Relationship> relationships = relationshipService.findByItem(context, item);
+            if ("Person".equals(entityType)) {
+                persons++;
+            } else {
+                assertEquals("Publication", entityType);
+                assertThat(relationships, not(hasSize(0)));
+                for (Relationship relationship : relationships) {
+                    assertEquals(item.getID(), relationship.getLeftItem().getID());
+                    assertEquals("Person", itemService.getEntityTypeLabel(relationship.getRightItem()));
+                }
+            }
+            assertThat(itemService.getBundles(item, Constants.CONTENT_BUNDLE_NAME), hasSize(0));
+            assertTrue(authorizeService.authorizeActionBoolean(context, eperson, item, READ, true));
+
+            // the items are not indexed with -n
+            assertEquals(0, searchCore.getSolr().query(new SolrQuery("search.resourceid:" + item.getID()))
+                                      .getResults().getNumFound());
+        }
+        assertEquals(3, persons);
+    }
+
+    @Test
+    public void testGenerateTestDataTwice() throws Exception {
+        seed = "9";
+        String[] args = {"generate-test-data", "-i", "4", "-c", "1", "-a", "2", "-b", "1", "-z", "10", "-r", "100",
+            "-n", "-d", seed};
+        assertEquals(0, runDSpaceScript(args));
+        assertEquals(0, runDSpaceScript(args));
+
+        // the readers group of the first run is reused by the second one
+        Group readers = groupService.findByName(context, "Test data " + seed + " readers");
+        assertNotNull(readers);
+        List<Community> communities = findCommunities();
+        assertThat(communities, hasSize(2));
+        for (Community community : communities) {
+            List<Item> items = getItems(community);
+            assertThat(items, hasSize(4));
+            for (Item item : items) {
+                assertOnlyReadableBy(item, readers);
+            }
+        }
+    }
+
+    private Community findCommunity() throws Exception {
+        List<Community> communities = findCommunities();
+        return communities.isEmpty() ? null : communities.get(0);
+    }
+
+    private List<Community> findCommunities() throws Exception {
+        List<Community> communities = new ArrayList<>();
+        for (Community community : communityService.findAllTop(context)) {
+            if (("Test data " + seed).equals(community.getName())) {
+                communities.add(community);
+            }
+        }
+        return communities;
+    }
+
+    private List<Item> getItems(Community community) throws Exception {
+        List<Item> items = new ArrayList<>();
+        for (Collection collection : community.getCollections()) {
+            Iterator<Item> iterator = itemService.findByCollection(context, collection);
+            iterator.forEachRemaining(items::add);
+        }
+        return items;
+    }
+
+    private void assertOnlyReadableBy(DSpaceObject object, Group group) throws Exception {
+        List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(context, object, READ);
+        assertThat(policies, hasSize(1));
+        assertEquals(group.getID(), policies.get(0).getGroup().getID());
+    }
+
+}
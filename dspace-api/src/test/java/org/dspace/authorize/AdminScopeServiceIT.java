@@ -0,0 +1,192 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AdminScopeService;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.EPersonBuilder;
+import org.dspace.builder.GroupBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Community;
+import org.dspace.eperson.EPerson;
+import org.dspace.eperson.Group;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.eperson.service.GroupService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.Test;
+
+/**
+ * Integration tests of the {@link AdminScopeService} and of the administrative
+ * checks of the {@link AuthorizeService} relying on it.
+ */
+public class AdminScopeServiceIT extends AbstractIntegrationTestWithDatabase {
+
+    private final AdminScopeService adminScopeService = AuthorizeServiceFactory.getInstance()
+                                                                                .getAdminScopeService();
+    private final AuthorizeService authorizeService = AuthorizeServiceFactory.getInstance().getAuthorizeService();
+    private final GroupService groupService = EPersonServiceFactory.getInstance().getGroupService();
+    private final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+                                                                                   .getConfigurationService();
+
+    @Test
+    public void testCommunityAdminScopeCoversTheHierarchy() throws Exception {
+        context.turnOffAuthorisationSystem();
+        EPerson communityAdmin = EPersonBuilder.createEPerson(context)
+                                               .withEmail("community-admin@example.com")
+                                               .build();
+        Community community = CommunityBuilder.createCommunity(context)
+                                              .withName("Community")
+                                              .withAdminGroup(communityAdmin)
+                                              .build();
+        Community subCommunity = CommunityBuilder.createSubCommunity(context, community)
+                                                 .withName("Sub community")
+                                                 .build();
+        Collection collection = CollectionBuilder.createCollection(context, subCommunity)
+                                                 .withName("Collection")
+                                                 .build();
+        Community otherCommunity = CommunityBuilder.createCommunity(context)
+                                                   .withName("Other community")
+                                                   .build();
+        Collection otherCollection = CollectionBuilder.createCollection(context, otherCommunity)
+                                                      .withName("Other collection")
+                                                      .build();
+        context.restoreAuthSystemState();
+        context.setCurrentUser(communityAdmin);
+
+        AdminScope scope = adminScopeService.getAdminScope(context, communityAdmin);
+        assertThat(scope.getCommunities(), containsInAnyOrder(community.getID(), subCommunity.getID()));
+        assertThat(scope.getCollections(), contains(collection.getID()));
+
+        assertTrue(authorizeService.isAdmin(context, communityAdmin, collection));
+        assertFalse(authorizeService.isAdmin(context, communityAdmin, otherCollection));
+        assertTrue(authorizeService.isCommunityAdmin(context));
+        assertTrue(authorizeService.isCollectionAdmin(context));
+        assertTrue(authorizeService.isComColAdmin(context));
+        // the collection is empty
+        assertFalse(authorizeService.isItemAdmin(context));
+    }
+
+    @Test
+    public void testCollectionAdminThroughParentGroup() throws Exception {
+        context.turnOffAuthorisationSystem();
+        EPerson collectionAdmin = EPersonBuilder.createEPerson(context)
+                                                .withEmail("collection-admin@example.com")
+                                                .build();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection")
+                                                 .build();
+        Group adminGroup = GroupBuilder.createCollectionAdminGroup(context, collection).build();
+        GroupBuilder.createGroup(context)
+                    .withName("Collection admins subgroup")
+                    .withParent(adminGroup)
+                    .addMember(collectionAdmin)
+                    .build();
+        ItemBuilder.createItem(context, collection).withTitle("Item").build();
+        context.restoreAuthSystemState();
+        context.setCurrentUser(collectionAdmin);
+
+        AdminScope scope = adminScopeService.getAdminScope(context, collectionAdmin);
+        assertThat(scope.getCommunities(), empty());
+        assertThat(scope.getCollections(), contains(collection.getID()));
+
+        assertTrue(authorizeService.isAdmin(context, collectionAdmin, collection));
+        assertFalse(authorizeService.isAdmin(context, collectionAdmin, parentCommunity));
+        assertFalse(authorizeService.isCommunityAdmin(context));
+        assertTrue(authorizeService.isCollectionAdmin(context));
+        assertTrue(authorizeService.isComColAdmin(context));
+        assertTrue(authorizeService.isItemAdmin(context));
+    }
+
+    @Test
+    public void testScopeIsInvalidatedByCommittedChanges() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Community")
+                                          .withAdminGroup(admin)
+                                          .build();
+        context.restoreAuthSystemState();
+
+        AdminScope scope = adminScopeService.getAdminScope(context, eperson);
+        assertThat(scope.getCommunities(), empty());
+
+        context.turnOffAuthorisationSystem();
+        Group adminGroup = context.reloadEntity(parentCommunity).getAdministrators();
+        groupService.addMember(context, adminGroup, eperson);
+        groupService.update(context, adminGroup);
+        context.commit();
+        context.restoreAuthSystemState();
+
+        AdminScope newScope = adminScopeService.getAdminScope(context, eperson);
+        assertThat(newScope.getCommunities(), contains(parentCommunity.getID()));
+
+        context.turnOffAuthorisationSystem();
+        adminGroup = context.reloadEntity(adminGroup);
+        groupService.removeMember(context, adminGroup, context.reloadEntity(eperson));
+        groupService.update(context, adminGroup);
+        context.commit();
+        context.restoreAuthSystemState();
+
+        assertThat(adminScopeService.getAdminScope(context, eperson).getCommunities(), empty());
+    }
+
+    @Test
+    public void testUncommittedChangesAreSeenByTheTransaction() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Community")
+                                          .withAdminGroup(admin)
+                                          .build();
+        context.restoreAuthSystemState();
+        assertFalse(authorizeService.isAdmin(context, eperson, parentCommunity));
+
+        context.turnOffAuthorisationSystem();
+        Group adminGroup = context.reloadEntity(parentCommunity).getAdministrators();
+        groupService.addMember(context, adminGroup, eperson);
+        groupService.update(context, adminGroup);
+        context.restoreAuthSystemState();
+
+        assertThat(adminScopeService.getAdminScope(context, eperson).getCommunities(),
+                   contains(parentCommunity.getID()));
+    }
+
+    @Test
+    public void testDisabledAdminScope() throws Exception {
+        context.turnOffAuthorisationSystem();
+        EPerson communityAdmin = EPersonBuilder.createEPerson(context)
+                                               .withEmail("community-admin@example.com")
+                                               .build();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Community")
+                                          .withAdminGroup(communityAdmin)
+                                          .build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection")
+                                                 .build();
+        context.restoreAuthSystemState();
+
+        configurationService.setProperty("core.authorization.admin-scope.enabled", false);
+        assertFalse(adminScopeService.isEnabled());
+        assertTrue(authorizeService.isAdmin(context, communityAdmin, collection));
+        assertFalse(authorizeService.isAdmin(context, eperson, collection));
+    }
+
+}
@@ -10,6 +10,8 @@ package org.dspace.content.authority;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 
@@ -236,6 +238,52 @@ public class DSpaceControlledVocabularyTest extends AbstractDSpaceTest {
         assertEquals("Algerien", result.label);
     }
 
+    /**
+     * Test of getMatches method of class DSpaceControlledVocabulary with a hierarchical query:
+     * each term must match a node below the node matching the previous term.
+     * @throws java.lang.ClassNotFoundException passed through.
+     */
+    @Test
+    public void testGetMatchesHierarchy() throws ClassNotFoundException {
+        final String PLUGIN_INTERFACE = "org.dspace.content.authority.ChoiceAuthority";
+
+        DSpaceControlledVocabulary instance = (DSpaceControlledVocabulary)
+            CoreServiceFactory.getInstance().getPluginService().getNamedPlugin(Class.forName(PLUGIN_INTERFACE), "farm");
+        assertNotNull(instance);
+        Choices result = instance.getMatches("FARM::40", 0, 1, null);
+        assertEquals(2, result.total);
+        assertEquals(1, result.values.length);
+        assertTrue(result.more);
+        assertEquals("north 40", result.values[0].value);
+
+        result = instance.getMatches("north::40", 0, 10, null);
+        assertEquals(0, result.total);
+    }
+
+    /**
+     * Test of getChoicesByParent and getParentChoice methods of class DSpaceControlledVocabulary.
+     * @throws java.lang.ClassNotFoundException passed through.
+     */
+    @Test
+    public void testGetChoicesByParent() throws ClassNotFoundException {
+        final String PLUGIN_INTERFACE = "org.dspace.content.authority.ChoiceAuthority";
+
+        DSpaceControlledVocabulary instance = (DSpaceControlledVocabulary)
+            CoreServiceFactory.getInstance().getPluginService().getNamedPlugin(Class.forName(PLUGIN_INTERFACE),
+                "countries");
+        assertNotNull(instance);
+        Choices result = instance.getChoicesByParent("countries", "countries:Africa", 0, 10, null);
+        assertEquals(1, result.total);
+        assertEquals("DZA", result.values[0].value);
+        assertEquals("Algeria", result.values[0].label);
+        assertEquals("false", result.values[0].extras.get("hasChildren"));
+
+        Choice parent = instance.getParentChoice("countries", "countries:DZA", null);
+        assertEquals("Africa", parent.value);
+        assertEquals("true", parent.extras.get("hasChildren"));
+        assertNull(instance.getParentChoice("countries", "countries:Africa", null));
+    }
+
     /**
      * Test of getBestMatch method, of class DSpaceControlledVocabulary.
      */
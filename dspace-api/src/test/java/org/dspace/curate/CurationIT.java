@@ -7,17 +7,30 @@
  */
 package org.dspace.curate;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
 import org.apache.commons.cli.ParseException;
 import org.dspace.AbstractIntegrationTestWithDatabase;
 import org.dspace.app.scripts.handler.impl.TestDSpaceRunnableHandler;
 import org.dspace.builder.CollectionBuilder;
 import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
+import org.dspace.content.Item;
+import org.dspace.core.factory.CoreServiceFactory;
 import org.dspace.scripts.DSpaceRunnable;
 import org.dspace.scripts.configuration.ScriptConfiguration;
 import org.dspace.scripts.factory.ScriptServiceFactory;
 import org.dspace.scripts.service.ScriptService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
 import org.junit.Test;
 
 public class CurationIT extends AbstractIntegrationTestWithDatabase {
@@ -75,4 +88,53 @@ public class CurationIT extends AbstractIntegrationTestWithDatabase {
             }
         }
     }
+
+    @Test
+    public void concurrentCurationTest() throws Exception {
+        final String TASK_NAME = "threadsafedummy";
+        ConfigurationService cfg = DSpaceServicesFactory.getInstance().getConfigurationService();
+        String[] tasks = cfg.getArrayProperty("plugin.named.org.dspace.curate.CurationTask");
+        cfg.setProperty("plugin.named.org.dspace.curate.CurationTask",
+            ThreadSafeDummyTask.class.getName() + " = " + TASK_NAME);
+        CoreServiceFactory.getInstance().getPluginService().clearNamedPluginClasses();
+        try {
+            curateConcurrently(TASK_NAME);
+        } finally {
+            cfg.setProperty("plugin.named.org.dspace.curate.CurationTask", tasks);
+            CoreServiceFactory.getInstance().getPluginService().clearNamedPluginClasses();
+        }
+    }
+
+    private void curateConcurrently(String taskName) throws Exception {
+        context.turnOffAuthorisationSystem();
+        Community community = CommunityBuilder.createCommunity(context)
+                                              .build();
+        Collection collection = CollectionBuilder.createCollection(context, community)
+                                                 .build();
+        Set<UUID> items = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            Item item = ItemBuilder.createItem(context, collection)
+                                   .withTitle("Item " + i)
+                                   .build();
+            items.add(item.getID());
+        }
+        context.restoreAuthSystemState();
+        context.commit();
+
+        ThreadSafeDummyTask.performedItems.clear();
+        ThreadSafeDummyTask.threadNames.clear();
+        StringBuilder reporterOutput = new StringBuilder();
+        Curator curator = new Curator();
+        curator.setReporter(reporterOutput);
+        curator.setConcurrency(4);
+        curator.addTask(context, taskName);
+        curator.curate(context, collection.getHandle());
+
+        assertEquals(items, ThreadSafeDummyTask.performedItems);
+        assertTrue(ThreadSafeDummyTask.threadNames.stream().allMatch(name -> name.startsWith("curator-")));
+        Map<Integer, Integer> statusCounts = curator.getStatusCounts(taskName);
+        assertEquals(Integer.valueOf(20), statusCounts.get(Curator.CURATE_SUCCESS));
+        assertEquals(Integer.valueOf(1), statusCounts.get(Curator.CURATE_SKIP));
+        assertEquals(20, reporterOutput.toString().split("\n").length);
+    }
 }
@@ -0,0 +1,113 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.curate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DatabaseTaskQueueIT extends AbstractIntegrationTestWithDatabase {
+
+    private static final String QUEUE = "testqueue";
+
+    private DatabaseTaskQueue taskQueue;
+
+    @Before
+    public void setUpQueue() throws Exception {
+        taskQueue = new DatabaseTaskQueue();
+        taskQueue.batchSize = 2;
+        taskQueue.maxAttempts = 2;
+        for (int i = 1; i <= 3; i++) {
+            taskQueue.enqueue(QUEUE, new TaskQueueEntry("admin@example.com", i, List.of("noop", "checklinks"),
+                                                        "123456789/" + i));
+        }
+    }
+
+    @After
+    public void drainQueue() throws Exception {
+        DatabaseTaskQueue drain = new DatabaseTaskQueue();
+        drain.visibilityTimeout = 0;
+        drain.maxAttempts = Integer.MAX_VALUE;
+        drain.batchSize = 0;
+        drain.dequeue(QUEUE, 0L);
+        drain.release(QUEUE, 0L, true);
+    }
+
+    @Test
+    public void testEnqueue() throws Exception {
+        assertThat(taskQueue.queueNames(), arrayContaining(QUEUE));
+
+        Set<TaskQueueEntry> entries = taskQueue.dequeue(QUEUE, 1L);
+        assertThat(entries, hasSize(2));
+        TaskQueueEntry entry = entries.stream()
+                                      .filter(e -> "123456789/1".equals(e.getObjectId()))
+                                      .findFirst().orElseThrow();
+        assertEquals("admin@example.com", entry.getEpersonId());
+        assertEquals(1L, entry.getSubmitTime());
+        assertThat(entry.getTaskNames(), contains("noop", "checklinks"));
+    }
+
+    @Test
+    public void testConcurrentReadersLeaseDisjointEntries() throws Exception {
+        Set<TaskQueueEntry> first = taskQueue.dequeue(QUEUE, 1L);
+        Set<TaskQueueEntry> second = taskQueue.dequeue(QUEUE, 2L);
+        assertThat(first, hasSize(2));
+        assertThat(second, hasSize(1));
+        assertThat(taskQueue.dequeue(QUEUE, 3L), empty());
+
+        Set<String> objectIds = new HashSet<>();
+        first.forEach(entry -> objectIds.add(entry.getObjectId()));
+        second.forEach(entry -> objectIds.add(entry.getObjectId()));
+        assertThat(objectIds, hasSize(3));
+    }
+
+    @Test
+    public void testRelease() throws Exception {
+        assertThat(taskQueue.dequeue(QUEUE, 1L), hasSize(2));
+        Set<TaskQueueEntry> returned = taskQueue.dequeue(QUEUE, 2L);
+        taskQueue.release(QUEUE, 1L, true);
+        taskQueue.release(QUEUE, 2L, false);
+
+        // the removed entries are gone, the returned one can be read again
+        Set<TaskQueueEntry> entries = taskQueue.dequeue(QUEUE, 3L);
+        assertThat(entries, hasSize(1));
+        assertEquals(returned.iterator().next().getObjectId(), entries.iterator().next().getObjectId());
+        taskQueue.release(QUEUE, 3L, true);
+        assertThat(taskQueue.dequeue(QUEUE, 4L), empty());
+    }
+
+    @Test
+    public void testExpiredLeases() throws Exception {
+        taskQueue.visibilityTimeout = 0;
+        taskQueue.batchSize = 0;
+        assertThat(taskQueue.dequeue(QUEUE, 1L), hasSize(3));
+
+        // the reader of ticket 1 did not release its entries in time, so they are handed out again
+        assertThat(taskQueue.dequeue(QUEUE, 2L), hasSize(3));
+        // releasing the expired lease does not affect the new one
+        taskQueue.release(QUEUE, 1L, true);
+        assertThat(taskQueue.queueNames(), arrayContaining(QUEUE));
+
+        // every entry has been leased maxAttempts times
+        assertThat(taskQueue.dequeue(QUEUE, 3L), empty());
+        // but they are kept for inspection
+        assertThat(taskQueue.queueNames(), arrayContaining(QUEUE));
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.curate;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.core.Context;
+
+/**
+ * Makes no model changes, but records the items it performed on and the threads it ran in.
+ */
+@ThreadSafe
+public class ThreadSafeDummyTask
+    extends AbstractCurationTask {
+
+    static final Set<UUID> performedItems = ConcurrentHashMap.newKeySet();
+
+    static final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public int perform(Context context, DSpaceObject dso)
+            throws IOException {
+        if (!(dso instanceof Item)) {
+            return Curator.CURATE_SKIP;
+        }
+        performedItems.add(dso.getID());
+        threadNames.add(Thread.currentThread().getName());
+        report("Performed on " + dso.getHandle() + "\n");
+        return Curator.CURATE_SUCCESS;
+    }
+}
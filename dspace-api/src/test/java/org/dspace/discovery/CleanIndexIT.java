@@ -0,0 +1,135 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.ItemService;
+import org.dspace.discovery.indexobject.IndexableCollection;
+import org.dspace.discovery.indexobject.IndexableCommunity;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.indexobject.factory.IndexFactory;
+import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the removal of the stale documents from the Discovery index by
+ * {@link IndexingService#cleanIndex()}.
+ */
+public class CleanIndexIT extends AbstractIntegrationTestWithDatabase {
+
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+    private final CollectionService collectionService = ContentServiceFactory.getInstance().getCollectionService();
+    private final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+                                                                                   .getConfigurationService();
+    private final IndexingService indexingService = DSpaceServicesFactory.getInstance().getServiceManager()
+        .getServiceByName(IndexingService.class.getName(), IndexingService.class);
+    private final MockSolrSearchCore solrSearchCore = DSpaceServicesFactory.getInstance().getServiceManager()
+        .getServiceByName(null, MockSolrSearchCore.class);
+
+    private Collection collection;
+
+    private final List<Item> items = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Community").build();
+        collection = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection").build();
+        for (int i = 0; i < 5; i++) {
+            items.add(ItemBuilder.createItem(context, collection).withTitle("Item " + i).build());
+        }
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void testCleanIndexRemovesOnlyStaleDocuments() throws Exception {
+        // several cursor pages, each with documents of several types
+        configurationService.setProperty("discovery.clean.batch-size", 2);
+
+        context.turnOffAuthorisationSystem();
+        Collection emptyCollection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                      .withName("Empty collection")
+                                                      .build();
+        long documents = countDocuments("*:*");
+
+        // the objects are removed from the database only, their documents stay in the index
+        context.setDispatcher("noindex");
+        itemService.delete(context, items.get(1));
+        itemService.delete(context, items.get(3));
+        collectionService.delete(context, emptyCollection);
+        context.commit();
+        context.restoreAuthSystemState();
+        assertEquals(documents, countDocuments("*:*"));
+
+        indexingService.cleanIndex();
+
+        assertEquals(documents - 3, countDocuments("*:*"));
+        for (DSpaceObject deleted : List.of(items.get(1), items.get(3), emptyCollection)) {
+            assertEquals(0, countDocuments(SearchUtils.RESOURCE_ID_FIELD + ":" + deleted.getID()));
+        }
+        for (DSpaceObject kept : List.of(items.get(0), items.get(2), items.get(4), collection, parentCommunity)) {
+            assertEquals(1, countDocuments(SearchUtils.RESOURCE_ID_FIELD + ":" + kept.getID()));
+        }
+    }
+
+    @Test
+    public void testCleanIndexWithoutStaleDocuments() throws Exception {
+        long documents = countDocuments("*:*");
+
+        indexingService.cleanIndex();
+
+        assertEquals(documents, countDocuments("*:*"));
+    }
+
+    @Test
+    public void testFindExistingIds() throws Exception {
+        String unknown = UUID.randomUUID().toString();
+        assertThat(findExistingIds(IndexableItem.TYPE, items.get(0), items.get(2), collection, unknown),
+                   containsInAnyOrder(items.get(0).getID().toString(), items.get(2).getID().toString()));
+        assertThat(findExistingIds(IndexableCollection.TYPE, collection, items.get(0), unknown),
+                   containsInAnyOrder(collection.getID().toString()));
+        assertThat(findExistingIds(IndexableCommunity.TYPE, parentCommunity, collection, unknown),
+                   containsInAnyOrder(parentCommunity.getID().toString()));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Set<String> findExistingIds(String type, Object... objects) throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (Object object : objects) {
+            ids.add(object instanceof DSpaceObject dso ? dso.getID().toString() : (String) object);
+        }
+        IndexFactory factory = IndexObjectFactoryFactory.getInstance().getIndexFactoryByType(type);
+        return factory.findExistingIds(context, ids);
+    }
+
+    private long countDocuments(String query) throws Exception {
+        return solrSearchCore.getSolr().query(new SolrQuery(query)).getResults().getNumFound();
+    }
+
+}
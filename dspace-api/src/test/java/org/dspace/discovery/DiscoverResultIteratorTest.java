@@ -9,6 +9,7 @@ package org.dspace.discovery;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -17,8 +18,10 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -157,5 +160,65 @@ public class DiscoverResultIteratorTest {
         }
     }
 
-}
+    @Test
+    public void testCursorPaging() throws Exception {
+        try (MockedStatic<SearchUtils> mockedStatic = mockStatic(SearchUtils.class)) {
+            mockedStatic.when(SearchUtils::getSearchService).thenReturn(mockSearchService);
+            DiscoverResult firstPage = mockPage("c1", mockIndexableObject1);
+            // a page whose documents were all stale must not end the iteration
+            DiscoverResult stalePage = mockPage("c2");
+            DiscoverResult lastPage = mockPage("c3", mockIndexableObject2);
+            DiscoverResult endPage = mockPage("c3");
+            List<String> cursorMarks = new ArrayList<>();
+            when(mockSearchService.search(eq(mockContext), any(DiscoverQuery.class))).thenAnswer(invocation -> {
+                String cursorMark = invocation.getArgument(1, DiscoverQuery.class).getCursorMark();
+                cursorMarks.add(cursorMark);
+                switch (cursorMark) {
+                    case DiscoverQuery.CURSOR_MARK_START:
+                        return firstPage;
+                    case "c1":
+                        return stalePage;
+                    case "c2":
+                        return lastPage;
+                    default:
+                        return endPage;
+                }
+            });
+
+            DiscoverQuery discoverQuery = new DiscoverQuery();
+            DiscoverResultIterator<Item, UUID> iterator =
+                new DiscoverResultIterator<>(mockContext, null, discoverQuery, false, -1);
+
+            assertEquals(mockItem1, iterator.next());
+            assertEquals(mockItem2, iterator.next());
+            assertFalse(iterator.hasNext());
+            assertEquals(Arrays.asList(DiscoverQuery.CURSOR_MARK_START, "c1", "c2", "c3"), cursorMarks);
+            assertEquals(0, discoverQuery.getStart());
+        }
+    }
 
+    @Test
+    public void testOffsetPagingWhenStartIsSet() {
+        try (MockedStatic<SearchUtils> mockedStatic = mockStatic(SearchUtils.class)) {
+            mockedStatic.when(SearchUtils::getSearchService).thenReturn(mockSearchService);
+            DiscoverQuery discoverQuery = new DiscoverQuery();
+            discoverQuery.setStart(5);
+            DiscoverResultIterator<Item, UUID> iterator =
+                new DiscoverResultIterator<>(mockContext, null, discoverQuery, false, -1);
+
+            iterator.next();
+            iterator.next();
+            assertFalse(iterator.hasNext());
+            assertEquals(7, discoverQuery.getStart());
+            assertNull(discoverQuery.getCursorMark());
+        }
+    }
+
+    private DiscoverResult mockPage(String nextCursorMark, IndexableObject... indexableObjects) {
+        DiscoverResult page = mock(DiscoverResult.class);
+        when(page.getIndexableObjects()).thenReturn(Arrays.asList(indexableObjects));
+        when(page.getNextCursorMark()).thenReturn(nextCursorMark);
+        return page;
+    }
+
+}
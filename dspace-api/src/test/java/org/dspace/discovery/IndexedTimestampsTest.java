@@ -0,0 +1,78 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class IndexedTimestampsTest {
+
+    private static final Instant INDEXED = Instant.parse("2024-05-01T10:15:30.123Z");
+
+    @Test
+    public void testLookupInSolrOrder() {
+        // sorting the canonical string forms gives the order of the unique ids returned by Solr
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        ids.add("80000000-0000-0000-0000-000000000000");
+        ids.add("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        ids.add("ffffffff-ffff-ffff-ffff-ffffffffffff");
+        ids.add("00000000-0000-0000-0000-000000000000");
+        ids.sort(null);
+
+        IndexedTimestamps indexed = new IndexedTimestamps();
+        for (int i = 0; i < ids.size(); i++) {
+            assertTrue(indexed.add(UUID.fromString(ids.get(i)), INDEXED.plusSeconds(i)));
+        }
+
+        assertEquals(ids.size(), indexed.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(INDEXED.plusSeconds(i), indexed.getLastIndexed(UUID.fromString(ids.get(i))));
+        }
+        assertNull(indexed.getLastIndexed(UUID.fromString("00000000-0000-0000-0000-000000000001")));
+    }
+
+    @Test
+    public void testRequiresIndexing() {
+        UUID id = UUID.randomUUID();
+        IndexedTimestamps indexed = new IndexedTimestamps();
+        indexed.add(id, INDEXED);
+
+        assertFalse(indexed.requiresIndexing(id, INDEXED));
+        assertFalse(indexed.requiresIndexing(id, INDEXED.minusMillis(1)));
+        assertTrue(indexed.requiresIndexing(id, INDEXED.plusNanos(1000)));
+        assertTrue(indexed.requiresIndexing(id, null));
+        assertTrue(indexed.requiresIndexing(UUID.randomUUID(), INDEXED.minusSeconds(60)));
+    }
+
+    @Test
+    public void testOutOfOrderEntriesAreIgnored() {
+        UUID first = UUID.fromString("20000000-0000-0000-0000-000000000000");
+        UUID second = UUID.fromString("10000000-0000-0000-0000-000000000000");
+        IndexedTimestamps indexed = new IndexedTimestamps();
+
+        assertTrue(indexed.add(first, INDEXED));
+        assertFalse(indexed.add(second, INDEXED));
+        assertFalse(indexed.add(first, INDEXED));
+
+        assertEquals(1, indexed.size());
+        assertTrue(indexed.requiresIndexing(second, INDEXED));
+        assertFalse(indexed.requiresIndexing(first, INDEXED));
+    }
+}
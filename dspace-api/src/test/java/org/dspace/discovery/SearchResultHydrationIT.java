@@ -0,0 +1,139 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.ItemService;
+import org.dspace.discovery.indexobject.IndexableCollection;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the bulk loading of the objects of the search results from the database.
+ */
+public class SearchResultHydrationIT extends AbstractIntegrationTestWithDatabase {
+
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+    private final CollectionService collectionService = ContentServiceFactory.getInstance().getCollectionService();
+
+    private SearchService searchService;
+
+    private Collection collection;
+
+    @Before
+    public void setup() {
+        searchService = SearchUtils.getSearchService();
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Community").build();
+        collection = CollectionBuilder.createCollection(context, parentCommunity).withName("Echo").build();
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void testSearchResultOrderIsKept() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item delta = createItem("Delta");
+        Item alpha = createItem("Alpha");
+        Collection charlie = CollectionBuilder.createCollection(context, parentCommunity).withName("Charlie").build();
+        Item bravo = createItem("Bravo");
+        context.restoreAuthSystemState();
+
+        // the items and collections of the page are loaded by type, but listed in the order of the documents
+        assertThat(getIds(search(DiscoverQuery.SORT_ORDER.asc)),
+                   contains(alpha.getID(), bravo.getID(), charlie.getID(), delta.getID(), collection.getID()));
+        assertThat(getIds(search(DiscoverQuery.SORT_ORDER.desc)),
+                   contains(collection.getID(), delta.getID(), charlie.getID(), bravo.getID(), alpha.getID()));
+    }
+
+    @Test
+    public void testDocumentsOfMissingObjectsAreSkipped() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item alpha = createItem("Alpha");
+        Item bravo = createItem("Bravo");
+        Item charlie = createItem("Charlie");
+        // the item is removed from the database only, its document stays in the index
+        context.setDispatcher("noindex");
+        itemService.delete(context, bravo);
+        context.restoreAuthSystemState();
+
+        assertThat(getIds(search(DiscoverQuery.SORT_ORDER.asc)),
+                   contains(alpha.getID(), charlie.getID(), collection.getID()));
+    }
+
+    @Test
+    public void testFindByIdsSpanningSeveralQueries() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Collection mapped = CollectionBuilder.createCollection(context, parentCommunity).withName("Mapped").build();
+        Item first = createItem("First");
+        Item last = createItem("Last");
+        collectionService.addItem(context, mapped, last);
+        context.restoreAuthSystemState();
+        context.commit();
+        context.uncacheEntities();
+
+        // more identifiers than the database accepts in a single IN clause, most of them unknown
+        List<UUID> ids = new ArrayList<>();
+        ids.add(first.getID());
+        for (int i = 0; i < 2500; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        ids.add(last.getID());
+        ids.add(first.getID());
+        ids.add(collection.getID());
+
+        List<Item> items = itemService.findByIds(context, ids);
+        assertThat(getIds(items), containsInAnyOrder(first.getID(), last.getID()));
+        for (Item item : items) {
+            String title = item.getID().equals(first.getID()) ? "First" : "Last";
+            assertEquals(title, itemService.getMetadataFirstValue(item, "dc", "title", null, Item.ANY));
+            assertEquals(collection.getID(), item.getOwningCollection().getID());
+        }
+        Item found = items.get(0).getID().equals(last.getID()) ? items.get(0) : items.get(1);
+        assertThat(getIds(found.getCollections()), containsInAnyOrder(collection.getID(), mapped.getID()));
+    }
+
+    private Item createItem(String title) {
+        return ItemBuilder.createItem(context, collection).withTitle(title).build();
+    }
+
+    private List<DSpaceObject> search(DiscoverQuery.SORT_ORDER order) throws SearchServiceException {
+        DiscoverQuery query = new DiscoverQuery();
+        query.addDSpaceObjectFilter(IndexableItem.TYPE);
+        query.addDSpaceObjectFilter(IndexableCollection.TYPE);
+        query.addFilterQueries("location.comm:" + parentCommunity.getID());
+        query.setSortField("dc.title_sort", order);
+        query.setMaxResults(10);
+        return searchService.search(context, query).getIndexableObjects().stream()
+                            .map(indexableObject -> (DSpaceObject) indexableObject.getIndexedObject())
+                            .collect(Collectors.toList());
+    }
+
+    private List<UUID> getIds(List<? extends DSpaceObject> objects) {
+        return objects.stream().map(DSpaceObject::getID).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,117 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event.cluster;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.EventService;
+import org.dspace.services.model.Event;
+import org.hibernate.SessionFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Unit tests of {@link ClusterCacheEvictService}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterCacheEvictServiceTest {
+
+    @InjectMocks
+    private ClusterCacheEvictService clusterCacheEvictService;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private org.hibernate.Cache hibernateCache;
+
+    @Test
+    public void testEvictIsSentToTheCluster() {
+        when(configurationService.getBooleanProperty("event.cluster.enabled", false)).thenReturn(true);
+
+        clusterCacheEvictService.evict("manifests", "1234");
+
+        ArgumentCaptor<Event> event = ArgumentCaptor.forClass(Event.class);
+        verify(eventService).fireEvent(event.capture());
+        assertEquals(ClusterCacheEvictService.EVICT_EVENT, event.getValue().getName());
+        assertEquals(Map.of("cache", "manifests", "key", "1234"), event.getValue().getProperties());
+        assertArrayEquals(new Event.Scope[] {Event.Scope.CLUSTER}, event.getValue().getScopes());
+    }
+
+    @Test
+    public void testNothingIsSentWhenDisabled() {
+        clusterCacheEvictService.evictAll("manifests");
+
+        verify(eventService, never()).fireEvent(any());
+    }
+
+    @Test
+    public void testReceivedEvictRemovesTheEntry() {
+        when(cacheManager.getCache("manifests")).thenReturn(cache);
+
+        clusterCacheEvictService.receiveEvent(clusterEvent(ClusterCacheEvictService.EVICT_EVENT,
+                                                           Map.of("cache", "manifests", "key", "1234")));
+
+        verify(cache).evictIfPresent("1234");
+        verify(cache, never()).invalidate();
+    }
+
+    @Test
+    public void testReceivedEvictAllClearsTheCache() {
+        when(cacheManager.getCache("manifests")).thenReturn(cache);
+
+        clusterCacheEvictService.receiveEvent(clusterEvent(ClusterCacheEvictService.EVICT_EVENT,
+                                                           Map.of("cache", "manifests")));
+
+        verify(cache).invalidate();
+    }
+
+    @Test
+    public void testReceivedEntityEvictRemovesTheEntity() {
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+        UUID id = UUID.randomUUID();
+
+        clusterCacheEvictService.receiveEvent(clusterEvent(ClusterCacheEvictService.EVICT_ENTITY_EVENT,
+            Map.of("entity", "org.dspace.eperson.EPerson", "id", id.toString(), "idType", "UUID")));
+
+        verify(hibernateCache).evictEntityData("org.dspace.eperson.EPerson", id);
+        verify(hibernateCache).evictQueryRegions();
+    }
+
+    private Event clusterEvent(String name, Map<String, String> properties) {
+        return new Event(name, null, null, properties, new Event.Scope[] {Event.Scope.CLUSTER}, true);
+    }
+
+}
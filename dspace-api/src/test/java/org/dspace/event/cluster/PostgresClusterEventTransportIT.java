@@ -0,0 +1,137 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event.cluster;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.model.Event;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Integration tests of the LISTEN/NOTIFY exchange of {@link PostgresClusterEventTransport}.
+ * <p>
+ * The test database of the build is H2, so these tests are skipped unless a PostgreSQL database is given,
+ * e.g. {@code -Dtest.postgresql.url=jdbc:postgresql://localhost:5432/dspace -Dtest.postgresql.username=dspace
+ * -Dtest.postgresql.password=dspace}. Only notifications are sent, no table is used.
+ */
+public class PostgresClusterEventTransportIT {
+
+    private static final long TIMEOUT = 10;
+
+    private final String url = System.getProperty("test.postgresql.url");
+
+    private final PostgresClusterEventTransport node1 = new PostgresClusterEventTransport();
+    private final PostgresClusterEventTransport node2 = new PostgresClusterEventTransport();
+
+    private final BlockingQueue<Event> receivedByNode1 = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Event> receivedByNode2 = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setup() {
+        assumeTrue("No PostgreSQL database given by -Dtest.postgresql.url",
+                   StringUtils.startsWith(url, "jdbc:postgresql:"));
+        configure(node1);
+        configure(node2);
+        node1.start(receivedByNode1::add);
+        node2.start(receivedByNode2::add);
+    }
+
+    @After
+    public void stop() {
+        node1.stop();
+        node2.stop();
+    }
+
+    @Test
+    public void testEventsAreReceivedByTheOtherNodes() throws Exception {
+        Event event = new Event("cache.evict", "item:1234", null, Map.of("cache", "manifests", "key", "1234"),
+                                new Event.Scope[] {Event.Scope.CLUSTER}, true);
+
+        Event received = publishUntilReceived(node1, event, receivedByNode2);
+
+        assertEquals("cache.evict", received.getName());
+        assertEquals("item:1234", received.getResourceReference());
+        assertEquals(Map.of("cache", "manifests", "key", "1234"), received.getProperties());
+        // the node sending the event gets its own notifications back, but ignores them
+        assertNull(receivedByNode1.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTooLargeEventsAreNotSent() throws Exception {
+        publishUntilReceived(node1, new Event("cache.evict", null, null, false), receivedByNode2);
+
+        node1.publish(new Event("cache.evict", StringUtils.repeat('x', 8000), null, false));
+        node1.publish(new Event("cache.clear", null, null, false));
+
+        // the notifications are received in order, and the large one was dropped instead of failing
+        Event received = receivedByNode2.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertNotNull(received);
+        assertEquals("cache.clear", received.getName());
+    }
+
+    /**
+     * Publish the event until the other node receives it: the listening connections are opened in the
+     * background, and the notifications sent before they LISTEN are lost.
+     */
+    private Event publishUntilReceived(PostgresClusterEventTransport sender, Event event,
+                                       BlockingQueue<Event> received) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+        while (System.currentTimeMillis() < deadline) {
+            sender.publish(event);
+            Event first = received.poll(500, TimeUnit.MILLISECONDS);
+            if (first != null) {
+                // drop the duplicates of the retries
+                Thread.sleep(500);
+                received.clear();
+                return first;
+            }
+        }
+        throw new AssertionError("No event received in " + TIMEOUT + " seconds");
+    }
+
+    private void configure(PostgresClusterEventTransport node) {
+        String username = System.getProperty("test.postgresql.username");
+        String password = System.getProperty("test.postgresql.password");
+        ConfigurationService configurationService = mock(ConfigurationService.class);
+        when(configurationService.getBooleanProperty("event.cluster.enabled", false)).thenReturn(true);
+        when(configurationService.getProperty("db.url")).thenReturn(url);
+        when(configurationService.getProperty("db.username")).thenReturn(username);
+        when(configurationService.getProperty("db.password")).thenReturn(password);
+        when(configurationService.getProperty(eq("event.cluster.channel"), anyString()))
+            .thenReturn("dspace_events_test");
+        when(configurationService.getLongProperty(eq("event.cluster.reconnect.delay"), anyLong())).thenReturn(1000L);
+
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser(username);
+        dataSource.setPassword(password);
+
+        ReflectionTestUtils.setField(node, "configurationService", configurationService);
+        ReflectionTestUtils.setField(node, "dataSource", dataSource);
+    }
+
+}
@@ -0,0 +1,56 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event.cluster;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.dspace.services.model.Event;
+import org.junit.Test;
+
+/**
+ * Unit tests of the payloads of {@link PostgresClusterEventTransport}.
+ */
+public class PostgresClusterEventTransportTest {
+
+    private final PostgresClusterEventTransport node1 = new PostgresClusterEventTransport();
+    private final PostgresClusterEventTransport node2 = new PostgresClusterEventTransport();
+
+    @Test
+    public void testEventsOfOtherNodesAreDecoded() {
+        Event event = new Event("cache.evict", "item:1234", "user-1", Map.of("cache", "manifests", "key", "1234"),
+                                new Event.Scope[] {Event.Scope.LOCAL, Event.Scope.CLUSTER}, true);
+
+        Event received = node2.decode(node1.encode(event));
+
+        assertEquals("cache.evict", received.getName());
+        assertEquals("item:1234", received.getResourceReference());
+        assertEquals("user-1", received.getUserId());
+        assertTrue(received.isModify());
+        assertEquals(Map.of("cache", "manifests", "key", "1234"), received.getProperties());
+        assertArrayEquals(new Event.Scope[] {Event.Scope.CLUSTER}, received.getScopes());
+    }
+
+    @Test
+    public void testEventsOfThisNodeAreIgnored() {
+        Event event = new Event("cache.evict", null, null, false);
+
+        assertNull(node1.decode(node1.encode(event)));
+    }
+
+    @Test
+    public void testInvalidPayloadsAreIgnored() {
+        assertNull(node1.decode("not json"));
+        assertNull(node1.decode("{\"node\":\"other\"}"));
+    }
+
+}
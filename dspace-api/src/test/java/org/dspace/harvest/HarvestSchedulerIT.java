@@ -0,0 +1,252 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.harvest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.authorize.AuthorizeException;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.content.Collection;
+import org.dspace.harvest.factory.HarvestServiceFactory;
+import org.dspace.harvest.service.HarvestedCollectionService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the scheduling of the harvests by the {@link HarvestScheduler}, driven through the
+ * {@link HarvestSchedulingServiceImpl} with stub harvests that run until the test releases them.
+ */
+public class HarvestSchedulerIT extends AbstractIntegrationTestWithDatabase {
+
+    private static final long TIMEOUT = 10;
+
+    private final HarvestedCollectionService harvestedCollectionService =
+        HarvestServiceFactory.getInstance().getHarvestedCollectionService();
+    private final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+                                                                                   .getConfigurationService();
+
+    /* Harvests started by the scheduler, in start order */
+    private final BlockingQueue<StubHarvestThread> started = new LinkedBlockingQueue<>();
+
+    /* Each permit lets a running stub harvest complete */
+    private final Semaphore release = new Semaphore(0);
+
+    /* Number of the next harvests completing with an error */
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private HarvestSchedulingServiceImpl schedulingService;
+
+    private HarvestScheduler scheduler;
+
+    private Thread schedulerThread;
+
+    @Before
+    public void setup() {
+        configurationService.setProperty("oai.harvester.maxThreads", 3);
+        configurationService.setProperty("oai.harvester.maxThreadsPerHost", 1);
+        configurationService.setProperty("oai.harvester.minHeartbeat", 1);
+        configurationService.setProperty("oai.harvester.failureBackoff", 600);
+
+        schedulingService = new HarvestSchedulingServiceImpl() {
+            @Override
+            protected HarvestScheduler createScheduler() throws SQLException, AuthorizeException {
+                scheduler = new HarvestScheduler() {
+                    @Override
+                    protected HarvestThread createHarvestThread(UUID collectionId, String oaiSource,
+                                                                Instant dueTime) throws SQLException {
+                        return new StubHarvestThread(collectionId, oaiSource, dueTime);
+                    }
+                };
+                return scheduler;
+            }
+        };
+        schedulingService.harvestedCollectionService = harvestedCollectionService;
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Community").build();
+        context.restoreAuthSystemState();
+    }
+
+    @After
+    public void stopScheduler() throws Exception {
+        release.release(100);
+        if (schedulerThread != null) {
+            schedulingService.stopScheduler();
+            schedulerThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+            scheduler.harvestExecutor.awaitTermination(TIMEOUT, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testHarvestsOfTheSameHostAreLimited() throws Exception {
+        Collection firstA = createHarvestedCollection("First A", "http://a.example.org/oai/request");
+        Collection secondA = createHarvestedCollection("Second A", "http://A.example.org:8080/oai");
+        Collection firstB = createHarvestedCollection("First B", "https://b.example.org/oai");
+        startScheduler();
+
+        StubHarvestThread first = nextStarted();
+        StubHarvestThread second = nextStarted();
+        assertNotEquals(first.getRemoteHost(), second.getRemoteHost());
+        // the second harvest of a.example.org waits for the first one, despite the free worker
+        assertNull(started.poll(2, TimeUnit.SECONDS));
+        assertEquals(2, schedulingService.getRunningHarvestCount());
+        assertEquals(1, schedulingService.getQueuedHarvestCount());
+
+        release.release(2);
+        StubHarvestThread third = nextStarted();
+        assertEquals("a.example.org", third.getRemoteHost());
+        release.release();
+        waitUntilIdle();
+        assertTrue(schedulingService.getLastHarvestDurations().keySet()
+                                    .containsAll(List.of(firstA.getID(), secondA.getID(), firstB.getID())));
+    }
+
+    @Test
+    public void testFailedHostIsBackedOff() throws Exception {
+        configurationService.setProperty("oai.harvester.failureBackoff", 2);
+        createHarvestedCollection("First", "http://a.example.org/oai");
+        createHarvestedCollection("Second", "http://a.example.org/oai");
+        failures.set(1);
+        startScheduler();
+
+        StubHarvestThread first = nextStarted();
+        release.release();
+        StubHarvestThread second = nextStarted();
+        assertFalse(first.hasSucceeded());
+        assertTrue(Duration.between(first.completion, second.start).toMillis() >= 2000);
+        release.release();
+        waitUntilIdle();
+        assertTrue(second.hasSucceeded());
+    }
+
+    @Test
+    public void testSucceededHostIsNotBackedOff() throws Exception {
+        createHarvestedCollection("First", "http://a.example.org/oai");
+        createHarvestedCollection("Second", "http://a.example.org/oai");
+        startScheduler();
+
+        StubHarvestThread first = nextStarted();
+        release.release();
+        // the backoff would postpone the second harvest by ten minutes
+        StubHarvestThread second = nextStarted();
+        assertTrue(first.hasSucceeded());
+        assertNotEquals(first.getCollectionId(), second.getCollectionId());
+    }
+
+    @Test
+    public void testStopDiscardsQueuedHarvestsAndLetsRunningOnesFinish() throws Exception {
+        Collection first = createHarvestedCollection("First", "http://a.example.org/oai");
+        Collection second = createHarvestedCollection("Second", "http://a.example.org/oai");
+        startScheduler();
+
+        StubHarvestThread running = nextStarted();
+        assertEquals(1, schedulingService.getQueuedHarvestCount());
+        Thread thread = schedulerThread;
+        schedulerThread = null;
+        schedulingService.stopScheduler();
+        thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+        assertFalse(thread.isAlive());
+        assertFalse(HarvestScheduler.hasStatus(HarvestScheduler.HARVESTER_STATUS_RUNNING));
+
+        // the queued harvest is set back to ready, the running one is not interrupted
+        assertEquals(0, scheduler.getQueuedCount());
+        assertEquals(1, scheduler.getRunningCount());
+        Collection queued = running.getCollectionId().equals(first.getID()) ? second : first;
+        context.uncacheEntities();
+        assertEquals(HarvestedCollection.STATUS_READY,
+                     harvestedCollectionService.find(context, context.reloadEntity(queued)).getHarvestStatus());
+        assertFalse(scheduler.harvestExecutor.isTerminated());
+
+        release.release();
+        assertTrue(scheduler.harvestExecutor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(running.hasSucceeded());
+        assertEquals(0, scheduler.getRunningCount());
+        assertNull(started.poll());
+    }
+
+    private Collection createHarvestedCollection(String name, String oaiSource) throws Exception {
+        context.turnOffAuthorisationSystem();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).withName(name).build();
+        HarvestedCollection harvestedCollection = harvestedCollectionService.create(context, collection);
+        harvestedCollection.setHarvestParams(HarvestedCollection.TYPE_DMD, oaiSource, "all", "dc");
+        harvestedCollection.setHarvestStatus(HarvestedCollection.STATUS_READY);
+        harvestedCollectionService.update(context, harvestedCollection);
+        // the scheduler reads the collections with its own contexts
+        context.commit();
+        context.restoreAuthSystemState();
+        return collection;
+    }
+
+    private void startScheduler() throws Exception {
+        schedulingService.startNewScheduler();
+        schedulerThread = schedulingService.mainHarvestThread;
+    }
+
+    private StubHarvestThread nextStarted() throws InterruptedException {
+        StubHarvestThread harvest = started.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertNotNull("No harvest started", harvest);
+        return harvest;
+    }
+
+    private void waitUntilIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+        while (scheduler.getRunningCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, scheduler.getRunningCount());
+    }
+
+    /**
+     * Harvest task that only records its run, completing once the test releases it.
+     */
+    private class StubHarvestThread extends HarvestThread {
+
+        private volatile Instant start;
+
+        private volatile Instant completion;
+
+        StubHarvestThread(UUID collectionId, String oaiSource, Instant dueTime) throws SQLException {
+            super(collectionId, oaiSource, dueTime);
+        }
+
+        @Override
+        public void run() {
+            start = Instant.now();
+            started.add(this);
+            try {
+                release.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            succeeded = failures.getAndUpdate(count -> Math.max(0, count - 1)) == 0;
+            completion = Instant.now();
+        }
+    }
+
+}
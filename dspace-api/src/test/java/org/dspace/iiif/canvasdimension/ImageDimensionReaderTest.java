@@ -0,0 +1,91 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.iiif.canvasdimension;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the header-only dimension probing of {@link ImageDimensionReader}.
+ */
+public class ImageDimensionReaderTest {
+
+    // the test images are 300 x 200, so the canvas dimensions are doubled
+    private static final int[] CAT_CANVAS = new int[] {600, 400};
+
+    @Test
+    public void testJpegHeader() throws Exception {
+        try (InputStream input = getClass().getResourceAsStream("cat.jpg")) {
+            assertArrayEquals(CAT_CANVAS, ImageDimensionReader.getHeaderDimensions(input.readAllBytes()));
+        }
+    }
+
+    @Test
+    public void testJp2Header() throws Exception {
+        try (InputStream input = getClass().getResourceAsStream("cat.jp2")) {
+            byte[] header = Arrays.copyOf(input.readAllBytes(), 512);
+            assertArrayEquals(CAT_CANVAS, ImageDimensionReader.getHeaderDimensions(header));
+        }
+    }
+
+    @Test
+    public void testJp2Stream() throws Exception {
+        try (InputStream input = getClass().getResourceAsStream("cat.jp2")) {
+            assertArrayEquals(CAT_CANVAS, ImageDimensionReader.getImageDimensions(input));
+        }
+    }
+
+    @Test
+    public void testTiffHeader() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(300, 200, BufferedImage.TYPE_BYTE_GRAY), "tiff", out);
+        byte[] tiff = out.toByteArray();
+
+        assertArrayEquals(CAT_CANVAS, ImageDimensionReader.getImageDimensions(new ByteArrayInputStream(tiff)));
+        int ifdOffset = ByteBuffer.wrap(tiff).order(tiff[0] == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN)
+                                  .getInt(4);
+        byte[] header = Arrays.copyOf(tiff, ifdOffset + 2 + 12 * 16);
+        assertArrayEquals(CAT_CANVAS, ImageDimensionReader.getHeaderDimensions(header));
+    }
+
+    @Test
+    public void testTiffHeaderWithTrailingDirectory() throws Exception {
+        // little endian TIFF whose first IFD is written after 1 MB of image data
+        byte[] header = new byte[1024];
+        ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN).put((byte) 'I').put((byte) 'I')
+                  .putShort((short) 42).putInt(1024 * 1024);
+        assertNull(ImageDimensionReader.getHeaderDimensions(header));
+    }
+
+    @Test
+    public void testLargeTiffDimensionsAreNotDoubled() throws Exception {
+        byte[] header = new byte[64];
+        ByteBuffer buffer = ByteBuffer.wrap(header).order(ByteOrder.BIG_ENDIAN);
+        buffer.put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8);
+        buffer.putShort((short) 2);
+        buffer.putShort((short) 256).putShort((short) 4).putInt(1).putInt(12000);
+        buffer.putShort((short) 257).putShort((short) 3).putInt(1).putShort((short) 9000).putShort((short) 0);
+        assertArrayEquals(new int[] {12000, 9000}, ImageDimensionReader.getHeaderDimensions(header));
+    }
+
+    @Test
+    public void testUnknownFormat() throws Exception {
+        assertNull(ImageDimensionReader.getHeaderDimensions("not an image at all".getBytes()));
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.importer.external.liveimportclient.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dspace.AbstractDSpaceTest;
+import org.dspace.service.impl.HttpConnectionPoolService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+import org.mockserver.verify.VerificationTimes;
+
+/**
+ * Tests of the connection pool and of the response cache of
+ * {@link LiveImportClientImpl}, against a local stub server.
+ */
+public class LiveImportClientImplTest extends AbstractDSpaceTest {
+
+    @Rule
+    public MockServerRule mockServerRule = new MockServerRule(this);
+
+    private MockServerClient mockServerClient;
+
+    private ConfigurationService configurationService;
+
+    private LiveImportClientImpl liveImportClient;
+
+    private Object cacheEnabled;
+
+    @Before
+    public void setUp() {
+        configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        cacheEnabled = configurationService.getPropertyValue("external-providers.cache.enabled");
+        configurationService.setProperty("external-providers.cache.enabled", true);
+
+        liveImportClient = new LiveImportClientImpl();
+        liveImportClient.setConfigurationService(configurationService);
+        liveImportClient.setConnectionPoolService(DSpaceServicesFactory.getInstance().getServiceManager()
+            .getServiceByName("externalProvidersHttpConnectionPoolService", HttpConnectionPoolService.class));
+
+        mockServerClient.when(request().withPath("/works"))
+                        .respond(response().withStatusCode(HttpStatus.OK_200).withBody("works"));
+        mockServerClient.when(request().withPath("/error"))
+                        .respond(response().withStatusCode(HttpStatus.INTERNAL_SERVER_ERROR_500));
+    }
+
+    @After
+    public void tearDown() {
+        configurationService.setProperty("external-providers.cache.enabled", cacheEnabled);
+        configurationService.setProperty("external-providers.cache.ttl.localhost", null);
+    }
+
+    @Test
+    public void testGetResponsesAreCached() {
+        assertEquals("works", liveImportClient.executeHttpGetRequest(1000, getUrl("/works"), params("query", "a")));
+        assertEquals("works", liveImportClient.executeHttpGetRequest(1000, getUrl("/works"), params("query", "a")));
+        mockServerClient.verify(request().withPath("/works").withQueryStringParameter("query", "a"),
+                                VerificationTimes.exactly(1));
+
+        // another query is sent to the server
+        assertEquals("works", liveImportClient.executeHttpGetRequest(1000, getUrl("/works"), params("query", "b")));
+        mockServerClient.verify(request().withPath("/works"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    public void testCacheDisabledForHost() {
+        configurationService.setProperty("external-providers.cache.ttl.localhost", 0);
+
+        liveImportClient.executeHttpGetRequest(1000, getUrl("/works"), params("query", "a"));
+        liveImportClient.executeHttpGetRequest(1000, getUrl("/works"), params("query", "a"));
+        mockServerClient.verify(request().withPath("/works"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    public void testFailedResponsesAreNotCached() {
+        assertEquals(StringUtils.EMPTY, liveImportClient.executeHttpGetRequest(1000, getUrl("/error"), params()));
+        assertEquals(StringUtils.EMPTY, liveImportClient.executeHttpGetRequest(1000, getUrl("/error"), params()));
+        mockServerClient.verify(request().withPath("/error"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    public void testPostResponsesAreNotCached() {
+        assertEquals("works", liveImportClient.executeHttpPostRequest(getUrl("/works"), params(), "entry"));
+        assertEquals("works", liveImportClient.executeHttpPostRequest(getUrl("/works"), params(), "entry"));
+        mockServerClient.verify(request().withMethod("POST").withPath("/works"), VerificationTimes.exactly(2));
+    }
+
+    private String getUrl(String path) {
+        return "http://localhost:" + mockServerClient.getPort() + path;
+    }
+
+    private Map<String, Map<String, String>> params(String... uriParameters) {
+        Map<String, String> uriParams = new HashMap<>();
+        for (int i = 0; i + 1 < uriParameters.length; i += 2) {
+            uriParams.put(uriParameters[i], uriParameters[i + 1]);
+        }
+        Map<String, Map<String, String>> params = new HashMap<>();
+        params.put(LiveImportClientImpl.URI_PARAMETERS, uriParams);
+        return params;
+    }
+
+}
@@ -29,6 +29,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -50,6 +52,8 @@ import org.dspace.orcid.OrcidHistory;
 import org.dspace.orcid.OrcidOperation;
 import org.dspace.orcid.OrcidQueue;
 import org.dspace.orcid.client.OrcidClient;
+import org.dspace.orcid.client.OrcidClientImpl;
+import org.dspace.orcid.client.OrcidConfiguration;
 import org.dspace.orcid.client.OrcidResponse;
 import org.dspace.orcid.exception.OrcidClientException;
 import org.dspace.orcid.factory.OrcidServiceFactory;
@@ -60,7 +64,12 @@ import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.junit.MockServerRule;
+import org.mockserver.matchers.Times;
+import org.mockserver.verify.VerificationTimes;
 
 /**
  * Integration tests for {@link OrcidBulkPush}.
@@ -70,6 +79,11 @@ import org.junit.Test;
  */
 public class OrcidBulkPushIT extends AbstractIntegrationTestWithDatabase {
 
+    @Rule
+    public MockServerRule mockServerRule = new MockServerRule(this);
+
+    private MockServerClient mockServerClient;
+
     private Collection profileCollection;
 
     private Collection publicationCollection;
@@ -84,6 +98,10 @@ public class OrcidBulkPushIT extends AbstractIntegrationTestWithDatabase {
 
     private OrcidClient orcidClientMock;
 
+    private Object threads;
+
+    private Object retryBackoff;
+
     @Before
     public void setup() {
 
@@ -91,6 +109,8 @@ public class OrcidBulkPushIT extends AbstractIntegrationTestWithDatabase {
         orcidQueueService = OrcidServiceFactory.getInstance().getOrcidQueueService();
 
         configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        threads = configurationService.getPropertyValue("orcid.bulk-synchronization.threads");
+        retryBackoff = configurationService.getPropertyValue("orcid.bulk-synchronization.retry-backoff");
 
         context.setCurrentUser(admin);
 
@@ -122,6 +142,8 @@ public class OrcidBulkPushIT extends AbstractIntegrationTestWithDatabase {
             orcidHistoryService.delete(context, record);
         }
         orcidHistoryService.setOrcidClient(orcidClient);
+        configurationService.setProperty("orcid.bulk-synchronization.threads", threads);
+        configurationService.setProperty("orcid.bulk-synchronization.retry-backoff", retryBackoff);
     }
 
     @Test
@@ -497,6 +519,59 @@ public class OrcidBulkPushIT extends AbstractIntegrationTestWithDatabase {
             matches(history(profileItem, entity, 400, INSERT))));
     }
 
+    @Test
+    public void testConcurrentSynchronizationWithRetries() throws Exception {
+
+        configurationService.setProperty("orcid.bulk-synchronization.threads", 2);
+        configurationService.setProperty("orcid.bulk-synchronization.retry-backoff", 10);
+
+        OrcidConfiguration orcidConfiguration = new OrcidConfiguration();
+        orcidConfiguration.setApiUrl("http://localhost:" + mockServerClient.getPort());
+        orcidHistoryService.setOrcidClient(new OrcidClientImpl(orcidConfiguration));
+
+        Item firstProfileItem = createProfileItemItem("0000-1111-2222-3333", eperson, BATCH);
+        Item secondProfileItem = createProfileItemItem("1111-2222-3333-4444", admin, BATCH);
+
+        Item firstEntity = createPublication("First publication");
+        Item secondEntity = createPublication("Second publication");
+        Item thirdEntity = createPublication("Third publication");
+
+        mockServerClient.when(request().withMethod("POST").withPath("/0000-1111-2222-3333/work"), Times.once())
+            .respond(response().withStatusCode(429).withBody("Too many requests"));
+        mockServerClient.when(request().withMethod("POST").withPath("/0000-1111-2222-3333/work"))
+            .respond(response().withStatusCode(201).withHeader("Location", "/0000-1111-2222-3333/work/12345"));
+        mockServerClient.when(request().withMethod("POST").withPath("/1111-2222-3333-4444/work"))
+            .respond(response().withStatusCode(503).withBody("Service unavailable"));
+
+        createOrcidQueue(context, firstProfileItem, firstEntity);
+        createOrcidQueue(context, firstProfileItem, secondEntity);
+        createOrcidQueue(context, secondProfileItem, thirdEntity);
+
+        context.commit();
+
+        TestDSpaceRunnableHandler handler = runBulkSynchronization(false);
+
+        assertThat(handler.getInfoMessages(), hasItem("Found 3 queue records to synchronize with ORCID"));
+        assertThat(handler.getErrorMessages(), empty());
+        // one retry of the first profile, three retries of the second profile
+        assertThat(handler.getWarningMessages(), hasSize(4));
+
+        mockServerClient.verify(request().withPath("/0000-1111-2222-3333/work"), VerificationTimes.exactly(3));
+        mockServerClient.verify(request().withPath("/1111-2222-3333-4444/work"), VerificationTimes.exactly(4));
+
+        List<OrcidQueue> queueRecords = orcidQueueService.findAll(context);
+        assertThat(queueRecords, hasSize(1));
+        assertThat(queueRecords, hasItem(matches(secondProfileItem, thirdEntity, "Publication", INSERT, 1)));
+
+        List<OrcidHistory> historyRecords = orcidHistoryService.findAll(context);
+        assertThat(historyRecords, hasSize(7));
+        assertThat(historyRecords, hasItem(matches(history(firstProfileItem, firstEntity, 429, INSERT))));
+        assertThat(historyRecords, hasItem(matches(history(firstProfileItem, firstEntity, 201, INSERT))));
+        assertThat(historyRecords, hasItem(matches(history(firstProfileItem, secondEntity, 201, INSERT))));
+        assertThat(historyRecords, hasItem(matches(history(secondProfileItem, thirdEntity, 503, INSERT))));
+
+    }
+
     private Predicate<OrcidHistory> history(Item profileItem, Item entity, int status, OrcidOperation operation) {
         return history -> profileItem.equals(history.getProfileItem())
             && entity.equals(history.getEntity())
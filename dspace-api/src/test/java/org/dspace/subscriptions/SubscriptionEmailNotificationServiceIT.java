@@ -9,6 +9,7 @@ package org.dspace.subscriptions;
 
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -31,6 +32,8 @@ import org.apache.solr.common.SolrInputDocument;
 import org.dspace.AbstractIntegrationTestWithDatabase;
 import org.dspace.builder.CollectionBuilder;
 import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.EPersonBuilder;
+import org.dspace.builder.GroupBuilder;
 import org.dspace.builder.ItemBuilder;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
@@ -39,6 +42,8 @@ import org.dspace.content.factory.ContentServiceFactory;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
 import org.dspace.discovery.MockSolrSearchCore;
+import org.dspace.eperson.EPerson;
+import org.dspace.eperson.Group;
 import org.dspace.eperson.SubscriptionParameter;
 import org.dspace.eperson.service.SubscribeService;
 import org.dspace.services.ConfigurationService;
@@ -530,13 +535,68 @@ public class SubscriptionEmailNotificationServiceIT extends AbstractIntegrationT
         assertEquals(0, receivedMessages.length);
     }
 
+    @Test
+    public void testSubscribersOfTheSameCollectionNotifiedConcurrently() throws Exception {
+        context.turnOffAuthorisationSystem();
+        EPerson reader = EPersonBuilder.createEPerson(context).withEmail("reader@example.com").build();
+        EPerson otherSubscriber = EPersonBuilder.createEPerson(context).withEmail("other@example.com").build();
+        Group readers = GroupBuilder.createGroup(context).withName("Readers").addMember(eperson).addMember(reader)
+                                    .build();
+        subscribeTo(col);
+        subscribeTo(reader, col);
+        subscribeTo(otherSubscriber, col);
+
+        ItemBuilder.createItem(context, col)
+                   .withTitle("Public Item")
+                   .withDateAccessioned(yesterdayString)
+                   .withLastModified(yesterday.toInstant())
+                   .build();
+        ItemBuilder.createItem(context, col)
+                   .withTitle("Restricted Item")
+                   .withDateAccessioned(yesterdayString)
+                   .withLastModified(yesterday.toInstant())
+                   .withReaderGroup(readers)
+                   .build();
+        context.restoreAuthSystemState();
+        // the subscribers are notified with their own Context, which only sees committed changes
+        context.commit();
+
+        Object threads = configurationService.getPropertyValue("subscription.threads");
+        configurationService.setProperty("subscription.threads", 2);
+        try {
+            subscriptionEmailNotificationService.perform(context, null, "content", "D");
+        } finally {
+            configurationService.setProperty("subscription.threads", threads);
+        }
+
+        MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+        assertEquals(3, receivedMessages.length);
+        for (MimeMessage message : receivedMessages) {
+            String recipient = message.getRecipients(Message.RecipientType.TO)[0].toString();
+            String body = GreenMailUtil.getBody(message);
+            assertTrue(body.contains("Title: Public Item"));
+            if (recipient.equals(otherSubscriber.getEmail())) {
+                assertTrue(body.contains("New Items (1):"));
+                assertFalse(body.contains("Title: Restricted Item"));
+            } else {
+                assertTrue(recipient.equals(eperson.getEmail()) || recipient.equals(reader.getEmail()));
+                assertTrue(body.contains("New Items (2):"));
+                assertTrue(body.contains("Title: Restricted Item"));
+            }
+        }
+    }
+
     private void subscribeTo(Collection collection) throws Exception {
+        subscribeTo(eperson, collection);
+    }
+
+    private void subscribeTo(EPerson subscriber, Collection collection) throws Exception {
         List<SubscriptionParameter> subscriptionParameterList = new ArrayList<>();
         SubscriptionParameter subscriptionParameter = new SubscriptionParameter();
         subscriptionParameter.setName("frequency");
         subscriptionParameter.setValue("D");
         subscriptionParameterList.add(subscriptionParameter);
-        subscribeService.subscribe(context, eperson, collection, subscriptionParameterList, "content");
+        subscribeService.subscribe(context, subscriber, collection, subscriptionParameterList, "content");
     }
 
     private void subscribeTo(Community community) throws Exception {
@@ -0,0 +1,19 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.benchmark;
+
+import org.dspace.app.rest.WebApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Spring Boot application of the REST API for the benchmarks.
+ */
+@SpringBootApplication(scanBasePackageClasses = WebApplication.class)
+public class BenchmarkApplication {
+
+}
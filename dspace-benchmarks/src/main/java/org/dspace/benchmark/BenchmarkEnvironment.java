@@ -0,0 +1,106 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+import javax.sql.DataSource;
+
+import org.dspace.app.rest.utils.DSpaceConfigurationInitializer;
+import org.dspace.app.rest.utils.DSpaceKernelInitializer;
+import org.dspace.servicemanager.DSpaceKernelImpl;
+import org.dspace.servicemanager.DSpaceKernelInit;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.storage.rdbms.DatabaseUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * The DSpace installation the benchmarks run against: the test environment
+ * unpacked in {@code target/testing/dspace}, with its in-memory H2 database and
+ * its embedded Solr cores (using the configsets of {@code dspace/solr}).
+ * <p>
+ * The kernel is started once per benchmark JVM, as the tests do, and the Spring
+ * Boot application of the REST API only by the benchmarks needing it.
+ */
+public final class BenchmarkEnvironment {
+
+    private static DSpaceKernelImpl kernel;
+
+    private static ConfigurableApplicationContext webApplicationContext;
+
+    private BenchmarkEnvironment() { }
+
+    /**
+     * Start the DSpace kernel and create the database schema, if not yet done.
+     *
+     * @throws SQLException if the database cannot be initialized
+     */
+    public static synchronized void start() throws SQLException {
+        if (kernel != null) {
+            return;
+        }
+        String dspaceDir = System.getProperty("dspace.dir");
+        if (dspaceDir == null) {
+            throw new IllegalStateException("The dspace.dir system property is not set, the benchmarks must be run " +
+                                                "with \"mvn -Dbenchmarks -pl dspace-benchmarks exec:exec\"");
+        }
+        // dates are stored as UTC in the database
+        TimeZone.setDefault(TimeZone.getTimeZone(ZoneOffset.UTC));
+
+        kernel = DSpaceKernelInit.getKernel(null);
+        if (!kernel.isRunning()) {
+            kernel.start(dspaceDir);
+        }
+
+        DatabaseUtils.updateDatabase();
+        // Register custom functions in the H2 database
+        DataSource dataSource = DSpaceServicesFactory.getInstance()
+                                                     .getServiceManager()
+                                                     .getServiceByName("dataSource", DataSource.class);
+        try (Connection c = dataSource.getConnection(); Statement stmt = c.createStatement()) {
+            stmt.execute("CREATE ALIAS IF NOT EXISTS matches FOR 'org.dspace.util.DSpaceH2Dialect.matches'");
+        }
+    }
+
+    /**
+     * Start the Spring Boot application of the REST API on a random port, if not yet done.
+     *
+     * @return the application context, for {@code MockMvc}
+     * @throws SQLException if the database cannot be initialized
+     */
+    public static synchronized WebApplicationContext startWebApplication() throws SQLException {
+        start();
+        if (webApplicationContext == null) {
+            webApplicationContext = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .initializers(new DSpaceKernelInitializer(), new DSpaceConfigurationInitializer())
+                .properties("server.port=0", "management.health.ldap.enabled=false")
+                .run();
+        }
+        return (WebApplicationContext) webApplicationContext;
+    }
+
+    /**
+     * Stop the application and the kernel.
+     */
+    public static synchronized void stop() {
+        if (webApplicationContext != null) {
+            // this destroys the kernel as well
+            webApplicationContext.close();
+            webApplicationContext = null;
+        } else if (kernel != null) {
+            kernel.destroy();
+        }
+        kernel = null;
+    }
+
+}
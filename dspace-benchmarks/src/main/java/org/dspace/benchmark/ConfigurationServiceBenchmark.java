@@ -0,0 +1,72 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.dspace.servicemanager.config.DSpaceConfigurationService;
+import org.dspace.services.ConfigurationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of concurrent lookups in the {@link ConfigurationService}, as done
+ * by the request threads on the hot paths (e.g. per metadata value or per usage
+ * event). The configuration is the one of the test environment.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigurationServiceBenchmark {
+
+    private ConfigurationService configurationService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String dspaceDir = System.getProperty("dspace.dir");
+        if (dspaceDir == null) {
+            throw new IllegalStateException("The dspace.dir system property is not set");
+        }
+        configurationService = new DSpaceConfigurationService(dspaceDir);
+    }
+
+    @Benchmark
+    public String getProperty() {
+        return configurationService.getProperty("dspace.name");
+    }
+
+    @Benchmark
+    public String getMissingPropertyWithDefault() {
+        return configurationService.getProperty("benchmark.missing.property", "default");
+    }
+
+    @Benchmark
+    public boolean getBooleanProperty() {
+        return configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
+    }
+
+    @Benchmark
+    public int getIntProperty() {
+        return configurationService.getIntProperty("db.maxconnections", 30);
+    }
+
+}
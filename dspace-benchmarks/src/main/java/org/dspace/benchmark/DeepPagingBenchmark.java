@@ -0,0 +1,119 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.dspace.core.Context;
+import org.dspace.discovery.DiscoverQuery;
+import org.dspace.discovery.DiscoverResult;
+import org.dspace.discovery.SearchService;
+import org.dspace.discovery.SearchUtils;
+import org.dspace.discovery.configuration.DiscoveryConfiguration;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the iteration over all the items of the repository through
+ * {@link SearchService#search}, as done by the scripts exporting search
+ * results, paging with the start offset or with a Solr cursor (see
+ * {@link DiscoverQuery#setCursorMark(String)}). With the offset, each page
+ * makes Solr collect and skip all the previous hits, so the difference grows
+ * with the number of items, e.g. {@code -p items=100000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class DeepPagingBenchmark {
+
+    @Param("100")
+    public int pageSize;
+
+    private Context context;
+
+    private SearchService searchService;
+
+    private DiscoveryConfiguration configuration;
+
+    @Setup(Level.Trial)
+    public void setup(RepositoryState repository) {
+        // the Context is bound to the thread running the benchmark
+        context = new Context(Context.Mode.READ_ONLY);
+        searchService = SearchUtils.getSearchService();
+        configuration = SearchUtils.getDiscoveryConfiguration(context, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.abort();
+    }
+
+    @Benchmark
+    public long iterateWithStart() throws Exception {
+        DiscoverQuery query = newQuery();
+        long count = 0;
+        long total;
+        do {
+            query.setStart((int) count);
+            DiscoverResult result = search(query);
+            total = result.getTotalSearchResults();
+            if (result.getIndexableObjects().isEmpty()) {
+                break;
+            }
+            count += result.getIndexableObjects().size();
+        } while (count < total);
+        return count;
+    }
+
+    @Benchmark
+    public long iterateWithCursor() throws Exception {
+        DiscoverQuery query = newQuery();
+        query.setCursorMark(DiscoverQuery.CURSOR_MARK_START);
+        long count = 0;
+        while (true) {
+            DiscoverResult result = search(query);
+            count += result.getIndexableObjects().size();
+            String nextCursorMark = result.getNextCursorMark();
+            if (nextCursorMark == null || nextCursorMark.equals(query.getCursorMark())) {
+                return count;
+            }
+            query.setCursorMark(nextCursorMark);
+        }
+    }
+
+    private DiscoverQuery newQuery() {
+        DiscoverQuery query = new DiscoverQuery();
+        query.addFilterQueries(configuration.getDefaultFilterQueries().toArray(new String[0]));
+        query.addDSpaceObjectFilter(IndexableItem.TYPE);
+        query.setSortField("dc.title_sort", DiscoverQuery.SORT_ORDER.asc);
+        query.setMaxResults(pageSize);
+        return query;
+    }
+
+    private DiscoverResult search(DiscoverQuery query) throws Exception {
+        // the loaded items are not needed by the next pages
+        context.uncacheEntities();
+        return searchService.search(context, query);
+    }
+
+}
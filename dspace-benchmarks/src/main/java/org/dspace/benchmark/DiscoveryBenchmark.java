@@ -0,0 +1,126 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.dspace.app.testdata.TestDataGenerator;
+import org.dspace.browse.BrowseEngine;
+import org.dspace.browse.BrowseIndex;
+import org.dspace.browse.BrowseInfo;
+import org.dspace.browse.BrowserScope;
+import org.dspace.core.Context;
+import org.dspace.discovery.DiscoverFacetField;
+import org.dspace.discovery.DiscoverQuery;
+import org.dspace.discovery.DiscoverResult;
+import org.dspace.discovery.SearchService;
+import org.dspace.discovery.SearchUtils;
+import org.dspace.discovery.configuration.DiscoveryConfiguration;
+import org.dspace.discovery.configuration.DiscoverySearchFilterFacet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the Discovery searches and of the browses through the Java API:
+ * {@link SearchService#search} builds the Solr query from the
+ * {@link DiscoverQuery}, runs it on the embedded Solr core and resolves the
+ * results from the database.
+ * <p>
+ * The entities are evicted from the Context before each request, so that the
+ * results are loaded from the database as for a new request of the REST API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class DiscoveryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private Context context;
+
+    private SearchService searchService;
+
+    private DiscoveryConfiguration configuration;
+
+    @Setup(Level.Trial)
+    public void setup(RepositoryState repository) {
+        // the Context is bound to the thread running the benchmark
+        context = new Context(Context.Mode.READ_ONLY);
+        searchService = SearchUtils.getSearchService();
+        configuration = SearchUtils.getDiscoveryConfiguration(context, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.abort();
+    }
+
+    @Benchmark
+    public DiscoverResult search() throws Exception {
+        context.uncacheEntities();
+        DiscoverQuery query = newQuery();
+        query.setQuery(TestDataGenerator.FREQUENT_WORD);
+        query.setMaxResults(PAGE_SIZE);
+        return searchService.search(context, query);
+    }
+
+    @Benchmark
+    public DiscoverResult searchWithFacets() throws Exception {
+        context.uncacheEntities();
+        DiscoverQuery query = newQuery();
+        query.setMaxResults(PAGE_SIZE);
+        for (DiscoverySearchFilterFacet facet : configuration.getSidebarFacets()) {
+            // one more value to know if there is a next page, as the REST API does
+            query.addFacetField(new DiscoverFacetField(facet.getIndexFieldName(), facet.getType(),
+                                                       facet.getFacetLimit() + 1, facet.getSortOrderSidebar()));
+        }
+        return searchService.search(context, query);
+    }
+
+    @Benchmark
+    public BrowseInfo browseAuthors() throws Exception {
+        context.uncacheEntities();
+        return browse(BrowseIndex.getBrowseIndex("author"));
+    }
+
+    @Benchmark
+    public BrowseInfo browseTitles() throws Exception {
+        context.uncacheEntities();
+        return browse(BrowseIndex.getBrowseIndex("title"));
+    }
+
+    private DiscoverQuery newQuery() {
+        DiscoverQuery query = new DiscoverQuery();
+        query.addFilterQueries(configuration.getDefaultFilterQueries().toArray(new String[0]));
+        return query;
+    }
+
+    private BrowseInfo browse(BrowseIndex index) throws Exception {
+        BrowserScope scope = new BrowserScope(context);
+        scope.setBrowseIndex(index);
+        scope.setResultsPerPage(PAGE_SIZE);
+        if (index.isItemIndex()) {
+            scope.setSortBy(index.getSortOption().getNumber());
+        }
+        return new BrowseEngine(context).browse(scope);
+    }
+
+}
@@ -0,0 +1,98 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.benchmark;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.Filter;
+import org.dspace.app.testdata.TestDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.servlet.support.ErrorPageFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * End to end benchmarks of the Discovery endpoints of the REST API, from the
+ * request parameters to the HAL document: the Solr query, the resolution of the
+ * results and their conversion by the {@code DiscoverResultConverter} and the
+ * other converters. The requests are sent anonymously through {@link MockMvc},
+ * without any network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscoveryRestBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setup(RepositoryState repository) throws Exception {
+        WebApplicationContext applicationContext = BenchmarkEnvironment.startWebApplication();
+        mockMvc = webAppContextSetup(applicationContext)
+            .addFilters(new ErrorPageFilter())
+            .addFilters(applicationContext.getBeansOfType(Filter.class).values().toArray(new Filter[0]))
+            .apply(springSecurity())
+            .build();
+    }
+
+    @Benchmark
+    public String searchObjects() throws Exception {
+        return perform(get("/api/discover/search/objects").param("query", TestDataGenerator.FREQUENT_WORD)
+                                                          .param("size", "20"));
+    }
+
+    @Benchmark
+    public String searchFacets() throws Exception {
+        return perform(get("/api/discover/search/facets"));
+    }
+
+    @Benchmark
+    public String authorFacetValues() throws Exception {
+        return perform(get("/api/discover/facets/author").param("size", "20"));
+    }
+
+    @Benchmark
+    public String browseAuthorEntries() throws Exception {
+        return perform(get("/api/discover/browses/author/entries").param("size", "20"));
+    }
+
+    @Benchmark
+    public String browseTitleItems() throws Exception {
+        return perform(get("/api/discover/browses/title/items").param("size", "20"));
+    }
+
+    private String perform(RequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        if (response.getStatus() != HttpStatus.OK.value()) {
+            throw new IllegalStateException("Unexpected status " + response.getStatus() + ": " +
+                                                response.getContentAsString());
+        }
+        return response.getContentAsString();
+    }
+
+}
@@ -0,0 +1,64 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.benchmark;
+
+import org.dspace.app.testdata.TestDataGenerator;
+import org.dspace.core.Context;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH state of the benchmarks running against a repository generated by the
+ * {@link TestDataGenerator}, once per trial in the database of the forked JVM.
+ */
+@State(Scope.Benchmark)
+public class RepositoryState {
+
+    @Param("1000")
+    public int items;
+
+    @Param("200")
+    public int authors;
+
+    @Param("50")
+    public int subjects;
+
+    @Param("10")
+    public int collections;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        BenchmarkEnvironment.start();
+
+        TestDataGenerator generator = new TestDataGenerator();
+        generator.setItems(items);
+        generator.setAuthors(authors);
+        generator.setSubjects(subjects);
+        generator.setCollections(collections);
+        // the Discovery benchmarks only need the metadata of public items
+        generator.setBitstreamsPerItem(0);
+        generator.setRestrictedPercentage(0);
+
+        Context context = new Context(Context.Mode.BATCH_EDIT);
+        context.setDispatcher("noindex");
+        context.turnOffAuthorisationSystem();
+        generator.generate(context);
+        context.restoreAuthSystemState();
+        context.complete();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+}
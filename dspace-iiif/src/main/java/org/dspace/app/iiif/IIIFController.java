@@ -7,17 +7,22 @@
  */
 package org.dspace.app.iiif;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import org.dspace.core.Context;
+import org.dspace.iiif.consumer.ManifestStore.StoredManifest;
 import org.dspace.web.ContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 
 /**
@@ -43,15 +48,33 @@ public class IIIFController {
      * for the object. It then embeds the sequence(s) of canvases that should be rendered
      * to the user.
      *
-     * Called with GET to retrieve the manifest for a single DSpace item.
+     * Called with GET to retrieve the manifest for a single DSpace item. When the persistent
+     * manifest store is enabled, the response carries ETag and Last-Modified headers and
+     * conditional requests for an unchanged manifest are answered with 304 Not Modified.
      *
      * @param id DSpace Item uuid
+     * @param webRequest the current request, used to evaluate conditional request headers
      * @return manifest as JSON
      */
     @RequestMapping(method = RequestMethod.GET, value = "/{id}/manifest", produces = "application/json")
-    public String findOne(@PathVariable UUID id) {
+    public ResponseEntity<String> findOne(@PathVariable UUID id, WebRequest webRequest) throws IOException {
         Context context = ContextUtil.obtainCurrentRequestContext();
-        return iiifFacade.getManifest(context, id);
+        if (iiifFacade.isManifestStoreEnabled()) {
+            StoredManifest manifest = iiifFacade.getStoredManifest(context, id);
+            if (webRequest.checkNotModified(manifest.getETag(), manifest.getLastModified().toEpochMilli())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                     .eTag(manifest.getETag())
+                                     .lastModified(manifest.getLastModified())
+                                     .build();
+            }
+            // the JSON is only read once the manifest has to be sent
+            manifest = iiifFacade.loadStoredManifest(context, id, manifest);
+            return ResponseEntity.ok()
+                                 .eTag(manifest.getETag())
+                                 .lastModified(manifest.getLastModified())
+                                 .body(manifest.getJson());
+        }
+        return ResponseEntity.ok(iiifFacade.getManifest(context, id));
     }
 
     /**
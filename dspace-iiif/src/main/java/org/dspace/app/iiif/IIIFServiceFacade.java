@@ -7,9 +7,12 @@
  */
 package org.dspace.app.iiif;
 
+import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.apache.logging.log4j.Logger;
 import org.dspace.app.iiif.service.AnnotationListService;
 import org.dspace.app.iiif.service.CanvasLookupService;
 import org.dspace.app.iiif.service.ManifestService;
@@ -19,6 +22,8 @@ import org.dspace.content.Item;
 import org.dspace.content.service.BitstreamService;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
+import org.dspace.iiif.consumer.ManifestStore;
+import org.dspace.iiif.consumer.ManifestStore.StoredManifest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
@@ -34,6 +39,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class IIIFServiceFacade {
 
+    private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(IIIFServiceFacade.class);
+
     @Autowired
     ItemService itemService;
 
@@ -55,6 +62,9 @@ public class IIIFServiceFacade {
     @Autowired
     IIIFUtils utils;
 
+    @Autowired
+    ManifestStore manifestStore;
+
     /**
      * The manifest response contains sufficient information for the client to initialize itself
      * and begin to display something quickly to the user. The manifest resource represents a single
@@ -83,6 +93,75 @@ public class IIIFServiceFacade {
         return manifestService.getManifest(item, context);
     }
 
+    /**
+     * Returns true if manifests are persisted in, and served from, the {@link ManifestStore}.
+     *
+     * @return true if the persistent manifest store is enabled
+     */
+    public boolean isManifestStoreEnabled() {
+        return manifestStore.isEnabled();
+    }
+
+    /**
+     * Returns the manifest for a single DSpace item from the persistent manifest store. The
+     * manifest is rendered and stored first if it is missing or older than the item. The JSON of
+     * an up to date stored manifest is not read, so that its validators can be checked first.
+     *
+     * @param id DSpace Item uuid
+     * @return the stored manifest with its HTTP validators
+     */
+    @PreAuthorize("hasPermission(#id, 'ITEM', 'READ')")
+    public StoredManifest getStoredManifest(Context context, UUID id)
+            throws ResourceNotFoundException {
+        Item item = findIIIFItem(context, id);
+        Optional<StoredManifest> stored = manifestStore.get(id);
+        if (stored.isPresent() && !stored.get().getLastModified().isBefore(item.getLastModified())) {
+            return stored.get();
+        }
+        return storeManifest(context, item);
+    }
+
+    /**
+     * Returns the given stored manifest with its JSON loaded. The manifest is rendered and stored
+     * again if the stored one cannot be read.
+     *
+     * @param id DSpace Item uuid
+     * @param manifest the stored manifest of the item
+     * @return the stored manifest, with its JSON loaded
+     */
+    @PreAuthorize("hasPermission(#id, 'ITEM', 'READ')")
+    public StoredManifest loadStoredManifest(Context context, UUID id, StoredManifest manifest)
+            throws ResourceNotFoundException {
+        try {
+            manifest.getJson();
+            return manifest;
+        } catch (IOException e) {
+            log.warn("Unable to read stored IIIF manifest for item " + id + ", rendering it again", e);
+        }
+        return storeManifest(context, findIIIFItem(context, id));
+    }
+
+    private Item findIIIFItem(Context context, UUID id) {
+        Item item;
+        try {
+            item = itemService.find(context, id);
+        } catch (SQLException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+        if (item == null || !utils.isIIIFEnabled(item)) {
+            throw new ResourceNotFoundException("IIIF manifest for  id " + id + " not found");
+        }
+        return item;
+    }
+
+    private StoredManifest storeManifest(Context context, Item item) {
+        try {
+            return manifestStore.put(item.getID(), manifestService.getManifest(item, context));
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
     /**
      * The canvas represents an individual page or view and acts as a central point for
      * laying out the different content resources that make up the display. This information
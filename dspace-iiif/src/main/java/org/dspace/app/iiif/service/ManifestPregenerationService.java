@@ -0,0 +1,152 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.iiif.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.logging.log4j.Logger;
+import org.dspace.app.iiif.service.utils.IIIFUtils;
+import org.dspace.content.Item;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Context;
+import org.dspace.iiif.consumer.ManifestPregenerator;
+import org.dspace.iiif.consumer.ManifestStore;
+import org.dspace.utils.DaemonThreadFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.AbstractRequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Renders IIIF manifests of modified items into the {@link ManifestStore} on a background thread,
+ * so that the next request for the manifest is served without recomputation.
+ * <p>
+ * The manifest services are request scoped, so each manifest is rendered within its own
+ * short-lived request scope bound to the background thread.
+ */
+@Component
+public class ManifestPregenerationService implements ManifestPregenerator, DisposableBean {
+
+    private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(ManifestPregenerationService.class);
+
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    ManifestService manifestService;
+
+    @Autowired
+    ManifestStore manifestStore;
+
+    @Autowired
+    IIIFUtils utils;
+
+    private final ExecutorService executor =
+        Executors.newSingleThreadExecutor(new DaemonThreadFactory("iiif-manifest-pregeneration"));
+
+    @Override
+    public void pregenerate(Set<UUID> itemIds) {
+        if (!manifestStore.isEnabled()) {
+            return;
+        }
+        Set<UUID> toRender = new LinkedHashSet<>(itemIds);
+        executor.execute(() -> toRender.forEach(this::render));
+    }
+
+    /**
+     * Render and store the manifest of a single item.
+     *
+     * @param itemId the item uuid
+     */
+    protected void render(UUID itemId) {
+        RenderingRequestAttributes attributes = new RenderingRequestAttributes();
+        RequestContextHolder.setRequestAttributes(attributes);
+        Context context = new Context(Context.Mode.READ_ONLY);
+        try {
+            Item item = itemService.find(context, itemId);
+            if (item != null && utils.isIIIFEnabled(item)) {
+                manifestStore.put(itemId, manifestService.getManifest(item, context));
+                log.debug("Pre-generated IIIF manifest for item {}", itemId);
+            }
+            context.complete();
+        } catch (Exception e) {
+            log.error("Unable to pre-generate IIIF manifest for item " + itemId, e);
+        } finally {
+            if (context.isValid()) {
+                context.abort();
+            }
+            attributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Minimal request attributes backing the request scope while rendering outside of an HTTP request.
+     */
+    private static class RenderingRequestAttributes extends AbstractRequestAttributes {
+
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        @Override
+        public Object getAttribute(String name, int scope) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name, int scope) {
+            attributes.remove(name);
+            removeRequestDestructionCallback(name);
+        }
+
+        @Override
+        public String[] getAttributeNames(int scope) {
+            return attributes.keySet().toArray(new String[0]);
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback, int scope) {
+            registerRequestDestructionCallback(name, callback);
+        }
+
+        @Override
+        public Object resolveReference(String key) {
+            return null;
+        }
+
+        @Override
+        public String getSessionId() {
+            return "";
+        }
+
+        @Override
+        public Object getSessionMutex() {
+            return this;
+        }
+
+        @Override
+        protected void updateAccessedSessionAttributes() {
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.configuration;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.dspace.services.MetricsService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Configuration class exporting the DSpace metrics (Discovery searches, bitstore
+ * access, event consumers, authorization checks) through the Prometheus registry
+ * of Spring Boot, which also records the timings of the REST controllers
+ * (<code>http.server.requests</code>). They are exposed by the
+ * <code>/actuator/prometheus</code> endpoint.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Autowired
+    private MetricsService metricsService;
+
+    @Autowired
+    private ObjectProvider<PrometheusMeterRegistry> prometheusMeterRegistry;
+
+    /**
+     * Add the Prometheus registry once Spring Boot has finished configuring it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerPrometheusMeterRegistry() {
+        prometheusMeterRegistry.ifAvailable(metricsService::addRegistry);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void unregisterPrometheusMeterRegistry() {
+        prometheusMeterRegistry.ifAvailable(metricsService::removeRegistry);
+    }
+
+}
@@ -11,6 +11,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,8 +34,13 @@ import org.dspace.app.rest.projection.DefaultProjection;
 import org.dspace.app.rest.projection.Projection;
 import org.dspace.app.rest.repository.DSpaceRestRepository;
 import org.dspace.app.rest.security.WebSecurityExpressionEvaluator;
+import org.dspace.app.rest.utils.ContextUtil;
 import org.dspace.app.rest.utils.Utils;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.content.DSpaceObject;
+import org.dspace.core.Context;
 import org.dspace.services.RequestService;
+import org.dspace.services.model.Request;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -88,6 +95,9 @@ public class ConverterService {
     @Autowired
     private RequestService requestService;
 
+    @Autowired
+    private AuthorizeService authorizeService;
+
     /**
      * Converts the given model object to a rest object, using the appropriate {@link DSpaceConverter} and
      * the given projection.
@@ -206,6 +216,7 @@ public class ConverterService {
             pageable = utils.getPageable(pageable);
         }
         List<M> pageableObjects = utils.getPageObjectList(modelObjects, pageable);
+        prefetchPolicies(pageableObjects);
         List<R> transformedList = new LinkedList<>();
         for (M modelObject : pageableObjects) {
             R transformedObject = toRest(modelObject, projection);
@@ -230,6 +241,7 @@ public class ConverterService {
      * @return the page.
      */
     public <M, R> Page<R> toRestPage(List<M> modelObjects, Pageable pageable, long total, Projection projection) {
+        prefetchPolicies(modelObjects);
         List<R> transformedList = new LinkedList<>();
         for (M modelObject : modelObjects) {
             R transformedObject = toRest(modelObject, projection);
@@ -243,6 +255,34 @@ public class ConverterService {
         return new PageImpl(transformedList, pageable, total);
     }
 
+    /**
+     * Loads the resource policies of the DSpace objects among the given model objects with one query, before they
+     * are converted one by one: the permission checks of each object would otherwise query its policies and the
+     * ones of its parents.
+     *
+     * @param modelObjects the model objects about to be converted.
+     */
+    public void prefetchPolicies(List<?> modelObjects) {
+        Request currentRequest = requestService.getCurrentRequest();
+        if (currentRequest == null || modelObjects.size() < 2) {
+            return;
+        }
+        List<DSpaceObject> dsos = new ArrayList<>();
+        for (Object modelObject : modelObjects) {
+            if (modelObject instanceof DSpaceObject dso) {
+                dsos.add(dso);
+            }
+        }
+        if (dsos.isEmpty()) {
+            return;
+        }
+        Context context = ContextUtil.obtainContext(currentRequest.getHttpServletRequest());
+        try {
+            authorizeService.prefetchPolicies(context, dsos);
+        } catch (SQLException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
 
     /**
      * Gets the converter supporting the given class as input.
@@ -7,8 +7,17 @@
  */
 package org.dspace.app.rest.security;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.dspace.app.rest.exception.DSpaceAccessDeniedHandler;
 import org.dspace.authenticate.service.AuthenticationService;
+import org.dspace.service.ClientInfoService;
+import org.dspace.services.ConfigurationService;
 import org.dspace.services.RequestService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,15 +30,20 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.csrf.CsrfTokenRepository;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 /**
  * Spring Security configuration for DSpace Server Webapp
@@ -42,6 +56,8 @@ import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
 @EnableConfigurationProperties(SecurityProperties.class)
 public class WebSecurityConfiguration {
 
+    private static final Logger log = LogManager.getLogger();
+
     public static final String ADMIN_GRANT = "ADMIN";
     public static final String AUTHENTICATED_GRANT = "AUTHENTICATED";
     public static final String ANONYMOUS_GRANT = "ANONYMOUS";
@@ -64,6 +80,14 @@ public class WebSecurityConfiguration {
     @Autowired
     private DSpaceAccessDeniedHandler accessDeniedHandler;
 
+    @Autowired
+    private ClientInfoService clientInfoService;
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    private volatile PrometheusAllowedIps prometheusAllowedIps;
+
     @Value("${management.endpoints.web.base-path:/actuator}")
     private String actuatorBasePath;
 
@@ -105,6 +129,9 @@ public class WebSecurityConfiguration {
                 // Ensure /actuator/info endpoint is restricted to admins
                 .requestMatchers(HttpMethod.GET, actuatorBasePath + "/info")
                     .hasAnyAuthority(ADMIN_GRANT)
+                // The Prometheus metrics are restricted to admins and the configured monitoring hosts
+                .requestMatchers(HttpMethod.GET, actuatorBasePath + "/prometheus")
+                    .access(prometheusAuthorizationManager())
                 // All other requests should be permitted at this layer because we check permissions on each method
                 // via @PreAuthorize annotations. As this code runs first, we must permitAll() here in order to pass
                 // the request on to those annotations.
@@ -219,4 +246,56 @@ public class WebSecurityConfiguration {
         return new DSpaceCsrfAuthenticationStrategy(csrfTokenRepository());
     }
 
+
+    /**
+     * Grant access to the Prometheus metrics to admins and to requests from the IP addresses or ranges
+     * configured in metrics.prometheus.allowed-ips, so that a monitoring system can scrape them without
+     * an admin token. The client address is checked before its anonymization, see
+     * {@link ClientInfoService#getNonAnonymizedClientIp}.
+     * @return AuthorizationManager
+     */
+    private AuthorizationManager<RequestAuthorizationContext> prometheusAuthorizationManager() {
+        AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager
+            .hasAnyAuthority(ADMIN_GRANT);
+        // report the invalid entries at startup rather than on the first scrape
+        getPrometheusAllowedIps();
+        return (authentication, context) -> {
+            String clientIp = clientInfoService.getNonAnonymizedClientIp(context.getRequest());
+            for (IpAddressMatcher allowedIp : getPrometheusAllowedIps()) {
+                if (allowedIp.matches(clientIp)) {
+                    return new AuthorizationDecision(true);
+                }
+            }
+            return admin.check(authentication, context);
+        };
+    }
+
+    /**
+     * Returns the matchers of metrics.prometheus.allowed-ips, parsed again only when the property changes.
+     * Invalid entries are logged and ignored.
+     */
+    private List<IpAddressMatcher> getPrometheusAllowedIps() {
+        String[] allowedIps = configurationService.getArrayProperty("metrics.prometheus.allowed-ips");
+        PrometheusAllowedIps parsed = prometheusAllowedIps;
+        if (parsed != null && Arrays.equals(parsed.values(), allowedIps)) {
+            return parsed.matchers();
+        }
+        List<IpAddressMatcher> matchers = new ArrayList<>();
+        for (String allowedIp : allowedIps) {
+            if (StringUtils.isBlank(allowedIp)) {
+                continue;
+            }
+            try {
+                matchers.add(new IpAddressMatcher(allowedIp.trim()));
+            } catch (IllegalArgumentException e) {
+                log.error("Ignoring invalid address {} of metrics.prometheus.allowed-ips: {}", allowedIp,
+                          e.getMessage());
+            }
+        }
+        prometheusAllowedIps = new PrometheusAllowedIps(allowedIps, List.copyOf(matchers));
+        return prometheusAllowedIps.matchers();
+    }
+
+    private record PrometheusAllowedIps(String[] values, List<IpAddressMatcher> matchers) {
+    }
 }
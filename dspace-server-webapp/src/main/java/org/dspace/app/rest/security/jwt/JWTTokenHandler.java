@@ -10,6 +10,7 @@ package org.dspace.app.rest.security.jwt;
 import java.sql.SQLException;
 import java.text.ParseException;
 import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 
 import com.nimbusds.jose.CompressionAlgorithm;
@@ -58,6 +59,7 @@ public abstract class JWTTokenHandler {
 
     private static final int MAX_CLOCK_SKEW_SECONDS = 60;
     private static final String AUTHORIZATION_TOKEN_PARAMETER = "authentication-token";
+    private static final int DEFAULT_CACHE_SIZE = 10000;
 
     private static final Logger log = LogManager.getLogger();
 
@@ -78,6 +80,7 @@ public abstract class JWTTokenHandler {
 
     private String generatedJwtKey;
     private String generatedEncryptionKey;
+    private volatile VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Get the default expiration period for this handler if not
@@ -116,6 +119,14 @@ public abstract class JWTTokenHandler {
      */
     protected abstract String getCompressionEnabledConfigurationKey();
 
+    /**
+     * Get the configuration property key for the maximum number of verified tokens to cache.
+     * @return the configuration property key, or null if verified tokens of this type are not cached
+     */
+    protected String getCacheSizeConfigurationKey() {
+        return null;
+    }
+
     /**
      * Retrieve EPerson from a JSON Web Token (JWT)
      *
@@ -132,6 +143,19 @@ public abstract class JWTTokenHandler {
         if (StringUtils.isBlank(token)) {
             return null;
         }
+        // skip decryption and signature verification for tokens verified before with the same signing key
+        VerifiedTokenCache cache = getVerifiedTokenCache();
+        VerifiedTokenCache.VerifiedToken verifiedToken = cache != null ? cache.get(token) : null;
+        if (verifiedToken != null) {
+            EPerson ePerson = getEPerson(context, verifiedToken.getClaimsSet());
+            if (isValidCachedToken(verifiedToken, ePerson)) {
+                for (JWTClaimProvider jwtClaimProvider : jwtClaimProviders) {
+                    jwtClaimProvider.parseClaim(context, request, verifiedToken.getClaimsSet());
+                }
+                return ePerson;
+            }
+            cache.remove(token);
+        }
         // parse/decrypt the token
         SignedJWT signedJWT = getSignedJWT(token);
         // get the claims set from the parsed token
@@ -147,6 +171,9 @@ public abstract class JWTTokenHandler {
             for (JWTClaimProvider jwtClaimProvider : jwtClaimProviders) {
                 jwtClaimProvider.parseClaim(context, request, jwtClaimsSet);
             }
+            if (cache != null) {
+                cache.put(token, ePerson.getID(), buildSigningKey(ePerson), jwtClaimsSet);
+            }
 
             return ePerson;
         } else {
@@ -205,6 +232,7 @@ public abstract class JWTTokenHandler {
             EPerson ePerson = parseEPersonFromToken(token, request, context);
             if (ePerson != null) {
                 ePerson.setSessionSalt("");
+                invalidateCachedTokens(ePerson);
             }
 
         }
@@ -252,6 +280,50 @@ public abstract class JWTTokenHandler {
         return secretString.getBytes();
     }
 
+    /**
+     * Get the cache of verified tokens, created on first use with the configured size.
+     * @return the cache, or null if verified tokens of this type are not cached
+     */
+    public VerifiedTokenCache getVerifiedTokenCache() {
+        if (verifiedTokenCache == null && getCacheSizeConfigurationKey() != null) {
+            int size = configurationService.getIntProperty(getCacheSizeConfigurationKey(), DEFAULT_CACHE_SIZE);
+            if (size > 0) {
+                synchronized (this) {
+                    if (verifiedTokenCache == null) {
+                        verifiedTokenCache = new VerifiedTokenCache(size);
+                    }
+                }
+            }
+        }
+        return verifiedTokenCache;
+    }
+
+    /**
+     * Remove all cached tokens of an EPerson, e.g. because its session salt has changed.
+     * @param ePerson the EPerson
+     */
+    protected void invalidateCachedTokens(EPerson ePerson) {
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.invalidate(ePerson.getID());
+        }
+    }
+
+    /**
+     * Determine if a previously verified token is still valid: the EPerson must still have an active session with
+     * the same session salt, and the token must not be expired.
+     * @param verifiedToken previously verified token
+     * @param ePerson EPerson parsed from the token
+     * @return true if valid, false otherwise
+     */
+    private boolean isValidCachedToken(VerifiedTokenCache.VerifiedToken verifiedToken, EPerson ePerson) {
+        Date expirationTime = verifiedToken.getExpirationTime();
+        return ePerson != null
+            && StringUtils.isNotBlank(ePerson.getSessionSalt())
+            && verifiedToken.isSignedWith(buildSigningKey(ePerson))
+            && expirationTime != null
+            && DateUtils.isAfter(expirationTime, Date.from(Instant.now()), MAX_CLOCK_SKEW_SECONDS);
+    }
+
     private JWEObject encryptJWT(SignedJWT signedJWT) throws JOSEException {
         JWEObject jweObject = new JWEObject(
             compression(new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A128GCM)
@@ -283,11 +355,11 @@ public abstract class JWTTokenHandler {
             JWSVerifier verifier = new MACVerifier(buildSigningKey(ePerson));
 
             //If token is valid and not expired return eperson in token
-            java.util.Date expirationTime = jwtClaimsSet.getExpirationTime();
+            Date expirationTime = jwtClaimsSet.getExpirationTime();
             return signedJWT.verify(verifier)
                 && expirationTime != null
                 //Ensure expiration timestamp is after the current time, with a minute of acceptable clock skew.
-                && DateUtils.isAfter(expirationTime, java.util.Date.from(Instant.now()), MAX_CLOCK_SKEW_SECONDS);
+                && DateUtils.isAfter(expirationTime, Date.from(Instant.now()), MAX_CLOCK_SKEW_SECONDS);
         }
     }
 
@@ -359,7 +431,7 @@ public abstract class JWTTokenHandler {
         }
 
         return builder
-            .expirationTime(java.util.Date.from(
+            .expirationTime(Date.from(
                 Instant.ofEpochMilli(Instant.now().toEpochMilli() + getExpirationPeriod())))
             .build();
     }
@@ -419,6 +491,7 @@ public abstract class JWTTokenHandler {
                 log.debug("Regenerating auth token as session salt was either empty or expired..");
                 ePerson.setSessionSalt(generateRandomKey());
                 ePersonService.update(context, ePerson);
+                invalidateCachedTokens(ePerson);
             }
 
         } catch (AuthorizeException e) {
@@ -50,4 +50,9 @@ public class LoginJWTTokenHandler extends JWTTokenHandler {
     protected String getCompressionEnabledConfigurationKey() {
         return "jwt.login.compression.enabled";
     }
+
+    @Override
+    protected String getCacheSizeConfigurationKey() {
+        return "jwt.login.cache.size";
+    }
 }
@@ -0,0 +1,163 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.security.jwt;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Bounded, least recently used cache of JSON Web Tokens whose signature has already been verified, so that
+ * subsequent requests with the same token can skip decryption, parsing and signature verification.
+ * <p>
+ * Tokens are keyed by their SHA-256 digest, so the cache never holds usable bearer tokens. Each entry remembers a
+ * digest of the signing key the token was verified with; an entry is only valid as long as the signing key built
+ * from the current session salt of the EPerson still has the same digest, which makes logouts and salt changes on
+ * other nodes effective immediately.
+ */
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> tokens;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxSize the maximum number of cached tokens
+     */
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Look up a verified token.
+     *
+     * @param token the serialized token
+     * @return the verified token, or null if the token is not cached
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken verifiedToken;
+        synchronized (tokens) {
+            verifiedToken = tokens.get(digest(token));
+        }
+        (verifiedToken == null ? misses : hits).incrementAndGet();
+        return verifiedToken;
+    }
+
+    /**
+     * Add a token whose signature has been verified.
+     *
+     * @param token      the serialized token
+     * @param ePersonId  the EPerson the token was issued to
+     * @param signingKey the key the signature was verified with
+     * @param claimsSet  the claims of the token
+     */
+    public void put(String token, UUID ePersonId, String signingKey, JWTClaimsSet claimsSet) {
+        VerifiedToken verifiedToken = new VerifiedToken(ePersonId, digest(signingKey), claimsSet);
+        synchronized (tokens) {
+            tokens.put(digest(token), verifiedToken);
+        }
+    }
+
+    /**
+     * Remove a single token.
+     *
+     * @param token the serialized token
+     */
+    public void remove(String token) {
+        synchronized (tokens) {
+            tokens.remove(digest(token));
+        }
+    }
+
+    /**
+     * Remove all tokens issued to an EPerson, e.g. on logout or when its session salt changes.
+     *
+     * @param ePersonId the EPerson uuid
+     */
+    public void invalidate(UUID ePersonId) {
+        synchronized (tokens) {
+            tokens.values().removeIf(verifiedToken -> Objects.equals(verifiedToken.getEPersonId(), ePersonId));
+        }
+    }
+
+    /**
+     * @return the number of cached tokens
+     */
+    public int size() {
+        synchronized (tokens) {
+            return tokens.size();
+        }
+    }
+
+    /**
+     * @return the number of lookups that found a verified token
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups that did not find a verified token
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static String digest(String value) {
+        return DigestUtils.sha256Hex(value);
+    }
+
+    /**
+     * A token whose signature has been verified.
+     */
+    public static class VerifiedToken {
+
+        private final UUID ePersonId;
+        private final String signingKeyDigest;
+        private final JWTClaimsSet claimsSet;
+
+        VerifiedToken(UUID ePersonId, String signingKeyDigest, JWTClaimsSet claimsSet) {
+            this.ePersonId = ePersonId;
+            this.signingKeyDigest = signingKeyDigest;
+            this.claimsSet = claimsSet;
+        }
+
+        public UUID getEPersonId() {
+            return ePersonId;
+        }
+
+        public JWTClaimsSet getClaimsSet() {
+            return claimsSet;
+        }
+
+        public Date getExpirationTime() {
+            return claimsSet.getExpirationTime();
+        }
+
+        /**
+         * @param signingKey the signing key built from the current session salt of the EPerson
+         * @return true if the token was verified with the given signing key
+         */
+        public boolean isSignedWith(String signingKey) {
+            return signingKeyDigest.equals(digest(signingKey));
+        }
+    }
+}
@@ -30,6 +30,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -54,6 +55,8 @@ import java.nio.file.Files;
 import java.time.Period;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -84,6 +87,7 @@ import org.dspace.content.Bitstream;
 import org.dspace.content.BitstreamFormat;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
 import org.dspace.content.Item;
 import org.dspace.content.authority.service.ChoiceAuthorityService;
 import org.dspace.content.authority.service.MetadataAuthorityService;
@@ -91,6 +95,7 @@ import org.dspace.content.service.BitstreamFormatService;
 import org.dspace.content.service.BitstreamService;
 import org.dspace.content.service.CollectionService;
 import org.dspace.core.Constants;
+import org.dspace.core.Context;
 import org.dspace.core.service.PluginService;
 import org.dspace.disseminate.CitationDocumentServiceImpl;
 import org.dspace.eperson.EPerson;
@@ -98,10 +103,12 @@ import org.dspace.eperson.Group;
 import org.dspace.services.ConfigurationService;
 import org.dspace.statistics.ObjectCount;
 import org.dspace.statistics.SolrLoggerServiceImpl;
+import org.dspace.statistics.SolrLoggerUsageEventListener;
 import org.dspace.statistics.factory.StatisticsServiceFactory;
 import org.dspace.statistics.service.SolrLoggerService;
 import org.dspace.storage.bitstore.factory.StorageServiceFactory;
 import org.dspace.storage.bitstore.service.BitstreamStorageService;
+import org.dspace.usage.UsageEvent;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -166,6 +173,8 @@ public class BitstreamRestControllerIT extends AbstractControllerIntegrationTest
     private BitstreamFormat unknownFormat;
     @Autowired
     private WorkflowItemItemLinkRepository item;
+    @Autowired
+    private SolrLoggerUsageEventListener solrLoggerUsageEventListener;
 
     @BeforeClass
     public static void clearStatistics() throws Exception {
@@ -939,6 +948,65 @@ public class BitstreamRestControllerIT extends AbstractControllerIntegrationTest
             checkNumberOfStatsRecords(bitstream, 2);
     }
 
+    @Test
+    public void retrieveFullBitstreamWithAsynchronousStatistics() throws Exception {
+        context.turnOffAuthorisationSystem();
+
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection col1 = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection 1").build();
+
+        String bitstreamContent = "0123456789";
+        try (InputStream is = IOUtils.toInputStream(bitstreamContent, CharEncoding.UTF_8)) {
+            Item publicItem1 = ItemBuilder.createItem(context, col1)
+                                          .withTitle("Public item 1")
+                                          .withIssueDate("2017-10-17")
+                                          .build();
+
+            bitstream = BitstreamBuilder
+                .createBitstream(context, publicItem1, is)
+                .withName("Test bitstream")
+                .withMimeType("text/plain")
+                .build();
+        }
+        context.restoreAuthSystemState();
+
+        // the view is logged after the request, with the data read from the request
+        CountDownLatch logged = new CountDownLatch(1);
+        SolrLoggerService loggerService = spy(solrLoggerService);
+        doAnswer(invocation -> {
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                logged.countDown();
+            }
+        }).when(loggerService).postView(any(Context.class), any(DSpaceObject.class),
+                                        any(UsageEvent.class), any());
+        boolean asyncEnabled = configurationService.getBooleanProperty("event.async.enabled", false);
+        configurationService.setProperty("event.async.enabled", true);
+        solrLoggerUsageEventListener.setSolrLoggerService(loggerService);
+        try {
+            getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                    .header("User-Agent", "Test agent")
+                                    .header("referer", "http://www.example.org"))
+                       .andExpect(status().isOk())
+                       .andExpect(content().bytes(bitstreamContent.getBytes()));
+
+            assertTrue("The view was not logged in 10 seconds", logged.await(10, TimeUnit.SECONDS));
+        } finally {
+            solrLoggerUsageEventListener.setSolrLoggerService(solrLoggerService);
+            configurationService.setProperty("event.async.enabled", asyncEnabled);
+        }
+        checkNumberOfStatsRecords(bitstream, 1);
+        assertEquals(1, countStatsRecords("id:" + bitstream.getID() + " AND userAgent:\"Test agent\""
+                                              + " AND referrer:\"http://www.example.org\""));
+    }
+
+    private long countStatsRecords(String query) throws SolrServerException, IOException {
+        SolrLoggerServiceImpl.ResultProcessor rs = ((SolrLoggerServiceImpl) solrLoggerService).new ResultProcessor();
+        rs.commit();
+        return solrLoggerService.queryTotal(query, null, 1).getCount();
+    }
+
     // Verify number of hits/views of Bitstream is as expected
     private void checkNumberOfStatsRecords(Bitstream bitstream, int expectedNumberOfStatsRecords)
         throws SolrServerException, IOException {
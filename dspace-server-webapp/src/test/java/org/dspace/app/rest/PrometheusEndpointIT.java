@@ -0,0 +1,109 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.services.ConfigurationService;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+
+/**
+ * Integration tests for the prometheus actuator.
+ */
+@AutoConfigureObservability
+public class PrometheusEndpointIT extends AbstractControllerIntegrationTest {
+
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    @After
+    public void resetAllowedIps() {
+        configurationService.setProperty("metrics.prometheus.allowed-ips", null);
+        configurationService.setProperty("client.ip-anonymization.parts", null);
+    }
+
+    @Test
+    public void testWithAnonymousUser() throws Exception {
+
+        getClient().perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isUnauthorized());
+
+    }
+
+    @Test
+    public void testWithNotAdminUser() throws Exception {
+
+        String token = getAuthToken(eperson.getEmail(), password);
+
+        getClient(token).perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testWithAdminUser() throws Exception {
+
+        getClient().perform(get("/api/discover/search/objects"))
+            .andExpect(status().isOk());
+
+        String token = getAuthToken(admin.getEmail(), password);
+
+        getClient(token).perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("dspace_discovery_search_seconds_count")))
+            .andExpect(content().string(containsString("http_server_requests_seconds_count")));
+    }
+
+    @Test
+    public void testWithAllowedIp() throws Exception {
+
+        configurationService.setProperty("metrics.prometheus.allowed-ips", "10.0.0.0/8, 127.0.0.1");
+
+        getClient().perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isOk());
+
+        configurationService.setProperty("metrics.prometheus.allowed-ips", "10.0.0.0/8");
+
+        getClient().perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testWithAllowedIpAndIpAnonymization() throws Exception {
+
+        // the address is checked before its anonymization into 127.0.0.0
+        configurationService.setProperty("client.ip-anonymization.parts", 1);
+        configurationService.setProperty("metrics.prometheus.allowed-ips", "127.0.0.1");
+
+        getClient().perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isOk());
+
+        configurationService.setProperty("metrics.prometheus.allowed-ips", "127.0.0.0");
+
+        getClient().perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testWithInvalidAllowedIp() throws Exception {
+
+        configurationService.setProperty("metrics.prometheus.allowed-ips", "not-an-address, 127.0.0.1");
+
+        getClient().perform(get(PROMETHEUS_PATH))
+            .andExpect(status().isOk());
+    }
+
+}
@@ -0,0 +1,252 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.codec.CharEncoding;
+import org.apache.commons.io.IOUtils;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.BitstreamBuilder;
+import org.dspace.builder.BundleBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Bundle;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * Regression tests for the number of SQL statements issued by the main REST endpoints. Each test requests the
+ * same representation of a small and of a large page or object and checks that the number of statements does not
+ * grow with the number of returned resources, i.e. that lazy associations and resource policies are not loaded one
+ * entity at a time. The requests are made anonymously and as a plain eperson, as the policies of the objects are
+ * not checked for the administrators.
+ */
+public class QueryCountIT extends AbstractControllerIntegrationTest {
+
+    private static final int FEW = 2;
+    private static final int MANY = 40;
+
+    private Statistics statistics;
+    private boolean statisticsEnabled;
+    private Collection collection;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        SessionFactory sessionFactory = DSpaceServicesFactory.getInstance().getServiceManager()
+                                                             .getServiceByName("sessionFactory", SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        collection = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection").build();
+        context.restoreAuthSystemState();
+    }
+
+    @After
+    public void restoreStatistics() {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Test
+    public void findItemWithEmbeddedBitstreamsTest() throws Exception {
+        Item fewItem = createItem(collection, FEW, false).getItems().get(0);
+        Item manyItem = createItem(collection, MANY, false).getItems().get(0);
+        String embed = "?embed=bundles/bitstreams&embed.size=bundles/bitstreams=" + MANY;
+        String totalPath = "$._embedded.bundles._embedded.bundles[0]._embedded.bitstreams.page.totalElements";
+
+        for (Map.Entry<String, String> user : users().entrySet()) {
+            long few = countStatements(user.getValue(), get("/api/core/items/" + fewItem.getID() + embed),
+                                       jsonPath(totalPath, is(FEW)));
+            long many = countStatements(user.getValue(), get("/api/core/items/" + manyItem.getID() + embed),
+                                        jsonPath(totalPath, is(MANY)));
+            assertFewMoreStatements(user.getKey(), "bitstreams", few, many);
+        }
+    }
+
+    @Test
+    public void findItemWithEmbeddedBundlesAndThumbnailTest() throws Exception {
+        Item fewItem = createItem(collection, FEW, true).getItems().get(0);
+        Item manyItem = createItem(collection, MANY, true).getItems().get(0);
+        String embed = "?embed=bundles/bitstreams&embed=thumbnail&embed.size=bundles/bitstreams=" + MANY;
+        String totalPath = "$._embedded.bundles._embedded.bundles[?(@.name == 'ORIGINAL')]"
+            + "._embedded.bitstreams.page.totalElements";
+
+        for (Map.Entry<String, String> user : users().entrySet()) {
+            long few = countStatements(user.getValue(), get("/api/core/items/" + fewItem.getID() + embed),
+                                       jsonPath(totalPath, contains(FEW)),
+                                       jsonPath("$._embedded.bundles.page.totalElements", is(2)),
+                                       jsonPath("$._embedded.thumbnail.name", is("bitstream-0.txt.jpg")));
+            long many = countStatements(user.getValue(), get("/api/core/items/" + manyItem.getID() + embed),
+                                        jsonPath(totalPath, contains(MANY)),
+                                        jsonPath("$._embedded.bundles.page.totalElements", is(2)),
+                                        jsonPath("$._embedded.thumbnail.name", is("bitstream-0.txt.jpg")));
+            assertFewMoreStatements(user.getKey(), "bitstreams", few, many);
+        }
+    }
+
+    @Test
+    public void findBundleBitstreamsTest() throws Exception {
+        Bundle fewBundle = createItem(collection, FEW, false);
+        Bundle manyBundle = createItem(collection, MANY, false);
+
+        for (Map.Entry<String, String> user : users().entrySet()) {
+            long few = countStatements(user.getValue(), get("/api/core/bundles/" + fewBundle.getID() + "/bitstreams")
+                                           .param("size", String.valueOf(MANY)),
+                                       jsonPath("$.page.totalElements", is(FEW)));
+            long many = countStatements(user.getValue(),
+                                        get("/api/core/bundles/" + manyBundle.getID() + "/bitstreams")
+                                            .param("size", String.valueOf(MANY)),
+                                        jsonPath("$.page.totalElements", is(MANY)));
+            assertFewMoreStatements(user.getKey(), "bitstreams", few, many);
+        }
+    }
+
+    @Test
+    public void findAllCollectionsTest() throws Exception {
+        // the collection created by the setup, and another one
+        createCollections(FEW - 1);
+        Map<String, String> users = users();
+        Map<String, Long> few = new LinkedHashMap<>();
+        for (Map.Entry<String, String> user : users.entrySet()) {
+            few.put(user.getKey(), countStatements(user.getValue(), get("/api/core/collections")
+                                                       .param("size", String.valueOf(MANY)),
+                                                   jsonPath("$.page.totalElements", is(FEW))));
+        }
+
+        createCollections(MANY - FEW);
+        for (Map.Entry<String, String> user : users.entrySet()) {
+            long many = countStatements(user.getValue(), get("/api/core/collections")
+                                            .param("size", String.valueOf(MANY)),
+                                        jsonPath("$.page.totalElements", is(MANY)));
+            assertFewMoreStatements(user.getKey(), "collections", few.get(user.getKey()), many);
+        }
+    }
+
+    @Test
+    public void searchObjectsTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Collection fewCollection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                    .withName("Collection with few items").build();
+        Collection manyCollection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                     .withName("Collection with many items").build();
+        context.restoreAuthSystemState();
+        for (int i = 0; i < MANY; i++) {
+            createItem(i < FEW ? fewCollection : manyCollection, 1, false);
+        }
+        String totalPath = "$._embedded.searchResult.page.totalElements";
+
+        for (Map.Entry<String, String> user : users().entrySet()) {
+            long few = countStatements(user.getValue(), get("/api/discover/search/objects")
+                                           .param("scope", fewCollection.getID().toString())
+                                           .param("dsoType", "ITEM")
+                                           .param("size", String.valueOf(MANY)),
+                                       jsonPath(totalPath, is(FEW)));
+            long many = countStatements(user.getValue(), get("/api/discover/search/objects")
+                                            .param("scope", manyCollection.getID().toString())
+                                            .param("dsoType", "ITEM")
+                                            .param("size", String.valueOf(MANY)),
+                                        jsonPath(totalPath, is(MANY - FEW)));
+            assertFewMoreStatements(user.getKey(), "items", few, many);
+        }
+    }
+
+    /**
+     * The users making the requests, with their token: an anonymous user and a plain eperson.
+     */
+    private Map<String, String> users() throws Exception {
+        Map<String, String> users = new LinkedHashMap<>();
+        users.put("anonymous", null);
+        users.put("eperson", getAuthToken(eperson.getEmail(), password));
+        return users;
+    }
+
+    private void assertFewMoreStatements(String user, String resources, long few, long many) {
+        assertThat("Statements issued for " + (MANY - FEW) + " more " + resources + " requested by " + user,
+                   many - few, lessThan((long) (MANY - FEW) / 4));
+    }
+
+    private void createCollections(int collections) {
+        context.turnOffAuthorisationSystem();
+        for (int i = 0; i < collections; i++) {
+            CollectionBuilder.createCollection(context, parentCommunity).withName("Collection " + i).build();
+        }
+        context.restoreAuthSystemState();
+    }
+
+    /**
+     * Create an item with an ORIGINAL bundle holding the given number of bitstreams, and optionally a THUMBNAIL
+     * bundle holding the thumbnail of the first one.
+     *
+     * @return the ORIGINAL bundle
+     */
+    private Bundle createItem(Collection owningCollection, int bitstreams, boolean withThumbnail) throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item item = ItemBuilder.createItem(context, owningCollection)
+                               .withTitle("Item with " + bitstreams + " bitstreams")
+                               .build();
+        Bundle bundle = BundleBuilder.createBundle(context, item).withName(Constants.CONTENT_BUNDLE_NAME).build();
+        for (int i = 0; i < bitstreams; i++) {
+            try (InputStream is = IOUtils.toInputStream("Bitstream " + i, CharEncoding.UTF_8)) {
+                BitstreamBuilder.createBitstream(context, bundle, is)
+                                .withName("bitstream-" + i + ".txt")
+                                .withMimeType("text/plain")
+                                .build();
+            }
+        }
+        if (withThumbnail) {
+            Bundle thumbnails = BundleBuilder.createBundle(context, item).withName("THUMBNAIL").build();
+            try (InputStream is = IOUtils.toInputStream("Thumbnail", CharEncoding.UTF_8)) {
+                BitstreamBuilder.createBitstream(context, thumbnails, is)
+                                .withName("bitstream-0.txt.jpg")
+                                .withMimeType("image/jpeg")
+                                .build();
+            }
+        }
+        context.restoreAuthSystemState();
+        return bundle;
+    }
+
+    /**
+     * Perform the request with an empty Hibernate session and count the prepared SQL statements.
+     */
+    private long countStatements(String token, RequestBuilder request, ResultMatcher... matchers)
+        throws Exception {
+        context.commit();
+        context.uncacheEntities();
+        statistics.clear();
+        getClient(token).perform(request)
+                        .andExpect(status().isOk())
+                        .andExpectAll(matchers);
+        return statistics.getPrepareStatementCount();
+    }
+}
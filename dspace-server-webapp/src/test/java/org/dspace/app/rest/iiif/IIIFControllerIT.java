@@ -8,6 +8,7 @@
 package org.dspace.app.rest.iiif;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -16,10 +17,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.UUID;
 
 import jakarta.ws.rs.core.MediaType;
 import org.apache.commons.codec.CharEncoding;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
 import org.dspace.builder.BitstreamBuilder;
@@ -1442,4 +1447,69 @@ public class IIIFControllerIT extends AbstractControllerIntegrationTest {
                    .andExpect(jsonPath("$.sequences[0].canvases[0].height", is(64)));
     }
 
+    @Test
+    public void findOneFromManifestStoreWithConditionalRequestIT() throws Exception {
+        Path storeDir = Files.createTempDirectory("iiif-manifests");
+        configurationService.setProperty("iiif.manifest.store.enabled", true);
+        configurationService.setProperty("iiif.manifest.store.dir", storeDir.toString());
+        try {
+            context.turnOffAuthorisationSystem();
+            parentCommunity = CommunityBuilder.createCommunity(context)
+                    .withName("Parent Community")
+                    .build();
+            Collection col1 = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection 1")
+                    .build();
+            Item publicItem1 = ItemBuilder.createItem(context, col1)
+                    .withTitle("Public item 1")
+                    .withIssueDate("2017-10-17")
+                    .enableIIIF()
+                    .build();
+
+            String bitstreamContent = "ThisIsSomeDummyText";
+            try (InputStream is = IOUtils.toInputStream(bitstreamContent, CharEncoding.UTF_8)) {
+                BitstreamBuilder
+                        .createBitstream(context, publicItem1, is)
+                        .withName("Bitstream1.jpg")
+                        .withMimeType("image/jpeg")
+                        .build();
+            }
+            context.restoreAuthSystemState();
+
+            String eTag = getClient().perform(get("/iiif/" + publicItem1.getID() + "/manifest"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(header().exists("Last-Modified"))
+                    .andExpect(jsonPath("$.metadata[0].value", is("Public item 1")))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            String name = publicItem1.getID().toString();
+            Path storedManifest = storeDir.resolve(name.substring(0, 2)).resolve(name + ".json.gz");
+            assertTrue(Files.exists(storedManifest));
+
+            // an unchanged manifest is revalidated without a body
+            getClient().perform(get("/iiif/" + publicItem1.getID() + "/manifest")
+                               .header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", eTag));
+
+            // the revalidation only relies on the validators, the stored manifest is not read
+            FileTime lastModified = Files.getLastModifiedTime(storedManifest);
+            Files.write(storedManifest, new byte[(int) Files.size(storedManifest)]);
+            Files.setLastModifiedTime(storedManifest, lastModified);
+            getClient().perform(get("/iiif/" + publicItem1.getID() + "/manifest")
+                               .header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified());
+
+            // an unreadable manifest is rendered again when it has to be sent
+            getClient().perform(get("/iiif/" + publicItem1.getID() + "/manifest"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(jsonPath("$.metadata[0].value", is("Public item 1")));
+        } finally {
+            configurationService.setProperty("iiif.manifest.store.enabled", false);
+            configurationService.setProperty("iiif.manifest.store.dir", null);
+            FileUtils.deleteQuietly(storeDir.toFile());
+        }
+    }
+
 }
@@ -8,7 +8,10 @@
 package org.dspace.app.rest.security.jwt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.text.ParseException;
@@ -153,4 +156,25 @@ public class JWTTokenHandlerTest {
         assertEquals(null, parsed);
     }
 
+    @Test
+    public void testCachedToken() throws Exception {
+        when(configurationService.getIntProperty("jwt.login.cache.size", 10000)).thenReturn(100);
+        when(ePersonClaimProvider.getEPerson(any(Context.class), any(JWTClaimsSet.class))).thenReturn(ePerson);
+        Instant previous = Instant.now().minus(10000000000L, ChronoUnit.MILLIS);
+        String token = loginJWTTokenHandler
+            .createTokenForEPerson(context, new MockHttpServletRequest(), previous);
+
+        assertEquals(ePerson, loginJWTTokenHandler.parseEPersonFromToken(token, httpServletRequest, context));
+        assertEquals(ePerson, loginJWTTokenHandler.parseEPersonFromToken(token, httpServletRequest, context));
+        // the signature is only verified for the first request
+        verify(loginJWTTokenHandler, times(1)).isValidToken(any(), any(), any(), any());
+        assertEquals(1, loginJWTTokenHandler.getVerifiedTokenCache().getHits());
+        assertEquals(1, loginJWTTokenHandler.getVerifiedTokenCache().getMisses());
+
+        // a changed session salt (e.g. a logout on another node) invalidates the cached token
+        when(ePerson.getSessionSalt()).thenReturn("");
+        assertNull(loginJWTTokenHandler.parseEPersonFromToken(token, httpServletRequest, context));
+        assertEquals(0, loginJWTTokenHandler.getVerifiedTokenCache().size());
+    }
+
 }
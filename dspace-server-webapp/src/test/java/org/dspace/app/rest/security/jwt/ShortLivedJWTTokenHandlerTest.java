@@ -9,6 +9,7 @@ package org.dspace.app.rest.security.jwt;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
@@ -135,4 +136,10 @@ public class ShortLivedJWTTokenHandlerTest extends JWTTokenHandlerTest {
         EPerson parsed = shortLivedJWTTokenHandler.parseEPersonFromToken(token, httpServletRequest, context);
         assertEquals(null, parsed);
     }
+
+    // short lived tokens are only used for a single request, so they are never cached
+    @Test
+    public void testCachedToken() throws Exception {
+        assertNull(shortLivedJWTTokenHandler.getVerifiedTokenCache());
+    }
 }
@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.configuration2.CombinedConfiguration;
 import org.apache.commons.configuration2.Configuration;
@@ -30,8 +32,10 @@ import org.apache.commons.configuration2.builder.ConfigurationBuilderEvent;
 import org.apache.commons.configuration2.builder.combined.ReloadingCombinedConfigurationBuilder;
 import org.apache.commons.configuration2.builder.fluent.Parameters;
 import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
+import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.Event;
 import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.sync.ReadWriteSynchronizer;
 import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -74,6 +78,27 @@ public final class DSpaceConfigurationService implements ConfigurationService {
     // NOTE: we only cache the "builder", as it controls when a configuration is automatically reloaded
     private ReloadingCombinedConfigurationBuilder configurationBuilder = null;
 
+    // Minimum number of milliseconds between two checks of the auto-reloadable configurations
+    private static final long RELOAD_CHECK_INTERVAL = 1000;
+
+    // Snapshot value of a property which is not set
+    private static final Object MISSING = new Object();
+
+    // Snapshot value of a property which is converted to null
+    private static final Object NULL = new Object();
+
+    // Immutable types whose converted values are kept in the snapshot (arrays are copied when returned)
+    private static final Set<Class<?>> SNAPSHOT_TYPES = Set.of(Object.class, String.class, String[].class,
+            Boolean.class, boolean.class, Integer.class, int.class, Long.class, long.class, Double.class,
+            double.class, Float.class, float.class, Short.class, short.class, Byte.class, byte.class,
+            BigDecimal.class, BigInteger.class);
+
+    // Converted property values of the current configuration, replaced whenever the configuration changes
+    private volatile Snapshot snapshot = new Snapshot();
+
+    // Time of the next check of the auto-reloadable configurations
+    private volatile long nextReloadCheck = 0;
+
     // Current Home directory
     private String homePath = null;
 
@@ -200,7 +225,7 @@ public final class DSpaceConfigurationService implements ConfigurationService {
      * @see org.dspace.services.ConfigurationService#getProperty(java.lang.String)
      */
     @Override
-    public synchronized String getProperty(String name) {
+    public String getProperty(String name) {
         return getProperty(name, null);
     }
 
@@ -221,7 +246,7 @@ public final class DSpaceConfigurationService implements ConfigurationService {
      * @see org.dspace.services.ConfigurationService#getProperty(java.lang.String, java.lang.String)
      */
     @Override
-    public synchronized String getProperty(String name, String defaultValue) {
+    public String getProperty(String name, String defaultValue) {
         return getPropertyAsType(name, defaultValue);
     }
 
@@ -325,8 +350,14 @@ public final class DSpaceConfigurationService implements ConfigurationService {
      * @see org.dspace.services.ConfigurationService#getPropertyAsType(java.lang.String, java.lang.Class)
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getPropertyAsType(String name, Class<T> type) {
-        return convert(name, type);
+        Object value = lookup(name, type);
+        if (value == MISSING) {
+            // Special case. For booleans, return false if key doesn't exist
+            return Boolean.class.equals(type) || boolean.class.equals(type) ? (T) Boolean.FALSE : null;
+        }
+        return (T) unwrap(value);
     }
 
     /* (non-Javadoc)
@@ -341,10 +372,20 @@ public final class DSpaceConfigurationService implements ConfigurationService {
      * @see org.dspace.services.ConfigurationService#getPropertyAsType(java.lang.String, java.lang.Object, boolean)
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getPropertyAsType(String name, T defaultValue, boolean setDefaultIfNotFound) {
 
+        // Avoid NPE. If null defaultValue passed in, assume Object class
+        Class<?> type = Object.class;
+        if (defaultValue != null) {
+            // Get the class associated with our default value
+            type = defaultValue.getClass();
+        }
+
+        Object value = lookup(name, type);
+
         // If this key doesn't exist, immediately return a value
-        if (!hasProperty(name)) {
+        if (value == MISSING) {
             // if flag is set, save the default value as the new value for this property
             if (setDefaultIfNotFound) {
                 setProperty(name, defaultValue);
@@ -354,14 +395,7 @@ public final class DSpaceConfigurationService implements ConfigurationService {
             return defaultValue;
         }
 
-        // Avoid NPE. If null defaultValue passed in, assume Object class
-        Class type = Object.class;
-        if (defaultValue != null) {
-            // Get the class associated with our default value
-            type = defaultValue.getClass();
-        }
-
-        return (T) convert(name, type);
+        return (T) unwrap(value);
     }
 
 
@@ -372,11 +406,7 @@ public final class DSpaceConfigurationService implements ConfigurationService {
      */
     @Override
     public boolean hasProperty(String name) {
-        if (getConfiguration().containsKey(name)) {
-            return true;
-        } else {
-            return false;
-        }
+        return lookup(name, String.class) != MISSING;
     }
 
     @Override
@@ -542,10 +572,19 @@ public final class DSpaceConfigurationService implements ConfigurationService {
             DefaultListDelimiterHandler listDelimiterHandler = new DefaultListDelimiterHandler(CONFIG_LIST_DELIMITER);
             // Load our configuration definition, which in turn loads all our config files/settings
             // See: http://commons.apache.org/proper/commons-configuration/userguide/howto_combinedbuilder.html
+            // Reads of property values not in the snapshot may happen concurrently with updates
             this.configurationBuilder = new ReloadingCombinedConfigurationBuilder()
                     .configure(params.fileBased()
                             .setFile(new File(this.configDefinition))
-                            .setListDelimiterHandler(listDelimiterHandler));
+                            .setListDelimiterHandler(listDelimiterHandler)
+                            .setSynchronizer(new ReadWriteSynchronizer()));
+
+            // Discard the snapshot whenever the configuration changes or is reloaded.
+            // Configuration event listeners of the builder are also registered at each configuration it creates.
+            this.configurationBuilder.addEventListener(ConfigurationEvent.ANY, (ConfigurationEvent e) ->
+                    invalidateSnapshot());
+            this.configurationBuilder.addEventListener(ConfigurationBuilderEvent.RESET,
+                    (ConfigurationBuilderEvent e) -> invalidateSnapshot());
 
             // Parse our configuration definition and initialize resulting Configuration
             this.configurationBuilder.getConfiguration();
@@ -590,6 +629,7 @@ public final class DSpaceConfigurationService implements ConfigurationService {
 
             // Finally, (re)set any dynamic, default properties
             setDynamicProperties();
+            invalidateSnapshot();
         } catch (ConfigurationException ce) {
             log.error("Unable to reload configurations based on definition at {}",
                     this.configDefinition, ce);
@@ -730,6 +770,85 @@ public final class DSpaceConfigurationService implements ConfigurationService {
         return catalina;
     }
 
+    /**
+     * Returns the value of a property converted to the given type, from the
+     * snapshot of the current configuration if possible. Snapshot reads take no
+     * lock, so that hot paths reading the same properties over and over do not
+     * contend with each other.
+     *
+     * @param name the property name
+     * @param type the type to convert the value to
+     * @return the converted value, NULL if it is converted to null, or MISSING if the property is not set
+     */
+    private Object lookup(String name, Class<?> type) {
+        if (!SNAPSHOT_TYPES.contains(type)) {
+            if (!getConfiguration().containsKey(name)) {
+                return MISSING;
+            }
+            Object value = convert(name, type);
+            return value == null ? NULL : value;
+        }
+        Snapshot current = currentSnapshot();
+        Map<String, Object> values = current.values.get(type);
+        if (values == null) {
+            values = current.values.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        }
+        Object value = values.get(name);
+        if (value == null) {
+            // Read after taking the snapshot: if the configuration changed meanwhile, the snapshot is discarded
+            if (!getConfiguration().containsKey(name)) {
+                value = MISSING;
+            } else {
+                value = convert(name, type);
+                if (value == null) {
+                    value = NULL;
+                }
+            }
+            values.putIfAbsent(name, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns a snapshot value as returned to callers.
+     */
+    private Object unwrap(Object value) {
+        if (value == NULL) {
+            return null;
+        } else if (value instanceof String[]) {
+            return ((String[]) value).clone();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the current snapshot, after checking the auto-reloadable
+     * configurations for updates if that was not done recently.
+     */
+    private Snapshot currentSnapshot() {
+        long now = System.currentTimeMillis();
+        if (now >= nextReloadCheck) {
+            nextReloadCheck = now + RELOAD_CHECK_INTERVAL;
+            // Requesting the configuration triggers the reloading check, which resets the snapshot on updates
+            getConfiguration();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discards the converted property values of the current snapshot.
+     */
+    private void invalidateSnapshot() {
+        snapshot = new Snapshot();
+    }
+
+    /**
+     * Converted property values of a version of the configuration, by type and name.
+     */
+    private static final class Snapshot {
+        private final Map<Class<?>, Map<String, Object>> values = new ConcurrentHashMap<>();
+    }
+
     /**
      * Convert the value of a given property to a specific object type.
      * <P>
@@ -0,0 +1,62 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Holds the performance metrics (timers, counters, ...) recorded by DSpace.
+ * <p>
+ * Meters are recorded in a single registry which forwards them to the
+ * registries added with {@link #addRegistry(MeterRegistry)}, e.g. the
+ * Prometheus registry of the Server webapp. Without any added registry (as
+ * in command line tools) recording a meter does nothing.
+ */
+public interface MetricsService {
+
+    /**
+     * @return the registry the DSpace meters are recorded in
+     */
+    public MeterRegistry getRegistry();
+
+    /**
+     * Forward the DSpace meters to the given registry, e.g. to export them.
+     * Does nothing if metrics are disabled.
+     *
+     * @param registry the registry
+     */
+    public void addRegistry(MeterRegistry registry);
+
+    /**
+     * Stop forwarding the DSpace meters to the given registry.
+     *
+     * @param registry the registry
+     */
+    public void removeRegistry(MeterRegistry registry);
+
+    /**
+     * Get or create a timer.
+     *
+     * @param name the name of the timer, e.g. "dspace.discovery.search"
+     * @param tags alternating tag keys and values
+     * @return the timer
+     */
+    public Timer getTimer(String name, String... tags);
+
+    /**
+     * Get or create a counter.
+     *
+     * @param name the name of the counter
+     * @param tags alternating tag keys and values
+     * @return the counter
+     */
+    public Counter getCounter(String name, String... tags);
+
+}
@@ -8,26 +8,56 @@
 package org.dspace.services.events;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
 import org.dspace.services.EventService;
+import org.dspace.services.MetricsService;
 import org.dspace.services.RequestService;
+import org.dspace.services.model.AsyncEventListener;
+import org.dspace.services.model.AsyncEventListener.OverflowPolicy;
+import org.dspace.services.model.ClusterEventTransport;
 import org.dspace.services.model.Event;
 import org.dspace.services.model.Event.Scope;
 import org.dspace.services.model.EventListener;
 import org.dspace.services.model.RequestInterceptor;
+import org.dspace.utils.DaemonThreadFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * This is a placeholder until we get a real event service going.
  * It does pretty much everything the service should do EXCEPT sending
- * the events across a cluster.
+ * events to external systems.
+ * <p>
+ * Events with the cluster scope whose name starts with one of the
+ * {@code event.cluster.prefixes} are sent to the other nodes through the
+ * {@link ClusterEventTransport}, if there is one. Events received from other
+ * nodes are sent to the local listeners with the cluster scope only.
+ * <p>
+ * Listeners implementing {@link AsyncEventListener} receive their events
+ * asynchronously: each of them has a bounded queue which is drained by a
+ * shared pool of {@code event.async.threads} threads, one thread at a time
+ * for ordered listeners.
  *
  * @author Aaron Zeckoski (azeckoski@gmail.com) - azeckoski - 4:02:31 PM Nov 19, 2008
  */
@@ -40,9 +70,23 @@ public final class SystemEventService implements EventService {
      */
     private final Map<String, EventListener> listenersMap = new ConcurrentHashMap<>();
 
+    /**
+     * Queues of the asynchronous listeners, by listener class name.
+     */
+    private final Map<String, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+
     private final RequestService requestService;
     private EventRequestInterceptor requestInterceptor;
 
+    private ConfigurationService configurationService;
+    private MetricsService metricsService;
+    private volatile ClusterEventTransport clusterEventTransport;
+
+    /**
+     * Threads delivering the events to the asynchronous listeners, created with the first such listener.
+     */
+    private volatile ThreadPoolExecutor asyncExecutor;
+
     @Autowired(required = true)
     public SystemEventService(RequestService requestService) {
         if (requestService == null) {
@@ -55,10 +99,55 @@ public final class SystemEventService implements EventService {
         this.requestService.registerRequestInterceptor(this.requestInterceptor);
     }
 
+    @Autowired(required = false)
+    public void setConfigurationService(ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    @Autowired(required = false)
+    public void setMetricsService(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    /**
+     * Set the transport sending the cluster events to the other nodes, and
+     * start receiving theirs.
+     *
+     * @param clusterEventTransport the transport, or null to stop sending cluster events
+     */
+    @Autowired(required = false)
+    public void setClusterEventTransport(ClusterEventTransport clusterEventTransport) {
+        this.clusterEventTransport = clusterEventTransport;
+        if (clusterEventTransport != null) {
+            clusterEventTransport.start(this::receiveClusterEvent);
+        }
+    }
+
     @PreDestroy
     public void shutdown() {
         this.requestInterceptor = null; // clear the interceptor
         this.listenersMap.clear();
+        ExecutorService executor = asyncExecutor;
+        if (executor != null) {
+            // let the queued events be delivered before giving up on them
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(getIntProperty("event.async.shutdown.timeout", 10),
+                                               TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            for (ListenerQueue queue : listenerQueues.values()) {
+                if (!queue.queue.isEmpty()) {
+                    log.warn("Listener ({}) did not receive {} queued events before shutdown",
+                             queue.name, queue.queue.size());
+                }
+            }
+        }
+        this.listenerQueues.clear();
     }
 
 
@@ -94,6 +183,15 @@ public final class SystemEventService implements EventService {
         }
         String key = listener.getClass().getName();
         this.listenersMap.put(key, listener);
+        if (listener instanceof AsyncEventListener asyncListener) {
+            ListenerQueue queue = listenerQueues.get(key);
+            if (queue != null) {
+                // a new instance of the same listener takes over its queue
+                queue.listener = asyncListener;
+            } else {
+                listenerQueues.put(key, new ListenerQueue(key, asyncListener));
+            }
+        }
     }
 
 
@@ -109,27 +207,276 @@ public final class SystemEventService implements EventService {
             // filter the event if the listener has filter rules
             if (listener != null && filterEvent(listener, event)) {
                 // passed filters so send the event to this listener
+                ListenerQueue queue = listenerQueues.get(listener.getClass().getName());
+                if (queue != null && getBooleanProperty("event.async.enabled", true)) {
+                    queue.offer(event);
+                } else {
+                    deliverEvent(listener, event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends an event to a listener, logging any failure.
+     *
+     * @param listener an event listener
+     * @param event    an event which passed the filters of the listener
+     */
+    private void deliverEvent(EventListener listener, Event event) {
+        try {
+            listener.receiveEvent(event);
+        } catch (Exception e) {
+            log.warn("Listener ({})[{}] failed to receive event ({}): {}:{}",
+                    listener, listener.getClass().getName(), event,
+                    e.getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * @return the executor delivering the events to the asynchronous listeners
+     */
+    private ThreadPoolExecutor getAsyncExecutor() {
+        ThreadPoolExecutor executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = asyncExecutor;
+                if (executor == null) {
+                    int threads = Math.max(1, getIntProperty("event.async.threads", 2));
+                    executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(), new DaemonThreadFactory("event-delivery"));
+                    asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private boolean getBooleanProperty(String name, boolean defaultValue) {
+        return configurationService == null ? defaultValue
+            : configurationService.getBooleanProperty(name, defaultValue);
+    }
+
+    private int getIntProperty(String name, int defaultValue) {
+        return configurationService == null ? defaultValue
+            : configurationService.getIntProperty(name, defaultValue);
+    }
+
+    /**
+     * The bounded queue of an asynchronous listener. Events are taken from the
+     * queue by drain tasks running on the shared executor: at most one for an
+     * ordered listener, at most one per executor thread otherwise.
+     */
+    private final class ListenerQueue {
+
+        private final String name;
+        private volatile AsyncEventListener listener;
+        private final BlockingQueue<Event> queue;
+        private final OverflowPolicy overflowPolicy;
+        private final boolean ordered;
+        private final int maxDrainers;
+        private final AtomicInteger drainers = new AtomicInteger();
+        private final Timer deliveryTimer;
+        private final Counter overflowCounter;
+
+        ListenerQueue(String name, AsyncEventListener listener) {
+            this.name = name;
+            this.listener = listener;
+            int capacity = listener.getQueueCapacity();
+            if (capacity < 1) {
+                capacity = Math.max(1, getIntProperty("event.async.queue.capacity", 1000));
+            }
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            OverflowPolicy policy = listener.getOverflowPolicy();
+            if (policy == null) {
+                String configured = configurationService == null ? null
+                    : configurationService.getProperty("event.async.overflow");
                 try {
-                    listener.receiveEvent(event);
-                } catch (Exception e) {
-                    log.warn("Listener ({})[{}] failed to receive event ({}): {}:{}",
-                            listener, listener.getClass().getName(), event,
-                            e.getMessage(), e.getCause());
+                    policy = StringUtils.isBlank(configured) ? OverflowPolicy.CALLER_RUNS
+                        : OverflowPolicy.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Unknown event.async.overflow policy {}, using CALLER_RUNS", configured);
+                    policy = OverflowPolicy.CALLER_RUNS;
+                }
+            }
+            this.overflowPolicy = policy;
+            this.ordered = listener.isOrdered();
+            this.maxDrainers = ordered ? 1 : getAsyncExecutor().getMaximumPoolSize();
+            if (metricsService != null) {
+                Gauge.builder("dspace.event.async.queued", queue, Collection::size)
+                     .tag("listener", name)
+                     .register(metricsService.getRegistry());
+                this.deliveryTimer = metricsService.getTimer("dspace.event.async.delivery", "listener", name);
+                this.overflowCounter = metricsService.getCounter("dspace.event.async.overflow",
+                                                                 "listener", name, "policy", policy.name());
+            } else {
+                this.deliveryTimer = null;
+                this.overflowCounter = null;
+            }
+        }
+
+        /**
+         * Queue an event on the thread which fired it.
+         *
+         * @param event an event which passed the filters of the listener
+         */
+        void offer(Event event) {
+            AsyncEventListener target = listener;
+            Event prepared;
+            try {
+                prepared = target.prepareEvent(event);
+            } catch (Exception e) {
+                log.warn("Listener ({})[{}] failed to prepare event ({}): {}:{}",
+                         target, name, event, e.getMessage(), e.getCause());
+                return;
+            }
+            if (prepared == null) {
+                deliverEvent(target, event);
+                return;
+            }
+
+            boolean queued;
+            switch (overflowPolicy) {
+                case DISCARD_OLDEST:
+                    queued = queue.offer(prepared);
+                    while (!queued) {
+                        if (queue.poll() != null) {
+                            overflow();
+                        }
+                        queued = queue.offer(prepared);
+                    }
+                    break;
+                case BLOCK:
+                    try {
+                        queued = queue.offer(prepared, getIntProperty("event.async.block.timeout", 100),
+                                             TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        queued = false;
+                    }
+                    break;
+                case CALLER_RUNS:
+                    queued = queue.offer(prepared);
+                    if (!queued && ordered) {
+                        // delivering on this thread would overtake the queued events, and run next to the drain
+                        // task of the listener: wait for room in the queue instead
+                        overflow();
+                        try {
+                            queue.put(prepared);
+                            queued = true;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            log.debug("Interrupted while queueing event ({}) for listener ({}), dropped it",
+                                      prepared, name);
+                            return;
+                        }
+                    }
+                    break;
+                default:
+                    queued = queue.offer(prepared);
+            }
+            if (!queued) {
+                overflow();
+                if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+                    deliver(prepared);
+                } else {
+                    log.debug("Queue of listener ({}) is full, dropped event ({})", name, prepared);
                 }
             }
+            schedule();
+        }
+
+        /**
+         * Start a drain task if there are queued events and the listener allows one more.
+         */
+        private void schedule() {
+            while (!queue.isEmpty()) {
+                int running = drainers.get();
+                if (running >= maxDrainers) {
+                    return;
+                }
+                if (drainers.compareAndSet(running, running + 1)) {
+                    try {
+                        getAsyncExecutor().execute(this::drain);
+                    } catch (RejectedExecutionException e) {
+                        // shutting down, deliver on this thread instead
+                        drain();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Event event;
+                while ((event = queue.poll()) != null) {
+                    deliver(event);
+                }
+            } finally {
+                drainers.decrementAndGet();
+            }
+            // an event may have been queued while this task was finishing
+            schedule();
+        }
+
+        private void deliver(Event event) {
+            if (deliveryTimer == null) {
+                deliverEvent(listener, event);
+            } else {
+                deliveryTimer.record(() -> deliverEvent(listener, event));
+            }
+        }
+
+        private void overflow() {
+            if (overflowCounter != null) {
+                overflowCounter.increment();
+            }
         }
     }
 
     /**
-     * Will eventually fire events to the entire cluster.
-     * TODO not implemented.
+     * Fires an event to the other nodes of the cluster, if it is one of the
+     * events configured to be sent.
      *
      * @param event a validated event
      */
     private void fireClusterEvent(Event event) {
-        log.debug(
-            "fireClusterEvent is not implemented yet, no support for cluster"
-                + " events yet, could not fire event to the cluster: {}", event);
+        ClusterEventTransport transport = clusterEventTransport;
+        if (transport == null || !isClusterEvent(event)) {
+            return;
+        }
+        try {
+            transport.publish(event);
+        } catch (Exception e) {
+            log.warn("Failed to send event ({}) to the cluster: {}", event, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sends an event received from another node to the local listeners.
+     *
+     * @param event an event received by the cluster transport
+     */
+    private void receiveClusterEvent(Event event) {
+        event.setScopes(new Scope[] {Scope.CLUSTER});
+        validateEvent(event);
+        fireLocalEvent(event);
+    }
+
+    /**
+     * @param event an event
+     * @return true if the name of the event starts with one of the {@code event.cluster.prefixes}
+     */
+    private boolean isClusterEvent(Event event) {
+        String[] prefixes = configurationService == null ? new String[] {"cache."}
+            : configurationService.getArrayProperty("event.cluster.prefixes", new String[] {"cache."});
+        for (String prefix : prefixes) {
+            if (StringUtils.isNotBlank(prefix) && event.getName().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
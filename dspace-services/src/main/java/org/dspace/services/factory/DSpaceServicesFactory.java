@@ -11,6 +11,7 @@ import org.dspace.kernel.ServiceManager;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.EmailService;
 import org.dspace.services.EventService;
+import org.dspace.services.MetricsService;
 import org.dspace.services.RequestService;
 import org.dspace.utils.DSpace;
 
@@ -27,6 +28,8 @@ public abstract class DSpaceServicesFactory {
 
     public abstract RequestService getRequestService();
 
+    public abstract MetricsService getMetricsService();
+
     public abstract ServiceManager getServiceManager();
 
     public static DSpaceServicesFactory getInstance() {
@@ -11,6 +11,7 @@ import org.dspace.kernel.ServiceManager;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.EmailService;
 import org.dspace.services.EventService;
+import org.dspace.services.MetricsService;
 import org.dspace.services.RequestService;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -32,6 +33,9 @@ public class DSpaceServicesFactoryImpl extends DSpaceServicesFactory {
     @Autowired(required = true)
     private RequestService requestService;
 
+    @Autowired(required = true)
+    private MetricsService metricsService;
+
     @Autowired(required = true)
     private ServiceManager serviceManager;
 
@@ -55,6 +59,11 @@ public class DSpaceServicesFactoryImpl extends DSpaceServicesFactory {
         return requestService;
     }
 
+    @Override
+    public MetricsService getMetricsService() {
+        return metricsService;
+    }
+
     @Override
     public ServiceManager getServiceManager() {
         return serviceManager;
@@ -0,0 +1,88 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.MetricsService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Metrics service recording the DSpace meters in a Micrometer
+ * {@link CompositeMeterRegistry}.
+ * <p>
+ * Configuration:
+ * <ul>
+ * <li><code>metrics.enabled</code>: whether registries may be added, i.e.
+ * whether meters are recorded at all (default true)</li>
+ * <li><code>metrics.histogram</code>: whether timers publish a histogram, so
+ * that percentiles can be computed by the monitoring system (default false)</li>
+ * </ul>
+ */
+public class MicrometerMetricsService implements MetricsService {
+
+    private static final Logger log = LogManager.getLogger();
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+
+    private final ConfigurationService configurationService;
+
+    // the histogram setting only applies when a timer is created, so it is read once
+    private final boolean histogram;
+
+    @Autowired(required = true)
+    public MicrometerMetricsService(ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+        this.histogram = configurationService.getBooleanProperty("metrics.histogram", false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        registry.close();
+    }
+
+    @Override
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public void addRegistry(MeterRegistry meterRegistry) {
+        if (!configurationService.getBooleanProperty("metrics.enabled", true)) {
+            log.info("Metrics are disabled, not recording them in {}", meterRegistry.getClass().getSimpleName());
+            return;
+        }
+        registry.add(meterRegistry);
+    }
+
+    @Override
+    public void removeRegistry(MeterRegistry meterRegistry) {
+        registry.remove(meterRegistry);
+    }
+
+    @Override
+    public Timer getTimer(String name, String... tags) {
+        return Timer.builder(name)
+                    .tags(tags)
+                    .publishPercentileHistogram(histogram)
+                    .register(registry);
+    }
+
+    @Override
+    public Counter getCounter(String name, String... tags) {
+        return Counter.builder(name)
+                      .tags(tags)
+                      .register(registry);
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.model;
+
+/**
+ * An {@link EventListener} which receives its events asynchronously.
+ * <p>
+ * Events are queued in a bounded queue per listener and delivered by the
+ * event service threads, so the thread firing the event (usually an HTTP
+ * request thread) does not wait for the listener. Anything the listener needs
+ * from the request or the DSpace Context must be captured in
+ * {@link #prepareEvent(Event)}, as neither is usable once the request ended.
+ *
+ * @see org.dspace.services.events.SystemEventService
+ */
+public interface AsyncEventListener extends EventListener {
+
+    /**
+     * What to do with an event when the queue of the listener is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Deliver the event synchronously on the thread which fired it. It would
+         * overtake the queued events, so for an {@link #isOrdered() ordered}
+         * listener the thread waits for room in the queue instead.
+         */
+        CALLER_RUNS,
+        /**
+         * Drop the event.
+         */
+        DISCARD,
+        /**
+         * Drop the oldest queued event to make room for the new one.
+         */
+        DISCARD_OLDEST,
+        /**
+         * Wait for room in the queue (up to the configured timeout), then drop the event.
+         */
+        BLOCK
+    }
+
+    /**
+     * Called on the thread which fired the event, before it is queued.
+     * Capture here whatever {@link #receiveEvent(Event)} needs from the request
+     * or the Context.
+     *
+     * @param event the event which passed the filters of this listener
+     * @return the event to queue, or null to receive the given event synchronously instead
+     */
+    public default Event prepareEvent(Event event) {
+        return event;
+    }
+
+    /**
+     * @return true if the events must be received one at a time in the order
+     * they were fired, false if they may be received concurrently
+     */
+    public default boolean isOrdered() {
+        return true;
+    }
+
+    /**
+     * @return the capacity of the queue of this listener, or a value lower than
+     * 1 to use {@code event.async.queue.capacity}
+     */
+    public default int getQueueCapacity() {
+        return 0;
+    }
+
+    /**
+     * @return the overflow policy of this listener, or null to use
+     * {@code event.async.overflow}
+     */
+    public default OverflowPolicy getOverflowPolicy() {
+        return null;
+    }
+
+}
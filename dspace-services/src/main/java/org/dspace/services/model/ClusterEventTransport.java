@@ -0,0 +1,43 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.model;
+
+import java.util.function.Consumer;
+
+/**
+ * Sends the events with the {@link Event.Scope#CLUSTER} scope to the other
+ * DSpace nodes sharing the same database, and receives theirs.
+ * <p>
+ * Only the name, resource reference, user id, modify flag and properties of
+ * an event are sent, events received from other nodes are plain
+ * {@link Event}s.
+ *
+ * @see org.dspace.services.events.SystemEventService
+ */
+public interface ClusterEventTransport {
+
+    /**
+     * Start receiving the events sent by the other nodes.
+     *
+     * @param receiver called with each event received from another node
+     */
+    public void start(Consumer<Event> receiver);
+
+    /**
+     * Send an event to the other nodes. The event is not received by this node.
+     *
+     * @param event the event
+     */
+    public void publish(Event event);
+
+    /**
+     * Stop receiving and sending events.
+     */
+    public void stop();
+
+}
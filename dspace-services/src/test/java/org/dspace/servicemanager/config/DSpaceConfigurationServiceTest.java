@@ -17,10 +17,16 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.apache.commons.configuration2.HierarchicalConfiguration;
@@ -357,6 +363,68 @@ public class DSpaceConfigurationServiceTest {
         prop = null;
     }
 
+    /**
+     * Values read from the snapshot follow the updates of the configuration, and arrays are copied.
+     */
+    @Test
+    public void testSnapshotFollowsUpdates() {
+        assertEquals(123, configurationService.getIntProperty("sample.number"));
+        configurationService.setProperty("sample.number", "456");
+        assertEquals(456, configurationService.getIntProperty("sample.number"));
+
+        assertFalse(configurationService.hasProperty("sample.added"));
+        configurationService.addPropertyValue("sample.added", "added");
+        assertTrue(configurationService.hasProperty("sample.added"));
+        assertEquals("added", configurationService.getProperty("sample.added"));
+
+        // changes made to the configuration object directly are seen too
+        configurationService.getConfiguration().setProperty("sample.added", "changed");
+        assertEquals("changed", configurationService.getProperty("sample.added"));
+        configurationService.clearConfig("sample.added");
+        assertNull(configurationService.getProperty("sample.added"));
+
+        String[] array = configurationService.getArrayProperty("sample.array");
+        array[0] = "modified";
+        assertEquals("itemA", configurationService.getArrayProperty("sample.array")[0]);
+    }
+
+    /**
+     * Concurrent lookups see a consistent value while the configuration is updated.
+     */
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            AtomicBoolean running = new AtomicBoolean(true);
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                readers.add(executor.submit(() -> {
+                    int reads = 0;
+                    while (running.get()) {
+                        int number = configurationService.getIntProperty("sample.number");
+                        assertTrue(number == 123 || number == 456);
+                        assertEquals("DSpace", configurationService.getProperty("service.name"));
+                        assertTrue(configurationService.getBooleanProperty("sample.boolean"));
+                        reads++;
+                    }
+                    // once the update is done, all readers see it
+                    assertEquals(456, configurationService.getIntProperty("sample.number"));
+                    return reads;
+                }));
+            }
+            Thread.sleep(100);
+            configurationService.setProperty("sample.number", "456");
+            Thread.sleep(100);
+            running.set(false);
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get(10, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testGetPropertyAsTypeStringTBoolean() {
         Object prop = configurationService.getPropertyValue("service.fake.thing");
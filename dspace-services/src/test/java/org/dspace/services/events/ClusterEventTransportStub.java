@@ -0,0 +1,51 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.events;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.function.Consumer;
+
+import org.dspace.services.model.ClusterEventTransport;
+import org.dspace.services.model.Event;
+
+/**
+ * A cluster event transport for testing, it keeps the published events and
+ * lets the tests play the events of other nodes.
+ */
+public class ClusterEventTransportStub implements ClusterEventTransport {
+
+    public List<Event> published = new Vector<>();
+
+    private Consumer<Event> receiver;
+
+    @Override
+    public void start(Consumer<Event> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void publish(Event event) {
+        published.add(event);
+    }
+
+    @Override
+    public void stop() {
+        receiver = null;
+    }
+
+    /**
+     * Receive an event as if it was sent by another node.
+     *
+     * @param event the event
+     */
+    public void receive(Event event) {
+        receiver.accept(event);
+    }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.events;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+
+import org.dspace.services.model.AsyncEventListener;
+import org.dspace.services.model.Event;
+
+/**
+ * This is a sample asynchronous event listener for testing, it receives the
+ * events whose name starts with "async". Events named "async.sync" are
+ * received synchronously, and delivery waits while the listener is paused.
+ */
+public class EventListenerAsync extends EventListenerNoFilter implements AsyncEventListener {
+
+    public List<Thread> receivingThreads = new Vector<>();
+
+    private volatile CountDownLatch resume;
+    private volatile CountDownLatch paused;
+
+    /**
+     * Block the delivery of the next event until {@link #resume()} is called.
+     */
+    public void pause() {
+        paused = new CountDownLatch(1);
+        resume = new CountDownLatch(1);
+    }
+
+    /**
+     * Wait until the delivery of an event is blocked by {@link #pause()}.
+     */
+    public void awaitPaused() throws InterruptedException {
+        paused.await();
+    }
+
+    public void resume() {
+        resume.countDown();
+    }
+
+    @Override
+    public String[] getEventNamePrefixes() {
+        return new String[] {"async"};
+    }
+
+    @Override
+    public Event prepareEvent(Event event) {
+        return "async.sync".equals(event.getName()) ? null : event;
+    }
+
+    @Override
+    public void receiveEvent(Event event) {
+        CountDownLatch latch = resume;
+        if (latch != null) {
+            paused.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            resume = null;
+        }
+        receivingThreads.add(Thread.currentThread());
+        super.receiveEvent(event);
+    }
+
+}
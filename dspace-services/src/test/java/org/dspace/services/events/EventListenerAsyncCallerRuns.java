@@ -0,0 +1,26 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.events;
+
+/**
+ * This is a sample asynchronous event listener for testing, with a queue of
+ * one event and the CALLER_RUNS overflow policy.
+ */
+public class EventListenerAsyncCallerRuns extends EventListenerAsync {
+
+    @Override
+    public int getQueueCapacity() {
+        return 1;
+    }
+
+    @Override
+    public OverflowPolicy getOverflowPolicy() {
+        return OverflowPolicy.CALLER_RUNS;
+    }
+
+}
@@ -0,0 +1,26 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.events;
+
+/**
+ * This is a sample asynchronous event listener for testing, with a queue of
+ * two events which drops the events it cannot queue.
+ */
+public class EventListenerAsyncDiscard extends EventListenerAsync {
+
+    @Override
+    public int getQueueCapacity() {
+        return 2;
+    }
+
+    @Override
+    public OverflowPolicy getOverflowPolicy() {
+        return OverflowPolicy.DISCARD;
+    }
+
+}
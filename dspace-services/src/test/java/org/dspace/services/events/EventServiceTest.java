@@ -7,12 +7,18 @@
  */
 package org.dspace.services.events;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.dspace.services.RequestService;
 import org.dspace.services.model.Event;
+import org.dspace.services.model.Event.Scope;
 import org.dspace.test.DSpaceAbstractKernelTest;
 import org.junit.After;
 import org.junit.Before;
@@ -30,6 +36,9 @@ public class EventServiceTest extends DSpaceAbstractKernelTest {
     private EventListenerNoFilter listenerNoFilter;
     private EventListenerNameFilter listenerNameFilter;
     private EventListenerBothFilters listenerBothFilters;
+    private EventListenerAsync listenerAsync;
+    private EventListenerAsyncDiscard listenerAsyncDiscard;
+    private EventListenerAsyncCallerRuns listenerAsyncCallerRuns;
 
     @Before
     public void init() {
@@ -39,10 +48,16 @@ public class EventServiceTest extends DSpaceAbstractKernelTest {
         listenerNoFilter = new EventListenerNoFilter();
         listenerNameFilter = new EventListenerNameFilter();
         listenerBothFilters = new EventListenerBothFilters();
+        listenerAsync = new EventListenerAsync();
+        listenerAsyncDiscard = new EventListenerAsyncDiscard();
+        listenerAsyncCallerRuns = new EventListenerAsyncCallerRuns();
         // register the filters
         eventService.registerEventListener(listenerNoFilter);
         eventService.registerEventListener(listenerNameFilter);
         eventService.registerEventListener(listenerBothFilters);
+        eventService.registerEventListener(listenerAsync);
+        eventService.registerEventListener(listenerAsyncDiscard);
+        eventService.registerEventListener(listenerAsyncCallerRuns);
     }
 
     @After
@@ -53,6 +68,9 @@ public class EventServiceTest extends DSpaceAbstractKernelTest {
         listenerNoFilter = null;
         listenerNameFilter = null;
         listenerBothFilters = null;
+        listenerAsync = null;
+        listenerAsyncDiscard = null;
+        listenerAsyncCallerRuns = null;
     }
 
     /**
@@ -121,4 +139,137 @@ public class EventServiceTest extends DSpaceAbstractKernelTest {
         }
     }
 
+    /**
+     * Asynchronous listeners receive their events in order on another thread.
+     */
+    @Test
+    public void testFireEventAsync() throws InterruptedException {
+        listenerAsync.pause();
+        Event event1 = new Event("async.event.1", null, "11111", false);
+        eventService.fireEvent(event1);
+        listenerAsync.awaitPaused();
+        // the firing thread does not wait for the paused listener
+        Event event2 = new Event("async.event.2", null, "11111", false);
+        Event event3 = new Event("async.event.3", null, "11111", false);
+        eventService.fireEvent(event2);
+        eventService.fireEvent(event3);
+        assertEquals(3, listenerNoFilter.getReceivedEvents().size());
+        assertEquals(0, listenerAsync.getReceivedEvents().size());
+
+        listenerAsync.resume();
+        awaitReceived(listenerAsync, 3);
+        assertEquals(event1, listenerAsync.getReceivedEvents().get(0));
+        assertEquals(event2, listenerAsync.getReceivedEvents().get(1));
+        assertEquals(event3, listenerAsync.getReceivedEvents().get(2));
+        assertNotSame(Thread.currentThread(), listenerAsync.receivingThreads.get(0));
+    }
+
+    /**
+     * Asynchronous listeners receive the events they do not prepare synchronously.
+     */
+    @Test
+    public void testFireEventAsyncNotPrepared() {
+        Event event = new Event("async.sync", null, "11111", false);
+        eventService.fireEvent(event);
+        assertEquals(1, listenerAsync.getReceivedEvents().size());
+        assertSame(Thread.currentThread(), listenerAsync.receivingThreads.get(0));
+    }
+
+    /**
+     * Events which do not fit in the queue of a listener are handled by its overflow policy.
+     */
+    @Test
+    public void testFireEventAsyncOverflow() throws InterruptedException {
+        listenerAsyncDiscard.pause();
+        eventService.fireEvent(new Event("async.event.1", null, "11111", false));
+        listenerAsyncDiscard.awaitPaused();
+        // two events fit in the queue, the others are dropped
+        Event event2 = new Event("async.event.2", null, "11111", false);
+        Event event3 = new Event("async.event.3", null, "11111", false);
+        eventService.fireEvent(event2);
+        eventService.fireEvent(event3);
+        eventService.fireEvent(new Event("async.event.4", null, "11111", false));
+        eventService.fireEvent(new Event("async.event.5", null, "11111", false));
+
+        listenerAsyncDiscard.resume();
+        awaitReceived(listenerAsyncDiscard, 3);
+        Thread.sleep(100);
+        assertEquals(3, listenerAsyncDiscard.getReceivedEvents().size());
+        assertEquals(event2, listenerAsyncDiscard.getReceivedEvents().get(1));
+        assertEquals(event3, listenerAsyncDiscard.getReceivedEvents().get(2));
+    }
+
+    /**
+     * The events which do not fit in the queue of an ordered listener are not delivered on the firing thread,
+     * which would overtake the queued events: the firing thread waits for room in the queue instead.
+     */
+    @Test
+    public void testFireEventAsyncOverflowOrdered() throws InterruptedException {
+        listenerAsyncCallerRuns.pause();
+        Event event1 = new Event("async.event.1", null, "11111", false);
+        eventService.fireEvent(event1);
+        listenerAsyncCallerRuns.awaitPaused();
+        // one event fits in the queue
+        Event event2 = new Event("async.event.2", null, "11111", false);
+        eventService.fireEvent(event2);
+        Event event3 = new Event("async.event.3", null, "11111", false);
+        Thread firingThread = new Thread(() -> eventService.fireEvent(event3));
+        firingThread.start();
+        firingThread.join(200);
+        assertTrue(firingThread.isAlive());
+
+        listenerAsyncCallerRuns.resume();
+        firingThread.join(10000);
+        assertFalse(firingThread.isAlive());
+        awaitReceived(listenerAsyncCallerRuns, 3);
+        assertEquals(event1, listenerAsyncCallerRuns.getReceivedEvents().get(0));
+        assertEquals(event2, listenerAsyncCallerRuns.getReceivedEvents().get(1));
+        assertEquals(event3, listenerAsyncCallerRuns.getReceivedEvents().get(2));
+        assertFalse(listenerAsyncCallerRuns.receivingThreads.contains(firingThread));
+    }
+
+    /**
+     * Cluster events are sent through the transport, events of other nodes are received locally.
+     */
+    @Test
+    public void testFireClusterEvent() {
+        ClusterEventTransportStub transport = new ClusterEventTransportStub();
+        eventService.setClusterEventTransport(transport);
+        try {
+            Event cacheEvent = new Event("cache.evict", null, "11111", false);
+            Event readEvent = new Event("test.event.read", "test-resource-1", "11111", false);
+            Event localEvent = new Event("cache.evict", null, "11111", null, new Scope[] {Scope.LOCAL}, false);
+            eventService.fireEvent(cacheEvent);
+            eventService.fireEvent(readEvent);
+            eventService.fireEvent(localEvent);
+            // only the cluster scoped events with a configured prefix are sent
+            assertEquals(1, transport.published.size());
+            assertEquals(cacheEvent, transport.published.get(0));
+
+            // cluster only events are not received locally
+            Event clusterEvent = new Event("cache.evict", null, "11111", null, new Scope[] {Scope.CLUSTER}, false);
+            eventService.fireEvent(clusterEvent);
+            assertEquals(2, transport.published.size());
+            assertEquals(3, listenerNoFilter.getReceivedEvents().size());
+
+            Event remoteEvent = new Event("cache.evict", "remote-resource", "22222", false);
+            transport.receive(remoteEvent);
+            assertEquals(4, listenerNoFilter.getReceivedEvents().size());
+            assertEquals(remoteEvent, listenerNoFilter.getReceivedEvents().get(3));
+            assertArrayEquals(new Scope[] {Scope.CLUSTER}, remoteEvent.getScopes());
+            // events of other nodes are not sent back
+            assertEquals(2, transport.published.size());
+        } finally {
+            eventService.setClusterEventTransport(null);
+        }
+    }
+
+    private void awaitReceived(EventListenerNoFilter listener, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (listener.getReceivedEvents().size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, listener.getReceivedEvents().size());
+    }
+
 }
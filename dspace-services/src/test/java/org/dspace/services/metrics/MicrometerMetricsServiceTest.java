@@ -0,0 +1,71 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.services.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.dspace.services.ConfigurationService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MicrometerMetricsService}
+ */
+public class MicrometerMetricsServiceTest {
+
+    private ConfigurationService configurationService;
+
+    @Before
+    public void init() {
+        configurationService = mock(ConfigurationService.class);
+        when(configurationService.getBooleanProperty(eq("metrics.enabled"), anyBoolean())).thenReturn(true);
+        when(configurationService.getBooleanProperty(eq("metrics.histogram"), anyBoolean())).thenReturn(false);
+    }
+
+    @Test
+    public void testMetersAreForwarded() {
+        MicrometerMetricsService metricsService = new MicrometerMetricsService(configurationService);
+        // meters created before the registry is added are forwarded too
+        metricsService.getTimer("test.timer", "tag", "a").record(10, TimeUnit.MILLISECONDS);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metricsService.addRegistry(registry);
+
+        metricsService.getTimer("test.timer", "tag", "a").record(20, TimeUnit.MILLISECONDS);
+        metricsService.getCounter("test.counter").increment(3);
+
+        assertEquals(1, registry.get("test.timer").tag("tag", "a").timer().count());
+        assertEquals(3, registry.get("test.counter").counter().count(), 0);
+        assertSame(metricsService.getTimer("test.timer", "tag", "a"),
+                   metricsService.getTimer("test.timer", "tag", "a"));
+
+        metricsService.removeRegistry(registry);
+        metricsService.getCounter("test.counter").increment();
+        assertEquals(3, registry.get("test.counter").counter().count(), 0);
+    }
+
+    @Test
+    public void testDisabled() {
+        when(configurationService.getBooleanProperty(eq("metrics.enabled"), anyBoolean())).thenReturn(false);
+        MicrometerMetricsService metricsService = new MicrometerMetricsService(configurationService);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metricsService.addRegistry(registry);
+
+        metricsService.getCounter("test.counter").increment();
+
+        assertNull(registry.find("test.counter").counter());
+    }
+}